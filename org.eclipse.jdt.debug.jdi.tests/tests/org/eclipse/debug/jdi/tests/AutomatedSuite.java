@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2004, 2022 IBM Corporation and others.
+ * Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -54,6 +54,9 @@ public class AutomatedSuite extends TestSuite {
 		addTest(new TestSuite(HotCodeReplacementTest.class));
 		addTest(new TestSuite(IntegerValueTest.class));
 		addTest(new TestSuite(InterfaceTypeTest.class));
+		addTest(new TestSuite(JDIBenchmarksTest.class));
+		addTest(new TestSuite(JdwpDataReaderTest.class));
+		addTest(new TestSuite(JdwpStatisticsTest.class));
 		addTest(new TestSuite(LocalVariableTest.class));
 		addTest(new TestSuite(LocatableTest.class));
 		addTest(new TestSuite(LocationTest.class));
@@ -68,6 +71,7 @@ public class AutomatedSuite extends TestSuite {
 		addTest(new TestSuite(ObjectReferenceTest.class));
 		addTest(new TestSuite(PrimitiveValueTest.class));
 		addTest(new TestSuite(ReferenceTypeTest.class));
+		addTest(new TestSuite(RecordingConnectionTest.class));
 		addTest(new TestSuite(ShortValueTest.class));
 		addTest(new TestSuite(StackFrameTest.class));
 		addTest(new TestSuite(StepEventTest.class));
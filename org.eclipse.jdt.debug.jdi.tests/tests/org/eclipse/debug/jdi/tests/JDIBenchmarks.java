@@ -0,0 +1,689 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdi.internal.ClassTypeImpl;
+import org.eclipse.jdi.internal.GenericSignature;
+import org.eclipse.jdi.internal.SourceDebugExtensionParser;
+import org.eclipse.jdi.internal.ValueCache;
+import org.eclipse.jdi.internal.connect.PacketReceiveManager;
+import org.eclipse.jdi.internal.jdwp.JdwpClassID;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataReader;
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpString;
+
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * Micro benchmarks of the parts of the JDI implementation that do not need a
+ * target VM: JDWP packet encoding and decoding, reply matching, the value
+ * cache, generic signature parsing and SMAP parsing.
+ * <p>
+ * Unlike the performance tests of <code>org.eclipse.jdt.debug.tests</code>,
+ * the benchmarks run headless, without a workbench or a launched VM. Each
+ * benchmark is run for a number of warmup iterations, then for a number of
+ * measured iterations of a fixed duration, and its score is the average time
+ * of an operation. The operations are timed in batches of at least a
+ * millisecond, so that reading the timer does not add to their time. Each
+ * benchmark runs in its own VM by default, so that the benchmarks run before
+ * it do not affect how it is compiled. Results can be written as JSON in the
+ * format of JMH, so that the tools comparing JMH results can be used:
+ * </p>
+ *
+ * <pre>
+ * java org.eclipse.debug.jdi.tests.JDIBenchmarks [-f &lt;count&gt;] [-cp &lt;classpath&gt;] [-wi &lt;count&gt;] [-i &lt;count&gt;] [-r &lt;ms&gt;] [-rf &lt;file&gt;] [&lt;regexp&gt;]
+ * </pre>
+ *
+ * <p>
+ * where <code>-f</code> is the number of VMs each benchmark runs in, 0 to
+ * run the benchmarks in this VM, <code>-cp</code> the class path of these
+ * VMs, <code>-wi</code> and <code>-i</code> are the number of warmup and
+ * measured iterations per VM, <code>-r</code> the duration of an iteration,
+ * <code>-rf</code> the JSON result file and <code>regexp</code> selects the
+ * benchmarks to run by name.
+ * </p>
+ * <p>
+ * The VMs are started with the class path of this VM by default, which
+ * only contains the benchmarks when they are run as a Java application, for
+ * instance with a Java Application launch of this class in the workbench or
+ * with the bundle of the tests and <code>jdimodel.jar</code> of
+ * <code>org.eclipse.jdt.debug</code> on the class path. When the benchmarks are loaded by an OSGi framework, they run in
+ * that VM unless <code>-f</code> and <code>-cp</code> are given. The
+ * <code>benchmarks</code> Maven profile of this bundle runs them this way
+ * with Tycho through {@link JDIBenchmarksRunner}, after the tests, and writes
+ * the results to <code>target/jdi-benchmarks.json</code>:
+ * </p>
+ *
+ * <pre>
+ * mvn verify -Pbenchmarks -pl org.eclipse.jdt.debug.jdi.tests -am
+ * </pre>
+ */
+public class JDIBenchmarks {
+
+	/** Length of the header of a JDWP packet */
+	private static final int HEADER_LENGTH = 11;
+
+	/** Minimum duration of a batch of operations, in nanoseconds */
+	private static final long BATCH_NANOS = 1000000L;
+
+	/**
+	 * A measured operation.
+	 */
+	public static abstract class Benchmark {
+		private final String fName;
+
+		protected Benchmark(String name) {
+			fName = name;
+		}
+
+		public String getName() {
+			return fName;
+		}
+
+		/**
+		 * Prepares the state of the benchmark, before the iterations.
+		 */
+		public void setUp() throws Exception {
+		}
+
+		/**
+		 * Performs the operation once.
+		 *
+		 * @return a result of the operation, consumed so that the operation
+		 *         is not optimized away
+		 */
+		public abstract Object run() throws Exception;
+
+		/**
+		 * Releases the state of the benchmark, after the iterations.
+		 */
+		public void tearDown() throws Exception {
+		}
+	}
+
+	/**
+	 * The scores of a benchmark, in nanoseconds per operation.
+	 */
+	public static class Result {
+		private final String fName;
+		private final double[] fScores;
+
+		Result(String name, double[] scores) {
+			fName = name;
+			fScores = scores;
+		}
+
+		public String getName() {
+			return fName;
+		}
+
+		/**
+		 * Returns the score of each measured iteration.
+		 */
+		public double[] getScores() {
+			return fScores;
+		}
+
+		/**
+		 * Returns the mean of the scores.
+		 */
+		public double getScore() {
+			double sum = 0;
+			for (double score : fScores) {
+				sum += score;
+			}
+			return sum / fScores.length;
+		}
+
+		/**
+		 * Returns the half width of the 99.9% confidence interval of the
+		 * score, using a normal approximation.
+		 */
+		public double getScoreError() {
+			if (fScores.length < 2) {
+				return Double.NaN;
+			}
+			double mean = getScore();
+			double sum = 0;
+			for (double score : fScores) {
+				sum += (score - mean) * (score - mean);
+			}
+			return 3.291 * Math.sqrt(sum / (fScores.length - 1)) / Math.sqrt(fScores.length);
+		}
+	}
+
+	/**
+	 * Connection answering each command packet with an empty reply.
+	 */
+	static class ReplyingConnection extends Connection {
+		private final BlockingQueue<byte[]> fPackets = new LinkedBlockingQueue<>();
+		private volatile boolean fOpen = true;
+
+		@Override
+		public byte[] readPacket() throws IOException {
+			try {
+				byte[] packet = fPackets.take();
+				if (packet.length == 0) {
+					throw new IOException("closed");
+				}
+				return packet;
+			} catch (InterruptedException e) {
+				throw new IOException(e);
+			}
+		}
+
+		@Override
+		public void writePacket(byte[] packet) throws IOException {
+			byte[] reply = new byte[HEADER_LENGTH];
+			reply[3] = (byte) reply.length;
+			System.arraycopy(packet, 4, reply, 4, 4);
+			reply[8] = JdwpPacket.FLAG_REPLY_PACKET;
+			fPackets.add(reply);
+		}
+
+		@Override
+		public void close() {
+			fOpen = false;
+			fPackets.add(new byte[0]);
+		}
+
+		@Override
+		public boolean isOpen() {
+			return fOpen;
+		}
+	}
+
+	static final String SMAP = "SMAP\n"
+			+ "Hello_jsp.java\n"
+			+ "JSP\n"
+			+ "*S JSP\n"
+			+ "*F\n"
+			+ "+ 0 Hello.jsp\n"
+			+ "Hello.jsp\n"
+			+ "+ 1 header.jspf\n"
+			+ "include/header.jspf\n"
+			+ "*L\n"
+			+ "1#1,5:50,2\n"
+			+ "1#0,10:60\n"
+			+ "11,20:70,3\n"
+			+ "31#0:130\n"
+			+ "32,3:131,4\n"
+			+ "*E\n";
+
+	private static final String METHOD_SIGNATURE = "(ILjava/lang/String;[[JLjava/util/Map<Ljava/lang/String;Ljava/util/List<+Ljava/lang/Number;>;>;TT;Z[Ljava/lang/Object;)V";
+
+	/**
+	 * Returns the benchmarks.
+	 */
+	public static List<Benchmark> benchmarks() {
+		List<Benchmark> benchmarks = new ArrayList<>();
+		benchmarks.add(new Benchmark("JdwpPacket.encode") {
+			private byte[] fData;
+
+			@Override
+			public void setUp() throws IOException {
+				fData = methodsReplyData();
+			}
+
+			@Override
+			public Object run() throws IOException {
+				JdwpCommandPacket packet = new JdwpCommandPacket(JdwpCommandPacket.RT_METHODS_WITH_GENERIC);
+				packet.setData(fData);
+				return packet.getPacketAsBytes();
+			}
+		});
+		benchmarks.add(new Benchmark("JdwpPacket.decodeStream") {
+			private byte[] fPacket;
+
+			@Override
+			public void setUp() throws IOException {
+				fPacket = methodsReplyPacket();
+			}
+
+			@Override
+			public Object run() throws IOException {
+				DataInputStream in = JdwpPacket.build(fPacket).dataInStream();
+				int count = in.readInt();
+				long sum = 0;
+				for (int i = 0; i < count; i++) {
+					sum += in.readLong();
+					sum += JdwpString.read(in).length();
+					sum += JdwpString.read(in).length();
+					sum += JdwpString.read(in).length();
+					sum += in.readInt();
+				}
+				return Long.valueOf(sum);
+			}
+		});
+		benchmarks.add(new Benchmark("JdwpPacket.decodeInPlace") {
+			private byte[] fPacket;
+
+			@Override
+			public void setUp() throws IOException {
+				fPacket = methodsReplyPacket();
+			}
+
+			@Override
+			public Object run() throws IOException {
+				JdwpDataReader reader = new JdwpDataReader(JdwpPacket.build(fPacket).dataBuffer());
+				int count = reader.readInt();
+				long sum = 0;
+				for (int i = 0; i < count; i++) {
+					sum += reader.readID(8);
+					sum += reader.readString().length();
+					sum += reader.readString().length();
+					sum += reader.readString().length();
+					sum += reader.readInt();
+				}
+				return Long.valueOf(sum);
+			}
+		});
+		benchmarks.add(new Benchmark("PacketReceiveManager.getReply") {
+			private static final int REQUESTS = 64;
+			private ReplyingConnection fConnection;
+			private PacketReceiveManager fReceiveManager;
+			private Thread fReceiveThread;
+			private final int[] fIds = new int[REQUESTS];
+
+			@Override
+			public void setUp() {
+				fConnection = new ReplyingConnection();
+				fReceiveManager = new PacketReceiveManager(fConnection, null);
+				fReceiveThread = new Thread(fReceiveManager, "JDI benchmark receiver");
+				fReceiveThread.setDaemon(true);
+				fReceiveThread.start();
+			}
+
+			@Override
+			public Object run() throws IOException {
+				// send all the requests before waiting for the replies, as
+				// pipelined requests do, so that replies are matched among
+				// others
+				for (int i = 0; i < REQUESTS; i++) {
+					JdwpCommandPacket packet = new JdwpCommandPacket(JdwpCommandPacket.VM_ALL_THREADS);
+					fIds[i] = packet.getId();
+					fConnection.writePacket(packet.getPacketAsBytes());
+				}
+				JdwpReplyPacket reply = null;
+				for (int i = REQUESTS - 1; i >= 0; i--) {
+					reply = fReceiveManager.getReply(fIds[i], 10000);
+				}
+				return reply;
+			}
+
+			@Override
+			public void tearDown() throws InterruptedException {
+				fReceiveManager.disconnectVM();
+				fReceiveThread.join(10000);
+			}
+		});
+		benchmarks.add(new Benchmark("ValueCache.putGet") {
+			private final ValueCache fCache = new ValueCache();
+			private final Long[] fKeys = new Long[1024];
+			private int fNext;
+
+			@Override
+			public void setUp() {
+				for (int i = 0; i < fKeys.length; i++) {
+					fKeys[i] = Long.valueOf(i * 31L);
+					fCache.put(fKeys[i], new Object());
+				}
+			}
+
+			@Override
+			public Object run() {
+				Long key = fKeys[fNext++ & (fKeys.length - 1)];
+				Object value = fCache.get(key);
+				fCache.put(key, value);
+				return value;
+			}
+		});
+		benchmarks.add(new Benchmark("GenericSignature.getParameterTypes") {
+			@Override
+			public Object run() {
+				return GenericSignature.getParameterTypes(METHOD_SIGNATURE);
+			}
+		});
+		benchmarks.add(new Benchmark("SourceDebugExtensionParser.parse") {
+			@Override
+			public Object run() throws Exception {
+				SmapType type = new SmapType();
+				SourceDebugExtensionParser.parse(SMAP, type);
+				return type;
+			}
+		});
+		return benchmarks;
+	}
+
+	/**
+	 * Type receiving the strata of a parsed SMAP, without a VM.
+	 */
+	static class SmapType extends ClassTypeImpl {
+		private final List<Stratum> fParsedStrata = new ArrayList<>();
+		private String fDefaultStratum;
+
+		SmapType() {
+			super(null, new JdwpClassID(null), "LHello_jsp;", null);
+		}
+
+		@Override
+		public String defaultStratum() {
+			return fDefaultStratum;
+		}
+
+		@Override
+		protected void setDefaultStratumId(String defaultStratumId) {
+			fDefaultStratum = defaultStratumId;
+		}
+
+		@Override
+		protected void addStratum(Stratum stratum) {
+			fParsedStrata.add(stratum);
+		}
+
+		int strataCount() {
+			return fParsedStrata.size();
+		}
+	}
+
+	/**
+	 * Returns the data of a reply to RT_METHODS_WITH_GENERIC for a class of
+	 * 100 methods.
+	 */
+	static byte[] methodsReplyData() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(100);
+		for (int i = 0; i < 100; i++) {
+			out.writeLong(0x7F0000L + i);
+			JdwpString.write("method" + i, out);
+			JdwpString.write("(Ljava/lang/String;I)Ljava/util/List;", out);
+			JdwpString.write("(Ljava/lang/String;I)Ljava/util/List<Ljava/lang/String;>;", out);
+			out.writeInt(1);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Returns a reply packet holding {@link #methodsReplyData()}.
+	 */
+	static byte[] methodsReplyPacket() throws IOException {
+		byte[] data = methodsReplyData();
+		byte[] packet = new byte[HEADER_LENGTH + data.length];
+		packet[0] = (byte) (packet.length >>> 24);
+		packet[1] = (byte) (packet.length >>> 16);
+		packet[2] = (byte) (packet.length >>> 8);
+		packet[3] = (byte) packet.length;
+		packet[7] = 1;
+		packet[8] = JdwpPacket.FLAG_REPLY_PACKET;
+		System.arraycopy(data, 0, packet, HEADER_LENGTH, data.length);
+		return packet;
+	}
+
+	/** Consumes the results of the operations */
+	private static volatile int fgSink;
+
+	/**
+	 * Runs the given benchmark and returns its scores.
+	 *
+	 * @param benchmark
+	 *            the benchmark to run
+	 * @param warmupIterations
+	 *            the number of iterations run before the measured ones
+	 * @param iterations
+	 *            the number of measured iterations
+	 * @param iterationMillis
+	 *            the duration of an iteration
+	 */
+	public static Result run(Benchmark benchmark, int warmupIterations, int iterations, long iterationMillis) throws Exception {
+		benchmark.setUp();
+		try {
+			long batchSize = calibrate(benchmark);
+			for (int i = 0; i < warmupIterations; i++) {
+				iteration(benchmark, iterationMillis, batchSize);
+			}
+			double[] scores = new double[iterations];
+			for (int i = 0; i < iterations; i++) {
+				scores[i] = iteration(benchmark, iterationMillis, batchSize);
+			}
+			return new Result(benchmark.getName(), scores);
+		} finally {
+			benchmark.tearDown();
+		}
+	}
+
+	/**
+	 * Returns the number of operations of the benchmark that take at least
+	 * {@link #BATCH_NANOS}.
+	 */
+	private static long calibrate(Benchmark benchmark) throws Exception {
+		long batchSize = 1;
+		while (batch(benchmark, batchSize) < BATCH_NANOS && batchSize < Long.MAX_VALUE / 2) {
+			batchSize *= 2;
+		}
+		return batchSize;
+	}
+
+	/**
+	 * Runs the benchmark for the given duration, in batches of the given
+	 * number of operations, and returns the average time of an operation in
+	 * nanoseconds.
+	 */
+	private static double iteration(Benchmark benchmark, long iterationMillis, long batchSize) throws Exception {
+		long duration = iterationMillis * 1000000L;
+		long operations = 0;
+		long elapsed = 0;
+		do {
+			elapsed += batch(benchmark, batchSize);
+			operations += batchSize;
+		} while (elapsed < duration);
+		return (double) elapsed / operations;
+	}
+
+	/**
+	 * Runs the given number of operations of the benchmark and returns their
+	 * time in nanoseconds.
+	 */
+	private static long batch(Benchmark benchmark, long operations) throws Exception {
+		int sink = 0;
+		long start = System.nanoTime();
+		for (long i = 0; i < operations; i++) {
+			Object result = benchmark.run();
+			sink += System.identityHashCode(result);
+		}
+		long elapsed = System.nanoTime() - start;
+		fgSink += sink;
+		return elapsed;
+	}
+
+	/**
+	 * Runs the given benchmark in the given number of new VMs and returns
+	 * their scores.
+	 *
+	 * @param benchmark
+	 *            the benchmark to run
+	 * @param forks
+	 *            the number of VMs to run the benchmark in, one after the
+	 *            other
+	 * @param classPath
+	 *            the class path of the VMs, which contains the benchmarks
+	 *            and the JDI implementation
+	 * @param warmupIterations
+	 *            the number of iterations run before the measured ones, in
+	 *            each VM
+	 * @param iterations
+	 *            the number of measured iterations, in each VM
+	 * @param iterationMillis
+	 *            the duration of an iteration
+	 */
+	public static Result fork(Benchmark benchmark, int forks, String classPath, int warmupIterations, int iterations, long iterationMillis) throws Exception {
+		String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+		double[] scores = new double[forks * iterations];
+		for (int i = 0; i < forks; i++) {
+			File scoreFile = File.createTempFile("jdiBenchmark", ".txt");
+			try {
+				Process process = new ProcessBuilder(java, "-cp", classPath, JDIBenchmarks.class.getName(),
+						"-f", "0", "-wi", Integer.toString(warmupIterations), "-i", Integer.toString(iterations),
+						"-r", Long.toString(iterationMillis), "-sf", scoreFile.getPath(), Pattern.quote(benchmark.getName()))
+						.redirectOutput(Redirect.DISCARD).redirectError(Redirect.INHERIT).start();
+				int exitValue = process.waitFor();
+				if (exitValue != 0) {
+					throw new IOException("Benchmark " + benchmark.getName() + " failed with exit value " + exitValue);
+				}
+				List<String> lines = Files.readAllLines(scoreFile.toPath());
+				if (lines.size() != iterations) {
+					throw new IOException("Benchmark " + benchmark.getName() + " reported " + lines.size() + " scores");
+				}
+				for (int j = 0; j < iterations; j++) {
+					scores[i * iterations + j] = Double.parseDouble(lines.get(j));
+				}
+			} finally {
+				scoreFile.delete();
+			}
+		}
+		return new Result(benchmark.getName(), scores);
+	}
+
+	/**
+	 * Writes the given results as JSON, in the format of JMH. The scores of
+	 * the results run in VMs of their own are grouped by VM.
+	 */
+	public static void writeJson(List<Result> results, int forks, int warmupIterations, long iterationMillis, PrintWriter writer) {
+		writer.println('[');
+		for (int i = 0; i < results.size(); i++) {
+			Result result = results.get(i);
+			writer.println("    {");
+			writer.println("        \"benchmark\" : \"" + JDIBenchmarks.class.getName() + '.' + result.getName() + "\",");
+			writer.println("        \"mode\" : \"avgt\",");
+			writer.println("        \"threads\" : 1,");
+			writer.println("        \"forks\" : " + forks + ',');
+			writer.println("        \"jdkVersion\" : \"" + System.getProperty("java.version") + "\",");
+			writer.println("        \"warmupIterations\" : " + warmupIterations + ',');
+			writer.println("        \"warmupTime\" : \"" + iterationMillis + " ms\",");
+			int forkIterations = result.getScores().length / Math.max(forks, 1);
+			writer.println("        \"measurementIterations\" : " + forkIterations + ',');
+			writer.println("        \"measurementTime\" : \"" + iterationMillis + " ms\",");
+			writer.println("        \"primaryMetric\" : {");
+			writer.println("            \"score\" : " + number(result.getScore()) + ',');
+			writer.println("            \"scoreError\" : " + number(result.getScoreError()) + ',');
+			writer.println("            \"scoreUnit\" : \"ns/op\",");
+			StringBuilder rawData = new StringBuilder("[ ");
+			double[] scores = result.getScores();
+			for (int j = 0; j < scores.length; j++) {
+				if (j > 0) {
+					rawData.append(j % forkIterations == 0 ? " ], [ " : ", ");
+				}
+				rawData.append(number(scores[j]));
+			}
+			writer.println("            \"rawData\" : [ " + rawData + " ] ]");
+			writer.println("        }");
+			writer.println(i == results.size() - 1 ? "    }" : "    },");
+		}
+		writer.println(']');
+	}
+
+	private static String number(double value) {
+		return Double.isNaN(value) ? "\"NaN\"" : String.format(Locale.ROOT, "%.3f", value);
+	}
+
+	/**
+	 * Runs the benchmarks, see the class comment for the arguments.
+	 */
+	public static void main(String[] args) throws Exception {
+		// the class path of this VM contains the benchmarks unless they are loaded by OSGi
+		boolean application = JDIBenchmarks.class.getClassLoader() == ClassLoader.getSystemClassLoader();
+		int forks = application ? 1 : 0;
+		String classPath = application ? System.getProperty("java.class.path") : null;
+		int warmupIterations = 5;
+		int iterations = 10;
+		long iterationMillis = 1000;
+		String resultFile = null;
+		// file to which a forked VM writes the scores
+		String scoreFile = null;
+		String filter = ".*";
+		for (int i = 0; i < args.length; i++) {
+			switch (args[i]) {
+			case "-f":
+				forks = Integer.parseInt(args[++i]);
+				break;
+			case "-cp":
+				classPath = args[++i];
+				break;
+			case "-wi":
+				warmupIterations = Integer.parseInt(args[++i]);
+				break;
+			case "-i":
+				iterations = Integer.parseInt(args[++i]);
+				break;
+			case "-r":
+				iterationMillis = Long.parseLong(args[++i]);
+				break;
+			case "-rf":
+				resultFile = args[++i];
+				break;
+			case "-sf":
+				scoreFile = args[++i];
+				break;
+			default:
+				filter = args[i];
+			}
+		}
+		if (forks > 0 && classPath == null) {
+			throw new IllegalArgumentException("The class path of the benchmark VMs must be given with -cp");
+		}
+		List<Result> results = new ArrayList<>();
+		for (Benchmark benchmark : benchmarks()) {
+			if (!benchmark.getName().matches(filter)) {
+				continue;
+			}
+			Result result = forks == 0 ? run(benchmark, warmupIterations, iterations, iterationMillis)
+					: fork(benchmark, forks, classPath, warmupIterations, iterations, iterationMillis);
+			results.add(result);
+			System.out.println(String.format(Locale.ROOT, "%-40s %12.3f \u00B1 %10.3f ns/op", result.getName(), result.getScore(), result.getScoreError()));
+		}
+		if (resultFile != null) {
+			try (PrintWriter writer = new PrintWriter(new FileWriter(resultFile))) {
+				writeJson(results, forks, warmupIterations, iterationMillis, writer);
+			}
+		}
+		if (scoreFile != null) {
+			try (PrintWriter writer = new PrintWriter(new FileWriter(scoreFile))) {
+				for (Result result : results) {
+					for (double score : result.getScores()) {
+						writer.println(score);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import junit.framework.TestCase;
+
+/**
+ * Runs and measures the JDI benchmarks in a test run, as the
+ * <code>benchmarks</code> Maven profile does. The arguments of
+ * {@link JDIBenchmarks#main(String[])} are taken from the
+ * <code>jdi.benchmarks.args</code> system property. This class is not part
+ * of the automated suite.
+ */
+public class JDIBenchmarksRunner extends TestCase {
+
+	public JDIBenchmarksRunner(String name) {
+		super(name);
+	}
+
+	/**
+	 * Runs the benchmarks with the arguments of the system property
+	 */
+	public void testMeasureBenchmarks() throws Exception {
+		String args = System.getProperty("jdi.benchmarks.args", "").trim();
+		JDIBenchmarks.main(args.isEmpty() ? new String[0] : args.split("\\s+"));
+	}
+}
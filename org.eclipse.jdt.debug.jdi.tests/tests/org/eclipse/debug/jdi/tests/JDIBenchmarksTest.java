@@ -0,0 +1,64 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.debug.jdi.tests.JDIBenchmarks.Benchmark;
+import org.eclipse.debug.jdi.tests.JDIBenchmarks.Result;
+import org.eclipse.debug.jdi.tests.JDIBenchmarks.SmapType;
+import org.eclipse.jdi.internal.SourceDebugExtensionParser;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that the JDI benchmarks run, without measuring them.
+ */
+public class JDIBenchmarksTest extends TestCase {
+
+	public JDIBenchmarksTest(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests that each benchmark runs and gets a score
+	 */
+	public void testRunBenchmarks() throws Exception {
+		List<Result> results = new ArrayList<>();
+		for (Benchmark benchmark : JDIBenchmarks.benchmarks()) {
+			Result result = JDIBenchmarks.run(benchmark, 0, 2, 1);
+			assertTrue("No score for " + benchmark.getName(), result.getScore() > 0);
+			results.add(result);
+		}
+		StringWriter json = new StringWriter();
+		JDIBenchmarks.writeJson(results, 0, 0, 1, new PrintWriter(json));
+		assertTrue("Wrong JSON", json.toString().trim().startsWith("["));
+		assertTrue("Wrong JSON", json.toString().trim().endsWith("]"));
+		assertTrue("Wrong JSON", json.toString().contains("\"benchmark\" : \"org.eclipse.debug.jdi.tests.JDIBenchmarks.ValueCache.putGet\""));
+		assertTrue("Wrong JSON", json.toString().contains("\"forks\" : 0,"));
+	}
+
+	/**
+	 * Tests that the SMAP of the benchmarks is parsed
+	 */
+	public void testParseSmap() throws Exception {
+		SmapType type = new SmapType();
+		SourceDebugExtensionParser.parse(JDIBenchmarks.SMAP, type);
+		assertEquals("Wrong default stratum", "JSP", type.defaultStratum());
+		assertEquals("Wrong strata", 1, type.strataCount());
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.eclipse.jdi.internal.jdwp.JdwpDataReader;
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpString;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests reading JDWP packet data in place.
+ */
+public class JdwpDataReaderTest extends TestCase {
+
+	public JdwpDataReaderTest(String name) {
+		super(name);
+	}
+
+	/**
+	 * Returns a reply packet holding the given data, with a header in front
+	 * of it
+	 */
+	private static byte[] reply(byte[] data) {
+		byte[] packet = new byte[11 + data.length];
+		packet[3] = (byte) packet.length;
+		packet[7] = 1;
+		packet[8] = JdwpPacket.FLAG_REPLY_PACKET;
+		System.arraycopy(data, 0, packet, 11, data.length);
+		return packet;
+	}
+
+	private static byte[] data() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(42);
+		out.writeLong(-1L);
+		out.write(new byte[] { 0, 0, 0, 0, 0, 0, 1, 2 });
+		JdwpString.write("Ljava/lang/String;", out);
+		JdwpString.write("caf\u00e9 \u20ac", out);
+		JdwpString.write("skipped", out);
+		out.writeBoolean(true);
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Tests reading the data of a packet built from bytes
+	 */
+	public void testRead() throws IOException {
+		JdwpReplyPacket packet = (JdwpReplyPacket) JdwpPacket.build(reply(data()));
+		JdwpDataReader reader = new JdwpDataReader(packet.dataBuffer());
+		assertEquals("Wrong int", 42, reader.readInt());
+		assertEquals("Wrong long", -1L, reader.readLong());
+		assertEquals("Wrong ID", 258L, reader.readID(8));
+		assertEquals("Wrong ASCII string", "Ljava/lang/String;", reader.readString());
+		assertEquals("Wrong non ASCII string", "caf\u00e9 \u20ac", reader.readString());
+		reader.skipString();
+		assertTrue("Wrong boolean", reader.readBoolean());
+		assertEquals("Data should be read", 0, reader.remaining());
+	}
+
+	/**
+	 * Tests comparing strings without decoding them
+	 */
+	public void testStartsWith() throws IOException {
+		JdwpReplyPacket packet = (JdwpReplyPacket) JdwpPacket.build(reply(data()));
+		JdwpDataReader reader = new JdwpDataReader(packet.dataBuffer());
+		reader.skip(20);
+		ByteBuffer signature = reader.readUtf();
+		assertEquals("Wrong string length", 18, signature.limit());
+		assertTrue("Should start with prefix", JdwpString.startsWith(signature, 0, JdwpString.encode("Ljava/lang/")));
+		assertTrue("Should hold name at offset", JdwpString.startsWith(signature, 11, JdwpString.encode("String;")));
+		assertFalse("Should not start with prefix", JdwpString.startsWith(signature, 0, JdwpString.encode("Ljava/util/")));
+		assertFalse("Prefix should not fit", JdwpString.startsWith(signature, 11, JdwpString.encode("String;;")));
+		ByteBuffer text = reader.readUtf();
+		assertTrue("Should start with non ASCII prefix", JdwpString.startsWith(text, 0, JdwpString.encode("caf\u00e9")));
+		assertEquals("Wrong decoded string", "caf\u00e9 \u20ac", JdwpString.decode(text));
+	}
+
+	/**
+	 * Tests that the data of a packet built from bytes is the same as
+	 * through a stream
+	 */
+	public void testData() throws IOException {
+		byte[] data = data();
+		JdwpReplyPacket packet = (JdwpReplyPacket) JdwpPacket.build(reply(data));
+		assertEquals("Wrong data length", data.length, packet.getDataLength());
+		assertEquals("Wrong stream data", 42, packet.dataInStream().readInt());
+		assertEquals("Wrong data", ByteBuffer.wrap(data), ByteBuffer.wrap(packet.data()));
+		assertEquals("Wrong packet", ByteBuffer.wrap(reply(data)), ByteBuffer.wrap(packet.getPacketAsBytes()));
+	}
+
+	/**
+	 * Tests that reading past the data fails
+	 */
+	public void testReadPastData() throws IOException {
+		JdwpReplyPacket packet = (JdwpReplyPacket) JdwpPacket.build(reply(new byte[] { 0, 0, 0, 9, 1 }));
+		JdwpDataReader reader = new JdwpDataReader(packet.dataBuffer());
+		try {
+			reader.readUtf();
+			fail("Should not read past data");
+		} catch (EOFException e) {
+			// expected
+		}
+	}
+}
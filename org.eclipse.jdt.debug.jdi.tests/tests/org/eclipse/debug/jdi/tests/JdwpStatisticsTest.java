@@ -0,0 +1,87 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import org.eclipse.jdi.internal.JdwpStatistics.Histogram;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the histograms of the JDWP statistics.
+ */
+public class JdwpStatisticsTest extends TestCase {
+
+	public JdwpStatisticsTest(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests that an empty histogram reports zeros
+	 */
+	public void testEmptyHistogram() {
+		Histogram histogram = new Histogram();
+		assertEquals("Wrong count", 0, histogram.getCount());
+		assertEquals("Wrong mean", 0, histogram.getMean());
+		assertEquals("Wrong max", 0, histogram.getMax());
+		assertEquals("Wrong median", 0, histogram.getPercentile(50));
+	}
+
+	/**
+	 * Tests that small values are recorded exactly
+	 */
+	public void testSmallValues() {
+		Histogram histogram = new Histogram();
+		for (int i = 1; i <= 7; i++) {
+			histogram.record(i);
+		}
+		assertEquals("Wrong count", 7, histogram.getCount());
+		assertEquals("Wrong sum", 28, histogram.getSum());
+		assertEquals("Wrong mean", 4, histogram.getMean());
+		assertEquals("Wrong median", 4, histogram.getPercentile(50));
+		assertEquals("Wrong maximum percentile", 7, histogram.getPercentile(100));
+	}
+
+	/**
+	 * Tests that percentiles of large values are known within the precision
+	 * of the buckets
+	 */
+	public void testPercentiles() {
+		Histogram histogram = new Histogram();
+		for (long i = 1; i <= 100000; i++) {
+			histogram.record(i * 1000);
+		}
+		assertEquals("Wrong max", 100000000, histogram.getMax());
+		assertEquals("Wrong maximum percentile", 100000000, histogram.getPercentile(100));
+		assertWithin("Wrong median", 50000000, histogram.getPercentile(50));
+		assertWithin("Wrong 99th percentile", 99000000, histogram.getPercentile(99));
+		assertWithin("Wrong 1st percentile", 1000000, histogram.getPercentile(1));
+	}
+
+	/**
+	 * Tests that the largest values are recorded
+	 */
+	public void testLargeValues() {
+		Histogram histogram = new Histogram();
+		histogram.record(Long.MAX_VALUE);
+		histogram.record(-1);
+		assertEquals("Wrong count", 2, histogram.getCount());
+		assertEquals("Wrong max", Long.MAX_VALUE, histogram.getMax());
+		assertEquals("Wrong minimum percentile", 0, histogram.getPercentile(0));
+		assertEquals("Wrong maximum percentile", Long.MAX_VALUE, histogram.getPercentile(100));
+	}
+
+	private void assertWithin(String message, long expected, long actual) {
+		assertTrue(message + ": " + actual, actual >= expected && actual <= expected + expected / 8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -124,6 +124,14 @@ public class MethodTest extends AbstractJDITest {
 		assertFalse("4", fMethod1.equals(null));
 		assertNotEquals("5", fMethod1.hashCode(), other.hashCode());
 	}
+	/**
+	 * Test that methods with the same signature share the signature instance.
+	 */
+	public void testJDISharedSignature() {
+		Method run = getMethod("run", "()V");
+		Method sync = getMethod("sync", "()V");
+		assertSame("1", run.signature(), sync.signature());
+	}
 	/**
 	 * Test JDI isAbstract().
 	 */
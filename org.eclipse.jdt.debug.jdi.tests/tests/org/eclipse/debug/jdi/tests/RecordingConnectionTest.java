@@ -0,0 +1,254 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.debug.jdi.tests;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdi.internal.connect.RecordingConnection;
+import org.eclipse.jdi.internal.connect.ReplayConnection;
+
+import com.sun.jdi.connect.spi.Connection;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests recording JDWP packets and serving them again without a VM.
+ */
+public class RecordingConnectionTest extends TestCase {
+
+	/**
+	 * Connection answering each command with a reply holding the command's
+	 * data, and sending an event after the first command
+	 */
+	static class EchoConnection extends Connection {
+		private final ArrayDeque<byte[]> fPackets = new ArrayDeque<>();
+		private boolean fEventSent;
+		private boolean fOpen = true;
+
+		@Override
+		public synchronized byte[] readPacket() throws IOException {
+			return fPackets.removeFirst();
+		}
+
+		@Override
+		public synchronized void writePacket(byte[] packet) throws IOException {
+			fPackets.addLast(packet(id(packet), (byte) 0x80, (byte) 0, (byte) 0, Arrays.copyOfRange(packet, 11, packet.length)));
+			if (!fEventSent) {
+				fEventSent = true;
+				fPackets.addLast(packet(1000, (byte) 0, (byte) 64, (byte) 100, new byte[] { 42 }));
+			}
+		}
+
+		@Override
+		public synchronized void close() {
+			fOpen = false;
+		}
+
+		@Override
+		public synchronized boolean isOpen() {
+			return fOpen;
+		}
+	}
+
+	/**
+	 * Connection whose replies are read by another thread before the command
+	 * is written
+	 */
+	static class FastReplyConnection extends Connection {
+		private final BlockingQueue<byte[]> fPackets = new LinkedBlockingQueue<>();
+		private final CountDownLatch fReplyRead = new CountDownLatch(1);
+		private volatile boolean fOpen = true;
+
+		@Override
+		public byte[] readPacket() throws IOException {
+			try {
+				return fPackets.take();
+			} catch (InterruptedException e) {
+				throw new IOException(e);
+			}
+		}
+
+		@Override
+		public void writePacket(byte[] packet) throws IOException {
+			fPackets.add(packet(id(packet), (byte) 0x80, (byte) 0, (byte) 0, Arrays.copyOfRange(packet, 11, packet.length)));
+			try {
+				assertTrue("Reply not read", fReplyRead.await(10, TimeUnit.SECONDS));
+			} catch (InterruptedException e) {
+				throw new IOException(e);
+			}
+		}
+
+		void replyRead() {
+			fReplyRead.countDown();
+		}
+
+		@Override
+		public void close() {
+			fOpen = false;
+		}
+
+		@Override
+		public boolean isOpen() {
+			return fOpen;
+		}
+	}
+
+	private File fFile;
+
+	public RecordingConnectionTest(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		fFile = File.createTempFile("jdwp", ".rec");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		fFile.delete();
+	}
+
+	static byte[] packet(int id, byte flags, byte commandSet, byte command, byte[] data) {
+		byte[] packet = new byte[11 + data.length];
+		packet[0] = (byte) (packet.length >>> 24);
+		packet[1] = (byte) (packet.length >>> 16);
+		packet[2] = (byte) (packet.length >>> 8);
+		packet[3] = (byte) packet.length;
+		packet[4] = (byte) (id >>> 24);
+		packet[5] = (byte) (id >>> 16);
+		packet[6] = (byte) (id >>> 8);
+		packet[7] = (byte) id;
+		packet[8] = flags;
+		packet[9] = commandSet;
+		packet[10] = command;
+		System.arraycopy(data, 0, packet, 11, data.length);
+		return packet;
+	}
+
+	static int id(byte[] packet) {
+		return ((packet[4] & 0xFF) << 24) + ((packet[5] & 0xFF) << 16) + ((packet[6] & 0xFF) << 8) + (packet[7] & 0xFF);
+	}
+
+	/**
+	 * Records a session of two commands, their replies and an event
+	 */
+	private void record() throws IOException {
+		RecordingConnection connection = new RecordingConnection(new EchoConnection(), fFile);
+		connection.writePacket(packet(1, (byte) 0, (byte) 1, (byte) 9, new byte[] { 1, 2 }));
+		connection.readPacket();
+		connection.readPacket();
+		connection.writePacket(packet(2, (byte) 0, (byte) 1, (byte) 9, new byte[] { 3 }));
+		connection.readPacket();
+		connection.close();
+	}
+
+	/**
+	 * Tests that recorded replies are served with the IDs of the replayed
+	 * commands, and that events are served after the command preceding them
+	 */
+	public void testReplay() throws IOException {
+		record();
+		ReplayConnection connection = new ReplayConnection(fFile);
+		try {
+			// commands are matched by content, not by order or ID
+			connection.writePacket(packet(20, (byte) 0, (byte) 1, (byte) 9, new byte[] { 3 }));
+			byte[] reply = connection.readPacket();
+			assertEquals("Wrong reply ID", 20, id(reply));
+			assertEquals("Wrong reply data", 3, reply[11]);
+
+			connection.writePacket(packet(10, (byte) 0, (byte) 1, (byte) 9, new byte[] { 1, 2 }));
+			reply = connection.readPacket();
+			assertEquals("Wrong reply ID", 10, id(reply));
+			assertTrue("Wrong reply data", Arrays.equals(new byte[] { 1, 2 }, Arrays.copyOfRange(reply, 11, reply.length)));
+			byte[] event = connection.readPacket();
+			assertEquals("Wrong event command set", 64, event[9]);
+			assertEquals("Wrong event data", 42, event[11]);
+		} finally {
+			connection.close();
+		}
+		assertFalse("Connection should be closed", connection.isOpen());
+	}
+
+	/**
+	 * Tests that a reply read before the write of its command returns is
+	 * replayed
+	 */
+	public void testReplayFastReply() throws Exception {
+		FastReplyConnection fastReplyConnection = new FastReplyConnection();
+		RecordingConnection recordingConnection = new RecordingConnection(fastReplyConnection, fFile);
+		byte[][] reply = new byte[1][];
+		Thread reader = new Thread(() -> {
+			try {
+				reply[0] = recordingConnection.readPacket();
+			} catch (IOException e) {
+				// no reply
+			}
+			fastReplyConnection.replyRead();
+		});
+		reader.start();
+		recordingConnection.writePacket(packet(1, (byte) 0, (byte) 1, (byte) 9, new byte[] { 7 }));
+		reader.join();
+		recordingConnection.close();
+		assertNotNull("Reply not read", reply[0]);
+
+		ReplayConnection connection = new ReplayConnection(fFile);
+		// a reply recorded before its command is not replayed, do not wait
+		// for it forever
+		Thread timeout = new Thread(() -> {
+			try {
+				Thread.sleep(10000);
+			} catch (InterruptedException e) {
+				return;
+			}
+			connection.close();
+		});
+		timeout.setDaemon(true);
+		timeout.start();
+		try {
+			connection.writePacket(packet(3, (byte) 0, (byte) 1, (byte) 9, new byte[] { 7 }));
+			byte[] replayed = connection.readPacket();
+			assertEquals("Wrong reply ID", 3, id(replayed));
+			assertEquals("Should not be an error", 0, ((replayed[9] & 0xFF) << 8) + (replayed[10] & 0xFF));
+			assertEquals("Wrong reply data", 7, replayed[11]);
+		} finally {
+			timeout.interrupt();
+			connection.close();
+		}
+	}
+
+	/**
+	 * Tests that a command that was not recorded is answered with an error
+	 */
+	public void testReplayUnknownCommand() throws IOException {
+		record();
+		ReplayConnection connection = new ReplayConnection(fFile);
+		try {
+			connection.writePacket(packet(5, (byte) 0, (byte) 1, (byte) 1, new byte[0]));
+			byte[] reply = connection.readPacket();
+			assertEquals("Wrong reply ID", 5, id(reply));
+			assertEquals("Should be a reply", (byte) 0x80, reply[8]);
+			assertEquals("Wrong error code", 99, ((reply[9] & 0xFF) << 8) + (reply[10] & 0xFF));
+		} finally {
+			connection.close();
+		}
+	}
+}
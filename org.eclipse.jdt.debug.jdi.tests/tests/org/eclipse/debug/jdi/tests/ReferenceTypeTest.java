@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,14 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 
+import org.eclipse.jdi.internal.JdwpStatistics;
+import org.eclipse.jdi.internal.JdwpStatistics.CommandStatistics;
+import org.eclipse.jdi.internal.ReferenceTypeImpl;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.ArrayType;
 import com.sun.jdi.Field;
 import com.sun.jdi.IntegerValue;
 import com.sun.jdi.Method;
@@ -349,6 +357,84 @@ public class ReferenceTypeTest extends AbstractJDITest {
 		assertEquals("2." + type.name(), 1, nestedTypes.size());
 		assertTrue("3." + type.name(), nestedTypes.get(0) instanceof ReferenceType);
 	}
+	/**
+	 * Test that the information retrieved by prefetch() is not asked for
+	 * again.
+	 */
+	public void testJDIPrefetch() {
+		JdwpStatistics statistics = ((VirtualMachineImpl) fVM).jdwpStatistics();
+		for (int i = 0; i < fTypes.size(); ++i) {
+			ReferenceTypeImpl type = (ReferenceTypeImpl) fTypes.get(i);
+			if (type instanceof ArrayType) {
+				// nothing is prefetched for array types
+				continue;
+			}
+			type.prefetch();
+			long count = requestCount(statistics);
+			type.modifiers();
+			type.interfaces();
+			type.fields();
+			type.methods();
+			type.genericSignature();
+			assertEquals("" + i, count, requestCount(statistics));
+		}
+	}
+	/**
+	 * Test that prefetchMethodsAndSourceName() retrieves the methods, the
+	 * source name and the source debug extension only.
+	 */
+	public void testJDIPrefetchMethodsAndSourceName() {
+		JdwpStatistics statistics = ((VirtualMachineImpl) fVM).jdwpStatistics();
+		for (int i = 0; i < fTypes.size(); ++i) {
+			ReferenceTypeImpl type = (ReferenceTypeImpl) fTypes.get(i);
+			if (type instanceof ArrayType) {
+				continue;
+			}
+			type.flushStoredJdwpResults();
+			type.prefetchMethodsAndSourceName();
+			long methods = requestCount(statistics, JdwpCommandPacket.RT_METHODS)
+					+ requestCount(statistics, JdwpCommandPacket.RT_METHODS_WITH_GENERIC);
+			long sourceFiles = requestCount(statistics, JdwpCommandPacket.RT_SOURCE_FILE);
+			long sourceDebugExtensions = requestCount(statistics, JdwpCommandPacket.RT_SOURCE_DEBUG_EXTENSION);
+			long modifiers = requestCount(statistics, JdwpCommandPacket.RT_MODIFIERS);
+			type.methods();
+			try {
+				type.sourceName();
+			} catch (AbsentInformationException e) {
+				// not asked for again either
+			}
+			type.modifiers();
+			assertEquals("1." + i, methods, requestCount(statistics, JdwpCommandPacket.RT_METHODS)
+					+ requestCount(statistics, JdwpCommandPacket.RT_METHODS_WITH_GENERIC));
+			assertEquals("2." + i, sourceFiles, requestCount(statistics, JdwpCommandPacket.RT_SOURCE_FILE));
+			assertEquals("3." + i, modifiers + 1, requestCount(statistics, JdwpCommandPacket.RT_MODIFIERS));
+			assertEquals("4." + i, sourceDebugExtensions, requestCount(statistics, JdwpCommandPacket.RT_SOURCE_DEBUG_EXTENSION));
+		}
+	}
+	/**
+	 * Returns the number of requests sent for the given command
+	 */
+	private long requestCount(JdwpStatistics statistics, int command) {
+		for (CommandStatistics commandStatistics : statistics.getCommandStatistics()) {
+			if (commandStatistics.getCommand() == command) {
+				return commandStatistics.getCount();
+			}
+		}
+		return 0;
+	}
+	/**
+	 * Returns the number of requests sent for the reference type commands
+	 * sent by prefetch()
+	 */
+	private long requestCount(JdwpStatistics statistics) {
+		long count = 0;
+		for (CommandStatistics command : statistics.getCommandStatistics()) {
+			if (command.getCommand() >> 8 == JdwpCommandPacket.CSET_REFERENCE_TYPE) {
+				count += command.getCount();
+			}
+		}
+		return count;
+	}
 	/**
 	 * Test JDI visibleFields().
 	 */
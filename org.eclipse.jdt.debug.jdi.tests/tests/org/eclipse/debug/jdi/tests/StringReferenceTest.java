@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.debug.jdi.tests;
 
+import org.eclipse.jdi.internal.StringReferenceImpl;
+
 import com.sun.jdi.StringReference;
 
 /**
@@ -53,4 +55,33 @@ public class StringReferenceTest extends AbstractJDITest {
 		String value = fString.value();
 		assertEquals("1", "Hello World", value);
 	}
+	/**
+	 * Test that the value is answered from the cache of the current suspend epoch.
+	 */
+	public void testJDIValueCached() {
+		String value = fString.value();
+		assertSame("1", value, fString.value());
+		assertSame("2", value, getStringReference().value());
+	}
+	/**
+	 * Test reading a prefix of the value.
+	 */
+	public void testJDIValuePrefix() {
+		StringReferenceImpl string = (StringReferenceImpl) fString;
+		assertEquals("1", "Hello", string.value(5));
+		assertEquals("2", "Hello Wo", string.value(8));
+		assertEquals("3", "Hello World", string.value(100));
+		assertEquals("4", "Hello World", string.value(0));
+	}
+	/**
+	 * Test reading a prefix of the value of a string whose length is known.
+	 */
+	public void testJDIValuePrefixOfReadString() {
+		StringReferenceImpl string = (StringReferenceImpl) getStringReference();
+		assertEquals("1", "Hello World", string.value());
+		assertEquals("2", "Hello World", string.value(100));
+		assertEquals("3", "Hello", string.value(5));
+		StringReferenceImpl other = (StringReferenceImpl) getStringReference();
+		assertEquals("4", "Hello W", other.value(7));
+	}
 }
@@ -16,6 +16,8 @@ package org.eclipse.debug.jdi.tests;
 import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.ClassType;
 import com.sun.jdi.IncompatibleThreadStateException;
@@ -225,6 +227,21 @@ public class ThreadReferenceTest extends AbstractJDITest {
 
 		waitUntilReady();
 	}
+	/**
+	 * Test pipelined JDWP 'Thread - SuspendCount' and 'Thread - Resume'
+	 * requests for several threads.
+	 */
+	public void testJDIBulkSuspendCountResume() {
+		VirtualMachineImpl vm = (VirtualMachineImpl) fVM;
+		fThread.suspend();
+		int[] counts = vm.suspendCounts(List.of(fThread, fThread));
+		assertEquals("1", 2, counts.length);
+		assertEquals("2", 2, counts[0]);
+		assertEquals("3", 2, counts[1]);
+		vm.resume(List.of(fThread));
+		assertEquals("4", 1, fThread.suspendCount());
+		assertTrue("5", fThread.isSuspended());
+	}
 	/**
 	 * Test JDI threadGroup() and JDWP 'Thread - Get threadGroup'.
 	 */
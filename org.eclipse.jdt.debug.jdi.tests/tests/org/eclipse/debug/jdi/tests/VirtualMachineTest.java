@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,11 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Vector;
 
+import org.eclipse.jdi.internal.JdwpStatistics;
+import org.eclipse.jdi.internal.JdwpStatistics.CommandStatistics;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+
 import com.sun.jdi.BooleanValue;
 import com.sun.jdi.ByteValue;
 import com.sun.jdi.CharValue;
@@ -265,6 +270,25 @@ public class VirtualMachineTest extends AbstractJDITest {
 		String version = fVM.version();
 		assertNotNull("1", version);
 	}
+	/**
+	 * Test that the JDWP requests performed on the VM are recorded
+	 * in its statistics.
+	 */
+	public void testJDIJdwpStatistics() {
+		JdwpStatistics statistics = ((VirtualMachineImpl) fVM).jdwpStatistics();
+		CommandStatistics before = statistics.getCommandStatistics(JdwpCommandPacket.VM_ALL_THREADS);
+		long count = before == null ? 0 : before.getCount();
+		fVM.allThreads();
+		fVM.allThreads();
+		CommandStatistics after = statistics.getCommandStatistics(JdwpCommandPacket.VM_ALL_THREADS);
+		assertNotNull("1", after);
+		assertEquals("2", count + 2, after.getCount());
+		assertEquals("3", 0, after.getErrorCount());
+		assertTrue("4", after.getBytesReceived() > 0);
+		assertTrue("5", after.latencies().getPercentile(50) <= after.latencies().getMax());
+		assertEquals("6", 0, statistics.getRequestsInFlight());
+		assertTrue("7", statistics.getCommandStatistics().contains(after));
+	}
 	/**
 	 * Test JDI allClasses() and JDWP 'VM - Get all classes'
 	 * while the test program has not been started.
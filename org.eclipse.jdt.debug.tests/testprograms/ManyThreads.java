@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+public class ManyThreads {
+
+	public static void main(String[] args) throws Exception {
+		final Object lock = new Object();
+		for (int i = 0; i < 100; i++) {
+			Thread thread = new Thread("many-" + i) {
+				public void run() {
+					synchronized (lock) {
+						try {
+							lock.wait();
+						} catch (InterruptedException e) {
+						}
+					}
+				}
+			};
+			thread.setDaemon(true);
+			thread.start();
+		}
+		for (int i = 0; i < 1000; i++) {
+			Thread.sleep(1);
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 Till Brychcy and others.
+ * Copyright (c) 2018, 2026 Till Brychcy and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -540,6 +540,26 @@ public class StepResultTests extends AbstractDebugTest {
 		}
 	}
 
+	public void testMethodResultOnMethodExitBreakpointWithSignature() throws Exception {
+		String typeName = "MethodExitAndException";
+		IJavaMethodBreakpoint methodExitBreakpoint = createMethodBreakpoint("MethodExitAndException", "f", "()I", false, true);
+		methodExitBreakpoint.setEnabled(true);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaStackFrame stackFrame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertEquals("f", stackFrame.getMethodName());
+			IVariable result = stackFrame.getVariables()[0];
+			assertEquals("f() is returning", result.getName());
+			assertEquals("123", result.getValue().getValueString());
+		}
+		finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	public void testNoReturnValueAfterStepReturnWhichExceedsTimeout() throws Exception {
 		IEclipsePreferences node = DefaultScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
 		int origPrefValue = node.getInt(JDIDebugModel.PREF_SHOW_STEP_TIMEOUT, JDIDebugModel.DEF_SHOW_STEP_TIMEOUT);
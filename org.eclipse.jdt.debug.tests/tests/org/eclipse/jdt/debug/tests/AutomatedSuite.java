@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -38,6 +38,7 @@ import org.eclipse.jdt.debug.tests.breakpoints.JavaThreadEventHandlerTests;
 import org.eclipse.jdt.debug.tests.breakpoints.LambdaBreakpointsInJava8Tests;
 import org.eclipse.jdt.debug.tests.breakpoints.MethodBreakpointTests;
 import org.eclipse.jdt.debug.tests.breakpoints.MethodBreakpointTests15;
+import org.eclipse.jdt.debug.tests.breakpoints.MethodExitSitesTests;
 import org.eclipse.jdt.debug.tests.breakpoints.MiscBreakpointsTests;
 import org.eclipse.jdt.debug.tests.breakpoints.PatternBreakpointTests;
 import org.eclipse.jdt.debug.tests.breakpoints.PreLaunchBreakpointTest;
@@ -93,6 +94,7 @@ import org.eclipse.jdt.debug.tests.core.RuntimeClasspathEntryTests;
 import org.eclipse.jdt.debug.tests.core.StaticVariableTests;
 import org.eclipse.jdt.debug.tests.core.StratumTests;
 import org.eclipse.jdt.debug.tests.core.StringSubstitutionTests;
+import org.eclipse.jdt.debug.tests.core.ThreadSchedulerTests;
 import org.eclipse.jdt.debug.tests.core.TypeTests;
 import org.eclipse.jdt.debug.tests.core.VMInstallTests;
 import org.eclipse.jdt.debug.tests.core.WatchExpressionTests;
@@ -106,11 +108,13 @@ import org.eclipse.jdt.debug.tests.eval.GenericsEvalTests;
 import org.eclipse.jdt.debug.tests.eval.Java9Tests;
 import org.eclipse.jdt.debug.tests.eval.LambdaVariableTest;
 import org.eclipse.jdt.debug.tests.eval.SyntheticVariableTests;
+import org.eclipse.jdt.debug.tests.launching.ClassDataSharingArchivesTests;
 import org.eclipse.jdt.debug.tests.launching.ClasspathShortenerTests;
 import org.eclipse.jdt.debug.tests.launching.ConfigurationEncodingTests;
 import org.eclipse.jdt.debug.tests.launching.ConfigurationResourceMappingTests;
 import org.eclipse.jdt.debug.tests.launching.ContributedTabTests;
 import org.eclipse.jdt.debug.tests.launching.InstanceMainMethodsTests;
+import org.eclipse.jdt.debug.tests.launching.JavaHomeInspectorTests;
 import org.eclipse.jdt.debug.tests.launching.LaunchConfigurationManagerTests;
 import org.eclipse.jdt.debug.tests.launching.LaunchConfigurationTests;
 import org.eclipse.jdt.debug.tests.launching.LaunchDelegateTests;
@@ -118,6 +122,7 @@ import org.eclipse.jdt.debug.tests.launching.LaunchModeTests;
 import org.eclipse.jdt.debug.tests.launching.LaunchShortcutTests;
 import org.eclipse.jdt.debug.tests.launching.LaunchTests;
 import org.eclipse.jdt.debug.tests.launching.LaunchesTests;
+import org.eclipse.jdt.debug.tests.launching.LibraryInfoStoreTests;
 import org.eclipse.jdt.debug.tests.launching.LongClassPathTests;
 import org.eclipse.jdt.debug.tests.launching.MigrationDelegateTests;
 import org.eclipse.jdt.debug.tests.launching.PListParserTests;
@@ -137,12 +142,14 @@ import org.eclipse.jdt.debug.tests.sourcelookup.DefaultSourceContainerTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.DirectorySourceContainerTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.DirectorySourceLookupTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.ExternalArchiveSourceContainerTests;
+import org.eclipse.jdt.debug.tests.sourcelookup.FileHashingTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.FolderSourceContainerTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.JarSourceLookupTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.JavaProjectSourceContainerTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.ProjectSourceContainerTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.SourceLocationTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.SourceLookupTests;
+import org.eclipse.jdt.debug.tests.sourcelookup.SourceNameIndexTests;
 import org.eclipse.jdt.debug.tests.sourcelookup.TypeResolutionTests;
 import org.eclipse.jdt.debug.tests.state.RefreshStateTests;
 import org.eclipse.jdt.debug.tests.ui.DebugHoverTests;
@@ -225,6 +232,8 @@ public class AutomatedSuite extends DebugSuite {
 		addTest(new TestSuite(TypeResolutionTests.class));
 		addTest(new TestSuite(JarSourceLookupTests.class));
 		addTest(new TestSuite(Bug565462Tests.class));
+		addTest(new TestSuite(SourceNameIndexTests.class));
+		addTest(new TestSuite(FileHashingTests.class));
 
 	// Variable tests
 		addTest(new TestSuite(InstanceVariableTests.class));
@@ -325,6 +334,7 @@ public class AutomatedSuite extends DebugSuite {
 		addTest(new TestSuite(MultipleConnectionsTest.class));
 	// Refresh state tests
 		addTest(new TestSuite(RefreshStateTests.class));
+		addTest(new TestSuite(ThreadSchedulerTests.class));
 
 	// HCR tests are last - they modify resources
 		addTest(new TestSuite(HcrTests.class));
@@ -367,6 +377,9 @@ public class AutomatedSuite extends DebugSuite {
 
 		// long classpath tests
 		addTest(new TestSuite(ClasspathShortenerTests.class));
+		addTest(new TestSuite(ClassDataSharingArchivesTests.class));
+		addTest(new TestSuite(JavaHomeInspectorTests.class));
+		addTest(new TestSuite(LibraryInfoStoreTests.class));
 		addTest(LongClassPathTests.suite());
 		// Disabled as failing see Bug 566228
 		/*
@@ -384,6 +397,7 @@ public class AutomatedSuite extends DebugSuite {
 		addTest(new TestSuite(ImportBreakpointsTest.class));
 		addTest(new TestSuite(BreakpointWorkingSetTests.class));
 		addTest(new TestSuite(MethodBreakpointTests.class));
+		addTest(new TestSuite(MethodExitSitesTests.class));
 		addTest(new TestSuite(ExceptionBreakpointTests.class));
 		addTest(new TestSuite(SpecialExceptionBreakpointTests.class));
 		addTest(new TestSuite(WatchpointTests.class));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2011 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -18,10 +18,12 @@ import junit.framework.TestSuite;
 
 import org.eclipse.jdt.debug.tests.performance.BreakpointManagerPerfTests;
 import org.eclipse.jdt.debug.tests.performance.PerfBreakpointTests;
+import org.eclipse.jdt.debug.tests.performance.PerfConditionEvaluationTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConditionalBreakpointsTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConsoleTests;
 import org.eclipse.jdt.debug.tests.performance.PerfContextualLaunchMenu;
 import org.eclipse.jdt.debug.tests.performance.PerfSteppingTests;
+import org.eclipse.jdt.debug.tests.performance.PerfThreadStateTests;
 import org.eclipse.jdt.debug.tests.performance.PerfVariableDetailTests;
 
 /**
@@ -50,5 +52,7 @@ public class PerformanceSuite extends DebugSuite {
         addTest(new TestSuite(PerfConsoleTests.class));
         addTest(new TestSuite(PerfVariableDetailTests.class));
         addTest(new TestSuite(BreakpointManagerPerfTests.class));
+        addTest(new TestSuite(PerfThreadStateTests.class));
+        addTest(new TestSuite(PerfConditionEvaluationTests.class));
     }
 }
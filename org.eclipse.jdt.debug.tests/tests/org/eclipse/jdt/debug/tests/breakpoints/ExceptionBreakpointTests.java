@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2006 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -197,6 +197,87 @@ public class ExceptionBreakpointTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * tests that the breakpoint suspends at an NPE with qualified exclusion filters, which are applied by the VM
+	 */
+	public void testMultiExclusiveVMScopedExceptionHit() throws Exception {
+		String typeName = "ThrowsNPE";
+		IJavaExceptionBreakpoint ex = createExceptionBreakpoint("java.lang.NullPointerException", true, false);
+		ex.setExclusionFilters(new String[] {"java.*", "org.eclipse.*", "*.TestIO"});
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Did not suspend", thread);
+			assertEquals("Should have suspended at NPE", ex, thread.getBreakpoints()[0]);
+			ex.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * tests that the breakpoint does not suspend when a qualified inclusion filter, which is applied by the VM,
+	 * does not match the class throwing the exception
+	 */
+	public void testInclusiveVMScopedExceptionMissed() throws Exception {
+		String typeName = "ThrowsNPE";
+		IJavaExceptionBreakpoint ex = createExceptionBreakpoint("java.lang.NullPointerException", true, false);
+		ex.setInclusionFilters(new String[] {"org.eclipse.*"});
+
+		IJavaDebugTarget target = null;
+		try {
+			target = launchAndTerminate(typeName);
+			ex.delete();
+		} finally {
+			terminateAndRemove(target);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * tests that a qualified exclusion filter, which is also applied by the VM, excludes the nested types
+	 * of the excluded type
+	 */
+	public void testExclusiveVMScopedNestedTypeExceptionMissed() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.ThrowsInnerNPE";
+		IJavaExceptionBreakpoint ex = createExceptionBreakpoint("java.lang.NullPointerException", true, false);
+		ex.setExclusionFilters(new String[] {"org.eclipse.debug.tests.targets.ThrowsInnerNPE"});
+
+		IJavaDebugTarget target = null;
+		try {
+			target = launchAndTerminate(typeName);
+			ex.delete();
+		} finally {
+			terminateAndRemove(target);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * tests that a qualified inclusion filter, which is also applied by the VM, includes the nested types
+	 * of the included type
+	 */
+	public void testInclusiveVMScopedNestedTypeExceptionHit() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.ThrowsInnerNPE";
+		IJavaExceptionBreakpoint ex = createExceptionBreakpoint("java.lang.NullPointerException", true, false);
+		ex.setInclusionFilters(new String[] {"org.eclipse.debug.tests.targets.ThrowsInnerNPE"});
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Did not suspend", thread);
+			assertEquals("Should have suspended at NPE", ex, thread.getBreakpoints()[0]);
+			assertEquals("Should have suspended in the nested type", "org.eclipse.debug.tests.targets.ThrowsInnerNPE$1",
+					((IJavaStackFrame) thread.getTopStackFrame()).getDeclaringTypeName());
+			ex.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * tests that the breakpoint does not suspend for multiple exclusion filters
 	 */
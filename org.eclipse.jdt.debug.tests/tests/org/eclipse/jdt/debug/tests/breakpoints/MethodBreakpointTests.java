@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -78,6 +78,73 @@ public class MethodBreakpointTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that an exit breakpoint on an exactly resolved method suspends in
+	 * the method, and reports an exit suspend
+	 */
+	public void testExitBreakpointOnReturnSite() throws Exception {
+		String typeName = "DropTests";
+		IJavaMethodBreakpoint bp = createMethodBreakpoint(typeName, "method1", "()V", false, true);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			assertEquals("suspended, but not by exit breakpoint", bp, getBreakpoint(thread));
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			assertEquals("should suspend in method1", "method1", frame.getMethodName());
+			assertFalse("should be an exit suspend", bp.isEntrySuspend(thread.getDebugTarget()));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that entry and exit of an empty method, whose only instruction is
+	 * its return site, suspend one after the other
+	 */
+	public void testEntryAndExitBreakpointOfEmptyMethod() throws Exception {
+		String typeName = "StaticVariablesTests";
+		IJavaMethodBreakpoint bp = createMethodBreakpoint(typeName, "nop", "()V", true, true);
+
+		IJavaThread thread= null;
+		try {
+			thread= launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			assertEquals("suspended, but not by method breakpoint", bp, getBreakpoint(thread));
+			assertTrue("should be an entry suspend", bp.isEntrySuspend(thread.getDebugTarget()));
+
+			thread = resume(thread);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			assertEquals("suspended, but not by method breakpoint", bp, getBreakpoint(thread));
+			assertFalse("should be an exit suspend", bp.isEntrySuspend(thread.getDebugTarget()));
+			assertEquals("should suspend in nop", "nop", ((IJavaStackFrame) thread.getTopStackFrame()).getMethodName());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that an exit breakpoint on an exactly resolved method does not
+	 * suspend when the method terminates with an exception, as for a method
+	 * exit request
+	 */
+	public void testExitBreakpointNotHitOnThrow() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.ThrowsInnerNPE";
+		createMethodBreakpoint(typeName + "$1", "run", "()V", false, true);
+
+		IJavaDebugTarget target = null;
+		try {
+			target = launchAndTerminate(typeName);
+		} finally {
+			terminateAndRemove(target);
+			removeAllBreakpoints();
+		}
+	}
+
 	/**
 	 * Tests the 'stop in main' launching preference
 	 * {@link IJavaLaunchConfigurationConstants#ATTR_STOP_IN_MAIN}
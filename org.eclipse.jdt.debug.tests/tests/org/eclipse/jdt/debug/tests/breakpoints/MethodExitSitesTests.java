@@ -0,0 +1,127 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.breakpoints;
+
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.breakpoints.MethodExitSites;
+
+/**
+ * Tests the decoding of the return sites of a method from its bytecode.
+ */
+public class MethodExitSitesTests extends AbstractDebugTest {
+
+	public MethodExitSitesTests(String name) {
+		super(name);
+	}
+
+	private static byte[] bytes(int... values) {
+		byte[] bytes = new byte[values.length];
+		for (int i = 0; i < values.length; i++) {
+			bytes[i] = (byte) values[i];
+		}
+		return bytes;
+	}
+
+	private static void assertSites(long[] expected, long[] actual) {
+		assertNotNull("The bytecode should be decoded", actual);
+		assertEquals("Wrong number of return sites", expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals("Wrong return site " + i, expected[i], actual[i]);
+		}
+	}
+
+	/**
+	 * Tests the only instruction of an empty method
+	 */
+	public void testEmptyMethod() throws Exception {
+		// return
+		assertSites(new long[] { 0 }, MethodExitSites.find(bytes(0xb1)));
+	}
+
+	/**
+	 * Tests that each return opcode is a return site
+	 */
+	public void testReturnOpcodes() throws Exception {
+		// ireturn, lreturn, freturn, dreturn, areturn, return
+		assertSites(new long[] { 0, 1, 2, 3, 4, 5 }, MethodExitSites.find(bytes(0xac, 0xad, 0xae, 0xaf, 0xb0, 0xb1)));
+		// iconst_0, ireturn
+		assertSites(new long[] { 1 }, MethodExitSites.find(bytes(0x03, 0xac)));
+	}
+
+	/**
+	 * Tests that athrow is not a return site
+	 */
+	public void testThrowIsNoReturnSite() throws Exception {
+		// aconst_null, athrow
+		assertSites(new long[0], MethodExitSites.find(bytes(0x01, 0xbf)));
+	}
+
+	/**
+	 * Tests a tableswitch padded to the next multiple of four
+	 */
+	public void testTableSwitch() throws Exception {
+		byte[] code = bytes(
+				0x1a, // 0: iload_0
+				0xaa, // 1: tableswitch
+				0x00, 0x00, // 2: padding
+				0x00, 0x00, 0x00, 0x17, // 4: default
+				0x00, 0x00, 0x00, 0x00, // 8: low
+				0x00, 0x00, 0x00, 0x01, // 12: high
+				0x00, 0x00, 0x00, 0x17, // 16: offset of 0
+				0x00, 0x00, 0x00, 0x18, // 20: offset of 1
+				0xb1, // 24: return
+				0x04, // 25: iconst_1
+				0xac); // 26: ireturn
+		assertSites(new long[] { 24, 26 }, MethodExitSites.find(code));
+	}
+
+	/**
+	 * Tests a lookupswitch padded to the next multiple of four
+	 */
+	public void testLookupSwitch() throws Exception {
+		byte[] code = bytes(
+				0xab, // 0: lookupswitch
+				0x00, 0x00, 0x00, // 1: padding
+				0x00, 0x00, 0x00, 0x14, // 4: default
+				0x00, 0x00, 0x00, 0x01, // 8: number of pairs
+				0x00, 0x00, 0x00, 0x07, // 12: match
+				0x00, 0x00, 0x00, 0x14, // 16: offset
+				0x01, // 20: aconst_null
+				0xb0); // 21: areturn
+		assertSites(new long[] { 21 }, MethodExitSites.find(code));
+	}
+
+	/**
+	 * Tests wide local variable instructions
+	 */
+	public void testWide() throws Exception {
+		byte[] code = bytes(
+				0xc4, 0x16, 0x01, 0x00, // 0: wide lload 256
+				0xc4, 0x84, 0x01, 0x02, 0x00, 0x05, // 4: wide iinc 258 5
+				0xad); // 10: lreturn
+		assertSites(new long[] { 10 }, MethodExitSites.find(code));
+	}
+
+	/**
+	 * Tests that truncated or undefined instructions are not decoded
+	 */
+	public void testInvalidBytecode() throws Exception {
+		// sipush without its last operand byte
+		assertNull("Truncated instruction", MethodExitSites.find(bytes(0x11, 0x00)));
+		// undefined opcode
+		assertNull("Undefined opcode", MethodExitSites.find(bytes(0xcb, 0xb1)));
+		// tableswitch without its operands
+		assertNull("Truncated tableswitch", MethodExitSites.find(bytes(0x1a, 0xaa, 0x00, 0x00)));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,7 @@ package org.eclipse.jdt.debug.tests.core;
 
 import static org.junit.Assert.assertNotEquals;
 
+import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.jdt.core.IBuffer;
@@ -31,6 +32,8 @@ import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.debug.testplugin.DebugElementEventWaiter;
 import org.eclipse.jdt.debug.testplugin.DebugEventWaiter;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.hcr.HotCodeReplaceRecord;
+import org.eclipse.jdt.internal.debug.core.hcr.JavaHotCodeReplaceManager;
 
 /**
  * Tests hot code replace
@@ -193,6 +196,69 @@ public class HcrTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that a rebuilt class file with unchanged contents is not redefined again.
+	 */
+	public void testHcrSkipsUnchangedClassFile() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.HcrClass";
+		createLineBreakpoint(42, typeName);
+
+		HCRListener listener = new HCRListener();
+		IJavaThread thread = null;
+		ICompilationUnit cu = null;
+		String originalContent = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+
+			IJavaDebugTarget target = (IJavaDebugTarget) thread.getDebugTarget();
+			if (target.supportsHotCodeReplace()) {
+				target.addHotCodeReplaceListener(listener);
+				removeAllBreakpoints();
+				cu = getCompilationUnit(get14Project(), "src", "org.eclipse.debug.tests.targets", "HcrClass.java");
+				cu = cu.getPrimary();
+				if (!cu.isWorkingCopy()) {
+					cu = cu.getWorkingCopy(null);
+				}
+				assertTrue("HcrClass.java does not exist", cu.exists());
+				IBuffer buffer = cu.getBuffer();
+				originalContent = buffer.getContents();
+				int index = originalContent.indexOf("\"One\"");
+				assertTrue("Could not find code to replace", index > 0);
+				String newCode = originalContent.substring(0, index) + "\"Two\"" + originalContent.substring(index + 5);
+				buffer.setContents(newCode);
+				cu.commitWorkingCopy(true, null);
+				waitForBuild();
+				assertTrue("HCR should have been performed", listener.waitNotification());
+
+				HotCodeReplaceRecord record = JavaHotCodeReplaceManager.getDefault().getHotCodeReplaceRecord(target);
+				assertEquals("Wrong number of redefinitions", 1, record.getRedefinitionCount());
+				assertTrue("No class redefined", record.getRedefinedClassCount() > 0);
+				assertTrue("No bytes sent", record.getBytesSent() > 0);
+
+				// a full build rewrites the class file with the same contents
+				get14Project().getProject().build(IncrementalProjectBuilder.FULL_BUILD, null);
+				waitForBuild();
+				long end = System.currentTimeMillis() + DEFAULT_TIMEOUT;
+				while (record.getSkippedClassCount() == 0 && System.currentTimeMillis() < end) {
+					Thread.sleep(100);
+				}
+				assertTrue("Unchanged class file should have been skipped", record.getSkippedClassCount() > 0);
+				assertEquals("Unchanged class file should not be redefined", 1, record.getRedefinitionCount());
+			} else {
+				System.err.println("Warning: HCR test skipped since target VM does not support HCR.");
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+			if (originalContent != null) {
+				cu.getBuffer().setContents(originalContent);
+				cu.commitWorkingCopy(true, null);
+				waitForBuild();
+			}
+		}
+	}
+
 	/**
 	 * Tests a general (plug-in) listener.
 	 */
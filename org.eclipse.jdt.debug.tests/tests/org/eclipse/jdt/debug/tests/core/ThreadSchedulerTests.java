@@ -0,0 +1,80 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.model.ILineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.testplugin.DebugElementEventWaiter;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.ThreadScheduler;
+
+/**
+ * Tests the shared scheduler used for asynchronous thread operations
+ */
+public class ThreadSchedulerTests extends AbstractDebugTest {
+
+	public ThreadSchedulerTests(String name) {
+		super(name);
+	}
+
+	public void testScheduleAndCancel() throws Exception {
+		CountDownLatch run = new CountDownLatch(1);
+		ThreadScheduler.schedule(run::countDown, 10);
+		assertTrue("Task should run", run.await(DEFAULT_TIMEOUT, TimeUnit.MILLISECONDS));
+
+		CountDownLatch cancelled = new CountDownLatch(1);
+		ScheduledFuture<?> future = ThreadScheduler.schedule(cancelled::countDown, 200);
+		future.cancel(false);
+		assertFalse("Cancelled task should not run", cancelled.await(500, TimeUnit.MILLISECONDS));
+	}
+
+	/**
+	 * Suspends a running thread and checks the suspend statistics
+	 */
+	public void testClientSuspend() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.CallLoop";
+		ILineBreakpoint bp = createLineBreakpoint(19, "org.eclipse.debug.tests.targets.Looper");
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+			removeAllBreakpoints();
+			DebugElementEventWaiter waiter = new DebugElementEventWaiter(DebugEvent.RESUME, thread);
+			thread.resume();
+			waiter.waitForEvent();
+			assertFalse("Thread should be running", thread.isSuspended());
+
+			long completed = ThreadScheduler.getCompletedSuspendCount();
+			waiter = new DebugElementEventWaiter(DebugEvent.SUSPEND, thread);
+			thread.suspend();
+			assertNotNull("Thread never sent suspend event", waiter.waitForEvent());
+			assertTrue("Thread should be suspended", thread.isSuspended());
+			// the request completes after the suspend event is fired
+			long timeoutNanos = System.nanoTime() + DEFAULT_TIMEOUT * 1_000_000L;
+			while (ThreadScheduler.getCompletedSuspendCount() == completed && System.nanoTime() < timeoutNanos) {
+				Thread.sleep(1);
+			}
+			assertEquals("Suspend request should be completed", completed + 1, ThreadScheduler.getCompletedSuspendCount());
+			assertEquals("No suspend request should be pending", 0, ThreadScheduler.getPendingSuspendCount());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+}
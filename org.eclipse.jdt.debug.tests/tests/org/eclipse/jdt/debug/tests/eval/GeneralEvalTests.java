@@ -13,9 +13,17 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.eval;
 
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.model.IValue;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
+import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
 
 /**
  * Tests that evaluations in non-generified source
@@ -482,6 +490,124 @@ public class GeneralEvalTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests snippets of different lengths evaluated in the same frame, which share the generated evaluation source
+	 */
+	public void testSnippetsInSameFrame() throws Exception {
+		IJavaThread thread = null;
+		try {
+			String typename = "EvalSimpleTests";
+			createLineBreakpoint(40, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("the program did not suspend", thread);
+
+			IValue value = doEval(thread, "xVarInt");
+			assertEquals("-5", value.getValueString());
+			value = doEval(thread, "xVarInt + yVarInt * 2");
+			assertEquals("9", value.getValueString());
+			value = doEval(thread, "int sum = 0; for (int i = 0; i < yVarInt; i++) { sum += i; } return sum;");
+			assertEquals("21", value.getValueString());
+			value = doEval(thread, "yVarString.length()");
+			assertEquals("5", value.getValueString());
+		}
+		finally {
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+
+	/**
+	 * Tests expressions with literal operands, dead branches and repeated field reads, which are rewritten by the instruction optimizer
+	 */
+	public void testOptimizedExpressions() throws Exception {
+		IJavaThread thread = null;
+		try {
+			String typename = "InstanceVariablesTests";
+			createLineBreakpoint(31, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("the program did not suspend", thread);
+			assertEquals("7", doEval(thread, "1 + 2 * 3").getValueString());
+			assertEquals("x12", doEval(thread, "\"x\" + 1 + 2L").getValueString());
+			assertEquals("2", doEval(thread, "false && pubStr.length() > 0 ? 1 : 2").getValueString());
+			assertEquals("true", doEval(thread, "pubStr == pubStr && pubStr.length() == 6 && protStr != null").getValueString());
+			assertEquals("false", doEval(thread, "this.nullStr == null && this.nullDate != null").getValueString());
+		}
+		finally {
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+
+	/**
+	 * Tests calls of side effect free JDK methods, which are computed without invoking them in the target
+	 */
+	public void testPureMethods() throws Exception {
+		IJavaThread thread = null;
+		try {
+			String typename = "EvalSimpleTests";
+			createLineBreakpoint(40, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("the program did not suspend", thread);
+			assertEquals("10", doEval(thread, "xVarString.length()").getValueString());
+			assertEquals("m", doEval(thread, "xVarString.charAt(0)").getValueString());
+			assertEquals("true", doEval(thread, "xVarString.equals(\"minus five\") && !xVarString.equals(null)").getValueString());
+			assertEquals("true", doEval(thread, "yVarString.startsWith(\"se\") && yVarString.contains(\"eve\")").getValueString());
+			assertEquals("6", doEval(thread, "xVarString.indexOf(\"five\")").getValueString());
+			assertEquals(Integer.toString("seven".hashCode()), doEval(thread, "yVarString.hashCode()").getValueString());
+			assertEquals("7", doEval(thread, "Math.max(xVarInt, yVarInt)").getValueString());
+			assertEquals("5", doEval(thread, "Math.abs(xVarLong)").getValueString());
+			assertEquals("-5", doEval(thread, "Integer.valueOf(xVarInt).intValue()").getValueString());
+			assertEquals("true", doEval(thread, "new java.util.ArrayList().isEmpty()").getValueString());
+			// not in the catalogue, invoked in the target
+			assertEquals("five", doEval(thread, "xVarString.substring(xVarString.indexOf(' ') + 1)").getValueString());
+		}
+		finally {
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+
+	/**
+	 * Tests evaluating several expressions in the same frame as one batch
+	 */
+	public void testBatchEvaluation() throws Exception {
+		IJavaThread thread = null;
+		ASTEvaluationEngine engine = null;
+		try {
+			String typename = "EvalSimpleTests";
+			createLineBreakpoint(40, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("the program did not suspend", thread);
+
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			engine = new ASTEvaluationEngine(getProjectContext(), (IJavaDebugTarget) thread.getDebugTarget());
+			String[] snippets = { "xVarInt", "yVarString.length()", "xVarInt +", "xVarLong * yVarLong" };
+			ICompiledExpression[] expressions = new ICompiledExpression[snippets.length];
+			for (int i = 0; i < snippets.length; i++) {
+				expressions[i] = engine.getCompiledExpression(snippets[i], frame);
+			}
+			AtomicReference<IEvaluationResult[]> results = new AtomicReference<>();
+			engine.evaluateExpressions(expressions, frame, results::set, DebugEvent.EVALUATION_IMPLICIT, false);
+			long timeout = System.currentTimeMillis() + DEFAULT_TIMEOUT;
+			while (results.get() == null && System.currentTimeMillis() < timeout) {
+				Thread.sleep(10);
+			}
+			assertNotNull("The batch should have results", results.get());
+			assertEquals(snippets.length, results.get().length);
+			assertEquals("-5", results.get()[0].getValue().getValueString());
+			assertEquals("5", results.get()[1].getValue().getValueString());
+			assertTrue("Invalid snippet should have errors", results.get()[2].hasErrors());
+			assertEquals("-35", results.get()[3].getValue().getValueString());
+		}
+		finally {
+			if (engine != null) {
+				engine.dispose();
+			}
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+
 	/**
 	 * https://bugs.eclipse.org/bugs/show_bug.cgi?id=508105
 	 */
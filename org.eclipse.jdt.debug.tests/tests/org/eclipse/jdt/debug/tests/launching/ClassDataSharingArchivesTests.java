@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.launching;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.ClassDataSharingArchives;
+
+/**
+ * Tests the management of dynamic Class Data Sharing archives
+ */
+public class ClassDataSharingArchivesTests extends AbstractDebugTest {
+
+	private static final String JAVA = "/usr/lib/jvm/java-21/bin/java";
+	private File archiveDir;
+
+	public ClassDataSharingArchivesTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		archiveDir = Files.createTempDirectory("cds").toFile();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		File[] files = archiveDir.listFiles();
+		if (files != null) {
+			for (File file : files) {
+				file.delete();
+			}
+		}
+		archiveDir.delete();
+		super.tearDown();
+	}
+
+	public void testRecordThenMap() throws Exception {
+		ClassDataSharingArchives archives = new ClassDataSharingArchives(archiveDir, TimeUnit.DAYS.toMillis(1), Long.MAX_VALUE);
+		String fingerprint = fingerprint("a.jar");
+		String argument = archives.prepareArchiveArgument("My App", fingerprint);
+		assertTrue(argument, argument.startsWith(ClassDataSharingArchives.ARCHIVE_CLASSES_AT_EXIT));
+
+		// simulate the VM writing the archive on exit
+		File recording = new File(argument.substring(ClassDataSharingArchives.ARCHIVE_CLASSES_AT_EXIT.length()));
+		write(recording, 10);
+		archives.archiveRecorded(argument);
+		assertFalse("Recording should be moved", recording.exists());
+
+		argument = archives.prepareArchiveArgument("My App", fingerprint);
+		assertTrue(argument, argument.startsWith(ClassDataSharingArchives.SHARED_ARCHIVE_FILE));
+		File archive = new File(argument.substring(ClassDataSharingArchives.SHARED_ARCHIVE_FILE.length()));
+		assertEquals(10, archive.length());
+	}
+
+	public void testConcurrentRecordings() throws Exception {
+		ClassDataSharingArchives archives = new ClassDataSharingArchives(archiveDir, TimeUnit.DAYS.toMillis(1), Long.MAX_VALUE);
+		String fingerprint = fingerprint("a.jar");
+		String first = archives.prepareArchiveArgument("My App", fingerprint);
+		String second = archives.prepareArchiveArgument("My App", fingerprint);
+		assertFalse("Concurrent launches should record different files", first.equals(second));
+
+		write(new File(second.substring(ClassDataSharingArchives.ARCHIVE_CLASSES_AT_EXIT.length())), 20);
+		archives.archiveRecorded(second);
+		write(new File(first.substring(ClassDataSharingArchives.ARCHIVE_CLASSES_AT_EXIT.length())), 10);
+		archives.archiveRecorded(first);
+
+		String argument = archives.getArchiveArgument("My App", fingerprint);
+		File archive = new File(argument.substring(ClassDataSharingArchives.SHARED_ARCHIVE_FILE.length()));
+		assertEquals("First recorded archive should be kept", 20, archive.length());
+		assertEquals("Recordings should be cleaned up", 1, archiveDir.listFiles().length);
+	}
+
+	public void testShowArgumentHasNoSideEffects() throws Exception {
+		ClassDataSharingArchives archives = new ClassDataSharingArchives(archiveDir, TimeUnit.DAYS.toMillis(1), 5);
+		File archive = record(archives, "My App", fingerprint("a.jar"));
+		archive.setLastModified(1_000_000_000_000L);
+		File old = new File(archiveDir, "old-1-0.jsa");
+		write(old, 10);
+		old.setLastModified(1_000_000_000_000L);
+
+		String argument = archives.getArchiveArgument("My App", fingerprint("a.jar"));
+		assertEquals(ClassDataSharingArchives.SHARED_ARCHIVE_FILE + archive.getAbsolutePath(), argument);
+		argument = archives.getArchiveArgument("My App", fingerprint("b.jar"));
+		assertTrue(argument, argument.startsWith(ClassDataSharingArchives.ARCHIVE_CLASSES_AT_EXIT));
+		assertTrue("Archive of another fingerprint should be kept", archive.exists());
+		assertEquals("Archive should not be touched", 1_000_000_000_000L, archive.lastModified());
+		assertTrue("Archives should not be evicted", old.exists());
+	}
+
+	public void testFingerprintChangeReplacesArchive() throws Exception {
+		ClassDataSharingArchives archives = new ClassDataSharingArchives(archiveDir, TimeUnit.DAYS.toMillis(1), Long.MAX_VALUE);
+		File archive = record(archives, "My App", fingerprint("a.jar"));
+		File other = record(archives, "Other App", fingerprint("a.jar"));
+
+		String argument = archives.prepareArchiveArgument("My App", fingerprint("b.jar"));
+		assertTrue(argument, argument.startsWith(ClassDataSharingArchives.ARCHIVE_CLASSES_AT_EXIT));
+		assertFalse("Archive of the old class path should be deleted", archive.exists());
+		assertTrue("Archive of another configuration should be kept", other.exists());
+	}
+
+	public void testFingerprint() {
+		assertEquals(fingerprint("a.jar"), fingerprint("a.jar"));
+		assertFalse(fingerprint("a.jar").equals(fingerprint("b.jar")));
+		assertFalse(fingerprint("a.jar").equals(ClassDataSharingArchives.computeFingerprint(JAVA, "22.0.1", null, new String[] { "a.jar" }, null, "Main")));
+	}
+
+	public void testUserConfigured() {
+		assertFalse(ClassDataSharingArchives.isUserConfigured(new String[] { "-Xmx1g" }));
+		assertTrue(ClassDataSharingArchives.isUserConfigured(new String[] { "-Xmx1g", "-Xshare:off" }));
+		assertTrue(ClassDataSharingArchives.isUserConfigured(new String[] { "-XX:SharedArchiveFile=app.jsa" }));
+	}
+
+	public void testAgeEviction() throws Exception {
+		ClassDataSharingArchives archives = new ClassDataSharingArchives(archiveDir, TimeUnit.DAYS.toMillis(1), Long.MAX_VALUE);
+		File old = new File(archiveDir, "old-1-0.jsa");
+		write(old, 10);
+		old.setLastModified(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(2));
+		File recent = new File(archiveDir, "recent-2-0.jsa");
+		write(recent, 10);
+
+		archives.prepareArchiveArgument("My App", fingerprint("a.jar"));
+		assertFalse("Unused archive should be evicted", old.exists());
+		assertTrue(recent.exists());
+	}
+
+	public void testSizeEviction() throws Exception {
+		ClassDataSharingArchives archives = new ClassDataSharingArchives(archiveDir, TimeUnit.DAYS.toMillis(1), 25);
+		long now = System.currentTimeMillis();
+		File oldest = new File(archiveDir, "first-1-0.jsa");
+		write(oldest, 10);
+		oldest.setLastModified(now - 3000);
+		File older = new File(archiveDir, "second-2-0.jsa");
+		write(older, 10);
+		older.setLastModified(now - 2000);
+		File archive = record(archives, "My App", fingerprint("a.jar"));
+
+		archives.prepareArchiveArgument("My App", fingerprint("a.jar"));
+		assertFalse("Least recently used archive should be evicted", oldest.exists());
+		assertTrue(older.exists());
+		assertTrue("Archive in use must not be evicted", archive.exists());
+	}
+
+	/**
+	 * Records the archive of the given launch as the VM would on exit
+	 */
+	private static File record(ClassDataSharingArchives archives, String configurationName, String fingerprint) throws IOException {
+		String argument = archives.prepareArchiveArgument(configurationName, fingerprint);
+		write(new File(argument.substring(ClassDataSharingArchives.ARCHIVE_CLASSES_AT_EXIT.length())), 10);
+		archives.archiveRecorded(argument);
+		argument = archives.getArchiveArgument(configurationName, fingerprint);
+		assertTrue(argument, argument.startsWith(ClassDataSharingArchives.SHARED_ARCHIVE_FILE));
+		return new File(argument.substring(ClassDataSharingArchives.SHARED_ARCHIVE_FILE.length()));
+	}
+
+	private static String fingerprint(String jar) {
+		return ClassDataSharingArchives.computeFingerprint(JAVA, "21.0.2", new String[] { "-Xmx1g" }, new String[] { jar }, null, "Main");
+	}
+
+	private static void write(File file, int size) throws IOException {
+		Files.write(file.toPath(), new byte[size]);
+	}
+}
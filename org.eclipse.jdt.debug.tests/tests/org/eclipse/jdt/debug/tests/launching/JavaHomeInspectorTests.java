@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.launching;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.JavaHomeInspector;
+import org.eclipse.jdt.internal.launching.LibraryInfo;
+
+/**
+ * Tests computing library information from the file layout of a Java home
+ */
+public class JavaHomeInspectorTests extends AbstractDebugTest {
+
+	private Path javaHome;
+
+	public JavaHomeInspectorTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		javaHome = Files.createTempDirectory("javahome");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		try (Stream<Path> files = Files.walk(javaHome)) {
+			files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		}
+		super.tearDown();
+	}
+
+	public void testModularRuntime() throws Exception {
+		writeRelease("JAVA_VERSION=\"21.0.2\"\nIMPLEMENTOR=\"Eclipse Adoptium\"\n");
+		LibraryInfo info = JavaHomeInspector.inspect(javaHome.toFile());
+		assertNotNull(info);
+		assertEquals("21.0.2", info.getVersion());
+		assertEquals(0, info.getBootpath().length);
+	}
+
+	public void testModulesImageHeader() throws Exception {
+		Files.createDirectories(javaHome.resolve("lib"));
+		assertFalse(JavaHomeInspector.hasModulesImage(javaHome.toFile()));
+		Files.write(javaHome.resolve("lib/modules"), new byte[] { (byte) 0xDA, (byte) 0xDA, (byte) 0xFE, (byte) 0xCA, 1, 0, 0, 0 });
+		assertTrue(JavaHomeInspector.hasModulesImage(javaHome.toFile()));
+		Files.write(javaHome.resolve("lib/modules"), new byte[] { 'P', 'K', 3, 4 });
+		assertFalse(JavaHomeInspector.hasModulesImage(javaHome.toFile()));
+	}
+
+	public void testJava8RequiresDetection() throws Exception {
+		writeRelease("JAVA_VERSION=\"1.8.0_372\"\nOS_NAME=\"Linux\"\n");
+		Files.createFile(Files.createDirectories(javaHome.resolve("jre/lib")).resolve("rt.jar"));
+		assertNull("The boot path of Java 8 should be asked from the VM", JavaHomeInspector.inspect(javaHome.toFile()));
+	}
+
+	public void testNoReleaseFile() {
+		assertNull(JavaHomeInspector.inspect(javaHome.toFile()));
+		assertTrue(JavaHomeInspector.readReleaseFile(javaHome.toFile()).isEmpty());
+	}
+
+	private void writeRelease(String contents) throws IOException {
+		Files.writeString(javaHome.resolve(JavaHomeInspector.RELEASE_FILE), contents);
+	}
+}
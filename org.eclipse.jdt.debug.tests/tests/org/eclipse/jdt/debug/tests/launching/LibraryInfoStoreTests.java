@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.launching;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.LibraryInfo;
+import org.eclipse.jdt.internal.launching.LibraryInfoStore;
+
+/**
+ * Tests the binary persistence of library information
+ */
+public class LibraryInfoStoreTests extends AbstractDebugTest {
+
+	private File file;
+
+	public LibraryInfoStoreTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		file = File.createTempFile("libraryInfos", ".bin");
+		file.delete();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		file.delete();
+		super.tearDown();
+	}
+
+	public void testPersistence() {
+		LibraryInfoStore store = new LibraryInfoStore(file);
+		assertFalse(store.exists());
+		assertTrue(store.isEmpty());
+		store.put("/jdk8", java8Info());
+		store.put("/jdk21", new LibraryInfo("21.0.2", new String[0], new String[0], new String[0]));
+		assertTrue(store.exists());
+
+		LibraryInfoStore restored = new LibraryInfoStore(file);
+		assertEquals(2, restored.getLocations().size());
+		assertInfoEquals(java8Info(), restored.get("/jdk8"));
+		assertEquals("21.0.2", restored.get("/jdk21").getVersion());
+		assertNull(restored.get("/unknown"));
+	}
+
+	public void testRemoveAndReplace() {
+		LibraryInfoStore store = new LibraryInfoStore(file);
+		store.put("/jdk8", java8Info());
+		store.put("/jdk21", new LibraryInfo("21.0.1", new String[0], new String[0], new String[0]));
+		store.put("/jdk21", new LibraryInfo("21.0.2", new String[0], new String[0], new String[0]));
+		store.put("/jdk8", null);
+
+		LibraryInfoStore restored = new LibraryInfoStore(file);
+		assertFalse(restored.contains("/jdk8"));
+		assertEquals("21.0.2", restored.get("/jdk21").getVersion());
+	}
+
+	public void testRemoveUndecodedEntry() {
+		LibraryInfoStore store = new LibraryInfoStore(file);
+		store.put("/jdk8", java8Info());
+		store.put("/jdk21", new LibraryInfo("21.0.2", new String[0], new String[0], new String[0]));
+
+		// the entry is loaded from disk but never decoded before its removal
+		LibraryInfoStore restored = new LibraryInfoStore(file);
+		restored.put("/jdk8", null);
+		assertFalse(restored.contains("/jdk8"));
+
+		restored = new LibraryInfoStore(file);
+		assertFalse("Removed entry should not come back", restored.contains("/jdk8"));
+		assertNull(restored.get("/jdk8"));
+		assertEquals("21.0.2", restored.get("/jdk21").getVersion());
+	}
+
+	public void testCompaction() {
+		LibraryInfoStore store = new LibraryInfoStore(file);
+		store.put("/jdk8", java8Info());
+		long size = file.length();
+		for (int i = 0; i < 100; i++) {
+			store.put("/jdk8", java8Info());
+		}
+		assertTrue("Log should be compacted", file.length() < size * 50);
+		assertInfoEquals(java8Info(), new LibraryInfoStore(file).get("/jdk8"));
+	}
+
+	public void testTruncatedLog() throws Exception {
+		LibraryInfoStore store = new LibraryInfoStore(file);
+		store.put("/jdk8", java8Info());
+		long size = file.length();
+		store.put("/jdk21", new LibraryInfo("21.0.2", new String[0], new String[0], new String[0]));
+		// simulate a crash while appending the second record
+		try (var channel = Files.newByteChannel(file.toPath(), StandardOpenOption.WRITE)) {
+			channel.truncate(size + 3);
+		}
+		LibraryInfoStore restored = new LibraryInfoStore(file);
+		assertInfoEquals(java8Info(), restored.get("/jdk8"));
+		assertFalse(restored.contains("/jdk21"));
+		restored.put("/jdk17", new LibraryInfo("17.0.9", new String[0], new String[0], new String[0]));
+		assertEquals(2, new LibraryInfoStore(file).getLocations().size());
+	}
+
+	public void testMigration() {
+		LibraryInfoStore store = new LibraryInfoStore(file);
+		store.putAll(Map.of("/jdk8", java8Info()));
+		assertInfoEquals(java8Info(), new LibraryInfoStore(file).get("/jdk8"));
+	}
+
+	public void testUnknownFormat() throws Exception {
+		Files.write(file.toPath(), "<libraryInfos/>".getBytes());
+		LibraryInfoStore store = new LibraryInfoStore(file);
+		assertTrue(store.isEmpty());
+		store.put("/jdk8", java8Info());
+		assertInfoEquals(java8Info(), new LibraryInfoStore(file).get("/jdk8"));
+	}
+
+	private static LibraryInfo java8Info() {
+		return new LibraryInfo("1.8.0_372", new String[] { "/jdk8/jre/lib/resources.jar", "/jdk8/jre/lib/rt.jar" }, new String[] {
+				"/jdk8/jre/lib/ext" }, new String[] { "/jdk8/jre/lib/endorsed" });
+	}
+
+	private static void assertInfoEquals(LibraryInfo expected, LibraryInfo actual) {
+		assertNotNull(actual);
+		assertEquals(expected.getVersion(), actual.getVersion());
+		assertArrayEquals(expected.getBootpath(), actual.getBootpath());
+		assertArrayEquals(expected.getExtensionDirs(), actual.getExtensionDirs());
+		assertArrayEquals(expected.getEndorsedDirs(), actual.getEndorsedDirs());
+	}
+}
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
+import org.eclipse.jdt.debug.eval.IEvaluationResult;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests performance of interpreting typical breakpoint conditions in a suspended frame.
+ */
+public class PerfConditionEvaluationTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Typical conditions, on the locals of <code>PerfLoop</code>
+	 */
+	private static final String[] CONDITIONS = {
+			"i % 100 == 0",
+			"i > 10 && i < 20",
+			"i * 2 + 1 > 50000 || i == -1",
+			"(i & 0xff) == 0x10 && (i >> 4) != 3",
+			"!(i >= 0) || i + 1L == 0L",
+			"v != null && v.size() == i",
+			"1 + 2 * 3 == 7 && i >= 0"
+	};
+
+	/**
+	 * Constructor
+	 */
+	public PerfConditionEvaluationTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests the time to evaluate a suite of conditions compiled once
+	 */
+	public void testConditionEvaluation() throws Exception {
+		tagAsSummary("Interpreting breakpoint conditions", Dimension.ELAPSED_PROCESS);
+		String typeName = "PerfLoop";
+		createLineBreakpoint(25, typeName);
+
+		IJavaThread thread = null;
+		ASTEvaluationEngine engine = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit.", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			engine = new ASTEvaluationEngine(getProjectContext(), (IJavaDebugTarget) thread.getDebugTarget());
+			ICompiledExpression[] expressions = new ICompiledExpression[CONDITIONS.length];
+			for (int i = 0; i < CONDITIONS.length; i++) {
+				expressions[i] = engine.getCompiledExpression(CONDITIONS[i], frame);
+				assertFalse("Condition has errors: " + CONDITIONS[i], expressions[i].hasErrors());
+			}
+
+			// warm up
+			for (int n = 0; n < 20; n++) {
+				evaluate(engine, expressions, frame);
+			}
+
+			// real test
+			for (int n = 0; n < 100; n++) {
+				startMeasuring();
+				for (int k = 0; k < 10; k++) {
+					evaluate(engine, expressions, frame);
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			if (engine != null) {
+				engine.dispose();
+			}
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Evaluates the given expressions as one batch and waits for the results
+	 */
+	private void evaluate(ASTEvaluationEngine engine, ICompiledExpression[] expressions, IJavaStackFrame frame) throws Exception {
+		AtomicReference<IEvaluationResult[]> results = new AtomicReference<>();
+		engine.evaluateExpressions(expressions, frame, results::set, DebugEvent.EVALUATION_IMPLICIT, false);
+		long timeout = System.currentTimeMillis() + DEFAULT_TIMEOUT;
+		while (results.get() == null && System.currentTimeMillis() < timeout) {
+			Thread.sleep(1);
+		}
+		assertNotNull("Evaluation did not complete", results.get());
+		for (IEvaluationResult result : results.get()) {
+			assertFalse("Evaluation failed: " + result.getSnippet(), result.hasErrors());
+		}
+	}
+}
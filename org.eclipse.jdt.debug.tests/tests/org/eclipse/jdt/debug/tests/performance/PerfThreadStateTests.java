@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IDebugTarget;
+import org.eclipse.debug.core.model.IThread;
+import org.eclipse.jdt.debug.core.IJavaBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.testplugin.DebugElementKindEventDetailWaiter;
+import org.eclipse.jdt.debug.testplugin.DebugEventWaiter;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+
+/**
+ * Tests performance of retrieving the state of many suspended threads, as done when the threads of a suspended VM are rendered.
+ */
+public class PerfThreadStateTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Constructor
+	 */
+	public PerfThreadStateTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests the time until the name, frame count and owned monitors of all threads are known after the VM suspends.
+	 */
+	public void testThreadLabels() throws Exception {
+		String typeName = "ManyThreads";
+		IJavaLineBreakpoint bp = createLineBreakpoint(34, typeName);
+		bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_VM);
+
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+			assertEquals("Wrong number of worker threads", 100, populateLabels(thread.getDebugTarget()));
+
+			// warm up
+			for (int n = 0; n < 10; n++) {
+				thread = resumeToBreakpoint(thread);
+				populateLabels(thread.getDebugTarget());
+			}
+
+			// real test
+			for (int n = 0; n < 50; n++) {
+				thread = resumeToBreakpoint(thread);
+				startMeasuring();
+				populateLabels(thread.getDebugTarget());
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Retrieves what is shown for each thread of the given suspended target
+	 *
+	 * @return the number of worker threads of the test program
+	 */
+	private int populateLabels(IDebugTarget target) throws DebugException {
+		int workers = 0;
+		for (IThread thread : target.getThreads()) {
+			IJavaThread javaThread = (IJavaThread) thread;
+			String name = javaThread.getName();
+			assertNotNull("Missing thread name", name);
+			assertTrue("Thread should be suspended", javaThread.isSuspended());
+			assertTrue("Missing frames", javaThread.getFrameCount() > 0);
+			javaThread.hasOwnedMonitors();
+			if (name.startsWith("many-")) {
+				workers++;
+			}
+		}
+		return workers;
+	}
+
+	private IJavaThread resumeToBreakpoint(IJavaThread thread) throws Exception {
+		DebugEventWaiter waiter = new DebugElementKindEventDetailWaiter(DebugEvent.SUSPEND, IJavaThread.class, DebugEvent.BREAKPOINT);
+		waiter.setTimeout(DEFAULT_TIMEOUT);
+		thread.getDebugTarget().resume();
+		Object suspendee = waiter.waitForEvent();
+		assertNotNull("Program did not suspend", suspendee);
+		return (IJavaThread) suspendee;
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.sourcelookup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.sourcelookup.advanced.FileHashing;
+
+/**
+ * Tests the file hashes persisted across sessions by advanced source lookup
+ */
+public class FileHashingTests extends AbstractDebugTest {
+
+	private File hashesFile;
+	private File file;
+
+	public FileHashingTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		FileHashing.reset();
+		hashesFile = File.createTempFile("fileHashes", ".bin");
+		hashesFile.delete();
+		file = File.createTempFile("library", ".jar");
+		write(file, "first", 1_000_000_000_000L);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		FileHashing.reset();
+		hashesFile.delete();
+		file.delete();
+		super.tearDown();
+	}
+
+	private static void write(File file, String content, long lastModified) throws IOException {
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+		assertTrue(file.setLastModified(lastModified));
+	}
+
+	/**
+	 * Hashes the file, saves the hashes and forgets them, as on shutdown and restart
+	 */
+	private Object hashAndRestart() throws IOException {
+		Object hash = FileHashing.hasher().hash(file);
+		assertNotNull(hash);
+		FileHashing.save(hashesFile);
+		assertTrue("Hashes should be saved", hashesFile.isFile());
+		FileHashing.reset();
+		return hash;
+	}
+
+	public void testPersistedHashReused() throws Exception {
+		Object hash = hashAndRestart();
+		// same size and time stamp, the file is not read again
+		write(file, "other", file.lastModified());
+		FileHashing.load(hashesFile);
+		assertEquals("Persisted hash should be reused", hash, FileHashing.hasher().hash(file));
+		assertEquals("Persisted hash should be reused by new hashers", hash, FileHashing.newHasher().hash(file));
+	}
+
+	public void testChangedSizeRehashed() throws Exception {
+		Object hash = hashAndRestart();
+		write(file, "changed", file.lastModified());
+		FileHashing.load(hashesFile);
+		Object rehashed = FileHashing.hasher().hash(file);
+		assertNotNull(rehashed);
+		assertFalse("File should be hashed again", hash.equals(rehashed));
+	}
+
+	public void testChangedTimeStampRehashed() throws Exception {
+		Object hash = hashAndRestart();
+		write(file, "other", file.lastModified() + 2000);
+		FileHashing.load(hashesFile);
+		Object rehashed = FileHashing.hasher().hash(file);
+		assertNotNull(rehashed);
+		assertFalse("File should be hashed again", hash.equals(rehashed));
+	}
+
+	public void testSaveOnlyWhenChanged() throws Exception {
+		FileHashing.hasher().hash(file);
+		FileHashing.save(hashesFile);
+		assertTrue(hashesFile.setLastModified(1_000_000_000_000L));
+
+		FileHashing.hasher().hash(file);
+		FileHashing.save(hashesFile);
+		assertEquals("Unchanged hashes should not be written", 1_000_000_000_000L, hashesFile.lastModified());
+
+		write(file, "changed", file.lastModified());
+		FileHashing.hasher().hash(file);
+		FileHashing.save(hashesFile);
+		assertFalse("Changed hashes should be written", hashesFile.lastModified() == 1_000_000_000_000L);
+	}
+}
@@ -0,0 +1,190 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.sourcelookup;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.debug.core.sourcelookup.ISourceContainer;
+import org.eclipse.debug.core.sourcelookup.ISourceLookupDirector;
+import org.eclipse.debug.core.sourcelookup.containers.DirectorySourceContainer;
+import org.eclipse.debug.core.sourcelookup.containers.ExternalArchiveSourceContainer;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.launching.IndexedSourceContainer;
+import org.eclipse.jdt.internal.launching.JavaSourceLookupDirector;
+import org.eclipse.jdt.internal.launching.SourceNameIndex;
+import org.eclipse.jdt.internal.launching.SourceNameIndex.ArchiveEntries;
+import org.eclipse.jdt.launching.sourcelookup.containers.JavaProjectSourceContainer;
+
+/**
+ * Tests the index of archive entries used to skip archives during source lookup
+ */
+public class SourceNameIndexTests extends AbstractDebugTest {
+
+	private File indexFile;
+	private File archive;
+
+	public SourceNameIndexTests(String name) {
+		super(name);
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		indexFile = File.createTempFile("sourceNameIndex", ".bin");
+		indexFile.delete();
+		archive = File.createTempFile("sources", ".zip");
+		writeArchive(archive, "src/one/two/Three.java", "one/two/Four.class", "META-INF/versions/11/one/two/Five.class");
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		indexFile.delete();
+		archive.delete();
+		super.tearDown();
+	}
+
+	public void testMatching() throws Exception {
+		ArchiveEntries entries = new SourceNameIndex(indexFile).index(archive);
+		assertTrue(entries.containsEntry("src/one/two/Three.java"));
+		assertTrue(entries.containsEntry("src\\one\\two\\Three.java"));
+		assertFalse(entries.containsEntry("one/two/Three.java"));
+		assertTrue(entries.containsSuffix("one/two/Three.java"));
+		assertTrue(entries.containsSuffix("Three.java"));
+		assertFalse(entries.containsSuffix("one/Three.java"));
+		assertTrue(entries.containsSuffix("one/two/Four.class"));
+	}
+
+	public void testPersistence() throws Exception {
+		SourceNameIndex index = new SourceNameIndex(indexFile);
+		assertNull(index.getEntries(archive));
+		index.index(archive);
+		assertNotNull(index.getEntries(archive));
+
+		ArchiveEntries restored = new SourceNameIndex(indexFile).getEntries(archive);
+		assertNotNull("Index should be restored", restored);
+		assertTrue(restored.containsSuffix("one/two/Three.java"));
+	}
+
+	public void testPersistenceOfSeveralArchives() throws Exception {
+		File other = File.createTempFile("classes", ".jar");
+		try {
+			writeArchive(other, "one/two/Six.class");
+			SourceNameIndex index = new SourceNameIndex(indexFile);
+			index.index(archive);
+			index.index(other);
+
+			// entries are read per archive, appended records after the restored ones
+			SourceNameIndex restored = new SourceNameIndex(indexFile);
+			ArchiveEntries entries = restored.getEntries(other);
+			assertNotNull("Index should be restored", entries);
+			assertTrue(entries.containsEntry("one/two/Six.class"));
+			assertFalse(entries.containsEntry("one/two/Four.class"));
+			writeArchive(archive, "one/two/Seven.java");
+			archive.setLastModified(archive.lastModified() + 2000);
+			restored.index(archive);
+
+			entries = new SourceNameIndex(indexFile).getEntries(archive);
+			assertNotNull("Index should be restored", entries);
+			assertTrue(entries.containsEntry("one/two/Seven.java"));
+			assertFalse(entries.containsSuffix("Three.java"));
+			assertNotNull("Index should be restored", new SourceNameIndex(indexFile).getEntries(other));
+		} finally {
+			other.delete();
+		}
+	}
+
+	public void testChangedArchive() throws Exception {
+		SourceNameIndex index = new SourceNameIndex(indexFile);
+		index.index(archive);
+		writeArchive(archive, "one/two/Six.java");
+		archive.setLastModified(archive.lastModified() + 2000);
+		assertNull("Changed archive should not be indexed", new SourceNameIndex(indexFile).getEntries(archive));
+
+		index.schedule(List.of(archive));
+		index.join();
+		ArchiveEntries entries = index.getEntries(archive);
+		assertNotNull(entries);
+		assertTrue(entries.containsEntry("one/two/Six.java"));
+		assertFalse(entries.containsSuffix("Three.java"));
+	}
+
+	public void testIndexedContainer() throws Exception {
+		ISourceLookupDirector director = new JavaSourceLookupDirector();
+		director.initializeParticipants();
+		ExternalArchiveSourceContainer container = new ExternalArchiveSourceContainer(archive.getAbsolutePath(), true);
+		director.setSourceContainers(new ISourceContainer[] { container });
+		SourceNameIndex index = new SourceNameIndex(indexFile);
+		ISourceContainer indexed = IndexedSourceContainer.create(container, index);
+
+		// not indexed yet, the archive is searched
+		assertEquals(1, indexed.findSourceElements("one/two/Three.java").length);
+		index.index(archive);
+		assertEquals(1, indexed.findSourceElements("one/two/Three.java").length);
+		assertEquals(0, indexed.findSourceElements("one/two/Six.java").length);
+	}
+
+	public void testDirectoryAndProjectContainers() throws Exception {
+		File directory = Files.createTempDirectory("sources").toFile();
+		try {
+			writeFile(new File(directory, "Root.java"));
+			writeFile(new File(directory, "one/two/Three.java"));
+			ISourceLookupDirector director = new JavaSourceLookupDirector();
+			director.initializeParticipants();
+			DirectorySourceContainer directoryContainer = new DirectorySourceContainer(directory, true);
+			JavaProjectSourceContainer projectContainer = new JavaProjectSourceContainer(get14Project());
+			director.setSourceContainers(new ISourceContainer[] { directoryContainer, projectContainer });
+			SourceNameIndex index = new SourceNameIndex(indexFile);
+			assertSame("Directory containers should not be wrapped", directoryContainer, IndexedSourceContainer.create(directoryContainer, index));
+			assertSame("Project containers should not be wrapped", projectContainer, IndexedSourceContainer.create(projectContainer, index));
+
+			// the containers apply their own lookup rules, e.g. the root lookup of directories and the source folders of projects
+			for (String name : new String[] { "Root.java", "one/two/Three.java", "Breakpoints.java", "org/eclipse/debug/tests/targets/CallLoop.java" }) {
+				Object[] expected = directoryContainer.findSourceElements(name);
+				if (expected.length == 0) {
+					expected = projectContainer.findSourceElements(name);
+				}
+				assertEquals("Wrong lookup of " + name, 1, expected.length);
+				assertEquals("Wrong lookup of " + name, Arrays.asList(expected), Arrays.asList(director.findSourceElements(name)));
+			}
+		} finally {
+			new File(directory, "one/two/Three.java").delete();
+			new File(directory, "one/two").delete();
+			new File(directory, "one").delete();
+			new File(directory, "Root.java").delete();
+			directory.delete();
+		}
+	}
+
+	private static void writeFile(File file) throws IOException {
+		file.getParentFile().mkdirs();
+		Files.writeString(file.toPath(), "class " + file.getName());
+	}
+
+	private static void writeArchive(File file, String... entries) throws IOException {
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file))) {
+			for (String entry : entries) {
+				out.putNextEntry(new ZipEntry(entry));
+				out.write(entry.getBytes());
+				out.closeEntry();
+			}
+		}
+	}
+}
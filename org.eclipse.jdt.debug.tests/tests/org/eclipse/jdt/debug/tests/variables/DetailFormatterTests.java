@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2025 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,9 +17,12 @@ import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.ui.IValueDetailListener;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.Signature;
+import org.eclipse.jdt.debug.core.IJavaBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
+import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.internal.debug.ui.DetailFormatter;
 import org.eclipse.jdt.internal.debug.ui.JavaDetailFormattersManager;
@@ -514,4 +517,123 @@ public class DetailFormatterTests extends AbstractDebugTest {
 		}
 	}
 
+	/**
+	 * Tests that the detail of an object is computed once per suspend epoch, that concurrent requests
+	 * for the same object are joined and that changing the formatter discards the cached details
+	 */
+	public void testCachedDetails() throws Exception {
+		IJavaThread thread = null;
+		DetailFormatter formatter = null;
+		JavaDetailFormattersManager jdfm = JavaDetailFormattersManager.getDefault();
+		try {
+			String typename = "a.b.c.bug403028";
+			IJavaLineBreakpoint bp = createLineBreakpoint(10, typename);
+			bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_VM);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("The program did not suspend", thread);
+			formatter = new DetailFormatter("java.util.HashMap", "return toString();", true);
+			jdfm.setAssociatedDetailFormatter(formatter);
+			IJavaVariable var = thread.findVariable("map");
+			assertNotNull("the variable 'map' must exist in the frame", var);
+			IJavaValue value = (IJavaValue) var.getValue();
+			TestListener second = new TestListener();
+			jdfm.computeValueDetail(value, thread, fListener);
+			jdfm.computeValueDetail(value, thread, second);
+			waitForListenerValue();
+			String detail = fListener.result;
+			assertNotNull("The computed value of the detail should not be null", detail);
+			long timeoutNanos = System.nanoTime() + 5000 * 1_000_000L;
+			while (second.result == null && System.nanoTime() < timeoutNanos) {
+				Thread.sleep(1);
+			}
+			assertSame("The joined request should get the same detail", detail, second.result);
+
+			fListener.reset();
+			jdfm.computeValueDetail(value, thread, fListener);
+			assertSame("The detail should be answered from the cache", detail, fListener.result);
+
+			jdfm.removeAssociatedDetailFormatter(formatter);
+			formatter = new DetailFormatter("java.util.HashMap", "return \"formatted\";", true);
+			jdfm.setAssociatedDetailFormatter(formatter);
+			fListener.reset();
+			jdfm.computeValueDetail(value, thread, fListener);
+			waitForListenerValue();
+			assertEquals("The detail should be computed with the new formatter", "formatted", fListener.result);
+		} finally {
+			jdfm.removeAssociatedDetailFormatter(formatter);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that details are cached while the thread is suspended, even though other threads of the target run
+	 */
+	public void testCachedDetailsWhileThreadSuspended() throws Exception {
+		IJavaThread thread = null;
+		JavaDetailFormattersManager jdfm = JavaDetailFormattersManager.getDefault();
+		try {
+			String typename = "a.b.c.bug403028";
+			IJavaLineBreakpoint bp = createLineBreakpoint(10, typename);
+			bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_THREAD);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("The program did not suspend", thread);
+			assertFalse("Other threads of the target should run", thread.getDebugTarget().isSuspended());
+			IJavaVariable var = thread.findVariable("map");
+			assertNotNull("the variable 'map' must exist in the frame", var);
+			IJavaValue value = (IJavaValue) var.getValue();
+			jdfm.computeValueDetail(value, thread, fListener);
+			waitForListenerValue();
+			assertNotNull("The computed value of the detail should not be null", fListener.result);
+
+			String detail = fListener.result;
+
+			fListener.reset();
+			jdfm.computeValueDetail(value, thread, fListener);
+			assertSame("The detail should be answered from the cache", detail, fListener.result);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that an implicit evaluation other than the one of a detail, as for a watch expression,
+	 * discards the cached details
+	 */
+	public void testCachedDetailsDroppedAfterImplicitEvaluation() throws Exception {
+		IJavaThread thread = null;
+		JavaDetailFormattersManager jdfm = JavaDetailFormattersManager.getDefault();
+		try {
+			String typename = "a.b.c.bug403028";
+			IJavaLineBreakpoint bp = createLineBreakpoint(10, typename);
+			bp.setSuspendPolicy(IJavaBreakpoint.SUSPEND_VM);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("The program did not suspend", thread);
+			IJavaVariable var = thread.findVariable("map");
+			assertNotNull("the variable 'map' must exist in the frame", var);
+			IJavaValue value = (IJavaValue) var.getValue();
+			jdfm.computeValueDetail(value, thread, fListener);
+			waitForListenerValue();
+			assertNotNull("The computed value of the detail should not be null", fListener.result);
+			assertFalse("The map should not contain the key yet", fListener.result.contains("four"));
+
+			IEvaluationResult result = evaluate("map.put(\"four\", 4)", thread);
+			assertNotNull("The evaluation should complete", result);
+			assertFalse("The evaluation should succeed", result.hasErrors());
+
+			// the resume event of the evaluation is delivered asynchronously
+			long timeoutNanos = System.nanoTime() + 5000 * 1_000_000L;
+			do {
+				fListener.reset();
+				jdfm.computeValueDetail(value, thread, fListener);
+				waitForListenerValue();
+			} while ((fListener.result == null || !fListener.result.contains("four")) && System.nanoTime() < timeoutNanos);
+			assertNotNull("The computed value of the detail should not be null", fListener.result);
+			assertTrue("The detail should be computed again: " + fListener.result, fListener.result.contains("four"));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,20 +13,28 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchesListener;
+import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.IDebugTarget;
+import org.eclipse.debug.core.model.IThread;
+import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.debug.ui.DebugUITools;
 import org.eclipse.debug.ui.IDebugUIConstants;
@@ -45,6 +53,7 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.debug.eval.ICompiledExpression;
 import org.eclipse.jdt.debug.eval.IEvaluationListener;
@@ -55,6 +64,7 @@ import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIAllInstancesValu
 import org.eclipse.jdt.internal.debug.core.model.JDINullValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIType;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.jface.util.PropertyChangeEvent;
 import org.eclipse.jface.util.Util;
@@ -93,7 +103,13 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 	 * Cache of compiled expressions.
 	 * Associate a pair type name/debug target to a compiled expression.
 	 */
-	private final HashMap<Key, Expression> fCacheMap;
+	private final Map<Key, Expression> fCacheMap;
+
+	/**
+	 * Details of objects computed in the current suspend epoch of each thread, and
+	 * the detail requests in progress.
+	 */
+	private final Map<IJavaThread, ThreadDetails> fThreadDetails = new ConcurrentHashMap<>();
 
 	/**
 	 * JavaDetailFormattersManager constructor.
@@ -104,7 +120,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		DebugPlugin.getDefault().getLaunchManager().addLaunchListener(this);
 		DebugPlugin.getDefault().addDebugEventListener(this);
 		DebugUITools.getPreferenceStore().addPropertyChangeListener(this);
-		fCacheMap= new HashMap<>();
+		fCacheMap= new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -132,12 +148,80 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 	 * @param listener the listener
 	 */
 	public void computeValueDetail(final IJavaValue objectValue, final IJavaThread thread, final IValueDetailListener listener) {
-		thread.queueRunnable(new Runnable() {
-			@Override
-			public void run() {
-				resolveFormatter(objectValue, thread, listener);
+		long id = getObjectId(objectValue);
+		if (id == -1) {
+			thread.queueRunnable(new Runnable() {
+				@Override
+				public void run() {
+					resolveFormatter(objectValue, thread, listener);
+				}
+			});
+			return;
+		}
+		// details of objects are computed once per suspend epoch of the thread, requests for the same object are joined
+		ThreadDetails details = fThreadDetails.computeIfAbsent(thread, t -> new ThreadDetails());
+		boolean suspended = thread.isSuspended();
+		String detail;
+		DetailRequest request;
+		synchronized (details) {
+			detail = suspended ? details.fDetails.get(id) : null;
+			request = details.fPending.get(id);
+			if (detail == null && request != null) {
+				request.fListeners.add(listener);
+				return;
 			}
-		});
+			if (detail == null) {
+				request = new DetailRequest(details, id, objectValue, thread, listener);
+				details.fPending.put(id, request);
+			}
+		}
+		if (detail != null) {
+			listener.detailComputed(objectValue, detail);
+		} else {
+			thread.queueRunnable(request);
+		}
+	}
+
+	/**
+	 * Returns the unique id of the given value if its detail can be cached, or <code>-1</code>
+	 */
+	private static long getObjectId(IJavaValue value) {
+		if (!(value instanceof IJavaObject) || value instanceof JDINullValue || value instanceof JDIAllInstancesValue
+				|| value instanceof JDIReferenceListValue) {
+			return -1;
+		}
+		try {
+			return ((IJavaObject) value).getUniqueId();
+		} catch (DebugException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * Returns whether the given listener no longer waits for a detail, that is whether it is
+	 * a job which is not running anymore.
+	 */
+	private static boolean isCancelled(IValueDetailListener listener) {
+		return listener instanceof Job && ((Job) listener).getState() == Job.NONE;
+	}
+
+	/**
+	 * Notifies the given listener of a detail that reports a failure, and which is not cached.
+	 */
+	private static void detailFailed(IValueDetailListener listener, IValue value, String detail) {
+		if (listener instanceof DetailRequest) {
+			((DetailRequest) listener).fCacheable = false;
+		}
+		listener.detailComputed(value, detail);
+	}
+
+	/**
+	 * Notes that an implicit evaluation resumes the thread to compute the detail for the given listener.
+	 */
+	private static void detailEvaluated(IValueDetailListener listener) {
+		if (listener instanceof DetailRequest) {
+			((DetailRequest) listener).evaluated();
+		}
 	}
 
 	private void resolveFormatter(final IJavaValue value, final IJavaThread thread, final IValueDetailListener listener) {
@@ -162,7 +246,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 					return;
 				}
 			} catch (CoreException e) {
-				listener.detailComputed(value, e.toString());
+				detailFailed(listener, value, e.toString());
 				return;
 			}
 		}
@@ -175,7 +259,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 					return;
 				}
 			} catch (CoreException e) {
-				listener.detailComputed(value, e.toString());
+				detailFailed(listener, value, e.toString());
 				return;
 			}
 		}
@@ -188,7 +272,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 			} else if (e.getStatus().getCode() == IJavaThread.ERR_INCOMPATIBLE_THREAD_STATE) {
 				detail = DebugUIMessages.JavaDetailFormattersManager_6;
 			}
-			listener.detailComputed(value, detail);
+			detailFailed(listener, value, detail);
 		}
 	}
 
@@ -446,8 +530,9 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 		}
 		String typeName = type.getName();
 		Key key = new Key(typeName, debugTarget);
-		if (fCacheMap.containsKey(key)) {
-			return fCacheMap.get(key);
+		Expression cached = fCacheMap.get(key);
+		if (cached != null) {
+			return cached;
 		}
 		String snippet = null;
 
@@ -466,8 +551,8 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 						.getCompiledExpression(snippet, javaObject);
 				if (res != null) {
 					Expression exp = new Expression(res, evaluationEngine);
-					fCacheMap.put(key, exp);
-					return exp;
+					Expression previous = fCacheMap.putIfAbsent(key, exp);
+					return previous != null ? previous : exp;
 				}
 			}
 		}
@@ -578,6 +663,9 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				property.equals(IDebugUIConstants.PREF_MAX_DETAIL_LENGTH)) {
 			populateDetailFormattersMap();
 			fCacheMap.clear();
+			for (ThreadDetails details : fThreadDetails.values()) {
+				details.newEpoch();
+			}
 			// If a Java stack frame is selected in the Debug view, fire a change event on
 			// it so the variables view will update for any formatter changes.
             IAdaptable selected = DebugUITools.getDebugContext();
@@ -600,6 +688,24 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 			DebugEvent event = events[i];
 			if (event.getSource() instanceof IJavaDebugTarget && event.getKind() == DebugEvent.TERMINATE) {
 				deleteCacheForTarget((IJavaDebugTarget) event.getSource());
+			} else if (event.getSource() instanceof IThread thread && event.getKind() == DebugEvent.TERMINATE) {
+				fThreadDetails.remove(thread);
+			} else if (event.getSource() instanceof IThread thread && event.getKind() == DebugEvent.RESUME) {
+				ThreadDetails details = fThreadDetails.get(thread);
+				if (event.getDetail() != DebugEvent.EVALUATION_IMPLICIT) {
+					// the thread ran
+					if (details != null) {
+						details.newEpoch();
+					}
+				} else if (details == null || !details.detailResumed()) {
+					// implicit evaluations may change objects too, except for the evaluations of details
+					newEpoch(thread.getDebugTarget());
+				}
+			} else if (event.getSource() instanceof IDebugElement element
+					&& ((event.getKind() == DebugEvent.RESUME && !(element instanceof IThread))
+							|| (event.getKind() == DebugEvent.CHANGE && element instanceof IJavaVariable))) {
+				// the target ran or a value was modified
+				newEpoch(element.getDebugTarget());
 			}
 		}
 	}
@@ -640,11 +746,172 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 	 *
 	 * @param debugTarget the target
 	 */
-	private synchronized void deleteCacheForTarget(IJavaDebugTarget debugTarget) {
-		for (Iterator<Key> iter= fCacheMap.keySet().iterator(); iter.hasNext();) {
-			Key key= iter.next();
-			if ((key).fDebugTarget == debugTarget) {
-				iter.remove();
+	private void deleteCacheForTarget(IJavaDebugTarget debugTarget) {
+		fCacheMap.keySet().removeIf(key -> key.fDebugTarget == debugTarget);
+		fThreadDetails.keySet().removeIf(thread -> thread.getDebugTarget() == debugTarget);
+	}
+
+	/**
+	 * Discards the details computed for the threads of the given target.
+	 *
+	 * @param debugTarget the target
+	 */
+	private void newEpoch(IDebugTarget debugTarget) {
+		fThreadDetails.forEach((thread, details) -> {
+			if (thread.getDebugTarget() == debugTarget) {
+				details.newEpoch();
+			}
+		});
+	}
+
+	/**
+	 * Details of objects computed in the current suspend epoch of a thread, by object id,
+	 * and the detail requests in progress. Access is synchronized on the instance.
+	 * <p>
+	 * The epoch ends when the thread resumes. The implicit evaluations of detail requests are
+	 * considered to leave the objects unchanged: the requests report the implicit evaluations
+	 * they run, and each such evaluation accounts for one implicit resume of the thread.
+	 * Resume events are delivered asynchronously, so an implicit resume delivered before its
+	 * request reported the evaluation is accounted for while a request is running. Any other
+	 * implicit resume, as for watch expressions, starts a new epoch.
+	 * </p>
+	 */
+	static private class ThreadDetails {
+		private final HashMap<Long, String> fDetails = new HashMap<>();
+		private final HashMap<Long, DetailRequest> fPending = new HashMap<>();
+		private long fEpoch;
+		/** Number of detail requests running in this epoch */
+		private int fRunning;
+		/** Number of implicit evaluations reported by detail requests whose resume was not delivered yet */
+		private int fEvaluations;
+		/** Number of implicit resumes delivered while a detail request was running, before their evaluation was reported */
+		private int fResumes;
+
+		synchronized void detailStarted(long epoch) {
+			if (epoch == fEpoch) {
+				fRunning++;
+			}
+		}
+
+		synchronized void detailDone(long epoch) {
+			if (epoch == fEpoch && fRunning > 0) {
+				fRunning--;
+			}
+		}
+
+		synchronized void detailEvaluated(long epoch) {
+			if (epoch != fEpoch) {
+				return;
+			}
+			if (fResumes > 0) {
+				fResumes--;
+			} else {
+				fEvaluations++;
+			}
+		}
+
+		/**
+		 * Returns whether an implicit resume of the thread is attributed to a detail request
+		 */
+		synchronized boolean detailResumed() {
+			if (fEvaluations > 0) {
+				fEvaluations--;
+				return true;
+			}
+			if (fRunning > 0) {
+				fResumes++;
+				return true;
+			}
+			return false;
+		}
+
+		/**
+		 * Discards the details computed so far, as the objects may have changed
+		 */
+		synchronized void newEpoch() {
+			fEpoch++;
+			fDetails.clear();
+			fRunning = 0;
+			fEvaluations = 0;
+			fResumes = 0;
+		}
+	}
+
+	/**
+	 * A request for the detail of an object. Requests for the same object are joined while
+	 * the detail is computed. A request is skipped when all of its listeners are cancelled,
+	 * that is when they are jobs which are no longer running, as the detail pane cancels the
+	 * job of the previous selection.
+	 */
+	private class DetailRequest implements Runnable, IValueDetailListener {
+		private final ThreadDetails fDetails;
+		private final long fId;
+		private final long fEpoch;
+		private final IJavaValue fValue;
+		private final IJavaThread fThread;
+		private final List<IValueDetailListener> fListeners = new ArrayList<>(2);
+		private volatile boolean fCacheable = true;
+		/** Whether the request is done, guarded by the thread details */
+		private boolean fDone;
+
+		DetailRequest(ThreadDetails details, long id, IJavaValue value, IJavaThread thread, IValueDetailListener listener) {
+			fDetails = details;
+			fId = id;
+			fEpoch = details.fEpoch;
+			fValue = value;
+			fThread = thread;
+			fListeners.add(listener);
+		}
+
+		@Override
+		public void run() {
+			synchronized (fDetails) {
+				if (fListeners.stream().allMatch(JavaDetailFormattersManager::isCancelled)) {
+					fDetails.fPending.remove(fId);
+					return;
+				}
+				fDetails.detailStarted(fEpoch);
+			}
+			try {
+				resolveFormatter(fValue, fThread, this);
+			} catch (RuntimeException e) {
+				done();
+				throw e;
+			}
+		}
+
+		/**
+		 * Notes that an implicit evaluation resumes the thread for this request
+		 */
+		void evaluated() {
+			fDetails.detailEvaluated(fEpoch);
+		}
+
+		/**
+		 * Ends this request, once
+		 */
+		private void done() {
+			synchronized (fDetails) {
+				if (!fDone) {
+					fDone = true;
+					fDetails.fPending.remove(fId);
+					fDetails.detailDone(fEpoch);
+				}
+			}
+		}
+
+		@Override
+		public void detailComputed(IValue value, String result) {
+			IValueDetailListener[] listeners;
+			synchronized (fDetails) {
+				if (fCacheable && !fDone && result != null && fEpoch == fDetails.fEpoch && fThread.isSuspended()) {
+					fDetails.fDetails.put(fId, result);
+				}
+				done();
+				listeners = fListeners.toArray(new IValueDetailListener[fListeners.size()]);
+			}
+			for (IValueDetailListener listener : listeners) {
+				listener.detailComputed(value, result);
 			}
 		}
 	}
@@ -734,6 +1001,10 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 
 		@Override
 		public void evaluationComplete(IEvaluationResult result) {
+			if (result.getValue() != null || result.getException() != null || result.isTerminated()) {
+				// the expression ran
+				detailEvaluated(fListener);
+			}
 			if (result.hasErrors()) {
 				StringBuilder error= new StringBuilder(DebugUIMessages.JavaDetailFormattersManager_Detail_formatter_error___1);
 				DebugException exception= result.getException();
@@ -754,12 +1025,12 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 						error.append("\n\t\t").append(errors[i]); //$NON-NLS-1$
 					}
 				}
-				fListener.detailComputed(fValue, error.toString());
+				detailFailed(fListener, fValue, error.toString());
 			} else {
 				try {
 					valueToString(result.getValue());
 				} catch (DebugException e) {
-					fListener.detailComputed(fValue, e.getStatus().getMessage());
+					detailFailed(fListener, fValue, e.getStatus().getMessage());
 				}
 			}
 		}
@@ -779,6 +1050,8 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				result = new StringBuilder();
 				result.append(DebugUIMessages.JavaDetailFormattersManager_no_suspended_threads);
 				appendJDIValueString(result, objectValue);
+				detailFailed(fListener, fValue, result.toString());
+				return;
 			} else if (objectValue instanceof IJavaObject && STRING_SIGNATURE.equals(objectValue.getSignature())) {
 				// no need to spawn evaluate for a java.lang.String
 				result = new StringBuilder();
@@ -806,6 +1079,7 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 					fListener.detailComputed(fValue, buf.toString());
 				}
 			};
+			detailEvaluated(fListener);
 			fThread.runEvaluation(eval, null, DebugEvent.EVALUATION_IMPLICIT, false);
 		}
 
@@ -868,7 +1142,14 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 
 
 		protected void appendJDIValueString(StringBuilder result, IJavaValue value) throws DebugException {
-			result.append(value.getValueString());
+			int maxLength = getMaxDetailLength();
+			if (maxLength > 0 && value instanceof JDIValue) {
+				// only retrieve the part of a string that can be displayed, one more
+				// character lets the detail pane know the string was cut
+				result.append(((JDIValue) value).getValueString(Math.max(1, maxLength - result.length() + 1)));
+			} else {
+				result.append(value.getValueString());
+			}
 		}
 
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.ui;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.DebugPlugin;
+import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.IDebugElement;
 import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.model.IThread;
@@ -27,15 +35,22 @@ import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
-import org.eclipse.jdt.debug.eval.IEvaluationListener;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
 import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.IBatchEvaluationListener;
 import org.eclipse.jdt.internal.debug.ui.display.JavaInspectExpression;
 
 public class JavaWatchExpressionDelegate implements IWatchExpressionDelegate {
 
+	/**
+	 * Delegates waiting for the evaluation of their expression
+	 */
+	private static final PendingEvaluations fgPendingEvaluations = new PendingEvaluations();
+
 	private String fExpressionText;
 	private IWatchExpressionListener fListener;
 
@@ -81,7 +96,19 @@ public class JavaWatchExpressionDelegate implements IWatchExpressionDelegate {
 	protected void doEvaluation(IJavaStackFrame javaStackFrame) {
 		IJavaThread thread = (IJavaThread)javaStackFrame.getThread();
 		if (preEvaluationCheck(thread)) {
-			thread.queueRunnable(new EvaluationRunnable(javaStackFrame));
+			if (fgPendingEvaluations.add(javaStackFrame, this)) {
+				try {
+					thread.queueRunnable(new EvaluationRunnable(javaStackFrame));
+				} catch (RuntimeException e) {
+					JDIDebugPlugin.log(e);
+					evaluationFailed(fgPendingEvaluations.remove(javaStackFrame));
+					return;
+				}
+				// the runnables of a terminated thread are never run, and its terminate event may have been missed
+				if (thread.isTerminated()) {
+					evaluationFailed(fgPendingEvaluations.remove(javaStackFrame));
+				}
+			}
 		} else {
 			fListener.watchEvaluationFinished(null);
 		}
@@ -98,9 +125,48 @@ public class JavaWatchExpressionDelegate implements IWatchExpressionDelegate {
 	}
 
 	/**
-	 * Runnable used to evaluate the expression.
+	 * Notifies the listeners of the given delegates that their expressions could not be evaluated.
+	 */
+	private static void evaluationFailed(List<JavaWatchExpressionDelegate> delegates) {
+		for (JavaWatchExpressionDelegate delegate : delegates) {
+			delegate.fListener.watchEvaluationFinished(null);
+		}
+	}
+
+	/**
+	 * Notifies the listener of this delegate of the given evaluation result.
+	 */
+	private void evaluationComplete(final IEvaluationResult result) {
+		IWatchExpressionResult watchResult= new IWatchExpressionResult() {
+			@Override
+			public IValue getValue() {
+				return result.getValue();
+			}
+			@Override
+			public boolean hasErrors() {
+				return result.hasErrors();
+			}
+			@Override
+			public String[] getErrorMessages() {
+				return JavaInspectExpression.getErrorMessages(result);
+			}
+			@Override
+			public String getExpressionText() {
+				return result.getSnippet();
+			}
+			@Override
+			public DebugException getException() {
+				return result.getException();
+			}
+		};
+		fListener.watchEvaluationFinished(watchResult);
+	}
+
+	/**
+	 * Runnable used to evaluate the expressions waiting for a stack frame. Expressions requested while the runnable is queued are evaluated
+	 * together as one batch.
 	 */
-	private final class EvaluationRunnable implements Runnable {
+	private static final class EvaluationRunnable implements Runnable {
 
 		private final IJavaStackFrame fStackFrame;
 
@@ -110,46 +176,104 @@ public class JavaWatchExpressionDelegate implements IWatchExpressionDelegate {
 
 		@Override
 		public void run() {
+			List<JavaWatchExpressionDelegate> delegates = fgPendingEvaluations.remove(fStackFrame);
+			if (delegates.isEmpty()) {
+				return;
+			}
 			IJavaProject project = JavaDebugUtils.resolveJavaProject(fStackFrame);
 			if (project == null) {
-				fListener.watchEvaluationFinished(null);
+				evaluationFailed(delegates);
 				return;
 			}
 			IAstEvaluationEngine evaluationEngine= JDIDebugPlugin.getDefault().getEvaluationEngine(project, (IJavaDebugTarget) fStackFrame.getDebugTarget());
-			// the evaluation listener
-			IEvaluationListener listener= new IEvaluationListener() {
-				@Override
-				public void evaluationComplete(final IEvaluationResult result) {
-					IWatchExpressionResult watchResult= new IWatchExpressionResult() {
-						@Override
-						public IValue getValue() {
-							return result.getValue();
-						}
-						@Override
-						public boolean hasErrors() {
-							return result.hasErrors();
-						}
-						@Override
-						public String[] getErrorMessages() {
-							return JavaInspectExpression.getErrorMessages(result);
-						}
-						@Override
-						public String getExpressionText() {
-							return result.getSnippet();
-						}
-						@Override
-						public DebugException getException() {
-							return result.getException();
-						}
-					};
-					fListener.watchEvaluationFinished(watchResult);
+			if (delegates.size() > 1 && evaluationEngine instanceof ASTEvaluationEngine engine) {
+				evaluateBatch(engine, delegates);
+				return;
+			}
+			for (JavaWatchExpressionDelegate delegate : delegates) {
+				try {
+					evaluationEngine.evaluate(delegate.fExpressionText, fStackFrame, delegate::evaluationComplete, DebugEvent.EVALUATION_IMPLICIT, false);
+				} catch (DebugException e) {
+					JDIDebugPlugin.log(e);
+					delegate.fListener.watchEvaluationFinished(null);
+				}
+			}
+		}
+
+		private void evaluateBatch(ASTEvaluationEngine engine, List<JavaWatchExpressionDelegate> delegates) {
+			ICompiledExpression[] expressions = new ICompiledExpression[delegates.size()];
+			for (int i = 0; i < expressions.length; i++) {
+				expressions[i] = engine.getCompiledExpression(delegates.get(i).fExpressionText, fStackFrame);
+			}
+			IBatchEvaluationListener listener = results -> {
+				for (int i = 0; i < results.length; i++) {
+					delegates.get(i).evaluationComplete(results[i]);
 				}
 			};
 			try {
-				evaluationEngine.evaluate(fExpressionText, fStackFrame, listener, DebugEvent.EVALUATION_IMPLICIT, false);
+				engine.evaluateExpressions(expressions, fStackFrame, listener, DebugEvent.EVALUATION_IMPLICIT, false);
 			} catch (DebugException e) {
 				JDIDebugPlugin.log(e);
-				fListener.watchEvaluationFinished(null);
+				evaluationFailed(delegates);
+			}
+		}
+	}
+
+	/**
+	 * Delegates waiting for the evaluation of their expression, by stack frame. The delegates waiting for a frame of a thread which terminates
+	 * are notified that their expressions could not be evaluated, since the runnables queued for the thread are discarded.
+	 */
+	private static final class PendingEvaluations implements IDebugEventSetListener {
+
+		private final Map<IJavaStackFrame, List<JavaWatchExpressionDelegate>> fEvaluations = new HashMap<>();
+
+		/**
+		 * Adds a delegate waiting for the evaluation of its expression in the given frame.
+		 *
+		 * @return whether a runnable evaluating the expressions of the frame has to be queued
+		 */
+		synchronized boolean add(IJavaStackFrame frame, JavaWatchExpressionDelegate delegate) {
+			List<JavaWatchExpressionDelegate> pending = fEvaluations.get(frame);
+			if (pending != null) {
+				pending.add(delegate);
+				return false;
+			}
+			if (fEvaluations.isEmpty()) {
+				DebugPlugin.getDefault().addDebugEventListener(this);
+			}
+			pending = new ArrayList<>();
+			pending.add(delegate);
+			fEvaluations.put(frame, pending);
+			return true;
+		}
+
+		/**
+		 * Removes the delegates waiting for the given frame.
+		 *
+		 * @return the delegates, possibly empty
+		 */
+		synchronized List<JavaWatchExpressionDelegate> remove(IJavaStackFrame frame) {
+			List<JavaWatchExpressionDelegate> pending = fEvaluations.remove(frame);
+			if (pending != null && fEvaluations.isEmpty()) {
+				DebugPlugin.getDefault().removeDebugEventListener(this);
+			}
+			return pending == null ? Collections.emptyList() : pending;
+		}
+
+		@Override
+		public void handleDebugEvents(DebugEvent[] events) {
+			for (DebugEvent event : events) {
+				if (event.getKind() == DebugEvent.TERMINATE) {
+					List<JavaWatchExpressionDelegate> terminated = new ArrayList<>();
+					synchronized (this) {
+						for (IJavaStackFrame frame : new ArrayList<>(fEvaluations.keySet())) {
+							if (frame.getThread() == event.getSource() || frame.getDebugTarget() == event.getSource()) {
+								terminated.addAll(remove(frame));
+							}
+						}
+					}
+					evaluationFailed(terminated);
+				}
 			}
 		}
 	}
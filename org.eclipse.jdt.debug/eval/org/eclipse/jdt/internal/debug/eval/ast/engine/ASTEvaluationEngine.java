@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -76,6 +76,7 @@ import org.eclipse.jdt.internal.debug.core.model.JDIValue;
 import org.eclipse.jdt.internal.debug.core.model.LambdaUtils;
 import org.eclipse.jdt.internal.debug.core.model.SyntheticVariableUtils;
 import org.eclipse.jdt.internal.debug.eval.EvaluationResult;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionOptimizer;
 import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionSequence;
 
 import com.sun.jdi.InvocationException;
@@ -256,6 +257,49 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 		}
 	}
 
+	/**
+	 * Evaluates the given compiled expressions in the context of the given stack frame as a single evaluation. The expressions are run one after
+	 * the other in one evaluation of the thread and share the lookup of the receiver and local variables of the frame. The listener is notified of
+	 * all results once the last expression has been evaluated.
+	 *
+	 * @param expressions
+	 *            the expressions to evaluate
+	 * @param frame
+	 *            the stack frame context in which to run the expressions
+	 * @param listener
+	 *            the listener notified of the results
+	 * @param evaluationDetail
+	 *            one of <code>DebugEvent.EVALUATION</code> or <code>DebugEvent.EVALUATION_IMPLICIT</code>
+	 * @param hitBreakpoints
+	 *            whether or not breakpoints should be honored in the evaluation thread during the evaluation
+	 * @exception DebugException
+	 *                if an expression was not compiled by this engine
+	 */
+	public void evaluateExpressions(ICompiledExpression[] expressions, IJavaStackFrame frame, IBatchEvaluationListener listener, int evaluationDetail, boolean hitBreakpoints) throws DebugException {
+		InstructionSequence[] sequences = new InstructionSequence[expressions.length];
+		for (int i = 0; i < expressions.length; i++) {
+			if (!(expressions[i] instanceof InstructionSequence sequence)) {
+				throw new DebugException(new Status(IStatus.ERROR, JDIDebugPlugin.getUniqueIdentifier(), IStatus.OK, EvaluationEngineMessages.ASTEvaluationEngine_AST_evaluation_engine_cannot_evaluate_expression, null));
+			}
+			sequences[i] = sequence;
+			traceCaller(sequence.getSnippet(), frame.getThread());
+		}
+		IJavaThread thread = (IJavaThread) frame.getThread();
+		if (thread.isSuspended() && ((JDIThread) thread).isInvokingMethod()
+				|| thread.isPerformingEvaluation() && evaluationDetail == DebugEvent.EVALUATION) {
+			IEvaluationResult[] results = new IEvaluationResult[sequences.length];
+			for (int i = 0; i < sequences.length; i++) {
+				EvaluationResult result = new EvaluationResult(this, sequences[i].getSnippet(), thread);
+				result.addError(EvaluationEngineMessages.ASTEvaluationEngine_Cannot_perform_nested_evaluations);
+				results[i] = result;
+			}
+			listener.evaluationsComplete(results);
+			return;
+		}
+		BatchRuntimeContext context = new BatchRuntimeContext(getJavaProject(), frame);
+		thread.queueRunnable(new BatchEvalRunnable(sequences, thread, context, listener, evaluationDetail, hitBreakpoints));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -643,7 +687,9 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 		ASTInstructionCompiler visitor = new ASTInstructionCompiler(mapper.getSnippetStart(), snippet, getJavaProject());
 		unit.accept(visitor);
 
-		return visitor.getInstructions();
+		InstructionSequence instructions = visitor.getInstructions();
+		InstructionOptimizer.optimize(instructions);
+		return instructions;
 	}
 
 	/*
@@ -821,29 +867,18 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 			}
 
 			result.setTerminated(er.fTerminated);
-			if (exception != null) {
-				if (JDIDebugOptions.DEBUG_AST_EVAL) {
-					StringBuilder buf = new StringBuilder();
+			setResult(result, value, exception);
+			if (JDIDebugOptions.DEBUG_AST_EVAL) {
+				StringBuilder buf = new StringBuilder();
+				if (exception != null) {
 					buf.append("\tException: "); //$NON-NLS-1$
 					buf.append(exception.toString());
-					JDIDebugOptions.trace(buf.toString());
-				}
-				if (exception instanceof DebugException) {
-					result.setException((DebugException) exception);
-				} else {
-					result.setException(new DebugException(exception.getStatus()));
+				} else if (value != null) {
+					buf.append("\tResult: "); //$NON-NLS-1$
+					buf.append(value);
 				}
-			} else {
-				if (value != null) {
-					result.setValue(value);
-					if (JDIDebugOptions.DEBUG_AST_EVAL) {
-						StringBuilder buf = new StringBuilder();
-						buf.append("\tResult: "); //$NON-NLS-1$
-						buf.append(value);
-						JDIDebugOptions.trace(buf.toString());
-					}
-				} else {
-					result.addError(EvaluationEngineMessages.ASTEvaluationEngine_An_unknown_error_occurred_during_evaluation);
+				if (buf.length() > 0) {
+					JDIDebugOptions.trace(buf.toString());
 				}
 			}
 
@@ -859,14 +894,158 @@ public class ASTEvaluationEngine implements IAstEvaluationEngine {
 		}
 
 		private void evaluationFinished(IEvaluationResult result) {
-			// only notify if plug-in not yet shutdown - bug# 8693
-			if (JDIDebugPlugin.getDefault() != null) {
+			if (isPluginRunning()) {
 				fListener.evaluationComplete(result);
 			}
 		}
 
 	}
 
+	/**
+	 * Runs the expressions of a batch in a single evaluation of the thread
+	 */
+	class BatchEvalRunnable implements Runnable {
+
+		private final InstructionSequence[] fExpressions;
+
+		private final IJavaThread fThread;
+
+		private final int fEvaluationDetail;
+
+		private final boolean fHitBreakpoints;
+
+		private final IRuntimeContext fContext;
+
+		private final IBatchEvaluationListener fListener;
+
+		private final boolean fDisableGcOnResult;
+
+		public BatchEvalRunnable(InstructionSequence[] expressions, IJavaThread thread, IRuntimeContext context, IBatchEvaluationListener listener, int evaluationDetail, boolean hitBreakpoints) {
+			fExpressions = expressions;
+			fThread = thread;
+			fContext = context;
+			fListener = listener;
+			fEvaluationDetail = (evaluationDetail & EVALUATION_DETAIL_BITMASK);
+			fHitBreakpoints = hitBreakpoints;
+			fDisableGcOnResult = (evaluationDetail & IAstEvaluationEngine.DISABLE_GC_ON_RESULT) != 0;
+		}
+
+		@Override
+		public void run() {
+			final EvaluationResult[] results = new EvaluationResult[fExpressions.length];
+			for (int i = 0; i < fExpressions.length; i++) {
+				results[i] = new EvaluationResult(ASTEvaluationEngine.this, fExpressions[i].getSnippet(), fThread);
+				for (String error : fExpressions[i].getErrorMessages()) {
+					results[i].addError(error);
+				}
+			}
+
+			class BatchRunnable implements IEvaluationRunnable, ITerminate {
+
+				volatile Interpreter fInterpreter;
+				volatile boolean fTerminated = false;
+
+				@Override
+				public void run(IJavaThread jt, IProgressMonitor pm) {
+					EventFilter filter = new EventFilter();
+					try {
+						DebugPlugin.getDefault().addDebugEventFilter(filter);
+						for (int i = 0; i < fExpressions.length; i++) {
+							if (results[i].hasErrors()) {
+								continue;
+							}
+							if (fTerminated) {
+								results[i].setTerminated(true);
+								continue;
+							}
+							Interpreter interpreter = new Interpreter(fExpressions[i], fContext);
+							fInterpreter = interpreter;
+							CoreException exception = null;
+							try {
+								interpreter.execute(fDisableGcOnResult);
+							} catch (CoreException e) {
+								exception = e;
+							}
+							setResult(results[i], interpreter.getResult(), exception);
+							results[i].setTerminated(fTerminated);
+						}
+					} finally {
+						DebugPlugin.getDefault().removeDebugEventFilter(filter);
+					}
+				}
+
+				@Override
+				public void terminate() {
+					fTerminated = true;
+					Interpreter interpreter = fInterpreter;
+					if (interpreter != null) {
+						interpreter.stop();
+					}
+				}
+
+				@Override
+				public boolean canTerminate() {
+					return true;
+				}
+
+				@Override
+				public boolean isTerminated() {
+					return false;
+				}
+			}
+
+			long start = System.currentTimeMillis();
+			try {
+				fThread.runEvaluation(new BatchRunnable(), null, fEvaluationDetail, fHitBreakpoints);
+			} catch (DebugException e) {
+				for (EvaluationResult result : results) {
+					if (!result.hasErrors() && result.getValue() == null) {
+						result.setException(e);
+					}
+				}
+			}
+			if (JDIDebugOptions.DEBUG_AST_EVAL) {
+				StringBuilder buf = new StringBuilder();
+				buf.append(JDIDebugOptions.FORMAT.format(Instant.now()));
+				buf.append(" : AST Batch Evaluation"); //$NON-NLS-1$
+				for (EvaluationResult result : results) {
+					buf.append("\n\tExpression: "); //$NON-NLS-1$
+					buf.append(result.getSnippet());
+				}
+				buf.append("\n\tDuration: "); //$NON-NLS-1$
+				buf.append(System.currentTimeMillis() - start);
+				buf.append("ms"); //$NON-NLS-1$
+				JDIDebugOptions.trace(buf.toString());
+			}
+			if (isPluginRunning()) {
+				fListener.evaluationsComplete(results);
+			}
+		}
+	}
+
+	/**
+	 * Records the outcome of running an expression in the given result: the exception the expression failed with, or else its value, or else an
+	 * error.
+	 */
+	private static void setResult(EvaluationResult result, IJavaValue value, CoreException exception) {
+		if (exception instanceof DebugException debugException) {
+			result.setException(debugException);
+		} else if (exception != null) {
+			result.setException(new DebugException(exception.getStatus()));
+		} else if (value != null) {
+			result.setValue(value);
+		} else {
+			result.addError(EvaluationEngineMessages.ASTEvaluationEngine_An_unknown_error_occurred_during_evaluation);
+		}
+	}
+
+	/**
+	 * Returns whether listeners may be notified of evaluation results, that is whether the plug-in is not yet shut down - bug# 8693
+	 */
+	private static boolean isPluginRunning() {
+		return JDIDebugPlugin.getDefault() != null;
+	}
+
 	/**
 	 * Replaces references to 'this' with the 'array_this' variable.
 	 *
@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.eval.ast.engine;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaReferenceType;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaVariable;
+
+/**
+ * Runtime context shared by the expressions of a batch evaluation in a stack frame. The receiver, its type and the local variables of the frame
+ * are looked up once for the whole batch.
+ */
+public class BatchRuntimeContext extends RuntimeContext {
+
+	private IJavaObject fThis;
+	private boolean fThisKnown;
+	private IJavaReferenceType fReceivingType;
+	private IJavaVariable[] fLocals;
+
+	/**
+	 * Creates a runtime context for the given java project and stack frame.
+	 *
+	 * @param project
+	 *            Java project context used to compile expressions in
+	 * @param frame
+	 *            stack frame used to define locals and receiving type context
+	 */
+	public BatchRuntimeContext(IJavaProject project, IJavaStackFrame frame) {
+		super(project, frame);
+	}
+
+	@Override
+	public synchronized IJavaObject getThis() throws CoreException {
+		if (!fThisKnown) {
+			fThis = super.getThis();
+			fThisKnown = true;
+		}
+		return fThis;
+	}
+
+	@Override
+	public synchronized IJavaReferenceType getReceivingType() throws CoreException {
+		if (fReceivingType == null) {
+			fReceivingType = super.getReceivingType();
+		}
+		return fReceivingType;
+	}
+
+	@Override
+	public synchronized IJavaVariable[] getLocals() throws CoreException {
+		if (fLocals == null) {
+			fLocals = super.getLocals();
+		}
+		return fLocals;
+	}
+}
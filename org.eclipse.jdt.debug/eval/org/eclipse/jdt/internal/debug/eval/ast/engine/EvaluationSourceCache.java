@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.eval.ast.engine;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaHotCodeReplaceListener;
+import org.eclipse.jdt.debug.core.JDIDebugModel;
+
+/**
+ * Caches the evaluation source generated for a type and location without the code snippet, so that evaluating several snippets in the same context
+ * does not parse and visit the source of the type again. The cache is cleared after builds and hot code replaces.
+ */
+public class EvaluationSourceCache implements IResourceChangeListener, IJavaHotCodeReplaceListener {
+
+	/**
+	 * Maximum number of cached skeletons
+	 */
+	private static final int MAX_SIZE = 32;
+
+	private static final EvaluationSourceCache fgDefault = new EvaluationSourceCache();
+
+	/**
+	 * The evaluation source of a context, with the position at which the code snippet is inserted
+	 */
+	static class Skeleton {
+
+		final String fSource;
+		final String fCompilationUnitName;
+		final int fSnippetStart;
+		final int fRunMethodStart;
+		final int fRunMethodLength;
+
+		/**
+		 * Offset in the source at which the snippet is inserted
+		 */
+		final int fInsertionOffset;
+
+		Skeleton(String source, String compilationUnitName, int snippetStart, int runMethodStart, int runMethodLength, int insertionOffset) {
+			fSource = source;
+			fCompilationUnitName = compilationUnitName;
+			fSnippetStart = snippetStart;
+			fRunMethodStart = runMethodStart;
+			fRunMethodLength = runMethodLength;
+			fInsertionOffset = insertionOffset;
+		}
+
+		/**
+		 * Returns the source with the given snippet inserted
+		 */
+		String getSource(String snippet) {
+			return new StringBuilder(fSource.length() + snippet.length()).append(fSource, 0, fInsertionOffset).append(snippet).append(fSource, fInsertionOffset, fSource.length()).toString();
+		}
+	}
+
+	/**
+	 * Everything the generated source depends on besides the code snippet
+	 */
+	static class Key {
+
+		private final String fTypeHandle;
+		private final String fTypeSource;
+		private final int fLine;
+		private final boolean fStatic;
+		private final String[] fLocalTypeNames;
+		private final String[] fLocalNames;
+		private final String fSourceLevel;
+		private final IJavaProject fProject;
+		private final int fHashCode;
+
+		Key(String typeHandle, String typeSource, int line, boolean isStatic, String[] localTypeNames, String[] localNames, String sourceLevel, IJavaProject project) {
+			fTypeHandle = typeHandle;
+			fTypeSource = typeSource;
+			fLine = line;
+			fStatic = isStatic;
+			fLocalTypeNames = localTypeNames;
+			fLocalNames = localNames;
+			fSourceLevel = sourceLevel;
+			fProject = project;
+			fHashCode = Objects.hash(typeHandle, typeSource, line, isStatic, Arrays.hashCode(localTypeNames), Arrays.hashCode(localNames), sourceLevel, project);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj instanceof Key key && fHashCode == key.fHashCode && fLine == key.fLine && fStatic == key.fStatic
+					&& fTypeHandle.equals(key.fTypeHandle) && Arrays.equals(fLocalTypeNames, key.fLocalTypeNames)
+					&& Arrays.equals(fLocalNames, key.fLocalNames) && Objects.equals(fSourceLevel, key.fSourceLevel)
+					&& Objects.equals(fProject, key.fProject) && fTypeSource.equals(key.fTypeSource);
+		}
+
+		@Override
+		public int hashCode() {
+			return fHashCode;
+		}
+	}
+
+	private final Map<Key, Skeleton> fSkeletons = new LinkedHashMap<>(MAX_SIZE, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Skeleton> eldest) {
+			return size() > MAX_SIZE;
+		}
+	};
+
+	/**
+	 * Returns the shared cache
+	 *
+	 * @return the shared cache
+	 */
+	public static EvaluationSourceCache getDefault() {
+		return fgDefault;
+	}
+
+	/**
+	 * Registers this cache to be cleared after builds and hot code replaces. This method is called by the JDI debug model plug-in on startup.
+	 */
+	public void startup() {
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.POST_BUILD);
+		JDIDebugModel.addHotCodeReplaceListener(this);
+	}
+
+	/**
+	 * Unregisters and clears this cache. This method is called by the JDI debug model plug-in on shutdown.
+	 */
+	public void shutdown() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+		JDIDebugModel.removeHotCodeReplaceListener(this);
+		clear();
+	}
+
+	synchronized Skeleton get(Key key) {
+		return fSkeletons.get(key);
+	}
+
+	synchronized void put(Key key, Skeleton skeleton) {
+		fSkeletons.put(key, skeleton);
+	}
+
+	/**
+	 * Removes all cached skeletons
+	 */
+	public synchronized void clear() {
+		fSkeletons.clear();
+	}
+
+	@Override
+	public void resourceChanged(IResourceChangeEvent event) {
+		clear();
+	}
+
+	@Override
+	public void hotCodeReplaceSucceeded(IJavaDebugTarget target) {
+		clear();
+	}
+
+	@Override
+	public void hotCodeReplaceFailed(IJavaDebugTarget target, DebugException exception) {
+	}
+
+	@Override
+	public void obsoleteMethods(IJavaDebugTarget target) {
+	}
+}
@@ -321,15 +321,42 @@ public class EvaluationSourceGenerator {
 	private void createEvaluationSourceFromSource(String source, IType type,
 			int line, boolean createInAStaticMethod, IJavaProject project)
 			throws DebugException {
+		String sourceLevel = toSupportedVersion(project.getOption(COMPILER_SOURCE, true));
+		EvaluationSourceCache cache = EvaluationSourceCache.getDefault();
+		EvaluationSourceCache.Key key = new EvaluationSourceCache.Key(type.getHandleIdentifier(), source, line, createInAStaticMethod,
+				fLocalVariableTypeNames, fLocalVariableNames, sourceLevel, project);
+		EvaluationSourceCache.Skeleton skeleton = cache.get(key);
+		if (skeleton == null) {
+			skeleton = createSkeleton(source, type, line, createInAStaticMethod, project, sourceLevel);
+			if (skeleton == null) {
+				return;
+			}
+			cache.put(key, skeleton);
+		}
+		String snippet = fCodeSnippet.trim();
+		setSource(skeleton.getSource(snippet));
+		setCompilationUnitName(skeleton.fCompilationUnitName);
+		setSnippetStart(skeleton.fSnippetStart);
+		setRunMethodStart(skeleton.fRunMethodStart);
+		setRunMethodLength(skeleton.fRunMethodLength + snippet.length());
+	}
+
+	/**
+	 * Generates the evaluation source for the given context with an empty code snippet.
+	 *
+	 * @return the generated source or <code>null</code> if no source can be generated
+	 */
+	private EvaluationSourceCache.Skeleton createSkeleton(String source, IType type,
+			int line, boolean createInAStaticMethod, IJavaProject project, String sourceLevel)
+			throws DebugException {
 		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
 		parser.setSource(source.toCharArray());
 		Map<String, String> options = getCompilerOptions(project);
-		String sourceLevel = toSupportedVersion(project.getOption(COMPILER_SOURCE, true));
 		parser.setCompilerOptions(options);
 		CompilationUnit unit = (CompilationUnit) parser.createAST(null);
 		SourceBasedSourceGenerator visitor = new SourceBasedSourceGenerator(
 				type, line, createInAStaticMethod, fLocalVariableTypeNames,
-				fLocalVariableNames, fCodeSnippet, sourceLevel);
+				fLocalVariableNames, "", sourceLevel); //$NON-NLS-1$
 		unit.accept(visitor);
 
 		if (visitor.hasError()) {
@@ -340,13 +367,12 @@ public class EvaluationSourceGenerator {
 
 		String sourceRes = visitor.getSource();
 		if (sourceRes == null) {
-			return;
+			return null;
 		}
-		setSource(sourceRes);
-		setCompilationUnitName(visitor.getCompilationUnitName());
-		setSnippetStart(visitor.getSnippetStart());
-		setRunMethodStart(visitor.getRunMethodStart());
-		setRunMethodLength(visitor.getRunMethodLength());
+		// the snippet is inserted on its own line after the opening brace of the run method
+		return new EvaluationSourceCache.Skeleton(sourceRes, visitor.getCompilationUnitName(),
+				visitor.getSnippetStart(), visitor.getRunMethodStart(), visitor.getRunMethodLength(),
+				visitor.getSnippetStart() + 2);
 	}
 
 	/**
@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.eval.ast.engine;
+
+import org.eclipse.jdt.debug.eval.IEvaluationResult;
+
+/**
+ * Results of a batch of evaluations are reported to a batch evaluation listener once all evaluations of the batch have completed.
+ *
+ * @see ASTEvaluationEngine#evaluateExpressions(org.eclipse.jdt.debug.eval.ICompiledExpression[], org.eclipse.jdt.debug.core.IJavaStackFrame,
+ *      IBatchEvaluationListener, int, boolean)
+ */
+public interface IBatchEvaluationListener {
+
+	/**
+	 * Notifies this listener that a batch of evaluations has completed, with the given results.
+	 *
+	 * @param results
+	 *            the results, in the order of the evaluated expressions
+	 */
+	public void evaluationsComplete(IEvaluationResult[] results);
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,13 +18,14 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Stack;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
@@ -39,13 +40,21 @@ public class Interpreter {
 	private final Instruction[] fInstructions;
 	private int fInstructionCounter;
 	private final IRuntimeContext fContext;
-	private Stack<Object> fStack;
+	/**
+	 * The operand stack while the interpreter executes, taken from the pool of
+	 * the executing thread
+	 */
+	private OperandStack fStack;
+	/**
+	 * The top of the operand stack when the execution completed
+	 */
+	private Object fTop;
 	private IJavaValue fLastValue;
 
 	/**
-	 * The list of internal variables
+	 * The list of internal variables, created on demand
 	 */
-	private final Map<String, IVariable> fInternalVariables;
+	private Map<String, IVariable> fInternalVariables;
 
 	/**
 	 * List of objects for which GC has been disabled
@@ -57,12 +66,12 @@ public class Interpreter {
 	public Interpreter(InstructionSequence instructions, IRuntimeContext context) {
 		fInstructions = instructions.getInstructions();
 		fContext = context;
-		fInternalVariables = new HashMap<>();
 	}
 
 	public void execute(boolean disableGcOnResult) throws CoreException {
 		try {
 			reset();
+			fStack = OperandStack.acquire(fInstructions.length);
 			while (fInstructionCounter < fInstructions.length && !fStopped) {
 				Instruction instruction = fInstructions[fInstructionCounter++];
 				instruction.setInterpreter(this);
@@ -75,6 +84,11 @@ public class Interpreter {
 			throw new CoreException(new Status(IStatus.ERROR,
 					JDIDebugModel.getPluginIdentifier(), e.getMessage(), e));
 		} finally {
+			if (fStack != null) {
+				fTop = fStack.isEmpty() ? null : pop();
+				fStack.release();
+				fStack = null;
+			}
 			releaseObjects(disableGcOnResult);
 		}
 	}
@@ -84,7 +98,7 @@ public class Interpreter {
 	}
 
 	private void reset() {
-		fStack = new Stack<>();
+		fTop = null;
 		fInstructionCounter = 0;
 	}
 
@@ -107,6 +121,30 @@ public class Interpreter {
 		}
 	}
 
+	/**
+	 * Pushes an int onto the stack, without creating a value in the target
+	 * until the operand is needed as a value.
+	 */
+	public void pushInt(int value) {
+		fStack.pushInt(value);
+	}
+
+	/**
+	 * Pushes a long onto the stack, without creating a value in the target
+	 * until the operand is needed as a value.
+	 */
+	public void pushLong(long value) {
+		fStack.pushLong(value);
+	}
+
+	/**
+	 * Pushes a boolean onto the stack, without creating a value in the target
+	 * until the operand is needed as a value.
+	 */
+	public void pushBoolean(boolean value) {
+		fStack.pushBoolean(value);
+	}
+
 	/**
 	 * Avoid garbage collecting interim results.
 	 *
@@ -158,14 +196,91 @@ public class Interpreter {
 	 * Peeks at the top object of the stack
 	 */
 	public Object peek() {
-		return fStack.peek();
+		int type = fStack.getPrimitiveType(0);
+		if (type != Instruction.T_undefined) {
+			// keep the value, so that it is created only once
+			fStack.set(0, newValue(type, fStack.getPrimitive(0)));
+		}
+		return fStack.get(0);
 	}
 
 	/**
 	 * Pops an object off of the stack
 	 */
 	public Object pop() {
-		return fStack.pop();
+		int type = fStack.getPrimitiveType(0);
+		Object top = type == Instruction.T_undefined ? fStack.get(0) : newValue(type, fStack.getPrimitive(0));
+		fStack.drop();
+		return top;
+	}
+
+	/**
+	 * Returns whether the operand at the given depth of the stack is a
+	 * primitive. A variable at that depth is replaced by its value.
+	 *
+	 * @param depth
+	 *            depth of the operand, <code>0</code> for the top of the stack
+	 */
+	public boolean isPrimitiveOperand(int depth) throws CoreException {
+		if (fStack.getPrimitiveType(depth) != Instruction.T_undefined) {
+			return true;
+		}
+		Object operand = fStack.get(depth);
+		if (operand instanceof IJavaVariable) {
+			operand = ((IJavaVariable) operand).getValue();
+			fStack.set(depth, operand);
+			if (operand instanceof IJavaObject) {
+				disableCollection((IJavaObject) operand);
+			}
+		}
+		return operand instanceof IJavaPrimitiveValue;
+	}
+
+	/**
+	 * Pops a primitive operand of an integral type off of the stack
+	 *
+	 * @see #isPrimitiveOperand(int)
+	 */
+	public long popLong() throws CoreException {
+		long value;
+		if (fStack.getPrimitiveType(0) != Instruction.T_undefined) {
+			value = fStack.getPrimitive(0);
+		} else {
+			value = ((IJavaPrimitiveValue) fStack.get(0)).getLongValue();
+		}
+		fStack.drop();
+		return value;
+	}
+
+	/**
+	 * Pops a primitive operand of type boolean off of the stack
+	 *
+	 * @see #isPrimitiveOperand(int)
+	 */
+	public boolean popBoolean() throws CoreException {
+		boolean value;
+		if (fStack.getPrimitiveType(0) != Instruction.T_undefined) {
+			value = fStack.getPrimitive(0) != 0;
+		} else {
+			value = ((IJavaPrimitiveValue) fStack.get(0)).getBooleanValue();
+		}
+		fStack.drop();
+		return value;
+	}
+
+	/**
+	 * Creates the value of a primitive operand in the target
+	 */
+	private IJavaValue newValue(int type, long value) {
+		IJavaDebugTarget target = fContext.getVM();
+		switch (type) {
+		case Instruction.T_int:
+			return target.newValue((int) value);
+		case Instruction.T_long:
+			return target.newValue(value);
+		default:
+			return target.newValue(value != 0);
+		}
 	}
 
 	/**
@@ -176,13 +291,13 @@ public class Interpreter {
 	}
 
 	public IJavaValue getResult() {
-		if (fStack == null || fStack.isEmpty()) {
+		Object top = fStack == null ? fTop : fStack.isEmpty() ? null : peek();
+		if (top == null) {
 			if (fLastValue == null) {
 				return getContext().getVM().voidValue();
 			}
 			return fLastValue;
 		}
-		Object top = fStack.peek();
 		if (top instanceof IJavaVariable) {
 			try {
 				return (IJavaValue) ((IJavaVariable) top).getValue();
@@ -214,6 +329,9 @@ public class Interpreter {
 	public IVariable createInternalVariable(String name, IJavaType referencType) {
 		IVariable var = new InterpreterVariable(name, referencType,
 				fContext.getVM());
+		if (fInternalVariables == null) {
+			fInternalVariables = new HashMap<>();
+		}
 		fInternalVariables.put(name, var);
 		return var;
 	}
@@ -229,6 +347,9 @@ public class Interpreter {
 	 *         none.
 	 */
 	public IVariable getInternalVariable(String name) {
+		if (fInternalVariables == null) {
+			return null;
+		}
 		return fInternalVariables.get(name);
 	}
 }
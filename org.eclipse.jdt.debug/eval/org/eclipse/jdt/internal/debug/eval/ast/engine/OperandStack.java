@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.eval.ast.engine;
+
+import java.util.ArrayDeque;
+
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.Instruction;
+
+/**
+ * Unsynchronized operand stack of an interpreter. Operands of type <code>int</code>, <code>long</code> and <code>boolean</code> are kept as
+ * primitives in a parallel array until the interpreter needs them as values of the target. Operand stacks are pooled per thread, so that an
+ * evaluation does not allocate a new stack, and nested evaluations on the same thread use different stacks.
+ */
+final class OperandStack {
+
+	/**
+	 * Maximum number of idle stacks kept per thread
+	 */
+	private static final int POOL_SIZE = 4;
+
+	private static final ThreadLocal<ArrayDeque<OperandStack>> fgPool = ThreadLocal.withInitial(ArrayDeque::new);
+
+	/**
+	 * Marks a slot holding a primitive operand, by its type id
+	 */
+	private static final class Primitive {
+		final int fTypeId;
+
+		Primitive(int typeId) {
+			fTypeId = typeId;
+		}
+	}
+
+	private static final Primitive INT = new Primitive(Instruction.T_int);
+	private static final Primitive LONG = new Primitive(Instruction.T_long);
+	private static final Primitive BOOLEAN = new Primitive(Instruction.T_boolean);
+
+	private Object[] fElements;
+	private long[] fPrimitives;
+	private int fSize;
+
+	private OperandStack(int capacity) {
+		fElements = new Object[capacity];
+		fPrimitives = new long[capacity];
+	}
+
+	/**
+	 * Returns an empty stack from the pool of the current thread, or a new one
+	 *
+	 * @param capacity
+	 *            expected maximum depth of the stack
+	 */
+	static OperandStack acquire(int capacity) {
+		OperandStack stack = fgPool.get().pollFirst();
+		if (stack == null) {
+			return new OperandStack(Math.max(capacity, 8));
+		}
+		stack.ensureCapacity(capacity);
+		return stack;
+	}
+
+	/**
+	 * Clears this stack and returns it to the pool of the current thread
+	 */
+	void release() {
+		while (fSize > 0) {
+			fElements[--fSize] = null;
+		}
+		ArrayDeque<OperandStack> pool = fgPool.get();
+		if (pool.size() < POOL_SIZE) {
+			pool.addFirst(this);
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (capacity > fElements.length) {
+			int length = Math.max(capacity, fElements.length * 2);
+			Object[] elements = new Object[length];
+			System.arraycopy(fElements, 0, elements, 0, fSize);
+			long[] primitives = new long[length];
+			System.arraycopy(fPrimitives, 0, primitives, 0, fSize);
+			fElements = elements;
+			fPrimitives = primitives;
+		}
+	}
+
+	boolean isEmpty() {
+		return fSize == 0;
+	}
+
+	void push(Object element) {
+		ensureCapacity(fSize + 1);
+		fElements[fSize++] = element;
+	}
+
+	void pushInt(int value) {
+		pushPrimitive(INT, value);
+	}
+
+	void pushLong(long value) {
+		pushPrimitive(LONG, value);
+	}
+
+	void pushBoolean(boolean value) {
+		pushPrimitive(BOOLEAN, value ? 1 : 0);
+	}
+
+	private void pushPrimitive(Primitive type, long value) {
+		ensureCapacity(fSize + 1);
+		fPrimitives[fSize] = value;
+		fElements[fSize++] = type;
+	}
+
+	/**
+	 * Returns the type id of the primitive operand at the given depth, or {@link Instruction#T_undefined} if the operand is not kept as a primitive
+	 */
+	int getPrimitiveType(int depth) {
+		Object element = fElements[fSize - 1 - depth];
+		return element instanceof Primitive primitive ? primitive.fTypeId : Instruction.T_undefined;
+	}
+
+	/**
+	 * Returns the primitive operand at the given depth. Booleans are answered as <code>0</code> or <code>1</code>.
+	 */
+	long getPrimitive(int depth) {
+		return fPrimitives[fSize - 1 - depth];
+	}
+
+	/**
+	 * Returns the operand at the given depth, which must not be a primitive operand
+	 */
+	Object get(int depth) {
+		return fElements[fSize - 1 - depth];
+	}
+
+	/**
+	 * Replaces the operand at the given depth
+	 */
+	void set(int depth, Object element) {
+		fElements[fSize - 1 - depth] = element;
+	}
+
+	/**
+	 * Removes the top operand
+	 */
+	void drop() {
+		fElements[--fSize] = null;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -83,6 +83,9 @@ public abstract class BinaryOperator extends CompoundInstruction {
 	}
 
 	private void executeBinary() throws CoreException {
+		if (executePrimitive()) {
+			return;
+		}
 		IJavaValue right = popValue();
 		IJavaValue left = popValue();
 
@@ -108,6 +111,191 @@ public abstract class BinaryOperator extends CompoundInstruction {
 		}
 	}
 
+	/**
+	 * Computes the result of this operator from operands of integral or boolean
+	 * types that are primitives on the stack, without creating values in the
+	 * target for the operands.
+	 *
+	 * @return whether the result was computed
+	 */
+	private boolean executePrimitive() throws CoreException {
+		boolean isBoolean = fLeftTypeId == T_boolean && fRightTypeId == T_boolean;
+		if (!isBoolean && !(isIntegral(fLeftTypeId) && isIntegral(fRightTypeId))) {
+			return false;
+		}
+		if (fResultTypeId != T_int && fResultTypeId != T_long && fResultTypeId != T_boolean) {
+			return false;
+		}
+		if (!isPrimitiveOperand(0) || !isPrimitiveOperand(1)) {
+			return false;
+		}
+		if (isBoolean) {
+			boolean right = popBoolean();
+			boolean left = popBoolean();
+			Boolean result = evaluate(left, right);
+			if (result == null) {
+				pushNewValue(left);
+				pushNewValue(right);
+				return false;
+			}
+			pushNewValue(result.booleanValue());
+			return true;
+		}
+		long right = popLong();
+		long left = popLong();
+		if (fResultTypeId == T_boolean) {
+			Boolean result = compare(left, right);
+			if (result == null) {
+				pushOperand(left, fLeftTypeId);
+				pushOperand(right, fRightTypeId);
+				return false;
+			}
+			pushNewValue(result.booleanValue());
+			return true;
+		}
+		Long result = evaluate(left, right, fResultTypeId == T_long);
+		if (result == null) {
+			// let the operator report the error
+			pushOperand(left, fLeftTypeId);
+			pushOperand(right, fRightTypeId);
+			return false;
+		}
+		if (fResultTypeId == T_long) {
+			pushNewValue(result.longValue());
+		} else {
+			pushNewValue(result.intValue());
+		}
+		return true;
+	}
+
+	private static boolean isIntegral(int typeId) {
+		switch (typeId) {
+		case T_int:
+		case T_long:
+		case T_short:
+		case T_byte:
+		case T_char:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * Pushes back an operand popped by {@link #executePrimitive()}
+	 */
+	private void pushOperand(long value, int typeId) {
+		switch (typeId) {
+		case T_long:
+			pushNewValue(value);
+			break;
+		case T_short:
+			pushNewValue((short) value);
+			break;
+		case T_byte:
+			pushNewValue((byte) value);
+			break;
+		case T_char:
+			pushNewValue((char) value);
+			break;
+		default:
+			pushNewValue((int) value);
+			break;
+		}
+	}
+
+	/**
+	 * Returns the result of this operator on integral operands, or
+	 * <code>null</code> if this operator does not apply to them or the result
+	 * is an error, such as a division by zero.
+	 *
+	 * @param isLong
+	 *            whether the operation is performed on longs rather than ints
+	 */
+	Long evaluate(long left, long right, boolean isLong) {
+		if (fIsAssignmentOperator) {
+			return null;
+		}
+		long result;
+		if (this instanceof PlusOperator) {
+			result = left + right;
+		} else if (this instanceof MinusOperator) {
+			result = left - right;
+		} else if (this instanceof MultiplyOperator) {
+			result = left * right;
+		} else if (this instanceof DivideOperator || this instanceof RemainderOperator) {
+			if (right == 0) {
+				return null;
+			}
+			if (isLong) {
+				result = this instanceof DivideOperator ? left / right : left % right;
+			} else {
+				result = this instanceof DivideOperator ? (int) left / (int) right : (int) left % (int) right;
+			}
+		} else if (this instanceof AndOperator) {
+			result = left & right;
+		} else if (this instanceof OrOperator) {
+			result = left | right;
+		} else if (this instanceof XorOperator) {
+			result = left ^ right;
+		} else if (this instanceof LeftShiftOperator) {
+			result = isLong ? left << right : (int) left << (int) right;
+		} else if (this instanceof RightShiftOperator) {
+			result = isLong ? left >> right : (int) left >> (int) right;
+		} else if (this instanceof UnsignedRightShiftOperator) {
+			result = isLong ? left >>> right : (int) left >>> (int) right;
+		} else {
+			return null;
+		}
+		return Long.valueOf(isLong ? result : (int) result);
+	}
+
+	/**
+	 * Returns the result of this operator on boolean operands, or
+	 * <code>null</code> if this operator does not apply to them.
+	 */
+	Boolean evaluate(boolean left, boolean right) {
+		if (fIsAssignmentOperator) {
+			return null;
+		}
+		if (this instanceof AndOperator) {
+			return Boolean.valueOf(left & right);
+		}
+		if (this instanceof OrOperator) {
+			return Boolean.valueOf(left | right);
+		}
+		if (this instanceof XorOperator) {
+			return Boolean.valueOf(left ^ right);
+		}
+		if (this instanceof EqualEqualOperator) {
+			return Boolean.valueOf((left == right) == ((EqualEqualOperator) this).isEquals());
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the result of this comparison operator on integral operands, or
+	 * <code>null</code> if this operator is not a comparison.
+	 */
+	Boolean compare(long left, long right) {
+		if (this instanceof EqualEqualOperator) {
+			return Boolean.valueOf((left == right) == ((EqualEqualOperator) this).isEquals());
+		}
+		if (this instanceof LessOperator) {
+			return Boolean.valueOf(left < right);
+		}
+		if (this instanceof LessEqualOperator) {
+			return Boolean.valueOf(left <= right);
+		}
+		if (this instanceof GreaterOperator) {
+			return Boolean.valueOf(left > right);
+		}
+		if (this instanceof GreaterEqualOperator) {
+			return Boolean.valueOf(left >= right);
+		}
+		return null;
+	}
+
 	private IJavaValue getByteValueResult(IJavaValue leftOperand,
 			IJavaValue rightOperand) throws CoreException {
 		switch (getInternResultType()) {
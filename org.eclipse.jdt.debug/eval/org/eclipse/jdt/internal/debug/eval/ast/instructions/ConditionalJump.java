@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,11 +26,25 @@ public class ConditionalJump extends Jump {
 		fJumpOnTrue = jumpOnTrue;
 	}
 
+	/**
+	 * Returns whether this instruction jumps when the condition is
+	 * <code>true</code>
+	 */
+	boolean isJumpOnTrue() {
+		return fJumpOnTrue;
+	}
+
 	/*
 	 * @see Instruction#execute()
 	 */
 	@Override
 	public void execute() throws CoreException {
+		if (isPrimitiveOperand(0)) {
+			if (!(fJumpOnTrue ^ popBoolean())) {
+				jump(fOffset);
+			}
+			return;
+		}
 		IJavaValue conditionValue = popValue();
 		IJavaPrimitiveValue condition = null;
 		if (conditionValue instanceof IJavaPrimitiveValue) {
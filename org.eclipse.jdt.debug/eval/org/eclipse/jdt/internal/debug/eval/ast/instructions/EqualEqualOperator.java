@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,14 @@ public class EqualEqualOperator extends BinaryOperator {
 		fIsEquals = isEquals;
 	}
 
+	/**
+	 * Returns whether this is an <code>==</code> rather than a
+	 * <code>!=</code> operator
+	 */
+	boolean isEquals() {
+		return fIsEquals;
+	}
+
 	/*
 	 * @see BinaryOperator#getBooleanResult(IJavaValue, IJavaValue)
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -115,8 +115,27 @@ public abstract class Instruction {
 		return (IJavaValue) element;
 	}
 
+	/**
+	 * Returns whether the operand at the given depth of the stack is a
+	 * primitive, which can be popped with {@link #popLong()} or
+	 * {@link #popBoolean()} without creating a value in the target.
+	 *
+	 * @see Interpreter#isPrimitiveOperand(int)
+	 */
+	protected boolean isPrimitiveOperand(int depth) throws CoreException {
+		return fInterpreter.isPrimitiveOperand(depth);
+	}
+
+	protected long popLong() throws CoreException {
+		return fInterpreter.popLong();
+	}
+
+	protected boolean popBoolean() throws CoreException {
+		return fInterpreter.popBoolean();
+	}
+
 	protected void pushNewValue(boolean value) {
-		fInterpreter.push(newValue(value));
+		fInterpreter.pushBoolean(value);
 	}
 
 	protected IJavaValue newValue(boolean value) {
@@ -140,7 +159,7 @@ public abstract class Instruction {
 	}
 
 	protected void pushNewValue(int value) {
-		fInterpreter.push(newValue(value));
+		fInterpreter.pushInt(value);
 	}
 
 	protected IJavaValue newValue(int value) {
@@ -148,7 +167,7 @@ public abstract class Instruction {
 	}
 
 	protected void pushNewValue(long value) {
-		fInterpreter.push(newValue(value));
+		fInterpreter.pushLong(value);
 	}
 
 	protected IJavaValue newValue(long value) {
@@ -0,0 +1,527 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.eval.ast.instructions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Optimizes the instructions of a compiled expression before it is evaluated. The optimizer
+ * <ul>
+ * <li>folds operators and conditional jumps whose operands are literals,</li>
+ * <li>removes no-ops, jumps to the next instruction and code that cannot be reached, and makes jumps to unconditional jumps go to the final
+ * target,</li>
+ * <li>keeps the value of a repeated chain of variable and field reads such as <code>a.b</code> in
+ * <code>a.b.c == 42 &amp;&amp; a.b.d &gt; 0</code> in a temporary, so that it is read from the target only once.</li>
+ * </ul>
+ * Sequences which assign a variable or contain a loop are not subject to common subexpression elimination, and a chain is only reused while no
+ * instruction that may have side effects (such as a message send) has been executed since it was read.
+ */
+public class InstructionOptimizer {
+
+	/**
+	 * Maximum number of folding and jump elimination passes
+	 */
+	private static final int MAX_PASSES = 8;
+
+	/**
+	 * The instructions being optimized
+	 */
+	private List<Instruction> fCode;
+
+	/**
+	 * Maps each jump to the instruction it jumps to, or to <code>null</code> when it jumps to the end of the sequence. Targets are kept as
+	 * instructions rather than addresses while the sequence is rewritten, and turned back into offsets once it is done.
+	 */
+	private final Map<Jump, Instruction> fTargets = new IdentityHashMap<>();
+
+	/**
+	 * Number of temporaries allocated by common subexpression elimination
+	 */
+	private int fTemporaries;
+
+	private InstructionOptimizer(Instruction[] instructions) {
+		fCode = new ArrayList<>(Arrays.asList(instructions));
+	}
+
+	/**
+	 * Optimizes the given instruction sequence in place. Sequences with compilation errors are left unchanged.
+	 *
+	 * @param sequence
+	 *            the instruction sequence to optimize
+	 */
+	public static void optimize(InstructionSequence sequence) {
+		if (sequence.hasErrors() || sequence.isEmpty()) {
+			return;
+		}
+		InstructionOptimizer optimizer = new InstructionOptimizer(sequence.getInstructions());
+		if (!optimizer.resolveTargets()) {
+			return;
+		}
+		int passes = 0;
+		boolean changed;
+		do {
+			changed = optimizer.foldConstants();
+			changed |= optimizer.removeDeadJumps();
+		} while (changed && ++passes < MAX_PASSES);
+		optimizer.eliminateCommonSubexpressions();
+		optimizer.updateOffsets();
+		sequence.setInstructions(optimizer.fCode);
+	}
+
+	/**
+	 * Computes the target of each jump from its offset.
+	 *
+	 * @return whether all jumps have a target within the sequence
+	 */
+	private boolean resolveTargets() {
+		int size = fCode.size();
+		for (int i = 0; i < size; i++) {
+			if (fCode.get(i) instanceof Jump jump) {
+				int target = i + 1 + jump.fOffset;
+				if (target < 0 || target > size) {
+					return false;
+				}
+				fTargets.put(jump, target == size ? null : fCode.get(target));
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the offset of each jump from its target.
+	 */
+	private void updateOffsets() {
+		Map<Instruction, Integer> addresses = new IdentityHashMap<>();
+		for (int i = 0; i < fCode.size(); i++) {
+			addresses.put(fCode.get(i), i);
+		}
+		for (Map.Entry<Jump, Instruction> entry : fTargets.entrySet()) {
+			Instruction target = entry.getValue();
+			int address = target == null ? fCode.size() : addresses.get(target);
+			entry.getKey().setOffset(address - addresses.get(entry.getKey()) - 1);
+		}
+	}
+
+	private boolean isTarget(Instruction instruction) {
+		return fTargets.containsValue(instruction);
+	}
+
+	/**
+	 * Replaces the instructions from <code>start</code> (inclusive) to <code>end</code> (exclusive) with the given instruction. Jumps to the first
+	 * replaced instruction go to the replacement, or to the instruction following the replaced ones if the replacement is <code>null</code>. None of
+	 * the other replaced instructions may be the target of a jump.
+	 */
+	private void replace(int start, int end, Instruction replacement) {
+		Instruction first = fCode.get(start);
+		Instruction target = replacement;
+		if (target == null && end < fCode.size()) {
+			target = fCode.get(end);
+		}
+		for (Map.Entry<Jump, Instruction> entry : fTargets.entrySet()) {
+			if (entry.getValue() == first) {
+				entry.setValue(target);
+			}
+		}
+		List<Instruction> replaced = fCode.subList(start, end);
+		for (Instruction instruction : replaced) {
+			if (instruction instanceof Jump jump) {
+				fTargets.remove(jump);
+			}
+		}
+		replaced.clear();
+		if (replacement != null) {
+			fCode.add(start, replacement);
+		}
+	}
+
+	/**
+	 * Folds operators whose operands are literals, and conditional jumps on a boolean literal.
+	 *
+	 * @return whether the sequence changed
+	 */
+	private boolean foldConstants() {
+		boolean changed = false;
+		for (int i = 0; i < fCode.size(); i++) {
+			Instruction instruction = fCode.get(i);
+			if (i < 1 || isTarget(instruction)) {
+				continue;
+			}
+			if (instruction instanceof BinaryOperator operator) {
+				if (i >= 2 && !isTarget(fCode.get(i - 1))) {
+					Instruction folded = fold(operator, constant(fCode.get(i - 2)), constant(fCode.get(i - 1)));
+					if (folded != null) {
+						replace(i - 2, i + 1, folded);
+						i -= 2;
+						changed = true;
+					}
+				}
+			} else if (instruction instanceof UnaryOperator operator) {
+				Instruction folded = fold(operator, constant(fCode.get(i - 1)));
+				if (folded != null) {
+					replace(i - 1, i + 1, folded);
+					i--;
+					changed = true;
+				}
+			} else if (instruction instanceof ConditionalJump jump && fCode.get(i - 1) instanceof PushBoolean condition) {
+				if (jump.isJumpOnTrue() == condition.getValue()) {
+					Jump always = new Jump();
+					fTargets.put(always, fTargets.get(jump));
+					replace(i - 1, i + 1, always);
+				} else {
+					replace(i - 1, i + 1, null);
+				}
+				i--;
+				changed = true;
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Returns the value pushed by the given literal instruction, or <code>null</code> if it is not a literal.
+	 */
+	private static Object constant(Instruction instruction) {
+		if (instruction instanceof PushInt push) {
+			return Integer.valueOf(push.getValue());
+		}
+		if (instruction instanceof PushLong push) {
+			return Long.valueOf(push.getValue());
+		}
+		if (instruction instanceof PushBoolean push) {
+			return Boolean.valueOf(push.getValue());
+		}
+		if (instruction instanceof PushChar push) {
+			return Character.valueOf(push.getValue());
+		}
+		if (instruction instanceof PushString push) {
+			return push.getValue();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns whether the given literal value has the given type
+	 */
+	private static boolean hasType(Object value, int typeId) {
+		switch (typeId) {
+			case Instruction.T_int:
+				return value instanceof Integer;
+			case Instruction.T_long:
+				return value instanceof Long || value instanceof Integer;
+			case Instruction.T_boolean:
+				return value instanceof Boolean;
+			case Instruction.T_char:
+				return value instanceof Character;
+			case Instruction.T_String:
+				return value instanceof String;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Returns a literal instruction pushing the result of the given binary operator on the given literal values, or <code>null</code> if the
+	 * operation cannot be folded.
+	 */
+	private static Instruction fold(BinaryOperator operator, Object left, Object right) {
+		if (left == null || right == null || operator.fIsAssignmentOperator || !hasType(left, operator.fLeftTypeId)
+				|| !hasType(right, operator.fRightTypeId)) {
+			return null;
+		}
+		switch (operator.fResultTypeId) {
+			case Instruction.T_int:
+				if (left instanceof Integer l && right instanceof Integer r) {
+					Long result = operator.evaluate(l.longValue(), r.longValue(), false);
+					return result == null ? null : new PushInt(result.intValue());
+				}
+				return null;
+			case Instruction.T_long:
+				if (left instanceof Number l && right instanceof Number r) {
+					Long result = operator.evaluate(l.longValue(), r.longValue(), true);
+					return result == null ? null : new PushLong(result.longValue());
+				}
+				return null;
+			case Instruction.T_boolean:
+				Boolean result = null;
+				if (left instanceof Boolean l && right instanceof Boolean r) {
+					result = operator.evaluate(l.booleanValue(), r.booleanValue());
+				} else if (left instanceof Number l && right instanceof Number r) {
+					result = operator.compare(l.longValue(), r.longValue());
+				}
+				return result == null ? null : new PushBoolean(result.booleanValue());
+			case Instruction.T_String:
+				if (operator instanceof PlusOperator) {
+					return new PushString(String.valueOf(left) + String.valueOf(right));
+				}
+				return null;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Returns a literal instruction pushing the result of the given unary operator on the given literal value, or <code>null</code> if the
+	 * operation cannot be folded.
+	 */
+	private static Instruction fold(UnaryOperator operator, Object value) {
+		if (value == null || !hasType(value, operator.fExpressionTypeId)) {
+			return null;
+		}
+		if (operator instanceof NotOperator) {
+			return value instanceof Boolean b ? new PushBoolean(!b.booleanValue()) : null;
+		}
+		if (!(value instanceof Number number)) {
+			return null;
+		}
+		long result;
+		if (operator instanceof UnaryMinusOperator) {
+			result = -number.longValue();
+		} else if (operator instanceof TwiddleOperator) {
+			result = ~number.longValue();
+		} else if (operator instanceof UnaryPlusOperator) {
+			result = number.longValue();
+		} else {
+			return null;
+		}
+		if (operator.fExpressionTypeId == Instruction.T_long) {
+			return new PushLong(result);
+		}
+		return new PushInt((int) result);
+	}
+
+	private static boolean isUnconditionalJump(Instruction instruction) {
+		return instruction != null && instruction.getClass() == Jump.class;
+	}
+
+	/**
+	 * Removes no-ops, jumps to the next instruction and unreachable code, and redirects jumps to unconditional jumps to their final target.
+	 *
+	 * @return whether the sequence changed
+	 */
+	private boolean removeDeadJumps() {
+		boolean changed = false;
+		for (Map.Entry<Jump, Instruction> entry : fTargets.entrySet()) {
+			Instruction target = entry.getValue();
+			int hops = 0;
+			while (isUnconditionalJump(target) && target != entry.getKey() && hops++ < fCode.size()) {
+				target = fTargets.get(target);
+			}
+			if (target != entry.getValue() && hops <= fCode.size()) {
+				entry.setValue(target);
+				changed = true;
+			}
+		}
+		for (int i = 0; i < fCode.size(); i++) {
+			Instruction instruction = fCode.get(i);
+			if (instruction instanceof NoOp) {
+				replace(i, i + 1, null);
+				i--;
+				changed = true;
+			} else if (isUnconditionalJump(instruction)) {
+				Instruction next = i + 1 < fCode.size() ? fCode.get(i + 1) : null;
+				if (fTargets.get(instruction) == next) {
+					replace(i, i + 1, null);
+					i--;
+					changed = true;
+					continue;
+				}
+				int end = i + 1;
+				while (end < fCode.size() && !isTarget(fCode.get(end))) {
+					end++;
+				}
+				if (end > i + 1) {
+					replace(i + 1, end, null);
+					changed = true;
+				}
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Returns whether the given instruction reads state of the target without modifying it
+	 */
+	private static boolean isPure(Instruction instruction) {
+		if (instruction instanceof SimpleInstruction || instruction instanceof Pop || instruction instanceof NoOp
+				|| instruction instanceof PushFieldVariable || instruction instanceof PushStaticFieldVariable
+				|| instruction instanceof ArrayAccess || instruction instanceof InstanceOfOperator || instruction instanceof Cast
+				|| instruction instanceof UnaryOperator) {
+			return true;
+		}
+		if (instruction instanceof BinaryOperator operator) {
+			if (operator.fIsAssignmentOperator) {
+				return false;
+			}
+			// string concatenation sends toString() to objects
+			return operator.fResultTypeId != Instruction.T_String
+					|| (operator.fLeftTypeId != Instruction.T_Object && operator.fRightTypeId != Instruction.T_Object);
+		}
+		return false;
+	}
+
+	/**
+	 * Returns whether the given instruction modifies a variable
+	 */
+	private static boolean isAssignment(Instruction instruction) {
+		return instruction instanceof AssignmentOperator || instruction instanceof XfixOperator || instruction instanceof LocalVariableCreation
+				|| (instruction instanceof BinaryOperator operator && operator.fIsAssignmentOperator);
+	}
+
+	/**
+	 * Returns whether the given instruction may start a chain of variable reads
+	 */
+	private static boolean isChainStart(Instruction instruction) {
+		return instruction instanceof PushLocalVariable || instruction instanceof PushThis || instruction instanceof PushStaticFieldVariable;
+	}
+
+	/**
+	 * Returns a key identifying the variable read by the given instruction of a chain
+	 */
+	private static String key(Instruction instruction) {
+		if (instruction instanceof PushLocalVariable push) {
+			return "L" + push.getName(); //$NON-NLS-1$
+		}
+		if (instruction instanceof PushThis push) {
+			return "T" + push.getEnclosingLevel(); //$NON-NLS-1$
+		}
+		if (instruction instanceof PushStaticFieldVariable push) {
+			return "S" + push.getQualifiedTypeName() + '.' + push.getFieldName(); //$NON-NLS-1$
+		}
+		PushFieldVariable push = (PushFieldVariable) instruction;
+		return "F" + push.getDeclaringTypeSignature() + '/' + push.getSuperClassLevel() + '.' + push.getName(); //$NON-NLS-1$
+	}
+
+	/**
+	 * A chain of variable reads whose value may be reused
+	 */
+	private static class Occurrence {
+		final int fStart;
+		final int fLength;
+		int fTemporary = -1;
+
+		Occurrence(int start, int length) {
+			fStart = start;
+			fLength = length;
+		}
+	}
+
+	/**
+	 * Replaces chains of variable and field reads that were already read with the value read the first time. The first read of a reused chain
+	 * stores its value in a temporary and later reads push the temporary.
+	 */
+	private void eliminateCommonSubexpressions() {
+		int size = fCode.size();
+		Map<Instruction, Integer> addresses = new IdentityHashMap<>();
+		for (int i = 0; i < size; i++) {
+			Instruction instruction = fCode.get(i);
+			if (isAssignment(instruction)) {
+				return;
+			}
+			addresses.put(instruction, i);
+		}
+		// for each address, the first address jumping to it
+		int[] firstSource = new int[size];
+		Arrays.fill(firstSource, Integer.MAX_VALUE);
+		for (Map.Entry<Jump, Instruction> entry : fTargets.entrySet()) {
+			int source = addresses.get(entry.getKey());
+			int target = entry.getValue() == null ? size : addresses.get(entry.getValue());
+			if (target <= source) {
+				// loop
+				return;
+			}
+			if (target < size) {
+				firstSource[target] = Math.min(firstSource[target], source);
+			}
+		}
+
+		Map<String, Occurrence> available = new HashMap<>();
+		Map<Integer, Occurrence> reuses = new HashMap<>();
+		for (int i = 0; i < size; i++) {
+			if (firstSource[i] != Integer.MAX_VALUE) {
+				// reads before the jump may have been skipped
+				int source = firstSource[i];
+				available.values().removeIf(occurrence -> occurrence.fStart > source);
+			}
+			Instruction instruction = fCode.get(i);
+			if (!isChainStart(instruction)) {
+				if (!isPure(instruction)) {
+					available.clear();
+				}
+				continue;
+			}
+			int end = i + 1;
+			while (end < size && fCode.get(end) instanceof PushFieldVariable && firstSource[end] == Integer.MAX_VALUE) {
+				end++;
+			}
+			String[] keys = new String[end - i];
+			StringBuilder key = new StringBuilder();
+			for (int j = i; j < end; j++) {
+				key.append(key(fCode.get(j))).append(';');
+				keys[j - i] = key.toString();
+			}
+			int reused = 0;
+			for (int length = keys.length; length >= 2; length--) {
+				Occurrence occurrence = available.get(keys[length - 1]);
+				if (occurrence != null) {
+					if (occurrence.fTemporary < 0) {
+						occurrence.fTemporary = fTemporaries++;
+					}
+					reuses.put(Integer.valueOf(i), occurrence);
+					reused = length;
+					break;
+				}
+			}
+			for (int length = Math.max(reused + 1, 2); length <= keys.length; length++) {
+				available.put(keys[length - 1], new Occurrence(i, length));
+			}
+			i = end - 1;
+		}
+		if (reuses.isEmpty()) {
+			return;
+		}
+
+		// occurrences storing their value, by the address of their last instruction
+		Map<Integer, Occurrence> stores = new HashMap<>();
+		for (Occurrence occurrence : reuses.values()) {
+			stores.put(Integer.valueOf(occurrence.fStart + occurrence.fLength - 1), occurrence);
+		}
+		List<Instruction> code = new ArrayList<>(size + stores.size());
+		for (int i = 0; i < size; i++) {
+			Instruction instruction = fCode.get(i);
+			Occurrence reuse = reuses.get(Integer.valueOf(i));
+			if (reuse != null) {
+				Instruction push = new PushTemporary(reuse.fTemporary);
+				for (Map.Entry<Jump, Instruction> entry : fTargets.entrySet()) {
+					if (entry.getValue() == instruction) {
+						entry.setValue(push);
+					}
+				}
+				code.add(push);
+				i += reuse.fLength - 1;
+				continue;
+			}
+			code.add(instruction);
+			Occurrence store = stores.get(Integer.valueOf(i));
+			if (store != null) {
+				code.add(new StoreTemporary(store.fTemporary));
+			}
+		}
+		fCode = code;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,11 @@ import org.eclipse.jdt.debug.eval.ICompiledExpression;
 public class InstructionSequence implements ICompiledExpression {
 
 	private final List<Instruction> fInstructions;
+	/**
+	 * The instructions as an array, shared by the evaluations of this
+	 * expression, or <code>null</code> if not computed yet
+	 */
+	private Instruction[] fInstructionArray;
 	/**
 	 * A collection of error messages (<code>String</code>) that occurred while
 	 * creating this expression
@@ -93,13 +98,14 @@ public class InstructionSequence implements ICompiledExpression {
 	}
 
 	/**
-	 * Answers the array of instructions, or an empty array.
+	 * Answers the array of instructions, or an empty array. The array is shared
+	 * and must not be modified.
 	 */
 	public Instruction[] getInstructions() {
-		int size = fInstructions.size();
-		Instruction[] instructions = new Instruction[size];
-		if (size > 0) {
-			fInstructions.toArray(instructions);
+		Instruction[] instructions = fInstructionArray;
+		if (instructions == null) {
+			instructions = fInstructions.toArray(new Instruction[fInstructions.size()]);
+			fInstructionArray = instructions;
 		}
 		return instructions;
 	}
@@ -116,6 +122,16 @@ public class InstructionSequence implements ICompiledExpression {
 	 */
 	public void add(Instruction instruction) {
 		fInstructions.add(instruction);
+		fInstructionArray = null;
+	}
+
+	/**
+	 * Replaces the instructions of this sequence with the given instructions
+	 */
+	void setInstructions(List<Instruction> instructions) {
+		fInstructions.clear();
+		fInstructions.addAll(instructions);
+		fInstructionArray = null;
 	}
 
 	public int indexOf(Instruction instruction) {
@@ -138,6 +154,7 @@ public class InstructionSequence implements ICompiledExpression {
 	 */
 	public void insert(Instruction instruction, int index) {
 		fInstructions.add(index, instruction);
+		fInstructionArray = null;
 	}
 
 	public Instruction get(int address) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,10 @@ public class NotOperator extends UnaryOperator {
 	 */
 	@Override
 	public void execute() throws CoreException {
+		if (isPrimitiveOperand(0)) {
+			pushNewValue(!popBoolean());
+			return;
+		}
 		IJavaPrimitiveValue value = (IJavaPrimitiveValue) popValue();
 		pushNewValue(!value.getBooleanValue());
 	}
@@ -0,0 +1,280 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.eval.ast.instructions;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdt.debug.core.IJavaArray;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaFieldVariable;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.internal.debug.core.model.JDINullValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
+
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.StringReference;
+
+/**
+ * Catalogue of side effect free JDK methods whose result is computed from the state of the receiver and the arguments, rather than by invoking
+ * the method in the target. Invoking a method resumes the evaluation thread and may deadlock with other suspended threads; the methods of the
+ * catalogue only need the contents of strings and field reads.
+ * <p>
+ * A method is only computed when the runtime type of the receiver is exactly the catalogued type, so that overriding methods are still
+ * invoked. Whenever a result cannot be computed, for instance because the method would throw an exception or a field does not exist in the
+ * target's class library, <code>null</code> is returned and the method is invoked in the target.
+ * </p>
+ */
+class PureMethods {
+
+	private static final String STRING = "java.lang.String"; //$NON-NLS-1$
+
+	private PureMethods() {
+	}
+
+	/**
+	 * Returns the result of sending the given message to the given receiver, or <code>null</code> if it must be invoked in the target.
+	 */
+	static IJavaValue invoke(IJavaObject receiver, String selector, String signature, IJavaValue[] args, IJavaDebugTarget target) throws DebugException {
+		if (!(receiver instanceof JDIObjectValue objectValue)) {
+			return null;
+		}
+		ObjectReference reference = objectValue.getUnderlyingObject();
+		if (reference == null) {
+			return null;
+		}
+		try {
+			if (reference instanceof StringReference string) {
+				return invokeString(string.value(), selector, signature, args, target);
+			}
+			String typeName = reference.referenceType().name();
+			switch (typeName) {
+				case "java.lang.Integer": //$NON-NLS-1$
+					return unbox(receiver, selector, signature, "intValue", "()I", "Ljava/lang/Integer;"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				case "java.lang.Long": //$NON-NLS-1$
+					return unbox(receiver, selector, signature, "longValue", "()J", "Ljava/lang/Long;"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				case "java.lang.Boolean": //$NON-NLS-1$
+					return unbox(receiver, selector, signature, "booleanValue", "()Z", "Ljava/lang/Boolean;"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				case "java.lang.Character": //$NON-NLS-1$
+					return unbox(receiver, selector, signature, "charValue", "()C", "Ljava/lang/Character;"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				case "java.lang.Short": //$NON-NLS-1$
+					return unbox(receiver, selector, signature, "shortValue", "()S", "Ljava/lang/Short;"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				case "java.lang.Byte": //$NON-NLS-1$
+					return unbox(receiver, selector, signature, "byteValue", "()B", "Ljava/lang/Byte;"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				case "java.lang.Float": //$NON-NLS-1$
+					return unbox(receiver, selector, signature, "floatValue", "()F", "Ljava/lang/Float;"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				case "java.lang.Double": //$NON-NLS-1$
+					return unbox(receiver, selector, signature, "doubleValue", "()D", "Ljava/lang/Double;"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				case "java.util.ArrayList": //$NON-NLS-1$
+					if ("get".equals(selector) && "(I)Ljava/lang/Object;".equals(signature)) { //$NON-NLS-1$ //$NON-NLS-2$
+						return arrayListGet(receiver, ((IJavaPrimitiveValue) args[0]).getIntValue());
+					}
+					return size(receiver, selector, signature, "size", "Ljava/util/ArrayList;", target); //$NON-NLS-1$ //$NON-NLS-2$
+				case "java.util.LinkedList": //$NON-NLS-1$
+					return size(receiver, selector, signature, "size", "Ljava/util/LinkedList;", target); //$NON-NLS-1$ //$NON-NLS-2$
+				case "java.util.Vector": //$NON-NLS-1$
+					return size(receiver, selector, signature, "elementCount", "Ljava/util/Vector;", target); //$NON-NLS-1$ //$NON-NLS-2$
+				case "java.util.HashMap": //$NON-NLS-1$
+				case "java.util.LinkedHashMap": //$NON-NLS-1$
+					return size(receiver, selector, signature, "size", "Ljava/util/HashMap;", target); //$NON-NLS-1$ //$NON-NLS-2$
+				case "java.util.TreeMap": //$NON-NLS-1$
+					return size(receiver, selector, signature, "size", "Ljava/util/TreeMap;", target); //$NON-NLS-1$ //$NON-NLS-2$
+				case "java.util.HashSet": //$NON-NLS-1$
+				case "java.util.LinkedHashSet": //$NON-NLS-1$
+					if (isSizeQuery(selector, signature)) {
+						IJavaValue map = fieldValue(receiver, "map", "Ljava/util/HashSet;"); //$NON-NLS-1$ //$NON-NLS-2$
+						if (map instanceof IJavaObject mapObject && !(map instanceof JDINullValue)) {
+							return size(mapObject, selector, signature, "size", "Ljava/util/HashMap;", target); //$NON-NLS-1$ //$NON-NLS-2$
+						}
+					}
+					return null;
+				default:
+					return null;
+			}
+		} catch (RuntimeException e) {
+			// the object was collected or the target is in an unexpected state, let the invocation report it
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the result of sending the given static message to the given type, or <code>null</code> if it must be invoked in the target.
+	 */
+	static IJavaValue invokeStatic(String typeName, String selector, String signature, IJavaValue[] args, IJavaDebugTarget target) throws DebugException {
+		if (!"java.lang.Math".equals(typeName)) { //$NON-NLS-1$
+			return null;
+		}
+		for (IJavaValue arg : args) {
+			if (!(arg instanceof IJavaPrimitiveValue)) {
+				return null;
+			}
+		}
+		switch (signature) {
+			case "(I)I": { //$NON-NLS-1$
+				int value = ((IJavaPrimitiveValue) args[0]).getIntValue();
+				return "abs".equals(selector) ? target.newValue(Math.abs(value)) : null; //$NON-NLS-1$
+			}
+			case "(J)J": { //$NON-NLS-1$
+				long value = ((IJavaPrimitiveValue) args[0]).getLongValue();
+				return "abs".equals(selector) ? target.newValue(Math.abs(value)) : null; //$NON-NLS-1$
+			}
+			case "(II)I": { //$NON-NLS-1$
+				int left = ((IJavaPrimitiveValue) args[0]).getIntValue();
+				int right = ((IJavaPrimitiveValue) args[1]).getIntValue();
+				switch (selector) {
+					case "max": //$NON-NLS-1$
+						return target.newValue(Math.max(left, right));
+					case "min": //$NON-NLS-1$
+						return target.newValue(Math.min(left, right));
+					default:
+						return null;
+				}
+			}
+			case "(JJ)J": { //$NON-NLS-1$
+				long left = ((IJavaPrimitiveValue) args[0]).getLongValue();
+				long right = ((IJavaPrimitiveValue) args[1]).getLongValue();
+				switch (selector) {
+					case "max": //$NON-NLS-1$
+						return target.newValue(Math.max(left, right));
+					case "min": //$NON-NLS-1$
+						return target.newValue(Math.min(left, right));
+					default:
+						return null;
+				}
+			}
+			default:
+				return null;
+		}
+	}
+
+	private static IJavaValue invokeString(String value, String selector, String signature, IJavaValue[] args, IJavaDebugTarget target) {
+		switch (selector) {
+			case "length": //$NON-NLS-1$
+				return "()I".equals(signature) ? target.newValue(value.length()) : null; //$NON-NLS-1$
+			case "isEmpty": //$NON-NLS-1$
+				return "()Z".equals(signature) ? target.newValue(value.isEmpty()) : null; //$NON-NLS-1$
+			case "hashCode": //$NON-NLS-1$
+				return "()I".equals(signature) ? target.newValue(value.hashCode()) : null; //$NON-NLS-1$
+			case "charAt": //$NON-NLS-1$
+				if ("(I)C".equals(signature)) { //$NON-NLS-1$
+					int index = ((IJavaPrimitiveValue) args[0]).getIntValue();
+					return index >= 0 && index < value.length() ? target.newValue(value.charAt(index)) : null;
+				}
+				return null;
+			case "equals": //$NON-NLS-1$
+				if ("(Ljava/lang/Object;)Z".equals(signature)) { //$NON-NLS-1$
+					if (args[0] instanceof JDINullValue) {
+						return target.newValue(false);
+					}
+					String other = stringValue(args[0]);
+					return other == null ? null : target.newValue(value.equals(other));
+				}
+				return null;
+			case "equalsIgnoreCase": //$NON-NLS-1$
+				if ("(Ljava/lang/String;)Z".equals(signature)) { //$NON-NLS-1$
+					if (args[0] instanceof JDINullValue) {
+						return target.newValue(false);
+					}
+					String other = stringValue(args[0]);
+					return other == null ? null : target.newValue(value.equalsIgnoreCase(other));
+				}
+				return null;
+			case "startsWith": //$NON-NLS-1$
+			case "endsWith": //$NON-NLS-1$
+			case "contains": //$NON-NLS-1$
+			case "indexOf": //$NON-NLS-1$
+				if (args.length != 1) {
+					return null;
+				}
+				if ("indexOf".equals(selector) && "(I)I".equals(signature)) { //$NON-NLS-1$ //$NON-NLS-2$
+					return target.newValue(value.indexOf(((IJavaPrimitiveValue) args[0]).getIntValue()));
+				}
+				// a null argument throws in the target
+				String other = stringValue(args[0]);
+				if (other == null) {
+					return null;
+				}
+				switch (selector + signature) {
+					case "startsWith(Ljava/lang/String;)Z": //$NON-NLS-1$
+						return target.newValue(value.startsWith(other));
+					case "endsWith(Ljava/lang/String;)Z": //$NON-NLS-1$
+						return target.newValue(value.endsWith(other));
+					case "contains(Ljava/lang/CharSequence;)Z": //$NON-NLS-1$
+						return target.newValue(value.contains(other));
+					case "indexOf(Ljava/lang/String;)I": //$NON-NLS-1$
+						return target.newValue(value.indexOf(other));
+					default:
+						return null;
+				}
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Returns the contents of the given value if it is a string, or <code>null</code>
+	 */
+	private static String stringValue(IJavaValue value) {
+		if (value instanceof JDIObjectValue objectValue && objectValue.getUnderlyingObject() instanceof StringReference string) {
+			return string.value();
+		}
+		return null;
+	}
+
+	private static IJavaValue unbox(IJavaObject receiver, String selector, String signature, String unboxSelector, String unboxSignature, String declaringType) throws DebugException {
+		if (unboxSelector.equals(selector) && unboxSignature.equals(signature)) {
+			return fieldValue(receiver, "value", declaringType); //$NON-NLS-1$
+		}
+		return null;
+	}
+
+	private static boolean isSizeQuery(String selector, String signature) {
+		return ("size".equals(selector) && "()I".equals(signature)) || ("isEmpty".equals(selector) && "()Z".equals(signature)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	/**
+	 * Answers <code>size()</code> and <code>isEmpty()</code> from the field holding the size of a collection
+	 */
+	private static IJavaValue size(IJavaObject receiver, String selector, String signature, String field, String declaringType, IJavaDebugTarget target) throws DebugException {
+		if (!isSizeQuery(selector, signature)) {
+			return null;
+		}
+		IJavaValue size = fieldValue(receiver, field, declaringType);
+		if (!(size instanceof IJavaPrimitiveValue primitive)) {
+			return null;
+		}
+		return "size".equals(selector) ? size : target.newValue(primitive.getIntValue() == 0); //$NON-NLS-1$
+	}
+
+	private static IJavaValue arrayListGet(IJavaObject receiver, int index) throws DebugException {
+		IJavaValue size = fieldValue(receiver, "size", "Ljava/util/ArrayList;"); //$NON-NLS-1$ //$NON-NLS-2$
+		if (!(size instanceof IJavaPrimitiveValue) || index < 0 || index >= ((IJavaPrimitiveValue) size).getIntValue()) {
+			// let the target throw
+			return null;
+		}
+		IJavaValue elements = fieldValue(receiver, "elementData", "Ljava/util/ArrayList;"); //$NON-NLS-1$ //$NON-NLS-2$
+		if (elements instanceof IJavaArray array && index < array.getLength()) {
+			return array.getValue(index);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the value of the given field of the receiver, or <code>null</code> if the field does not exist
+	 */
+	private static IJavaValue fieldValue(IJavaObject receiver, String name, String declaringType) throws DebugException {
+		IJavaFieldVariable field = receiver.getField(name, declaringType);
+		return field == null ? null : (IJavaValue) field.getValue();
+	}
+}
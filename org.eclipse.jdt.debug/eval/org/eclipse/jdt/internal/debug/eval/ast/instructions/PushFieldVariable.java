@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,28 @@ public class PushFieldVariable extends CompoundInstruction {
 		fDeclaringTypeSignature = declaringTypeSignature;
 	}
 
+	/**
+	 * Returns the name of the field to push
+	 */
+	String getName() {
+		return fName;
+	}
+
+	/**
+	 * Returns the signature of the type declaring the field or
+	 * <code>null</code> if the field is looked up by super class level
+	 */
+	String getDeclaringTypeSignature() {
+		return fDeclaringTypeSignature;
+	}
+
+	/**
+	 * Returns the super class level at which the field is looked up
+	 */
+	int getSuperClassLevel() {
+		return fSuperClassLevel;
+	}
+
 	@Override
 	public void execute() throws CoreException {
 		Object value = popValue();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,6 +39,20 @@ public class PushStaticFieldVariable extends CompoundInstruction {
 		fQualifiedTypeName = qualifiedTypeName;
 	}
 
+	/**
+	 * Returns the name of the field to push
+	 */
+	String getFieldName() {
+		return fFieldName;
+	}
+
+	/**
+	 * Returns the qualified name of the type declaring the field
+	 */
+	String getQualifiedTypeName() {
+		return fQualifiedTypeName;
+	}
+
 	@Override
 	public void execute() throws CoreException {
 		IJavaType receiver = getType(fQualifiedTypeName);
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.eval.ast.instructions;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Pushes the value kept by a {@link StoreTemporary} instruction onto the stack.
+ */
+public class PushTemporary extends SimpleInstruction {
+
+	private final int fIndex;
+
+	public PushTemporary(int index) {
+		fIndex = index;
+	}
+
+	@Override
+	public void execute() throws CoreException {
+		push(getInternalVariable(StoreTemporary.getTemporaryName(fIndex)).getValue());
+	}
+
+	@Override
+	public String toString() {
+		return "push temporary " + fIndex; //$NON-NLS-1$
+	}
+
+}
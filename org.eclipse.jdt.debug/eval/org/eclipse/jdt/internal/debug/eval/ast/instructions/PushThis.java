@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,13 @@ public class PushThis extends SimpleInstruction {
 		fEnclosingLevel = enclosingLevel;
 	}
 
+	/**
+	 * Returns the level of the enclosing instance to push
+	 */
+	int getEnclosingLevel() {
+		return fEnclosingLevel;
+	}
+
 	@Override
 	public void execute() throws CoreException {
 		IRuntimeContext context = getContext();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,8 +57,14 @@ public class SendMessage extends CompoundInstruction {
 		}
 
 		if (receiver instanceof IJavaObject) {
-			result = ((IJavaObject) receiver).sendMessage(fSelector,
-					fSignature, args, getContext().getThread(), fDeclaringType);
+			if (fDeclaringType == null) {
+				// side effect free JDK methods are computed without resuming the thread
+				result = PureMethods.invoke((IJavaObject) receiver, fSelector, fSignature, args, getVM());
+			}
+			if (result == null) {
+				result = ((IJavaObject) receiver).sendMessage(fSelector,
+						fSignature, args, getContext().getThread(), fDeclaringType);
+			}
 		} else {
 			throw new CoreException(
 					new Status(
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -52,8 +52,14 @@ public class SendStaticMessage extends CompoundInstruction {
 			args[i] = popValue();
 		}
 
+		// side effect free JDK methods are computed without resuming the thread
+		IJavaValue result = PureMethods.invokeStatic(fTypeName, fSelector, fSignature, args, getVM());
+		if (result != null) {
+			setLastValue(result);
+			push(result);
+			return;
+		}
 		IJavaType receiver = getType(fTypeName);
-		IJavaValue result;
 		if (receiver instanceof IJavaClassType) {
 			result = ((IJavaClassType) receiver).sendMessage(fSelector,
 					fSignature, args, getContext().getThread());
@@ -0,0 +1,60 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.eval.ast.instructions;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.debug.core.IJavaValue;
+
+/**
+ * Replaces the variable on top of the stack with its value and keeps the value
+ * in a temporary, to be pushed again by a {@link PushTemporary} instruction.
+ *
+ * Variable ...
+ *
+ * ->
+ *
+ * Value ...
+ */
+public class StoreTemporary extends SimpleInstruction {
+
+	private final int fIndex;
+
+	public StoreTemporary(int index) {
+		fIndex = index;
+	}
+
+	@Override
+	public void execute() throws CoreException {
+		IJavaValue value = popValue();
+		IVariable temporary = createInternalVariable(getTemporaryName(fIndex), value.getJavaType());
+		temporary.setValue(value);
+		push(value);
+	}
+
+	/**
+	 * Returns the name of the internal variable holding the temporary with the
+	 * given index. The name is not a valid Java identifier and cannot clash
+	 * with the variables of a snippet.
+	 */
+	static String getTemporaryName(int index) {
+		return "#temp" + index; //$NON-NLS-1$
+	}
+
+	@Override
+	public String toString() {
+		return "store temporary " + fIndex; //$NON-NLS-1$
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -212,6 +212,14 @@ public class ArrayTypeImpl extends ReferenceTypeImpl implements ArrayType {
 		return Collections.EMPTY_LIST;
 	}
 
+	/**
+	 * Array types have no information to prefetch: their modifiers, fields
+	 * and methods are fixed and they have no source.
+	 */
+	@Override
+	protected void prefetch(boolean all) {
+	}
+
 	/**
 	 * @return a Map of the requested static Field objects with their Value.
 	 */
@@ -260,10 +268,10 @@ public class ArrayTypeImpl extends ReferenceTypeImpl implements ArrayType {
 		if (target.fVerboseWriter != null)
 			target.fVerboseWriter.println("arrayType", ID.value()); //$NON-NLS-1$
 
-		String signature = target.readString("signature", in); //$NON-NLS-1$
+		String signature = target.readInternedString("signature", in); //$NON-NLS-1$
 		String genericSignature = null;
 		if (withGenericSignature) {
-			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
+			genericSignature = target.readInternedString("generic signature", in); //$NON-NLS-1$
 		}
 		if (ID.isNull())
 			return null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -277,16 +277,13 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 	public List<ClassType> subclasses() {
 		// Note that this information should not be cached.
 		List<ClassType> subclasses = new ArrayList<>();
-		Iterator<ReferenceType> itr = virtualMachineImpl().allRefTypes();
-		while (itr.hasNext()) {
+		// no mirror is created for the arrays and interfaces
+		for (ReferenceType refType : virtualMachineImpl().allClasses((tag, signature) -> tag == typeTag)) {
 			try {
-				ReferenceType refType = itr.next();
-				if (refType instanceof ClassTypeImpl) {
-					ClassTypeImpl classType = (ClassTypeImpl) refType;
-					if (classType.superclass() != null
-							&& classType.superclass().equals(this)) {
-						subclasses.add(classType);
-					}
+				ClassTypeImpl classType = (ClassTypeImpl) refType;
+				if (classType.superclass() != null
+						&& classType.superclass().equals(this)) {
+					subclasses.add(classType);
 				}
 			} catch (ClassNotPreparedException e) {
 				continue;
@@ -355,10 +352,10 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 		if (target.fVerboseWriter != null)
 			target.fVerboseWriter.println("classType", ID.value()); //$NON-NLS-1$
 
-		String signature = target.readString("signature", in); //$NON-NLS-1$
+		String signature = target.readInternedString("signature", in); //$NON-NLS-1$
 		String genericSignature = null;
 		if (withGenericSignature) {
-			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
+			genericSignature = target.readInternedString("generic signature", in); //$NON-NLS-1$
 		}
 		if (ID.isNull())
 			return null;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -107,19 +107,16 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 	public List<ClassType> implementors() {
 		// Note that this information should not be cached.
 		List<ClassType> implementors = new ArrayList<>();
-		Iterator<ReferenceType> itr = virtualMachineImpl().allRefTypes();
-		while (itr.hasNext()) {
-			ReferenceType refType = itr.next();
-			if (refType instanceof ClassTypeImpl) {
-				try {
-					ClassTypeImpl classType = (ClassTypeImpl) refType;
-					List<InterfaceType> interfaces = classType.interfaces();
-					if (interfaces.contains(this)) {
-						implementors.add(classType);
-					}
-				} catch (ClassNotPreparedException e) {
-					continue;
+		// no mirror is created for the arrays and interfaces
+		for (ReferenceType refType : virtualMachineImpl().allClasses((tag, signature) -> tag == ClassTypeImpl.typeTag)) {
+			try {
+				ClassTypeImpl classType = (ClassTypeImpl) refType;
+				List<InterfaceType> interfaces = classType.interfaces();
+				if (interfaces.contains(this)) {
+					implementors.add(classType);
 				}
+			} catch (ClassNotPreparedException e) {
+				continue;
 			}
 		}
 		return implementors;
@@ -132,16 +129,13 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 	public List<InterfaceType> subinterfaces() {
 		// Note that this information should not be cached.
 		List<InterfaceType> implementors = new ArrayList<>();
-		Iterator<ReferenceType> itr = virtualMachineImpl().allRefTypes();
-		while (itr.hasNext()) {
+		// no mirror is created for the arrays and classes
+		for (ReferenceType refType : virtualMachineImpl().allClasses((tag, signature) -> tag == typeTag)) {
 			try {
-				ReferenceType refType = itr.next();
-				if (refType instanceof InterfaceTypeImpl) {
-					InterfaceTypeImpl interFaceType = (InterfaceTypeImpl) refType;
-					List<InterfaceType> interfaces = interFaceType.superinterfaces();
-					if (interfaces.contains(this)) {
-						implementors.add(interFaceType);
-					}
+				InterfaceTypeImpl interFaceType = (InterfaceTypeImpl) refType;
+				List<InterfaceType> interfaces = interFaceType.superinterfaces();
+				if (interfaces.contains(this)) {
+					implementors.add(interFaceType);
 				}
 			} catch (ClassNotPreparedException e) {
 				continue;
@@ -251,10 +245,10 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 			target.fVerboseWriter.println("interfaceType", ID.value()); //$NON-NLS-1$
 		}
 
-		String signature = target.readString("signature", in); //$NON-NLS-1$
+		String signature = target.readInternedString("signature", in); //$NON-NLS-1$
 		String genericSignature = null;
 		if (withGenericSignature) {
-			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
+			genericSignature = target.readInternedString("generic signature", in); //$NON-NLS-1$
 		}
 		if (ID.isNull()) {
 			return null;
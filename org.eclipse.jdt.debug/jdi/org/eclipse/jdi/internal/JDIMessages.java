@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -122,6 +122,7 @@ public class JDIMessages extends NLS {
 	public static String VirtualMachineImpl_1;
 	public static String VirtualMachineManagerImpl_Could_not_open_verbose_file___1;
 	public static String VirtualMachineManagerImpl_____2;
+	public static String VirtualMachineManagerImpl_Could_not_record_packets;
 
 	public static String vm_dead;
 	public static String VoidTypeImpl_A_VoidType_does_not_have_modifiers_1;
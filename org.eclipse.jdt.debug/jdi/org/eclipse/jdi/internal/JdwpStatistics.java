@@ -0,0 +1,456 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+
+/**
+ * Statistics of the JDWP requests performed on a virtual machine: the latency
+ * and reply size distributions of each command, and the number of requests
+ * and packets currently in flight.
+ * <p>
+ * Statistics are always collected. Recording a request only updates atomic
+ * counters, so that the statistics can be read at any time without tracing
+ * enabled. The statistics are also registered with the platform MBean server
+ * while the virtual machine is connected, see {@link JdwpStatisticsMXBean}.
+ * </p>
+ */
+public class JdwpStatistics implements JdwpStatisticsMXBean {
+
+	/**
+	 * Domain of the names of the registered MBeans
+	 */
+	private static final String MBEAN_DOMAIN = "org.eclipse.jdt.debug"; //$NON-NLS-1$
+
+	/**
+	 * Number of statistics created so far, used to give each its own MBean
+	 * name
+	 */
+	private static final AtomicInteger fgCount = new AtomicInteger();
+
+	/**
+	 * Distribution of recorded values, in log-linear buckets: each power of
+	 * two is divided in {@link #SUB_BUCKETS} buckets of equal width, so that
+	 * the values are known within a relative error of 1/{@link #SUB_BUCKETS}
+	 * whatever their magnitude.
+	 */
+	public static final class Histogram {
+
+		private static final int SUB_BUCKET_BITS = 3;
+		private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+		private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+		private final AtomicLongArray fBuckets = new AtomicLongArray(BUCKET_COUNT);
+		private final AtomicLong fCount = new AtomicLong();
+		private final AtomicLong fSum = new AtomicLong();
+		private final AtomicLong fMax = new AtomicLong();
+
+		/**
+		 * Records the given value. Negative values are recorded as
+		 * <code>0</code>.
+		 */
+		public void record(long value) {
+			long v = Math.max(value, 0);
+			fBuckets.incrementAndGet(index(v));
+			fCount.incrementAndGet();
+			fSum.addAndGet(v);
+			fMax.accumulateAndGet(v, Math::max);
+		}
+
+		/**
+		 * Returns the number of recorded values.
+		 */
+		public long getCount() {
+			return fCount.get();
+		}
+
+		/**
+		 * Returns the sum of the recorded values.
+		 */
+		public long getSum() {
+			return fSum.get();
+		}
+
+		/**
+		 * Returns the largest recorded value, or <code>0</code> if none.
+		 */
+		public long getMax() {
+			return fMax.get();
+		}
+
+		/**
+		 * Returns the mean of the recorded values, or <code>0</code> if none.
+		 */
+		public long getMean() {
+			long count = fCount.get();
+			return count == 0 ? 0 : fSum.get() / count;
+		}
+
+		/**
+		 * Returns the highest value of the bucket holding the given percentile
+		 * of the recorded values, or <code>0</code> if none.
+		 *
+		 * @param percentile
+		 *            the percentile, between <code>0</code> and
+		 *            <code>100</code>
+		 */
+		public long getPercentile(double percentile) {
+			long[] buckets = new long[BUCKET_COUNT];
+			long total = 0;
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				buckets[i] = fBuckets.get(i);
+				total += buckets[i];
+			}
+			if (total == 0) {
+				return 0;
+			}
+			long rank = Math.max(1, (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100));
+			long seen = 0;
+			for (int i = 0; i < BUCKET_COUNT; i++) {
+				seen += buckets[i];
+				if (seen >= rank) {
+					long highest = i + 1 < BUCKET_COUNT ? lowerBound(i + 1) - 1 : Long.MAX_VALUE;
+					return Math.min(highest, getMax());
+				}
+			}
+			return getMax();
+		}
+
+		/**
+		 * Returns the index of the bucket of the given non-negative value.
+		 */
+		static int index(long value) {
+			if (value < SUB_BUCKETS) {
+				return (int) value;
+			}
+			int exponent = 63 - Long.numberOfLeadingZeros(value);
+			int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+			return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+		}
+
+		/**
+		 * Returns the lowest value of the bucket with the given index.
+		 */
+		static long lowerBound(int index) {
+			if (index < SUB_BUCKETS) {
+				return index;
+			}
+			return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (index / SUB_BUCKETS - 1);
+		}
+	}
+
+	/**
+	 * Statistics of one JDWP command.
+	 */
+	public static final class CommandStatistics {
+		private final int fCommand;
+		private final String fName;
+		private final Histogram fLatencies = new Histogram();
+		private final Histogram fReplySizes = new Histogram();
+		private final AtomicLong fBytesSent = new AtomicLong();
+		private final AtomicLong fErrorCount = new AtomicLong();
+		private final AtomicLong fFailureCount = new AtomicLong();
+
+		CommandStatistics(int command) {
+			fCommand = command;
+			String name = JdwpCommandPacket.commandMap().get(Integer.valueOf(command));
+			fName = name == null ? (command >>> 8) + " - " + (command & 0xFF) : name; //$NON-NLS-1$
+		}
+
+		/**
+		 * Returns the command set and command, as in
+		 * {@link JdwpCommandPacket#getCommand()}.
+		 */
+		public int getCommand() {
+			return fCommand;
+		}
+
+		/**
+		 * Returns the name of the command set and command.
+		 */
+		public String getName() {
+			return fName;
+		}
+
+		/**
+		 * Returns the number of replies received.
+		 */
+		public long getCount() {
+			return fLatencies.getCount();
+		}
+
+		/**
+		 * Returns the number of replies holding an error code.
+		 */
+		public long getErrorCount() {
+			return fErrorCount.get();
+		}
+
+		/**
+		 * Returns the number of requests that got no reply, because they timed
+		 * out or the virtual machine disconnected.
+		 */
+		public long getFailureCount() {
+			return fFailureCount.get();
+		}
+
+		/**
+		 * Returns the number of bytes sent, including packet headers.
+		 */
+		public long getBytesSent() {
+			return fBytesSent.get();
+		}
+
+		/**
+		 * Returns the number of bytes received, including packet headers.
+		 */
+		public long getBytesReceived() {
+			return fReplySizes.getSum();
+		}
+
+		/**
+		 * Returns the mean latency, in microseconds.
+		 */
+		public long getMeanLatency() {
+			return fLatencies.getMean() / 1000;
+		}
+
+		/**
+		 * Returns the median latency, in microseconds.
+		 */
+		public long getMedianLatency() {
+			return fLatencies.getPercentile(50) / 1000;
+		}
+
+		/**
+		 * Returns the 99th percentile of the latency, in microseconds.
+		 */
+		public long getLatency99() {
+			return fLatencies.getPercentile(99) / 1000;
+		}
+
+		/**
+		 * Returns the maximum latency, in microseconds.
+		 */
+		public long getMaxLatency() {
+			return fLatencies.getMax() / 1000;
+		}
+
+		/**
+		 * Returns the median reply size, in bytes.
+		 */
+		public long getMedianReplySize() {
+			return fReplySizes.getPercentile(50);
+		}
+
+		/**
+		 * Returns the maximum reply size, in bytes.
+		 */
+		public long getMaxReplySize() {
+			return fReplySizes.getMax();
+		}
+
+		/**
+		 * Returns the distribution of the latencies, in nanoseconds.
+		 */
+		public Histogram latencies() {
+			return fLatencies;
+		}
+
+		/**
+		 * Returns the distribution of the reply sizes, in bytes.
+		 */
+		public Histogram replySizes() {
+			return fReplySizes;
+		}
+
+		@Override
+		public String toString() {
+			return fName + ": count: " + getCount() //$NON-NLS-1$
+					+ ", errors: " + getErrorCount() //$NON-NLS-1$
+					+ ", failures: " + getFailureCount() //$NON-NLS-1$
+					+ ", latency mean/p50/p99/max: " + getMeanLatency() + '/' + getMedianLatency() + '/' + getLatency99() + '/' + getMaxLatency() + "us" //$NON-NLS-1$ //$NON-NLS-2$
+					+ ", reply size p50/max: " + getMedianReplySize() + '/' + getMaxReplySize() + 'B'; //$NON-NLS-1$
+		}
+	}
+
+	private final VirtualMachineImpl fVirtualMachine;
+
+	/**
+	 * Statistics of each command, by command set and command, created when
+	 * the command is first sent
+	 */
+	private final Map<Integer, CommandStatistics> fCommands = new ConcurrentHashMap<>();
+
+	private final AtomicInteger fRequestsInFlight = new AtomicInteger();
+
+	private ObjectName fObjectName;
+
+	/**
+	 * Creates the statistics of the given virtual machine.
+	 */
+	JdwpStatistics(VirtualMachineImpl vm) {
+		fVirtualMachine = vm;
+	}
+
+	/**
+	 * Records that a command was sent.
+	 *
+	 * @return the time the command was sent, in nanoseconds, as in
+	 *         {@link System#nanoTime()}
+	 */
+	long requestSent(int command, int length) {
+		fRequestsInFlight.incrementAndGet();
+		statistics(command).fBytesSent.addAndGet(length);
+		return System.nanoTime();
+	}
+
+	/**
+	 * Records that the reply to a command was received.
+	 *
+	 * @param sent
+	 *            the time the command was sent, as returned by
+	 *            {@link #requestSent(int, int)}
+	 */
+	void replyReceived(int command, JdwpReplyPacket reply, long sent) {
+		long latency = System.nanoTime() - sent;
+		fRequestsInFlight.decrementAndGet();
+		CommandStatistics statistics = statistics(command);
+		statistics.fLatencies.record(latency);
+		statistics.fReplySizes.record(reply.getLength());
+		if (reply.errorCode() != JdwpReplyPacket.NONE) {
+			statistics.fErrorCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Records that no reply to a command will be received.
+	 */
+	void requestFailed(int command) {
+		fRequestsInFlight.decrementAndGet();
+		statistics(command).fFailureCount.incrementAndGet();
+	}
+
+	private CommandStatistics statistics(int command) {
+		Integer key = Integer.valueOf(command & 0xFFFF);
+		CommandStatistics statistics = fCommands.get(key);
+		if (statistics == null) {
+			statistics = fCommands.computeIfAbsent(key, CommandStatistics::new);
+		}
+		return statistics;
+	}
+
+	/**
+	 * Returns the statistics of the given command, or <code>null</code> if
+	 * the command was never sent.
+	 *
+	 * @param command
+	 *            the command set and command, as in
+	 *            {@link JdwpCommandPacket#getCommand()}
+	 */
+	public CommandStatistics getCommandStatistics(int command) {
+		return fCommands.get(Integer.valueOf(command & 0xFFFF));
+	}
+
+	@Override
+	public List<CommandStatistics> getCommandStatistics() {
+		List<CommandStatistics> result = new ArrayList<>(fCommands.values());
+		result.sort(Comparator.comparingInt(CommandStatistics::getCommand));
+		return result;
+	}
+
+	@Override
+	public long getRequestCount() {
+		long count = 0;
+		for (CommandStatistics statistics : fCommands.values()) {
+			count += statistics.getCount() + statistics.getFailureCount();
+		}
+		return count;
+	}
+
+	@Override
+	public int getRequestsInFlight() {
+		return fRequestsInFlight.get();
+	}
+
+	@Override
+	public int getOutgoingPacketCount() {
+		return fVirtualMachine.packetSendManager().getOutgoingPacketCount();
+	}
+
+	@Override
+	public int getReplyPacketCount() {
+		return fVirtualMachine.packetReceiveManager().getReplyPacketCount();
+	}
+
+	@Override
+	public int getCommandPacketCount() {
+		return fVirtualMachine.packetReceiveManager().getCommandPacketCount();
+	}
+
+	/**
+	 * Registers these statistics with the platform MBean server. Failures are
+	 * ignored, the statistics remain available from the virtual machine.
+	 */
+	synchronized void register() {
+		try {
+			ObjectName name = new ObjectName(MBEAN_DOMAIN + ":type=JdwpStatistics,id=" + fgCount.incrementAndGet()); //$NON-NLS-1$
+			ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+			fObjectName = name;
+		} catch (JMException | RuntimeException e) {
+			// JMX is not available
+		}
+	}
+
+	/**
+	 * Unregisters these statistics from the platform MBean server.
+	 */
+	synchronized void unregister() {
+		if (fObjectName == null) {
+			return;
+		}
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		try {
+			server.unregisterMBean(fObjectName);
+		} catch (JMException e) {
+			// already unregistered
+		}
+		fObjectName = null;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("requests in flight: ").append(getRequestsInFlight()); //$NON-NLS-1$
+		for (CommandStatistics statistics : getCommandStatistics()) {
+			buffer.append('\n').append(statistics);
+		}
+		return buffer.toString();
+	}
+}
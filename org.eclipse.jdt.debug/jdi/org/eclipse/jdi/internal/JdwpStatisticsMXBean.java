@@ -0,0 +1,59 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.util.List;
+
+import org.eclipse.jdi.internal.JdwpStatistics.CommandStatistics;
+
+/**
+ * Management interface of the JDWP statistics of a virtual machine. The
+ * statistics of each connected virtual machine are registered with the
+ * platform MBean server under the name
+ * <code>org.eclipse.jdt.debug:type=JdwpStatistics,id=&lt;n&gt;</code>.
+ */
+public interface JdwpStatisticsMXBean {
+
+	/**
+	 * Returns the statistics of the commands sent so far.
+	 */
+	List<CommandStatistics> getCommandStatistics();
+
+	/**
+	 * Returns the number of requests performed so far, whether they got a
+	 * reply or not.
+	 */
+	long getRequestCount();
+
+	/**
+	 * Returns the number of requests sent and waiting for their reply.
+	 */
+	int getRequestsInFlight();
+
+	/**
+	 * Returns the number of packets waiting to be sent to the virtual machine.
+	 */
+	int getOutgoingPacketCount();
+
+	/**
+	 * Returns the number of replies received and not yet consumed.
+	 */
+	int getReplyPacketCount();
+
+	/**
+	 * Returns the number of commands received from the virtual machine, like
+	 * events, and not yet consumed.
+	 */
+	int getCommandPacketCount();
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -548,11 +548,11 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			List<LocalVariable> variables = new ArrayList<>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
 				long codeIndex = readLong("code index", replyData); //$NON-NLS-1$
-				String name = readString("name", replyData); //$NON-NLS-1$
-				String signature = readString("signature", replyData); //$NON-NLS-1$
+				String name = readInternedString("name", replyData); //$NON-NLS-1$
+				String signature = readInternedString("signature", replyData); //$NON-NLS-1$
 				String genericSignature = null;
 				if (withGenericSignature) {
-					genericSignature = readString("generic signature", replyData); //$NON-NLS-1$
+					genericSignature = readInternedString("generic signature", replyData); //$NON-NLS-1$
 					if ("".equals(genericSignature)) { //$NON-NLS-1$
 						genericSignature = null;
 					}
@@ -736,11 +736,11 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 		if (ID.isNull()) {
 			return null;
 		}
-		String name = target.readString("name", in); //$NON-NLS-1$
-		String signature = target.readString("signature", in); //$NON-NLS-1$
+		String name = target.readInternedString("name", in); //$NON-NLS-1$
+		String signature = target.readInternedString("signature", in); //$NON-NLS-1$
 		String genericSignature = null;
 		if (withGenericSignature) {
-			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
+			genericSignature = target.readInternedString("generic signature", in); //$NON-NLS-1$
 			if ("".equals(genericSignature)) { //$NON-NLS-1$
 				genericSignature = null;
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,6 +46,11 @@ import com.sun.jdi.VirtualMachine;
  */
 public class MirrorImpl implements Mirror {
 
+	/**
+	 * Maximum number of pipelined requests waiting for their reply at a time.
+	 */
+	private static final int PIPELINE_WINDOW = 256;
+
 	/** Description of Mirror object. */
 	protected String fDescription;
 	/** Virtual Machine of Mirror object. */
@@ -199,12 +204,21 @@ public class MirrorImpl implements Mirror {
 		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
 		commandPacket.setData(outData);
 		long sent = System.currentTimeMillis();
-		fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
-		fPendingJdwpRequest = true;
-		writeVerboseCommandPacketHeader(commandPacket);
+		fVirtualMachineImpl.stringValueCache().commandSent(command);
+		JdwpStatistics statistics = fVirtualMachineImpl.jdwpStatistics();
+		long sentNanos = statistics.requestSent(command, commandPacket.getLength());
+		JdwpReplyPacket reply;
+		try {
+			fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
+			fPendingJdwpRequest = true;
+			writeVerboseCommandPacketHeader(commandPacket);
 
-		JdwpReplyPacket reply = fVirtualMachineImpl.packetReceiveManager()
-				.getReply(commandPacket);
+			reply = fVirtualMachineImpl.packetReceiveManager().getReply(commandPacket);
+		} catch (RuntimeException e) {
+			statistics.requestFailed(command);
+			throw e;
+		}
+		statistics.replyReceived(command, reply, sentNanos);
 		long recieved = System.currentTimeMillis();
 		if (JDIDebugOptions.DEBUG_JDI_REQUEST_TIMES) {
 			StringBuilder buf = new StringBuilder();
@@ -283,6 +297,86 @@ public class MirrorImpl implements Mirror {
 		return requestVM(command, (byte[]) null);
 	}
 
+	/**
+	 * Performs a VM request for each of the specified objects. Requests are
+	 * pipelined: a request is sent without waiting for the replies of the
+	 * previous requests, so the time taken does not grow with the round trip
+	 * time to the VM for each object.
+	 *
+	 * @return Returns the reply packets, in the order of the objects.
+	 */
+	public JdwpReplyPacket[] requestVM(int command, ObjectReferenceImpl[] objects) {
+		int[] commands = new int[objects.length];
+		byte[][] data = new byte[objects.length][];
+		for (int i = 0; i < objects.length; i++) {
+			ByteArrayOutputStream byteOutStream = new ByteArrayOutputStream();
+			DataOutputStream dataOutStream = new DataOutputStream(byteOutStream);
+			try {
+				objects[i].write(this, dataOutStream);
+			} catch (IOException e) {
+				defaultIOExceptionHandler(e);
+			}
+			commands[i] = command;
+			data[i] = byteOutStream.toByteArray();
+		}
+		return requestVM(commands, data);
+	}
+
+	/**
+	 * Performs the specified VM requests. Requests are pipelined, see
+	 * {@link #requestVM(int, ObjectReferenceImpl[])}.
+	 *
+	 * @param commands
+	 *            the commands to send
+	 * @param data
+	 *            the data of each command
+	 * @return Returns the reply packets, in the order of the commands.
+	 */
+	public JdwpReplyPacket[] requestVM(int[] commands, byte[][] data) {
+		JdwpCommandPacket[] commandPackets = new JdwpCommandPacket[commands.length];
+		JdwpReplyPacket[] replies = new JdwpReplyPacket[commands.length];
+		long[] sentNanos = new long[commands.length];
+		JdwpStatistics statistics = fVirtualMachineImpl.jdwpStatistics();
+		int sent = 0;
+		int received = 0;
+		try {
+			for (; sent < commands.length; sent++) {
+				if (sent - received == PIPELINE_WINDOW) {
+					replies[received] = receiveReply(statistics, commands[received], commandPackets[received], sentNanos[received]);
+					received++;
+				}
+				JdwpCommandPacket commandPacket = new JdwpCommandPacket(commands[sent]);
+				commandPacket.setData(data[sent]);
+				fVirtualMachineImpl.stringValueCache().commandSent(commands[sent]);
+				sentNanos[sent] = statistics.requestSent(commands[sent], commandPacket.getLength());
+				commandPackets[sent] = commandPacket;
+				fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
+				fPendingJdwpRequest = true;
+				writeVerboseCommandPacketHeader(commandPacket);
+			}
+			for (; received < commands.length; received++) {
+				replies[received] = receiveReply(statistics, commands[received], commandPackets[received], sentNanos[received]);
+			}
+		} catch (RuntimeException e) {
+			// the requests still in flight will not be waited for
+			for (; received < commands.length && commandPackets[received] != null; received++) {
+				statistics.requestFailed(commands[received]);
+			}
+			throw e;
+		}
+		return replies;
+	}
+
+	/**
+	 * Waits for the reply to the given command packet and records it in the
+	 * given statistics.
+	 */
+	private JdwpReplyPacket receiveReply(JdwpStatistics statistics, int command, JdwpCommandPacket commandPacket, long sentNanos) {
+		JdwpReplyPacket reply = fVirtualMachineImpl.packetReceiveManager().getReply(commandPacket);
+		statistics.replyReceived(command, reply, sentNanos);
+		return reply;
+	}
+
 	/**
 	 * Performs default error handling.
 	 */
@@ -333,8 +427,11 @@ public class MirrorImpl implements Mirror {
 	 */
 	public final JdwpCommandPacket getCommandVM(int command, long timeout)
 			throws InterruptedException {
-		return fVirtualMachineImpl.packetReceiveManager().getCommand(command,
+		JdwpCommandPacket packet = fVirtualMachineImpl.packetReceiveManager().getCommand(command,
 				timeout);
+		// the target ran to report the event
+		fVirtualMachineImpl.stringValueCache().invalidate();
+		return packet;
 	}
 
 	/**
@@ -472,6 +569,17 @@ public class MirrorImpl implements Mirror {
 		return result;
 	}
 
+	/**
+	 * Reads a name or signature and, if verbose is on, outputs verbose info.
+	 * The instance of the value shared by the mirrors of the VM is returned.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public String readInternedString(String description, DataInputStream in)
+			throws IOException {
+		return fVirtualMachineImpl.stringTable().intern(readString(description, in));
+	}
+
 	/**
 	 * Reads Jdwp data and, if verbose is on, outputs verbose info.
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,18 +31,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.eclipse.jdi.internal.jdwp.JdwpArrayID;
+import org.eclipse.jdi.internal.jdwp.JdwpClassID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataReader;
 import org.eclipse.jdi.internal.jdwp.JdwpFieldID;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpInterfaceID;
 import org.eclipse.jdi.internal.jdwp.JdwpMethodID;
 import org.eclipse.jdi.internal.jdwp.JdwpReferenceTypeID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpString;
 import org.eclipse.osgi.util.NLS;
 
 import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.ClassLoaderReference;
 import com.sun.jdi.ClassNotLoadedException;
-import com.sun.jdi.ClassNotPreparedException;
 import com.sun.jdi.ClassObjectReference;
 import com.sun.jdi.ClassType;
 import com.sun.jdi.Field;
@@ -464,6 +468,123 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		fSourceName = null;
 	}
 
+	/**
+	 * Retrieves the modifiers, interfaces, class loader, fields, methods,
+	 * source name and generic signature of this type that are not known yet,
+	 * with requests that are sent at once instead of one after the other when
+	 * each of them is first needed. See
+	 * {@link MirrorImpl#requestVM(int[], byte[][])}.
+	 * <p>
+	 * Requests that fail are ignored, they will be sent again and their
+	 * errors handled when the information is asked for.
+	 * </p>
+	 */
+	public void prefetch() {
+		prefetch(true);
+	}
+
+	/**
+	 * Retrieves the methods, source name and source debug extension of this
+	 * type that are not known yet, as needed to locate lines in this type,
+	 * like {@link #prefetch()} does.
+	 */
+	public void prefetchMethodsAndSourceName() {
+		prefetch(false);
+	}
+
+	/**
+	 * Retrieves the methods, source name and source debug extension of this
+	 * type that are not known yet, and the other information retrieved by
+	 * {@link #prefetch()} if asked for, with requests that are sent at once.
+	 */
+	protected void prefetch(boolean all) {
+		boolean withGenericSignature = virtualMachineImpl()
+				.isJdwpVersionGreaterOrEqual(1, 5);
+		int[] commands = new int[8];
+		int count = 0;
+		if (all && fModifierBits == -1) {
+			commands[count++] = JdwpCommandPacket.RT_MODIFIERS;
+		}
+		if (all && fInterfaces == null) {
+			commands[count++] = JdwpCommandPacket.RT_INTERFACES;
+		}
+		if (all && fClassLoader == null) {
+			commands[count++] = JdwpCommandPacket.RT_CLASS_LOADER;
+		}
+		if (all && fFields == null) {
+			commands[count++] = withGenericSignature ? JdwpCommandPacket.RT_FIELDS_WITH_GENERIC
+					: JdwpCommandPacket.RT_FIELDS;
+		}
+		if (fMethods == null) {
+			commands[count++] = withGenericSignature ? JdwpCommandPacket.RT_METHODS_WITH_GENERIC
+					: JdwpCommandPacket.RT_METHODS;
+		}
+		if (fSourceName == null) {
+			commands[count++] = JdwpCommandPacket.RT_SOURCE_FILE;
+		}
+		if (fSmap == null && fSourceDebugExtensionAvailable
+				&& virtualMachine().canGetSourceDebugExtension()) {
+			commands[count++] = JdwpCommandPacket.RT_SOURCE_DEBUG_EXTENSION;
+		}
+		if (all && !fGenericSignatureKnown && withGenericSignature) {
+			commands[count++] = JdwpCommandPacket.RT_SIGNATURE_WITH_GENERIC;
+		}
+		if (count == 0) {
+			return;
+		}
+		commands = Arrays.copyOf(commands, count);
+
+		initJdwpRequest();
+		try {
+			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+			DataOutputStream outData = new DataOutputStream(outBytes);
+			getRefTypeID().write(outData);
+			byte[][] data = new byte[count][];
+			Arrays.fill(data, outBytes.toByteArray());
+
+			JdwpReplyPacket[] replyPackets = requestVM(commands, data);
+			for (int i = 0; i < count; i++) {
+				JdwpReplyPacket replyPacket = replyPackets[i];
+				if (commands[i] == JdwpCommandPacket.RT_SOURCE_DEBUG_EXTENSION) {
+					prefetchedSourceDebugExtension(replyPacket);
+					continue;
+				}
+				if (replyPacket.errorCode() != JdwpReplyPacket.NONE) {
+					continue;
+				}
+				switch (commands[i]) {
+				case JdwpCommandPacket.RT_MODIFIERS:
+					readModifiers(replyPacket);
+					break;
+				case JdwpCommandPacket.RT_INTERFACES:
+					readInterfaces(replyPacket);
+					break;
+				case JdwpCommandPacket.RT_CLASS_LOADER:
+					readClassLoader(replyPacket);
+					break;
+				case JdwpCommandPacket.RT_FIELDS:
+				case JdwpCommandPacket.RT_FIELDS_WITH_GENERIC:
+					readFields(replyPacket, withGenericSignature);
+					break;
+				case JdwpCommandPacket.RT_METHODS:
+				case JdwpCommandPacket.RT_METHODS_WITH_GENERIC:
+					readMethods(replyPacket, withGenericSignature);
+					break;
+				case JdwpCommandPacket.RT_SOURCE_FILE:
+					readSourceName(replyPacket);
+					break;
+				case JdwpCommandPacket.RT_SIGNATURE_WITH_GENERIC:
+					readGenericSignature(replyPacket);
+					break;
+				}
+			}
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
 	/**
 	 * @return Returns the interfaces declared as implemented by this class.
 	 *         Interfaces indirectly implemented (extended by the implemented
@@ -525,9 +646,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.RT_MODIFIERS, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			fModifierBits = readInt(
-					"modifiers", AccessibleImpl.getModifierStrings(), replyData); //$NON-NLS-1$
+			readModifiers(replyPacket);
 			return fModifierBits;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -537,6 +656,15 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	/**
+	 * Reads the modifier bits from a successful RT_MODIFIERS reply.
+	 */
+	private void readModifiers(JdwpReplyPacket replyPacket) throws IOException {
+		DataInputStream replyData = replyPacket.dataInStream();
+		fModifierBits = readInt(
+				"modifiers", AccessibleImpl.getModifierStrings(), replyData); //$NON-NLS-1$
+	}
+
 	/**
 	 * Add methods to a set of methods if they are not overridden, add new
 	 * names+signature combinations to set of names+signature combinations.
@@ -666,18 +794,8 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			default:
 				defaultReplyErrorHandler(replyPacket.errorCode());
 			}
-			DataInputStream replyData = replyPacket.dataInStream();
-			List<InterfaceType> elements = new ArrayList<>();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			for (int i = 0; i < nrOfElements; i++) {
-				InterfaceTypeImpl ref = InterfaceTypeImpl.read(this, replyData);
-				if (ref == null) {
-					continue;
-				}
-				elements.add(ref);
-			}
-			fInterfaces = elements;
-			return elements;
+			readInterfaces(replyPacket);
+			return fInterfaces;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -686,6 +804,23 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	/**
+	 * Reads the interfaces from a successful RT_INTERFACES reply.
+	 */
+	private void readInterfaces(JdwpReplyPacket replyPacket) throws IOException {
+		DataInputStream replyData = replyPacket.dataInStream();
+		List<InterfaceType> elements = new ArrayList<>();
+		int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+		for (int i = 0; i < nrOfElements; i++) {
+			InterfaceTypeImpl ref = InterfaceTypeImpl.read(this, replyData);
+			if (ref == null) {
+				continue;
+			}
+			elements.add(ref);
+		}
+		fInterfaces = elements;
+	}
+
 	/**
 	 * Add fields to a set of fields if they are not overridden, add new field
 	 * names to set of field names.
@@ -805,8 +940,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.RT_CLASS_LOADER, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			fClassLoader = ClassLoaderReferenceImpl.read(this, replyData);
+			readClassLoader(replyPacket);
 			return fClassLoader;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -816,6 +950,14 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	/**
+	 * Reads the class loader from a successful RT_CLASS_LOADER reply.
+	 */
+	private void readClassLoader(JdwpReplyPacket replyPacket) throws IOException {
+		DataInputStream replyData = replyPacket.dataInStream();
+		fClassLoader = ClassLoaderReferenceImpl.read(this, replyData);
+	}
+
 	/**
 	 * @return Returns the class object that corresponds to this type in the
 	 *         target VM.
@@ -930,18 +1072,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					: JdwpCommandPacket.RT_FIELDS;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			List<Field> elements = new ArrayList<>();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			for (int i = 0; i < nrOfElements; i++) {
-				FieldImpl elt = FieldImpl.readWithNameSignatureModifiers(this,
-						this, withGenericSignature, replyData);
-				if (elt == null) {
-					continue;
-				}
-				elements.add(elt);
-			}
-			fFields = elements;
+			readFields(replyPacket, withGenericSignature);
 			return fFields;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -951,6 +1082,25 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	/**
+	 * Reads the fields from a successful RT_FIELDS or RT_FIELDS_WITH_GENERIC
+	 * reply.
+	 */
+	private void readFields(JdwpReplyPacket replyPacket, boolean withGenericSignature) throws IOException {
+		DataInputStream replyData = replyPacket.dataInStream();
+		List<Field> elements = new ArrayList<>();
+		int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+		for (int i = 0; i < nrOfElements; i++) {
+			FieldImpl elt = FieldImpl.readWithNameSignatureModifiers(this,
+					this, withGenericSignature, replyData);
+			if (elt == null) {
+				continue;
+			}
+			elements.add(elt);
+		}
+		fFields = elements;
+	}
+
 	/**
 	 * @return Returns FieldImpl of a field in the reference specified by a
 	 *         given fieldID, or null if not found.
@@ -1137,18 +1287,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					: JdwpCommandPacket.RT_METHODS;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			List<Method> elements = new ArrayList<>();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			for (int i = 0; i < nrOfElements; i++) {
-				MethodImpl elt = MethodImpl.readWithNameSignatureModifiers(
-						this, this, withGenericSignature, replyData);
-				if (elt == null) {
-					continue;
-				}
-				elements.add(elt);
-			}
-			fMethods = elements;
+			readMethods(replyPacket, withGenericSignature);
 			return fMethods;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -1158,6 +1297,25 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	/**
+	 * Reads the methods from a successful RT_METHODS or
+	 * RT_METHODS_WITH_GENERIC reply.
+	 */
+	private void readMethods(JdwpReplyPacket replyPacket, boolean withGenericSignature) throws IOException {
+		DataInputStream replyData = replyPacket.dataInStream();
+		List<Method> elements = new ArrayList<>();
+		int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+		for (int i = 0; i < nrOfElements; i++) {
+			MethodImpl elt = MethodImpl.readWithNameSignatureModifiers(
+					this, this, withGenericSignature, replyData);
+			if (elt == null) {
+				continue;
+			}
+			elements.add(elt);
+		}
+		fMethods = elements;
+	}
+
 	/**
 	 * @return Returns a List containing each visible Method that has the given
 	 *         name.
@@ -1218,7 +1376,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					JdwpCommandPacket.RT_SIGNATURE, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 			DataInputStream replyData = replyPacket.dataInStream();
-			setSignature(readString("signature", replyData)); //$NON-NLS-1$
+			setSignature(readInternedString("signature", replyData)); //$NON-NLS-1$
 			return fSignature;
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -1236,23 +1394,18 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	public List<ReferenceType> nestedTypes() {
 		// Note that the VM gives an empty reply on RT_NESTED_TYPES, therefore
 		// we search for the
-		// nested types in the loaded types.
-		List<ReferenceType> result = new ArrayList<>();
-		Iterator<ReferenceType> itr = virtualMachineImpl().allRefTypes();
-		while (itr.hasNext()) {
-			try {
-				ReferenceTypeImpl refType = (ReferenceTypeImpl) itr.next();
-				String refName = refType.name();
-				if (refName.length() > name().length()
-						&& refName.startsWith(name())
-						&& refName.charAt(name().length()) == '$') {
-					result.add(refType);
-				}
-			} catch (ClassNotPreparedException e) {
-				continue;
+		// nested types in the loaded types. The signatures of the loaded
+		// types are compared undecoded, with the name of this type followed
+		// by '$', and element types of arrays are compared like types.
+		String signature = signature();
+		byte[] prefix = JdwpString.encode(signature.substring(0, signature.length() - 1) + '$');
+		return virtualMachineImpl().allClasses((typeTag, refSignature) -> {
+			int offset = 0;
+			while (offset < refSignature.limit() && refSignature.get(offset) == '[') {
+				offset++;
 			}
-		}
-		return result;
+			return JdwpString.startsWith(refSignature, offset, prefix);
+		});
 	}
 
 	/**
@@ -1407,6 +1560,59 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 						+ typeTag);
 	}
 
+	/**
+	 * @return Reads JDWP representation and returns new or cached instance,
+	 *         without verbose output.
+	 */
+	static ReferenceTypeImpl readWithTypeTagAndSignature(
+			VirtualMachineImpl vmImpl, boolean withGenericSignature,
+			JdwpDataReader in) throws IOException {
+		byte typeTag = in.readByte();
+		JdwpReferenceTypeID ID;
+		switch (typeTag) {
+		case 0:
+			return null;
+		case ArrayTypeImpl.typeTag:
+			ID = new JdwpArrayID(vmImpl);
+			break;
+		case ClassTypeImpl.typeTag:
+			ID = new JdwpClassID(vmImpl);
+			break;
+		case InterfaceTypeImpl.typeTag:
+			ID = new JdwpInterfaceID(vmImpl);
+			break;
+		default:
+			throw new InternalException(
+					JDIMessages.ReferenceTypeImpl_Invalid_ReferenceTypeID_tag_encountered___8
+							+ typeTag);
+		}
+		ID.read(in);
+		StringTable strings = vmImpl.stringTable();
+		String signature = strings.intern(in.readString());
+		String genericSignature = withGenericSignature ? strings.intern(in.readString()) : null;
+		if (ID.isNull()) {
+			return null;
+		}
+		ReferenceTypeImpl mirror = vmImpl.getCachedMirror(ID);
+		if (mirror == null) {
+			switch (typeTag) {
+			case ArrayTypeImpl.typeTag:
+				mirror = new ArrayTypeImpl(vmImpl, (JdwpArrayID) ID);
+				break;
+			case ClassTypeImpl.typeTag:
+				mirror = new ClassTypeImpl(vmImpl, (JdwpClassID) ID);
+				break;
+			default:
+				mirror = new InterfaceTypeImpl(vmImpl, (JdwpInterfaceID) ID);
+				break;
+			}
+			vmImpl.addCachedMirror(mirror);
+		}
+		mirror.setSignature(signature);
+		mirror.setGenericSignature(genericSignature);
+		return mirror;
+	}
+
 	/**
 	 * @return Returns new instance based on signature and classLoader.
 	 * @throws ClassNotLoadedException
@@ -1749,6 +1955,37 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		} finally {
 			handledJdwpRequest();
 		}
+		parseSourceDebugExtension();
+	}
+
+	/**
+	 * Stores the source debug extension of a prefetched RT_SOURCE_DEBUG_EXTENSION
+	 * reply, or that it is absent. Other errors are ignored, the request is sent
+	 * again when the source debug extension is needed.
+	 */
+	private synchronized void prefetchedSourceDebugExtension(JdwpReplyPacket replyPacket) throws IOException {
+		if (fSmap != null || !fSourceDebugExtensionAvailable) {
+			return;
+		}
+		if (replyPacket.errorCode() == JdwpReplyPacket.ABSENT_INFORMATION) {
+			fSourceDebugExtensionAvailable = false;
+			return;
+		}
+		if (replyPacket.errorCode() != JdwpReplyPacket.NONE) {
+			return;
+		}
+		fSmap = readString(JDIMessages.ReferenceTypeImpl_32, replyPacket.dataInStream());
+		try {
+			parseSourceDebugExtension();
+		} catch (AbsentInformationException e) {
+			fSourceDebugExtensionAvailable = false;
+		}
+	}
+
+	/**
+	 * Parses the source debug extension read from the VM.
+	 */
+	private void parseSourceDebugExtension() throws AbsentInformationException {
 		// TODO: remove the workaround when the J9SC20030415 bug is fixed (see
 		// bug 96485 of the vendor bug system).
 		// Workaround to a J9SC bug. It returns an empty string instead of a
@@ -1781,8 +2018,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
-			fSourceName = readString("source name", replyData); //$NON-NLS-1$
+			readSourceName(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 		} finally {
@@ -1790,6 +2026,14 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	/**
+	 * Reads the source name from a successful RT_SOURCE_FILE reply.
+	 */
+	private void readSourceName(JdwpReplyPacket replyPacket) throws IOException {
+		DataInputStream replyData = replyPacket.dataInStream();
+		fSourceName = readInternedString("source name", replyData); //$NON-NLS-1$
+	}
+
 	/**
 	 * Check in the source debug extension is available. To call before doing
 	 * operations which need data from the SMAP. Return <code>false</code> if
@@ -2109,13 +2353,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 				JdwpReplyPacket replyPacket = requestVM(
 						JdwpCommandPacket.RT_SIGNATURE_WITH_GENERIC, this);
 				defaultReplyErrorHandler(replyPacket.errorCode());
-				DataInputStream replyData = replyPacket.dataInStream();
-				setSignature(readString("signature", replyData)); //$NON-NLS-1$
-				fGenericSignature = readString("generic signature", replyData); //$NON-NLS-1$
-				if (fGenericSignature.length() == 0) {
-					fGenericSignature = null;
-				}
-				fGenericSignatureKnown = true;
+				readGenericSignature(replyPacket);
 			} catch (IOException e) {
 				defaultIOExceptionHandler(e);
 				return null;
@@ -2128,6 +2366,20 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		return fGenericSignature;
 	}
 
+	/**
+	 * Reads the signature and generic signature from a successful
+	 * RT_SIGNATURE_WITH_GENERIC reply.
+	 */
+	private void readGenericSignature(JdwpReplyPacket replyPacket) throws IOException {
+		DataInputStream replyData = replyPacket.dataInStream();
+		setSignature(readInternedString("signature", replyData)); //$NON-NLS-1$
+		fGenericSignature = readInternedString("generic signature", replyData); //$NON-NLS-1$
+		if (fGenericSignature.length() == 0) {
+			fGenericSignature = null;
+		}
+		fGenericSignatureKnown = true;
+	}
+
 	/**
 	 * if genericSignature is <code>null</code>, the generic signature is set to
 	 * not-known (genericSignature() will ask the VM for the generic signature)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,14 +15,22 @@ package org.eclipse.jdi.internal;
 
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpStringID;
 
+import com.sun.jdi.ByteValue;
+import com.sun.jdi.CharValue;
+import com.sun.jdi.Field;
+import com.sun.jdi.IntegerValue;
 import com.sun.jdi.ObjectCollectedException;
+import com.sun.jdi.ReferenceType;
 import com.sun.jdi.StringReference;
+import com.sun.jdi.Value;
 
 /**
  * this class implements the corresponding interfaces declared by the JDI
@@ -33,6 +41,18 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 	/** JDWP Tag. */
 	public static final byte tag = JdwpID.STRING_TAG;
 
+	/**
+	 * Number of characters read at once from the backing array of a large
+	 * string.
+	 */
+	private static final int CHUNK_LENGTH = 32 * 1024;
+
+	/**
+	 * Length of this string, or <code>-1</code> if not known yet. Strings are
+	 * immutable, so the length does not change.
+	 */
+	private int fLength = -1;
+
 	/**
 	 * Creates new StringReferenceImpl.
 	 */
@@ -53,7 +73,189 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 	 */
 	@Override
 	public String value() {
-		// Note that this information should not be cached.
+		// The contents are only cached for the current suspend epoch.
+		StringValueCache cache = virtualMachineImpl().stringValueCache();
+		long epoch = cache.epoch();
+		long id = getObjectID().value();
+		StringValueCache.Entry entry = cache.get(id);
+		if (entry != null && entry.fComplete) {
+			return entry.fValue;
+		}
+		String result = readValue();
+		if (result != null) {
+			fLength = result.length();
+			cache.put(epoch, id, new StringValueCache.Entry(result));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the contents of this string, limited to the given number of
+	 * characters. The prefix of a string longer than the limit is read in
+	 * chunks from the backing array of the string, rather than transferring
+	 * the whole string. A string known to be shorter than the limit is read
+	 * at once.
+	 *
+	 * @param maxLength
+	 *            maximum number of characters to return, or <code>0</code> for
+	 *            no limit
+	 * @return Returns the contents of this string, or a prefix of them.
+	 */
+	public String value(int maxLength) {
+		if (maxLength <= 0) {
+			return value();
+		}
+		StringValueCache cache = virtualMachineImpl().stringValueCache();
+		long epoch = cache.epoch();
+		long id = getObjectID().value();
+		StringValueCache.Entry entry = cache.get(id);
+		if (entry == null) {
+			if (fLength >= 0 && fLength <= maxLength) {
+				return value();
+			}
+			entry = readBackingArray();
+			if (entry == null) {
+				// unknown layout
+				return truncate(value(), maxLength);
+			}
+		}
+		if (entry.fComplete || entry.fValue.length() >= maxLength) {
+			return truncate(entry.fValue, maxLength);
+		}
+		if (entry.fLength <= maxLength) {
+			// the whole string is needed, read it in one request
+			return value();
+		}
+		entry = readPrefix(entry, maxLength);
+		cache.put(epoch, id, entry);
+		return truncate(entry.fValue, maxLength);
+	}
+
+	/**
+	 * Returns the backing array of this string, as an entry with an empty
+	 * prefix, or <code>null</code> if the layout of strings in the target is
+	 * not known.
+	 */
+	private StringValueCache.Entry readBackingArray() {
+		StringValueCache.Layout layout = layout();
+		Field valueField = layout.fValueField;
+		if (valueField == null) {
+			return null;
+		}
+		Field coderField = layout.fCoderField;
+		Map<Field, Value> values = getValues(coderField == null ? List.of(valueField) : List.of(valueField, coderField));
+		if (!(values.get(valueField) instanceof ArrayReferenceImpl array)) {
+			return null;
+		}
+		String signature = valueField.signature();
+		if ("[C".equals(signature)) { //$NON-NLS-1$
+			// up to Java 8
+			fLength = array.length();
+			return new StringValueCache.Entry("", false, array, false, false, fLength); //$NON-NLS-1$
+		}
+		if (!"[B".equals(signature) || !(values.get(coderField) instanceof ByteValue coder)) { //$NON-NLS-1$
+			return null;
+		}
+		if (coder.value() == 0) {
+			fLength = array.length();
+			return new StringValueCache.Entry("", false, array, true, false, fLength); //$NON-NLS-1$
+		}
+		if (hiByteShift() < 0) {
+			return null;
+		}
+		fLength = array.length() / 2;
+		return new StringValueCache.Entry("", false, array, false, true, fLength); //$NON-NLS-1$
+	}
+
+	/**
+	 * Returns the fields of <code>java.lang.String</code> holding the contents
+	 * of strings, which are looked up once per target.
+	 */
+	private StringValueCache.Layout layout() {
+		StringValueCache cache = virtualMachineImpl().stringValueCache();
+		StringValueCache.Layout layout = cache.getLayout();
+		if (layout == null) {
+			ReferenceType type = referenceType();
+			Field valueField = type.fieldByName("value"); //$NON-NLS-1$
+			Field coderField = valueField == null ? null : type.fieldByName("coder"); //$NON-NLS-1$
+			layout = new StringValueCache.Layout(valueField, coderField);
+			cache.setLayout(layout);
+		}
+		return layout;
+	}
+
+	/**
+	 * Returns the shift of the high byte of UTF-16 characters in the backing
+	 * arrays of strings, which depends on the byte order of the target, or
+	 * <code>-1</code> if unknown.
+	 */
+	private int hiByteShift() {
+		StringValueCache cache = virtualMachineImpl().stringValueCache();
+		int shift = cache.getHiByteShift();
+		if (shift < 0) {
+			List<ReferenceType> types = virtualMachineImpl().classesByName("java.lang.StringUTF16"); //$NON-NLS-1$
+			if (!types.isEmpty()) {
+				ReferenceType type = types.get(0);
+				Field field = type.fieldByName("HI_BYTE_SHIFT"); //$NON-NLS-1$
+				if (field != null && type.getValue(field) instanceof IntegerValue value) {
+					shift = value.value();
+					cache.setHiByteShift(shift);
+				}
+			}
+		}
+		return shift;
+	}
+
+	/**
+	 * Extends the prefix of the given entry to the given length, reading the
+	 * missing characters in chunks from the backing array.
+	 */
+	private StringValueCache.Entry readPrefix(StringValueCache.Entry entry, int length) {
+		StringBuilder prefix = new StringBuilder(entry.fValue);
+		int end = Math.min(length, entry.fLength);
+		int hiShift = entry.fUtf16 ? hiByteShift() : 0;
+		while (prefix.length() < end) {
+			int start = prefix.length();
+			int count = Math.min(CHUNK_LENGTH, end - start);
+			if (entry.fUtf16) {
+				List<Value> bytes = entry.fArray.getValues(start * 2, count * 2);
+				for (int i = 0; i < count; i++) {
+					int b1 = ((ByteValue) bytes.get(2 * i)).value() & 0xff;
+					int b2 = ((ByteValue) bytes.get(2 * i + 1)).value() & 0xff;
+					prefix.append((char) ((b1 << hiShift) | (b2 << (8 - hiShift))));
+				}
+			} else {
+				for (Value value : entry.fArray.getValues(start, count)) {
+					if (entry.fLatin1) {
+						prefix.append((char) (((ByteValue) value).value() & 0xff));
+					} else {
+						prefix.append(((CharValue) value).value());
+					}
+				}
+			}
+		}
+		return entry.withPrefix(prefix.toString());
+	}
+
+	/**
+	 * Returns the given string, cut to the given length without splitting a
+	 * surrogate pair.
+	 */
+	private static String truncate(String value, int maxLength) {
+		if (value == null || value.length() <= maxLength) {
+			return value;
+		}
+		int end = maxLength;
+		if (Character.isHighSurrogate(value.charAt(end - 1))) {
+			end--;
+		}
+		return value.substring(0, end);
+	}
+
+	/**
+	 * @return Returns the contents of the string, read from the VM.
+	 */
+	private String readValue() {
 		initJdwpRequest();
 		try {
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.SR_VALUE,
@@ -0,0 +1,61 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Table of the names and signatures read from a virtual machine, so that the
+ * mirrors of the virtual machine share a single instance of each of them.
+ * <p>
+ * Many methods, fields and local variables have the same names and
+ * signatures, like <code>()V</code> or <code>Ljava/lang/String;</code>, which
+ * would otherwise be held once per mirror. The contents of strings read from
+ * the virtual machine are not held by the table.
+ * </p>
+ */
+final class StringTable {
+
+	private final ConcurrentHashMap<String, String> fStrings = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the instance of the given string held by the table, adding the
+	 * string to the table if needed.
+	 *
+	 * @param string
+	 *            a name or signature, or <code>null</code>
+	 * @return the shared instance of the string, or <code>null</code>
+	 */
+	String intern(String string) {
+		if (string == null) {
+			return null;
+		}
+		String shared = fStrings.putIfAbsent(string, string);
+		return shared == null ? string : shared;
+	}
+
+	/**
+	 * @return Returns the number of strings held by the table.
+	 */
+	int size() {
+		return fStrings.size();
+	}
+
+	/**
+	 * Removes all strings from the table.
+	 */
+	void clear() {
+		fStrings.clear();
+	}
+}
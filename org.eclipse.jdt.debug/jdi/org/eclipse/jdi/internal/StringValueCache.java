@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+
+import com.sun.jdi.Field;
+
+/**
+ * Cache of the contents of strings of a virtual machine, keyed by object ID.
+ * <p>
+ * The cache is scoped to a suspend epoch: it is cleared whenever code may run
+ * in the target, that is when threads are resumed, methods are invoked,
+ * classes are redefined or an event is received. Values read during an epoch
+ * are only added to the cache if the epoch did not change in the meantime.
+ * </p>
+ * <p>
+ * Entries either hold the complete contents of a string, or a prefix of the
+ * contents of a large string together with its backing array, so that the
+ * prefix can be extended without reading the whole string.
+ * </p>
+ */
+final class StringValueCache {
+
+	/**
+	 * Maximum number of characters held by the cache
+	 */
+	private static final int MAX_CACHED_CHARS = 1024 * 1024;
+
+	/**
+	 * Contents of a string, or a prefix of them
+	 */
+	static final class Entry {
+		/**
+		 * The contents, or a prefix of them
+		 */
+		final String fValue;
+		/**
+		 * Whether {@link #fValue} holds the complete contents
+		 */
+		final boolean fComplete;
+		/**
+		 * The backing array of the string, or <code>null</code> if unknown
+		 */
+		final ArrayReferenceImpl fArray;
+		/**
+		 * Whether the backing array holds UTF-16 characters as byte pairs
+		 */
+		final boolean fUtf16;
+		/**
+		 * Whether the backing array holds LATIN1 characters as bytes
+		 */
+		final boolean fLatin1;
+		/**
+		 * Length of the string, or <code>-1</code> if unknown
+		 */
+		final int fLength;
+
+		Entry(String value) {
+			this(value, true, null, false, false, value.length());
+		}
+
+		Entry(String value, boolean complete, ArrayReferenceImpl array, boolean latin1, boolean utf16, int length) {
+			fValue = value;
+			fComplete = complete;
+			fArray = array;
+			fLatin1 = latin1;
+			fUtf16 = utf16;
+			fLength = length;
+		}
+
+		Entry withPrefix(String prefix) {
+			return new Entry(prefix, prefix.length() == fLength, fArray, fLatin1, fUtf16, fLength);
+		}
+	}
+
+	/**
+	 * Fields of <code>java.lang.String</code> holding the contents of strings
+	 */
+	static final class Layout {
+		/**
+		 * The backing array, or <code>null</code> if the layout is not known
+		 */
+		final Field fValueField;
+		/**
+		 * The coder of the backing array, or <code>null</code> if strings
+		 * have none
+		 */
+		final Field fCoderField;
+
+		Layout(Field valueField, Field coderField) {
+			fValueField = valueField;
+			fCoderField = coderField;
+		}
+	}
+
+	private final LinkedHashMap<Long, Entry> fEntries = new LinkedHashMap<>(64, 0.75f, true);
+	private long fEpoch;
+	private int fCachedChars;
+
+	/**
+	 * Shift of the high byte of UTF-16 characters in the byte arrays of
+	 * strings of the target, or <code>-1</code> if unknown. This does not
+	 * change during the lifetime of the target.
+	 */
+	private volatile int fHiByteShift = -1;
+
+	/**
+	 * Layout of strings of the target, or <code>null</code> if not looked up
+	 * yet. This does not change during the lifetime of the target.
+	 */
+	private volatile Layout fLayout;
+
+	/**
+	 * Returns the current epoch, to be passed to
+	 * {@link #put(long, long, Entry)} for the values read from now on.
+	 */
+	synchronized long epoch() {
+		return fEpoch;
+	}
+
+	/**
+	 * Returns the cached entry of the string with the given object ID, or
+	 * <code>null</code>
+	 */
+	synchronized Entry get(long objectID) {
+		return fEntries.get(objectID);
+	}
+
+	/**
+	 * Caches the given entry, unless the epoch changed since the entry was
+	 * read
+	 */
+	synchronized void put(long epoch, long objectID, Entry entry) {
+		if (epoch != fEpoch || entry.fValue.length() > MAX_CACHED_CHARS) {
+			return;
+		}
+		Entry previous = fEntries.put(objectID, entry);
+		if (previous != null) {
+			fCachedChars -= previous.fValue.length();
+		}
+		fCachedChars += entry.fValue.length();
+		Iterator<Map.Entry<Long, Entry>> eldest = fEntries.entrySet().iterator();
+		while (fCachedChars > MAX_CACHED_CHARS && eldest.hasNext()) {
+			fCachedChars -= eldest.next().getValue().fValue.length();
+			eldest.remove();
+		}
+	}
+
+	/**
+	 * Starts a new epoch, discarding all cached entries
+	 */
+	synchronized void invalidate() {
+		fEpoch++;
+		fEntries.clear();
+		fCachedChars = 0;
+	}
+
+	/**
+	 * Starts a new epoch if the given command may run code in the target
+	 */
+	void commandSent(int command) {
+		switch (command) {
+			case JdwpCommandPacket.VM_RESUME:
+			case JdwpCommandPacket.VM_REDEFINE_CLASSES:
+			case JdwpCommandPacket.TR_RESUME:
+			case JdwpCommandPacket.CT_INVOKE_METHOD:
+			case JdwpCommandPacket.CT_NEW_INSTANCE:
+			case JdwpCommandPacket.IT_INVOKE_METHOD:
+			case JdwpCommandPacket.OR_INVOKE_METHOD:
+				invalidate();
+				break;
+			default:
+				break;
+		}
+	}
+
+	int getHiByteShift() {
+		return fHiByteShift;
+	}
+
+	void setHiByteShift(int shift) {
+		fHiByteShift = shift;
+	}
+
+	Layout getLayout() {
+		return fLayout;
+	}
+
+	void setLayout(Layout layout) {
+		fLayout = layout;
+	}
+}
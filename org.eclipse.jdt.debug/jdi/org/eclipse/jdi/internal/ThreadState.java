@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.util.List;
+
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ThreadReference;
+
+/**
+ * The state of a thread at the time it was retrieved by
+ * {@link VirtualMachineImpl#threadStates(List, boolean)}. The state is not
+ * updated when the thread changes.
+ */
+public class ThreadState {
+
+	private final ThreadReferenceImpl fThread;
+	String fName;
+	int fFrameCount = -1;
+	List<ObjectReference> fOwnedMonitors;
+
+	ThreadState(ThreadReferenceImpl thread) {
+		fThread = thread;
+	}
+
+	/**
+	 * @return Returns the thread.
+	 */
+	public ThreadReference thread() {
+		return fThread;
+	}
+
+	/**
+	 * @return Returns the name of the thread, see
+	 *         {@link ThreadReference#name()}.
+	 */
+	public String name() {
+		return fName;
+	}
+
+	/**
+	 * @return Returns the number of frames of the thread, or <code>-1</code>
+	 *         if the thread was not suspended.
+	 */
+	public int frameCount() {
+		return fFrameCount;
+	}
+
+	/**
+	 * @return Returns the monitors owned by the thread, or <code>null</code>
+	 *         if they were not requested or the thread was not suspended.
+	 */
+	public List<ObjectReference> ownedMonitors() {
+		return fOwnedMonitors;
+	}
+}
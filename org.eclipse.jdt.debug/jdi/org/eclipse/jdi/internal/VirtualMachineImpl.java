@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -31,6 +32,7 @@ import org.eclipse.jdi.internal.connect.PacketReceiveManager;
 import org.eclipse.jdi.internal.connect.PacketSendManager;
 import org.eclipse.jdi.internal.event.EventQueueImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpDataReader;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpReferenceTypeID;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
@@ -45,6 +47,7 @@ import com.sun.jdi.FloatValue;
 import com.sun.jdi.IntegerValue;
 import com.sun.jdi.LongValue;
 import com.sun.jdi.ObjectCollectedException;
+import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.ShortValue;
 import com.sun.jdi.StringReference;
@@ -98,6 +101,15 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	private final ValueCache fCachedReftypes = new ValueCache();
 	private final ValueCache fCachedObjects = new ValueCache();
 
+	/** Contents of strings read during the current suspend epoch. */
+	private final StringValueCache fStringValueCache = new StringValueCache();
+
+	/** Names and signatures shared by the mirrors of this VM. */
+	private final StringTable fStringTable = new StringTable();
+
+	/** Statistics of the JDWP requests performed on this VM. */
+	private final JdwpStatistics fJdwpStatistics = new JdwpStatistics(this);
+
 	/** The following are the stored results of JDWP calls. */
 	private String fVersionDescription = null; // Text information on the VM
 												// version.
@@ -184,6 +196,8 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		sendThread.setDaemon(true);
 		fPacketReceiveManager.setPartnerThread(sendThread);
 		sendThread.start();
+
+		fJdwpStatistics.register();
 	}
 
 	/**
@@ -235,6 +249,29 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		return (ObjectReferenceImpl) fCachedObjects.get(ID);
 	}
 
+	/**
+	 * @return Returns the cache of the contents of strings.
+	 */
+	StringValueCache stringValueCache() {
+		return fStringValueCache;
+	}
+
+	/**
+	 * @return Returns the table of the names and signatures shared by the
+	 *         mirrors of this VM.
+	 */
+	StringTable stringTable() {
+		return fStringTable;
+	}
+
+	/**
+	 * @return Returns the statistics of the JDWP requests performed on this
+	 *         VM.
+	 */
+	public JdwpStatistics jdwpStatistics() {
+		return fJdwpStatistics;
+	}
+
 	/**
 	 * Adds mirror object to cache.
 	 */
@@ -400,10 +437,68 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	}
 
 	/**
-	 * @return Returns an iterator over all loaded classes.
+	 * Filter of the loaded classes, applied to the undecoded JDWP
+	 * representation of each class.
+	 */
+	interface ClassFilter {
+		/**
+		 * @param typeTag
+		 *            the JDWP type tag of the class
+		 * @param signature
+		 *            the modified UTF-8 bytes of the signature of the class,
+		 *            see {@link JdwpDataReader#readUtf()}
+		 * @return whether the class is accepted
+		 */
+		boolean accept(byte typeTag, ByteBuffer signature);
+	}
+
+	/**
+	 * Returns the loaded classes accepted by the given filter. The reply is
+	 * read in place, and mirrors are only created for the accepted classes,
+	 * so that filtering all classes does not decode the signature of each
+	 * class nor create a mirror for it.
+	 *
+	 * @return Returns the loaded classes accepted by the filter.
 	 */
-	protected final Iterator<ReferenceType> allRefTypes() {
-		return allClasses().iterator();
+	List<ReferenceType> allClasses(ClassFilter filter) {
+		// Note that this information should not be cached.
+		initJdwpRequest();
+		try {
+			boolean withGenericSignature = isJdwpVersionGreaterOrEqual(1, 5);
+			int jdwpCommand = withGenericSignature ? JdwpCommandPacket.VM_ALL_CLASSES_WITH_GENERIC
+					: JdwpCommandPacket.VM_ALL_CLASSES;
+			JdwpReplyPacket replyPacket = requestVM(jdwpCommand);
+			defaultReplyErrorHandler(replyPacket.errorCode());
+			JdwpDataReader replyData = new JdwpDataReader(replyPacket.dataBuffer());
+			int nrOfElements = replyData.readInt();
+			List<ReferenceType> elements = new ArrayList<>();
+			for (int i = 0; i < nrOfElements; i++) {
+				int start = replyData.position();
+				byte typeTag = replyData.readByte();
+				replyData.skip(referenceTypeIDSize());
+				ByteBuffer signature = replyData.readUtf();
+				if (withGenericSignature) {
+					replyData.skipString();
+				}
+				replyData.skip(4); // status
+				if (typeTag == 0 || !filter.accept(typeTag, signature)) {
+					continue;
+				}
+				int end = replyData.position();
+				replyData.position(start);
+				ReferenceTypeImpl elt = ReferenceTypeImpl.readWithTypeTagAndSignature(this, withGenericSignature, replyData);
+				replyData.position(end);
+				if (elt != null) {
+					elements.add(elt);
+				}
+			}
+			return elements;
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		} finally {
+			handledJdwpRequest();
+		}
 	}
 
 	/**
@@ -878,6 +973,153 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		}
 	}
 
+	/**
+	 * Returns the suspend counts of the given threads, see
+	 * {@link ThreadReference#suspendCount()}. The requests for all threads are
+	 * pipelined.
+	 *
+	 * @param threads
+	 *            threads of this VM
+	 * @return the suspend counts, in the order of the threads, or
+	 *         <code>-1</code> for threads that have been collected
+	 */
+	public int[] suspendCounts(List<? extends ThreadReference> threads) {
+		initJdwpRequest();
+		try {
+			JdwpReplyPacket[] replies = requestVM(JdwpCommandPacket.TR_SUSPEND_COUNT, threads.toArray(new ThreadReferenceImpl[threads.size()]));
+			int[] counts = new int[replies.length];
+			for (int i = 0; i < replies.length; i++) {
+				switch (replies[i].errorCode()) {
+				case JdwpReplyPacket.INVALID_THREAD:
+				case JdwpReplyPacket.INVALID_OBJECT:
+					counts[i] = -1;
+					continue;
+				}
+				defaultReplyErrorHandler(replies[i].errorCode());
+				counts[i] = readInt("suspend count", replies[i].dataInStream()); //$NON-NLS-1$
+			}
+			return counts;
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Resumes each of the given threads once, see
+	 * {@link ThreadReference#resume()}. A thread contained n times is resumed n
+	 * times. Threads that have been collected are ignored. The requests for all
+	 * threads are pipelined.
+	 *
+	 * @param threads
+	 *            threads of this VM
+	 */
+	public void resume(List<? extends ThreadReference> threads) {
+		initJdwpRequest();
+		try {
+			ThreadReferenceImpl[] threadImpls = threads.toArray(new ThreadReferenceImpl[threads.size()]);
+			JdwpReplyPacket[] replies = requestVM(JdwpCommandPacket.TR_RESUME, threadImpls);
+			for (int i = 0; i < replies.length; i++) {
+				switch (replies[i].errorCode()) {
+				case JdwpReplyPacket.INVALID_THREAD:
+				case JdwpReplyPacket.INVALID_OBJECT:
+					continue;
+				}
+				defaultReplyErrorHandler(replies[i].errorCode());
+				threadImpls[i].resetEventFlags();
+			}
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Returns the state of each of the given threads: name, frame count and,
+	 * if requested and supported, owned monitors. The requests for all
+	 * threads are pipelined, so the time taken does not grow with the round
+	 * trip time to the VM for each thread.
+	 *
+	 * @param threads
+	 *            threads of this VM
+	 * @param ownedMonitors
+	 *            whether to retrieve the owned monitors of suspended threads
+	 * @return the states, in the order of the threads, or <code>null</code>
+	 *         for threads that have been collected
+	 */
+	public ThreadState[] threadStates(List<? extends ThreadReference> threads, boolean ownedMonitors) {
+		int[] commands = new int[] { JdwpCommandPacket.TR_NAME, JdwpCommandPacket.TR_FRAME_COUNT,
+				JdwpCommandPacket.TR_OWNED_MONITORS };
+		int perThread = ownedMonitors && canGetOwnedMonitorInfo() ? commands.length : commands.length - 1;
+		initJdwpRequest();
+		try {
+			ThreadReferenceImpl[] threadImpls = threads.toArray(new ThreadReferenceImpl[threads.size()]);
+			int[] allCommands = new int[threadImpls.length * perThread];
+			byte[][] data = new byte[allCommands.length][];
+			for (int i = 0; i < threadImpls.length; i++) {
+				ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+				DataOutputStream outData = new DataOutputStream(outBytes);
+				threadImpls[i].write(this, outData);
+				byte[] threadData = outBytes.toByteArray();
+				for (int j = 0; j < perThread; j++) {
+					allCommands[i * perThread + j] = commands[j];
+					data[i * perThread + j] = threadData;
+				}
+			}
+			JdwpReplyPacket[] replies = requestVM(allCommands, data);
+			ThreadState[] states = new ThreadState[threadImpls.length];
+			for (int i = 0; i < threadImpls.length; i++) {
+				states[i] = readThreadState(threadImpls[i], replies, i * perThread, perThread);
+			}
+			return states;
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Reads the state of a thread from the replies to the requests sent by
+	 * {@link #threadStates(List, boolean)}.
+	 */
+	private ThreadState readThreadState(ThreadReferenceImpl thread, JdwpReplyPacket[] replies, int offset, int count) throws IOException {
+		for (int i = offset; i < offset + count; i++) {
+			switch (replies[i].errorCode()) {
+			case JdwpReplyPacket.INVALID_THREAD:
+			case JdwpReplyPacket.INVALID_OBJECT:
+				return null;
+			}
+		}
+		ThreadState state = new ThreadState(thread);
+		JdwpReplyPacket replyPacket = replies[offset];
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		state.fName = readString("name", replyPacket.dataInStream()); //$NON-NLS-1$
+
+		replyPacket = replies[offset + 1];
+		if (replyPacket.errorCode() != JdwpReplyPacket.THREAD_NOT_SUSPENDED) {
+			defaultReplyErrorHandler(replyPacket.errorCode());
+			state.fFrameCount = readInt("frame count", replyPacket.dataInStream()); //$NON-NLS-1$
+		}
+
+		if (count > 2) {
+			replyPacket = replies[offset + 2];
+			if (replyPacket.errorCode() != JdwpReplyPacket.THREAD_NOT_SUSPENDED) {
+				defaultReplyErrorHandler(replyPacket.errorCode());
+				DataInputStream replyData = replyPacket.dataInStream();
+				int nrOfMonitors = readInt("nr of monitors", replyData); //$NON-NLS-1$
+				List<ObjectReference> monitors = new ArrayList<>(nrOfMonitors);
+				for (int i = 0; i < nrOfMonitors; i++) {
+					monitors.add(ObjectReferenceImpl.readObjectRefWithTag(thread, replyData));
+				}
+				state.fOwnedMonitors = monitors;
+			}
+		}
+		return state;
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.VirtualMachine#setDebugTraceMode(int)
 	 */
@@ -1517,6 +1759,10 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 */
 	public synchronized void setDisconnected(boolean disconnected) {
 		fIsDisconnected = disconnected;
+		if (disconnected) {
+			fJdwpStatistics.unregister();
+			fStringTable.clear();
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -206,6 +206,26 @@ public class PacketReceiveManager extends PacketManager {
 		return getReply(commandPacket.getId(), fVM.getRequestTimeout());
 	}
 
+	/**
+	 * @return Returns the number of command packets received and not yet
+	 *         consumed.
+	 */
+	public int getCommandPacketCount() {
+		synchronized (fCommandPackets) {
+			return fCommandPackets.size();
+		}
+	}
+
+	/**
+	 * @return Returns the number of reply packets received and not yet
+	 *         consumed.
+	 */
+	public int getReplyPacketCount() {
+		synchronized (fReplyPackets) {
+			return fReplyPackets.size();
+		}
+	}
+
 	/**
 	 * Wait for an available packet from the Virtual Machine.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -100,6 +100,15 @@ public class PacketSendManager extends PacketManager {
 		}
 	}
 
+	/**
+	 * @return Returns the number of packets waiting to be sent.
+	 */
+	public int getOutgoingPacketCount() {
+		synchronized (fOutgoingPackets) {
+			return fOutgoingPackets.size();
+		}
+	}
+
 	/**
 	 * Send available packets to the Virtual Machine.
 	 */
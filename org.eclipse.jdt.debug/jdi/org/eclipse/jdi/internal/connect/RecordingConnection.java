@@ -0,0 +1,159 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * Connection that records the raw JDWP packets exchanged over another
+ * connection to a binary file, which can be served again by a
+ * {@link ReplayConnection}.
+ * <p>
+ * A recording starts with the {@link #MAGIC} bytes and the format
+ * {@link #VERSION}, followed by one record per packet:
+ * </p>
+ * <ul>
+ * <li>the direction of the packet, {@link #SENT} by the debugger or
+ * {@link #RECEIVED} from the virtual machine (byte)</li>
+ * <li>the time of the packet in nanoseconds since the start of the recording
+ * (long)</li>
+ * <li>the length of the packet (int)</li>
+ * <li>the packet, including its JDWP header</li>
+ * </ul>
+ */
+public class RecordingConnection extends Connection {
+
+	/**
+	 * Bytes starting a recording
+	 */
+	static final byte[] MAGIC = { 'J', 'D', 'W', 'P', 'R', 'E', 'C' };
+
+	/**
+	 * Version of the recording format
+	 */
+	static final byte VERSION = 1;
+
+	/**
+	 * Direction of a packet sent by the debugger
+	 */
+	static final byte SENT = 0;
+
+	/**
+	 * Direction of a packet received from the virtual machine
+	 */
+	static final byte RECEIVED = 1;
+
+	private final Connection fConnection;
+	private final DataOutputStream fOutput;
+	private final long fStart;
+	private boolean fRecording = true;
+
+	/**
+	 * Creates a connection recording the packets exchanged over the given
+	 * connection to the given file.
+	 *
+	 * @param connection
+	 *            the connection to record
+	 * @param file
+	 *            the file to write the recording to
+	 * @throws IOException
+	 *             if the file cannot be created
+	 */
+	public RecordingConnection(Connection connection, File file) throws IOException {
+		fConnection = connection;
+		fOutput = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+		fOutput.write(MAGIC);
+		fOutput.writeByte(VERSION);
+		fStart = System.nanoTime();
+	}
+
+	@Override
+	public byte[] readPacket() throws IOException {
+		byte[] packet = fConnection.readPacket();
+		record(RECEIVED, packet);
+		return packet;
+	}
+
+	@Override
+	public void writePacket(byte[] packet) throws IOException {
+		// record the command first, its reply may be read before the write
+		// returns
+		record(SENT, packet);
+		fConnection.writePacket(packet);
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			fConnection.close();
+		} finally {
+			synchronized (fOutput) {
+				if (fRecording) {
+					fRecording = false;
+					fOutput.close();
+				}
+			}
+		}
+	}
+
+	@Override
+	public boolean isOpen() {
+		return fConnection.isOpen();
+	}
+
+	/**
+	 * Appends a record of the given packet to the recording. Failures to write
+	 * the recording stop the recording, but do not affect the connection.
+	 */
+	private void record(byte direction, byte[] packet) {
+		long time = System.nanoTime() - fStart;
+		int length = getPacketLength(packet);
+		synchronized (fOutput) {
+			if (!fRecording) {
+				return;
+			}
+			try {
+				fOutput.writeByte(direction);
+				fOutput.writeLong(time);
+				fOutput.writeInt(length);
+				fOutput.write(packet, 0, length);
+				if (direction == RECEIVED) {
+					// keep the recording usable if the debugger does not
+					// close the connection
+					fOutput.flush();
+				}
+			} catch (IOException e) {
+				fRecording = false;
+				try {
+					fOutput.close();
+				} catch (IOException e1) {
+					// already failed
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the length of the given packet as given by its header
+	 */
+	static int getPacketLength(byte[] packet) {
+		return ((packet[0] & 0xFF) << 24) + ((packet[1] & 0xFF) << 16) + ((packet[2] & 0xFF) << 8) + (packet[3] & 0xFF);
+	}
+}
@@ -0,0 +1,265 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+
+import com.sun.jdi.connect.spi.ClosedConnectionException;
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * Connection that serves the packets of a recording made by a
+ * {@link RecordingConnection}, without a virtual machine.
+ * <p>
+ * Each command written to the connection is matched with the first recorded
+ * command of the same command set, command and data that was not matched
+ * yet, and the recorded reply to that command is returned with the ID of the
+ * written command. Commands that were not recorded are answered with a
+ * {@link JdwpReplyPacket#NOT_IMPLEMENTED} error. Packets sent by the virtual
+ * machine on its own, like events, are returned in recorded order, once the
+ * command recorded last before them has been written.
+ * </p>
+ * <p>
+ * The timing of the recording is not reproduced: packets are returned as soon
+ * as they are due.
+ * </p>
+ */
+public class ReplayConnection extends Connection {
+
+	/**
+	 * Offset of the command set in a command packet. The command and the data
+	 * follow it.
+	 */
+	private static final int COMMAND_OFFSET = 9;
+
+	/**
+	 * Recorded packets, in recorded order
+	 */
+	private final List<byte[]> fPackets = new ArrayList<>();
+
+	/**
+	 * Indexes of the recorded commands that were not matched yet, keyed by
+	 * command set, command and data
+	 */
+	private final Map<ByteBuffer, ArrayDeque<Integer>> fCommands = new HashMap<>();
+
+	/**
+	 * Index of the reply to each recorded command, or <code>-1</code>
+	 */
+	private int[] fReplies;
+
+	/**
+	 * Whether each recorded command was matched
+	 */
+	private boolean[] fMatched;
+
+	/**
+	 * Indexes of the packets sent by the virtual machine on its own, and of
+	 * the command recorded last before each of them, or <code>-1</code>
+	 */
+	private final List<int[]> fEvents = new ArrayList<>();
+	private int fNextEvent;
+
+	/**
+	 * Packets due to be read
+	 */
+	private final ArrayDeque<byte[]> fDue = new ArrayDeque<>();
+
+	private boolean fOpen = true;
+
+	/**
+	 * Creates a connection serving the recording in the given file.
+	 *
+	 * @param file
+	 *            a recording made by a {@link RecordingConnection}
+	 * @throws IOException
+	 *             if the file cannot be read or is not a recording
+	 */
+	public ReplayConnection(File file) throws IOException {
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			byte[] magic = new byte[RecordingConnection.MAGIC.length];
+			input.readFully(magic);
+			if (!Arrays.equals(magic, RecordingConnection.MAGIC) || input.readByte() != RecordingConnection.VERSION) {
+				throw new IOException("Not a JDWP recording: " + file); //$NON-NLS-1$
+			}
+			List<Boolean> sent = new ArrayList<>();
+			while (true) {
+				byte direction;
+				try {
+					direction = input.readByte();
+				} catch (EOFException e) {
+					break;
+				}
+				input.readLong(); // time
+				byte[] packet = new byte[input.readInt()];
+				try {
+					input.readFully(packet);
+				} catch (EOFException e) {
+					// truncated recording
+					break;
+				}
+				fPackets.add(packet);
+				sent.add(Boolean.valueOf(direction == RecordingConnection.SENT));
+			}
+			index(sent);
+		}
+	}
+
+	/**
+	 * Indexes the recorded commands, their replies and the packets sent by
+	 * the virtual machine on its own
+	 */
+	private void index(List<Boolean> sent) {
+		int size = fPackets.size();
+		fReplies = new int[size];
+		fMatched = new boolean[size];
+		Arrays.fill(fReplies, -1);
+		Map<Integer, Integer> pending = new HashMap<>();
+		int lastCommand = -1;
+		for (int i = 0; i < size; i++) {
+			byte[] packet = fPackets.get(i);
+			if (sent.get(i).booleanValue()) {
+				fCommands.computeIfAbsent(commandKey(packet), k -> new ArrayDeque<>()).add(Integer.valueOf(i));
+				pending.put(Integer.valueOf(getId(packet)), Integer.valueOf(i));
+				lastCommand = i;
+			} else if (isReply(packet)) {
+				Integer command = pending.remove(Integer.valueOf(getId(packet)));
+				if (command != null) {
+					fReplies[command.intValue()] = i;
+				}
+			} else {
+				fEvents.add(new int[] { i, lastCommand });
+			}
+		}
+	}
+
+	@Override
+	public synchronized byte[] readPacket() throws IOException {
+		releaseEvents();
+		while (fOpen && fDue.isEmpty()) {
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ClosedConnectionException();
+			}
+		}
+		if (!fOpen) {
+			throw new ClosedConnectionException();
+		}
+		return fDue.removeFirst();
+	}
+
+	@Override
+	public synchronized void writePacket(byte[] packet) throws IOException {
+		if (!fOpen) {
+			throw new ClosedConnectionException();
+		}
+		int length = RecordingConnection.getPacketLength(packet);
+		if (length < COMMAND_OFFSET + 2 || length > packet.length) {
+			throw new IllegalArgumentException("Invalid JDWP packet"); //$NON-NLS-1$
+		}
+		if (isReply(packet)) {
+			// replies to the virtual machine are not answered
+			return;
+		}
+		int id = getId(packet);
+		ArrayDeque<Integer> commands = fCommands.get(commandKey(Arrays.copyOf(packet, length)));
+		Integer command = commands == null ? null : commands.pollFirst();
+		if (command == null) {
+			fDue.addLast(errorReply(id, JdwpReplyPacket.NOT_IMPLEMENTED));
+		} else {
+			int index = command.intValue();
+			fMatched[index] = true;
+			if (fReplies[index] >= 0) {
+				byte[] reply = fPackets.get(fReplies[index]).clone();
+				setId(reply, id);
+				fDue.addLast(reply);
+			}
+		}
+		releaseEvents();
+		notifyAll();
+	}
+
+	/**
+	 * Makes the packets sent by the virtual machine on its own due, in
+	 * recorded order, as far as the commands recorded before them have been
+	 * written
+	 */
+	private void releaseEvents() {
+		while (fNextEvent < fEvents.size()) {
+			int[] event = fEvents.get(fNextEvent);
+			if (event[1] >= 0 && !fMatched[event[1]]) {
+				return;
+			}
+			fDue.addLast(fPackets.get(event[0]));
+			fNextEvent++;
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		fOpen = false;
+		notifyAll();
+	}
+
+	@Override
+	public synchronized boolean isOpen() {
+		return fOpen;
+	}
+
+	private static ByteBuffer commandKey(byte[] packet) {
+		return ByteBuffer.wrap(Arrays.copyOfRange(packet, COMMAND_OFFSET, packet.length));
+	}
+
+	private static boolean isReply(byte[] packet) {
+		return (packet[8] & JdwpPacket.FLAG_REPLY_PACKET) != 0;
+	}
+
+	private static int getId(byte[] packet) {
+		return ((packet[4] & 0xFF) << 24) + ((packet[5] & 0xFF) << 16) + ((packet[6] & 0xFF) << 8) + (packet[7] & 0xFF);
+	}
+
+	private static void setId(byte[] packet, int id) {
+		packet[4] = (byte) (id >>> 24);
+		packet[5] = (byte) (id >>> 16);
+		packet[6] = (byte) (id >>> 8);
+		packet[7] = (byte) id;
+	}
+
+	private static byte[] errorReply(int id, short errorCode) {
+		byte[] reply = new byte[COMMAND_OFFSET + 2];
+		reply[3] = (byte) reply.length;
+		setId(reply, id);
+		reply[8] = JdwpPacket.FLAG_REPLY_PACKET;
+		reply[9] = (byte) (errorCode >>> 8);
+		reply[10] = (byte) errorCode;
+		return reply;
+	}
+}
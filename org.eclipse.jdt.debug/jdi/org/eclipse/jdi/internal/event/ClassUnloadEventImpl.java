@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,7 +50,7 @@ public class ClassUnloadEventImpl extends EventImpl implements ClassUnloadEvent
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		ClassUnloadEventImpl event = new ClassUnloadEventImpl(vmImpl, requestID);
-		event.fSignature = target.readString("signature", dataInStream); //$NON-NLS-1$
+		event.fSignature = target.readInternedString("signature", dataInStream); //$NON-NLS-1$
 		// Remove the class from classes that are known by the application to be
 		// loaded in the VM.
 		vmImpl.removeKnownRefType(event.fSignature);
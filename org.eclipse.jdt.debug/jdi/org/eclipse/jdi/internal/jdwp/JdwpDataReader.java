@@ -0,0 +1,162 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.jdwp;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads the data of a JDWP packet directly from the received bytes, without
+ * copying them.
+ * <p>
+ * Unlike the {@link java.io.DataInputStream} returned by
+ * {@link JdwpPacket#dataInStream()}, strings can be read as views on their
+ * modified UTF-8 bytes with {@link #readUtf()}, or skipped with
+ * {@link #skipString()}, so that strings which are only compared or not
+ * needed at all are not decoded. Values are read without verbose output.
+ * </p>
+ */
+public class JdwpDataReader {
+
+	private final ByteBuffer fBuffer;
+
+	/**
+	 * Creates a reader of the given data, starting at its current position.
+	 *
+	 * @param data
+	 *            the data of a JDWP packet, see {@link JdwpPacket#dataBuffer()}
+	 */
+	public JdwpDataReader(ByteBuffer data) {
+		fBuffer = data;
+	}
+
+	/**
+	 * Returns the position of the next value in the data.
+	 */
+	public int position() {
+		return fBuffer.position();
+	}
+
+	/**
+	 * Sets the position of the next value in the data, for instance to read a
+	 * value again.
+	 */
+	public void position(int position) {
+		fBuffer.position(position);
+	}
+
+	/**
+	 * Returns the number of bytes left to read.
+	 */
+	public int remaining() {
+		return fBuffer.remaining();
+	}
+
+	/**
+	 * Skips the given number of bytes.
+	 */
+	public void skip(int length) throws IOException {
+		ensure(length);
+		fBuffer.position(fBuffer.position() + length);
+	}
+
+	public byte readByte() throws IOException {
+		ensure(1);
+		return fBuffer.get();
+	}
+
+	public boolean readBoolean() throws IOException {
+		return readByte() != 0;
+	}
+
+	public char readChar() throws IOException {
+		ensure(2);
+		return fBuffer.getChar();
+	}
+
+	public short readShort() throws IOException {
+		ensure(2);
+		return fBuffer.getShort();
+	}
+
+	public int readInt() throws IOException {
+		ensure(4);
+		return fBuffer.getInt();
+	}
+
+	public long readLong() throws IOException {
+		ensure(8);
+		return fBuffer.getLong();
+	}
+
+	public float readFloat() throws IOException {
+		ensure(4);
+		return fBuffer.getFloat();
+	}
+
+	public double readDouble() throws IOException {
+		ensure(8);
+		return fBuffer.getDouble();
+	}
+
+	/**
+	 * Reads an unsigned ID of the given size in bytes.
+	 */
+	public long readID(int size) throws IOException {
+		ensure(size);
+		long value = 0;
+		for (int i = 0; i < size; i++) {
+			value = value << 8 | (fBuffer.get() & 0xFF);
+		}
+		return value;
+	}
+
+	/**
+	 * Reads a string.
+	 */
+	public String readString() throws IOException {
+		return JdwpString.decode(readUtf());
+	}
+
+	/**
+	 * Reads a string as a view on its modified UTF-8 bytes, from position
+	 * <code>0</code> to the limit of the returned buffer. The view is only
+	 * valid as long as the packet is.
+	 *
+	 * @see JdwpString#decode(ByteBuffer)
+	 * @see JdwpString#startsWith(ByteBuffer, int, byte[])
+	 */
+	public ByteBuffer readUtf() throws IOException {
+		int length = readInt();
+		ensure(length);
+		ByteBuffer utf = fBuffer.slice();
+		utf.limit(length);
+		fBuffer.position(fBuffer.position() + length);
+		return utf;
+	}
+
+	/**
+	 * Skips a string.
+	 */
+	public void skipString() throws IOException {
+		skip(readInt());
+	}
+
+	private void ensure(int length) throws EOFException {
+		if (length < 0 || fBuffer.remaining() < length) {
+			throw new EOFException();
+		}
+	}
+}
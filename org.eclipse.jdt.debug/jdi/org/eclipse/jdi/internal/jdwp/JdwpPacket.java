@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,9 +15,12 @@ package org.eclipse.jdi.internal.jdwp;
 
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 /**
  * This class implements the corresponding Java Debug Wire Protocol (JDWP)
@@ -35,6 +38,12 @@ public abstract class JdwpPacket {
 	protected int fId = 0;
 	protected byte fFlags = 0;
 	protected byte[] fDataBuf = null;
+	/**
+	 * Offset and length of the data in {@link #fDataBuf}, which holds the
+	 * whole received packet for packets built from bytes.
+	 */
+	protected int fDataOffset = 0;
+	protected int fDataLength = 0;
 
 	/**
 	 * Set Id.
@@ -75,23 +84,39 @@ public abstract class JdwpPacket {
 	 * @return Returns length of data in packet.
 	 */
 	public int getDataLength() {
-		return fDataBuf == null ? 0 : fDataBuf.length;
+		return fDataLength;
 	}
 
 	/**
 	 * @return Returns data of packet.
 	 */
 	public byte[] data() {
+		if (fDataBuf != null && (fDataOffset != 0 || fDataLength != fDataBuf.length)) {
+			fDataBuf = Arrays.copyOfRange(fDataBuf, fDataOffset, fDataOffset + fDataLength);
+			fDataOffset = 0;
+		}
 		return fDataBuf;
 	}
 
+	/**
+	 * @return Returns a view on the data of the packet, which is empty if
+	 *         there is none.
+	 * @see JdwpDataReader
+	 */
+	public ByteBuffer dataBuffer() {
+		if (fDataBuf == null) {
+			return ByteBuffer.allocate(0);
+		}
+		return ByteBuffer.wrap(fDataBuf, fDataOffset, fDataLength).slice();
+	}
+
 	/**
 	 * @return Returns DataInputStream with reply data, or an empty stream if
 	 *         there is none.
 	 */
 	public DataInputStream dataInStream() {
 		if (fDataBuf != null) {
-			return new DataInputStream(new ByteArrayInputStream(fDataBuf));
+			return new DataInputStream(new ByteArrayInputStream(fDataBuf, fDataOffset, fDataLength));
 		}
 
 		return new DataInputStream(new ByteArrayInputStream(new byte[0]));
@@ -102,6 +127,8 @@ public abstract class JdwpPacket {
 	 */
 	public void setData(byte[] data) {
 		fDataBuf = data;
+		fDataOffset = 0;
+		fDataLength = data == null ? 0 : data.length;
 	}
 
 	/**
@@ -117,7 +144,8 @@ public abstract class JdwpPacket {
 			throws IOException;
 
 	/**
-	 * Constructs a JdwpPacket from a byte[].
+	 * Constructs a JdwpPacket from a byte[]. The data of the packet is not
+	 * copied, the given bytes must not be modified afterwards.
 	 */
 	public static JdwpPacket build(byte[] bytes) throws IOException {
 		// length (int)
@@ -152,9 +180,12 @@ public abstract class JdwpPacket {
 		int index = 9;
 		index += packet.readSpecificHeaderFields(bytes, 9);
 		if (packetLength - MIN_PACKET_LENGTH > 0) {
-			packet.fDataBuf = new byte[packetLength - MIN_PACKET_LENGTH];
-			System.arraycopy(bytes, index, packet.fDataBuf, 0,
-					packet.fDataBuf.length);
+			if (index + packetLength - MIN_PACKET_LENGTH > bytes.length) {
+				throw new EOFException();
+			}
+			packet.fDataBuf = bytes;
+			packet.fDataOffset = index;
+			packet.fDataLength = packetLength - MIN_PACKET_LENGTH;
 		}
 
 		return packet;
@@ -186,7 +217,7 @@ public abstract class JdwpPacket {
 
 		if (index < len && fDataBuf != null) {
 			// copy data
-			System.arraycopy(fDataBuf, 0, bytes, index, fDataBuf.length);
+			System.arraycopy(fDataBuf, fDataOffset, bytes, index, fDataLength);
 		}
 		return bytes;
 	}
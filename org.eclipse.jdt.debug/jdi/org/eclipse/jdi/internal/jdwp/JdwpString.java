@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,8 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.UTFDataFormatException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 /**
  * This class implements the corresponding Java Debug Wire Protocol (JDWP) ID
@@ -31,15 +33,32 @@ public class JdwpString {
 		int utfSize = in.readInt();
 		byte utfBytes[] = new byte[utfSize];
 		in.readFully(utfBytes);
+		return decode(ByteBuffer.wrap(utfBytes));
+	}
+
+	/**
+	 * Decodes the modified UTF-8 bytes of a String, from position
+	 * <code>0</code> to the limit of the given buffer.
+	 */
+	public static String decode(ByteBuffer utf) throws UTFDataFormatException {
+		int utfSize = utf.limit();
+		int ascii = 0;
+		while (ascii < utfSize && utf.get(ascii) >= 0) {
+			ascii++;
+		}
+		if (ascii == utfSize && utf.hasArray()) {
+			// plain ASCII, which is the common case for names and signatures
+			return new String(utf.array(), utf.arrayOffset(), utfSize, StandardCharsets.ISO_8859_1);
+		}
 		/* Guess at buffer size */
 		StringBuilder strBuffer = new StringBuilder(utfSize / 3 * 2);
 		for (int i = 0; i < utfSize;) {
-			int a = utfBytes[i] & 0xFF;
+			int a = utf.get(i) & 0xFF;
 			if ((a >> 4) < 12) {
 				strBuffer.append((char) a);
 				i++;
 			} else {
-				int b = utfBytes[i + 1] & 0xFF;
+				int b = utf.get(i + 1) & 0xFF;
 				if ((a >> 4) < 14) {
 					if ((b & 0xBF) == 0) {
 						throw new UTFDataFormatException(
@@ -48,7 +67,7 @@ public class JdwpString {
 					strBuffer.append((char) (((a & 0x1F) << 6) | (b & 0x3F)));
 					i += 2;
 				} else {
-					int c = utfBytes[i + 2] & 0xFF;
+					int c = utf.get(i + 2) & 0xFF;
 					if ((a & 0xEF) > 0) {
 						if (((b & 0xBF) == 0) || ((c & 0xBF) == 0)) {
 							throw new UTFDataFormatException(
@@ -67,6 +86,25 @@ public class JdwpString {
 		return strBuffer.toString();
 	}
 
+	/**
+	 * Returns whether the modified UTF-8 bytes of a String, from position
+	 * <code>0</code> to the limit of the given buffer, hold the given bytes
+	 * at the given offset. Used to compare Strings without decoding them.
+	 *
+	 * @see #encode(String)
+	 */
+	public static boolean startsWith(ByteBuffer utf, int offset, byte[] prefix) {
+		if (offset < 0 || utf.limit() - offset < prefix.length) {
+			return false;
+		}
+		for (int i = 0; i < prefix.length; i++) {
+			if (utf.get(offset + i) != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Writes String to Jdwp stream. Write a UTF where length has 4 bytes, and
 	 * not just 2. This code was based on OTI Retsin source for writeUTF.
@@ -76,6 +114,17 @@ public class JdwpString {
 		if (str == null)
 			throw new NullPointerException(
 					JDWPMessages.JdwpString_str_is_null_4);
+		byte utfBytes[] = encode(str);
+		out.writeInt(utfBytes.length);
+		if (utfBytes.length > 0)
+			out.write(utfBytes);
+	}
+
+	/**
+	 * Returns the modified UTF-8 bytes of the given String, as written to Jdwp
+	 * streams.
+	 */
+	public static byte[] encode(String str) {
 		int utfCount = 0;
 		for (int i = 0; i < str.length(); i++) {
 			int charValue = str.charAt(i);
@@ -101,8 +150,6 @@ public class JdwpString {
 				utfBytes[utfIndex++] = (byte) (0x80 | (0x3f & charValue));
 			}
 		}
-		out.writeInt(utfCount);
-		if (utfCount > 0)
-			out.write(utfBytes);
+		return utfBytes;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,17 +33,23 @@ public class JDIDebugOptions implements DebugOptionsListener {
 	public static final String DEBUG_AST_EVALUATIONS_FLAG = "org.eclipse.jdt.debug/debug/astEvaluations"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_REQUEST_TIMES_FLAG = "org.eclipse.jdt.debug/debug/jdiRequestTimes"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_EVENTS_FLAG = "org.eclipse.jdt.debug/debug/jdiEvents"; //$NON-NLS-1$
+	public static final String DEBUG_HCR_FLAG = "org.eclipse.jdt.debug/debug/hcr"; //$NON-NLS-1$
 	public static final String DEBUG_FLAG = "org.eclipse.jdt.debug/debug"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_VERBOSE_FLAG = "org.eclipse.jdt.debug/debug/jdi/verbose"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_VERBOSE_FILE = "org.eclipse.jdt.debug/debug/jdi/verbose/file"; //$NON-NLS-1$
+	public static final String DEBUG_JDI_RECORD_FLAG = "org.eclipse.jdt.debug/debug/jdi/record"; //$NON-NLS-1$
+	public static final String DEBUG_JDI_RECORD_DIRECTORY_OPTION = "org.eclipse.jdt.debug/debug/jdi/record/directory"; //$NON-NLS-1$
 
 	public static boolean DEBUG = false;
 	public static boolean DEBUG_JDI_EVENTS = false;
 	public static boolean DEBUG_JDI_REQUEST_TIMES = false;
+	public static boolean DEBUG_HCR = false;
 	public static boolean DEBUG_AST_EVAL = false;
 	public static boolean DEBUG_AST_EVAL_THREAD_TRACE = false;
 	public static boolean DEBUG_JDI_VEBOSE;
 	public static String DEBUG_JDI_VEBOSE_FILE;
+	public static boolean DEBUG_JDI_RECORD;
+	public static String DEBUG_JDI_RECORD_DIRECTORY;
 
 	/**
 	 * The {@link DebugTrace} object to print to OSGi tracing
@@ -72,12 +78,17 @@ public class JDIDebugOptions implements DebugOptionsListener {
 		DEBUG = options.getBooleanOption(DEBUG_FLAG, false);
 		DEBUG_JDI_EVENTS = DEBUG && options.getBooleanOption(DEBUG_JDI_EVENTS_FLAG, false);
 		DEBUG_JDI_REQUEST_TIMES = DEBUG && options.getBooleanOption(DEBUG_JDI_REQUEST_TIMES_FLAG, false);
+		DEBUG_HCR = DEBUG && options.getBooleanOption(DEBUG_HCR_FLAG, false);
 		DEBUG_AST_EVAL = DEBUG && options.getBooleanOption(DEBUG_AST_EVALUATIONS_FLAG, false);
 		DEBUG_AST_EVAL_THREAD_TRACE = DEBUG && options.getBooleanOption(DEBUG_AST_EVALUATIONS_CALLING_THREADS_FLAG, false);
 		DEBUG_JDI_VEBOSE = DEBUG && options.getBooleanOption(DEBUG_JDI_VERBOSE_FLAG, false);
 		if (DEBUG && DEBUG_JDI_VEBOSE) {
 			DEBUG_JDI_VEBOSE_FILE = options.getOption(DEBUG_JDI_VERBOSE_FILE);
 		}
+		DEBUG_JDI_RECORD = DEBUG && options.getBooleanOption(DEBUG_JDI_RECORD_FLAG, false);
+		if (DEBUG_JDI_RECORD) {
+			DEBUG_JDI_RECORD_DIRECTORY = options.getOption(DEBUG_JDI_RECORD_DIRECTORY_OPTION);
+		}
 	}
 
 	/**
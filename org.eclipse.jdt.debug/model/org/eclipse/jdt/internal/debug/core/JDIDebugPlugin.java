@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -50,6 +50,7 @@ import org.eclipse.jdt.internal.debug.core.breakpoints.BreakpointListenerManager
 import org.eclipse.jdt.internal.debug.core.hcr.JavaHotCodeReplaceManager;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.EvaluationSourceCache;
 import org.osgi.framework.BundleContext;
 import org.osgi.service.prefs.BackingStoreException;
 
@@ -121,6 +122,16 @@ public class JDIDebugPlugin extends Plugin implements IEclipsePreferences.IPrefe
 	public static final String PREF_ENABLE_ADVANCED_SOURCELOOKUP = JDIDebugPlugin
 			.getUniqueIdentifier() + ".enable_advanced_sourcelookup"; //$NON-NLS-1$
 
+	/**
+	 * Boolean preference controlling if the methods, source name and source
+	 * debug extension of a type in which a breakpoint installs are retrieved
+	 * at once when the type is prepared.
+	 *
+	 * @since 3.24
+	 */
+	public static final String PREF_PREFETCH_BREAKPOINT_TYPES = JDIDebugPlugin
+			.getUniqueIdentifier() + ".prefetch_breakpoint_types"; //$NON-NLS-1$
+
 	/**
 	 * Extension point for java logical structures.
 	 *
@@ -324,6 +335,7 @@ public class JDIDebugPlugin extends Plugin implements IEclipsePreferences.IPrefe
 					}
 				});
 		JavaHotCodeReplaceManager.getDefault().startup();
+		EvaluationSourceCache.getDefault().startup();
 		fBreakpointListeners = new ListenerList<>();
 		fJavaBreakpointManager = new BreakpointListenerManager();
 		IEclipsePreferences node = getInstancePreferences();
@@ -371,6 +383,7 @@ public class JDIDebugPlugin extends Plugin implements IEclipsePreferences.IPrefe
 			if(node != null) {
 				node.removePreferenceChangeListener(this);
 			}
+			EvaluationSourceCache.getDefault().shutdown();
 			JavaHotCodeReplaceManager.getDefault().shutdown();
 			ILaunchManager launchManager = DebugPlugin.getDefault()
 					.getLaunchManager();
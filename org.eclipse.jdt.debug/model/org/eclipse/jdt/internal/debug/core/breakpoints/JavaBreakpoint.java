@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,6 +32,7 @@ import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
 import org.eclipse.debug.core.model.Breakpoint;
 import org.eclipse.debug.core.model.IDebugTarget;
+import org.eclipse.jdi.internal.ReferenceTypeImpl;
 import org.eclipse.jdt.debug.core.IJavaBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaBreakpointListener;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
@@ -381,7 +382,17 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 				// inappropriate type
 				return true;
 			}
-			createRequest(target, event.referenceType());
+			ReferenceType type = event.referenceType();
+			if (type instanceof ReferenceTypeImpl && Platform.getPreferencesService().getBoolean(
+					JDIDebugPlugin.getUniqueIdentifier(),
+					JDIDebugPlugin.PREF_PREFETCH_BREAKPOINT_TYPES,
+					true,
+					null)) {
+				// the request needs the methods and source of the type: ask for
+				// them at once rather than one after the other
+				((ReferenceTypeImpl) type).prefetchMethodsAndSourceName();
+			}
+			createRequest(target, type);
 		} catch (CoreException e) {
 			JDIDebugPlugin.log(e);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.resources.IResource;
@@ -29,7 +30,6 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.preferences.IPreferencesService;
 import org.eclipse.debug.core.DebugException;
-import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaExceptionBreakpoint;
@@ -133,6 +133,11 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 	 */
 	protected String[] fExclusionClassFilters = null;
 
+	/**
+	 * Compiled class filters, by filter
+	 */
+	private static final Map<String, Pattern> fgFilterPatterns = new ConcurrentHashMap<>();
+
 	private ObjectReference fLastException;
 	private JDIDebugTarget fLastTarget;
 
@@ -403,41 +408,33 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 			}
 			setExceptionName(name);
 			disableTriggerPoint(event);
-			IBreakpoint[] allBreakpoints = DebugPlugin.getDefault().getBreakpointManager().getBreakpoints();
-			for (IBreakpoint iBreakpoint : allBreakpoints) {
-				if (iBreakpoint instanceof JavaExceptionBreakpoint) {
-					JavaExceptionBreakpoint jExceptionBreakpoint = (JavaExceptionBreakpoint)iBreakpoint;
-					try {
-						//This Java Exception breakpoint is the  breakpoint created for catching compilation and Uncaught exception in JavaDebugOptionsManagaer initialization
-						// This does not have scope defined
-						if (jExceptionBreakpoint.getTypeName().equals(name)) {
-							if (jExceptionBreakpoint.getExclusionClassFilters().length >= 1
-						|| jExceptionBreakpoint.getInclusionClassFilters().length >= 1
-						|| filtersIncludeDefaultPackage(jExceptionBreakpoint.fInclusionClassFilters)
-						|| filtersIncludeDefaultPackage(jExceptionBreakpoint.fExclusionClassFilters)) {
-							Location location = ((ExceptionEvent) event).location();
-							String typeName = location.declaringType().name();
-							boolean defaultPackage = typeName.indexOf('.') == -1;
-							boolean included = true;
-							String[] filters = jExceptionBreakpoint.getInclusionClassFilters();
-							if (filters.length > 0) {
-								included = matchesFilters(filters, typeName, defaultPackage);
-							}
-							boolean excluded = false;
-							filters = jExceptionBreakpoint.getExclusionClassFilters();
-							if (filters.length > 0) {
-								excluded = matchesFilters(filters, typeName, defaultPackage);
-							}
-							if (included && !excluded) {
-								return !suspend(thread, suspendVote);
-							}
-							return true;
-							}
+			for (JavaExceptionBreakpoint jExceptionBreakpoint : thread.getJavaDebugTarget().getExceptionBreakpoints(name)) {
+				try {
+					//This Java Exception breakpoint is the  breakpoint created for catching compilation and Uncaught exception in JavaDebugOptionsManagaer initialization
+					// This does not have scope defined
+					if (jExceptionBreakpoint.getExclusionClassFilters().length >= 1
+							|| jExceptionBreakpoint.getInclusionClassFilters().length >= 1) {
+						Location location = ((ExceptionEvent) event).location();
+						String typeName = location.declaringType().name();
+						boolean defaultPackage = typeName.indexOf('.') == -1;
+						boolean included = true;
+						String[] filters = jExceptionBreakpoint.getInclusionClassFilters();
+						if (filters.length > 0) {
+							included = matchesFilters(filters, typeName, defaultPackage);
 						}
+						boolean excluded = false;
+						filters = jExceptionBreakpoint.getExclusionClassFilters();
+						if (filters.length > 0) {
+							excluded = matchesFilters(filters, typeName, defaultPackage);
+						}
+						if (included && !excluded) {
+							return !suspend(thread, suspendVote);
+						}
+						return true;
 					}
-					catch (CoreException e) {
-						e.printStackTrace();
-					}
+				}
+				catch (CoreException e) {
+					e.printStackTrace();
 				}
 			}
 
@@ -518,9 +515,11 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 				return true;
 			}
 
-			filter = filter.replaceAll("\\.", "\\\\."); //$NON-NLS-1$//$NON-NLS-2$
-			filter = filter.replaceAll("\\*", "\\.\\*"); //$NON-NLS-1$//$NON-NLS-2$
-			Pattern pattern = Pattern.compile(filter);
+			Pattern pattern = fgFilterPatterns.computeIfAbsent(filter, f -> {
+				String regex = f.replaceAll("\\.", "\\\\."); //$NON-NLS-1$//$NON-NLS-2$
+				regex = regex.replaceAll("\\*", "\\.\\*"); //$NON-NLS-1$//$NON-NLS-2$
+				return Pattern.compile(regex);
+			});
 			if (pattern.matcher(typeName).find()) {
 				return true;
 			}
@@ -596,19 +595,42 @@ public class JavaExceptionBreakpoint extends JavaBreakpoint implements
 
 		ExceptionRequest request = (ExceptionRequest) eRequest;
 
-		if (iFilters.length == 1) {
-			if (eFilters.length == 0) {
-				request.addClassFilter(iFilters[0]);
-			}
-		} else if (eFilters.length == 1) {
-			if (iFilters.length == 0) {
-				request.addClassExclusionFilter(eFilters[0]);
+		// the class filters of the request only reduce the exceptions reported,
+		// the exceptions are still matched against the filters of this
+		// breakpoint, which also match nested types. The class filters of a
+		// request must all match, so several inclusion filters cannot be
+		// expressed, but any number of exclusion filters can
+		if (iFilters.length == 1 && isVMFilter(iFilters[0]) && !iFilters[0].startsWith("*")) { //$NON-NLS-1$
+			String filter = iFilters[0];
+			request.addClassFilter(filter.endsWith("*") ? filter : filter + '*'); //$NON-NLS-1$
+		}
+		for (String filter : eFilters) {
+			if (isVMFilter(filter)) {
+				request.addClassExclusionFilter(filter);
 			}
 		}
 
 		super.configureRequest(eRequest, target);
 	}
 
+	/**
+	 * Returns whether the given filter can be added to an exception request as
+	 * a class filter. Class filters of requests only support a leading or
+	 * trailing wildcard, and filters for the default package are matched by
+	 * the debugger.
+	 *
+	 * @param filter
+	 *            the filter
+	 * @return whether the filter can be applied by the VM
+	 */
+	private static boolean isVMFilter(String filter) {
+		if (filter.indexOf('.') == -1) {
+			return false;
+		}
+		int wildcard = filter.indexOf('*');
+		return wildcard == -1 || (wildcard == filter.lastIndexOf('*') && (wildcard == 0 || wildcard == filter.length() - 1));
+	}
+
 	/**
 	 * Serializes the array of Strings into one comma separated String. Removes
 	 * duplicates.
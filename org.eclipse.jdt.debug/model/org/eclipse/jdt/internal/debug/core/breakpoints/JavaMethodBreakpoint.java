@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,7 +13,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core.breakpoints;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -125,6 +127,13 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	 */
 	private final Map<IDebugTarget, Integer> fLastEventTypes = new HashMap<>(10);
 
+	/**
+	 * Property set on the breakpoint requests installed on the return sites of
+	 * the method, which are used in place of a method exit request, and on the
+	 * method exit requests armed when a return site is hit.
+	 */
+	private static final String RETURN_SITE = "org.eclipse.jdt.debug.core.returnSite"; //$NON-NLS-1$
+
 	/**
 	 * Used to match type names
 	 */
@@ -375,7 +384,9 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 	protected void updateEnabledState(EventRequest request,
 			JDIDebugTarget target) throws CoreException {
 		boolean enabled = isEnabled();
-		if (request instanceof MethodEntryRequest
+		if (isReturnSite(request)) {
+			enabled = enabled && isExit();
+		} else if (request instanceof MethodEntryRequest
 				|| request instanceof BreakpointRequest) {
 			enabled = enabled && isEntry();
 		} else if (request instanceof MethodExitRequest) {
@@ -431,6 +442,9 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 			MethodExitEvent exitEvent = (MethodExitEvent) event;
 			fLastEventTypes.put(thread.getDebugTarget(), EXIT_EVENT);
 			//inActivateTriggerPoint(event);
+			if (isReturnSite(event.request())) {
+				deleteReturnSiteExitRequest(exitEvent.request(), thread.getJavaDebugTarget());
+			}
 			boolean result = handleMethodEvent(exitEvent, exitEvent.method(), thread,
 					suspendVote);
 			if (!result) {
@@ -439,12 +453,63 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 			}
 			return result;
 		} else if (event instanceof BreakpointEvent) {
+			if (isReturnSite(event.request())) {
+				return handleReturnSiteEvent((BreakpointEvent) event, thread, suspendVote);
+			}
 			fLastEventTypes.put(thread.getDebugTarget(), ENTRY_EVENT);
 			return super.handleBreakpointEvent(event, thread, suspendVote);
 		}
 		return true;
 	}
 
+	/**
+	 * Handles a hit of a return site of the method. The return value is not
+	 * available at a return site, so when method results are shown, a method
+	 * exit request is armed for the thread instead, and the breakpoint is
+	 * handled at the method exit which follows.
+	 */
+	private boolean handleReturnSiteEvent(BreakpointEvent event, JDIThread thread,
+			boolean suspendVote) {
+		JDIDebugTarget target = thread.getJavaDebugTarget();
+		EventRequestManager manager = target.getEventRequestManager();
+		if (manager != null && JDIThread.showStepResultIsEnabled(target)) {
+			try {
+				MethodExitRequest request = manager.createMethodExitRequest();
+				request.addClassFilter(event.location().declaringType());
+				request.addThreadFilter(event.thread());
+				request.addCountFilter(1);
+				request.setSuspendPolicy(getJDISuspendPolicy());
+				request.putProperty(JAVA_BREAKPOINT_PROPERTY, this);
+				request.putProperty(RETURN_SITE, Boolean.TRUE);
+				target.addJDIEventListener(this, request);
+				request.enable();
+				return true;
+			} catch (CoreException e) {
+				JDIDebugPlugin.log(e);
+			} catch (RuntimeException e) {
+				JDIDebugPlugin.log(e);
+			}
+		}
+		fLastEventTypes.put(thread.getDebugTarget(), EXIT_EVENT);
+		return super.handleBreakpointEvent(event, thread, suspendVote);
+	}
+
+	/**
+	 * Deletes a method exit request armed when a return site was hit, once its
+	 * only event is reported.
+	 */
+	private void deleteReturnSiteExitRequest(EventRequest request, JDIDebugTarget target) {
+		target.removeJDIEventListener(this, request);
+		EventRequestManager manager = target.getEventRequestManager();
+		if (manager != null) {
+			try {
+				manager.deleteEventRequest(request);
+			} catch (VMDisconnectedException e) {
+				// nothing to clean up
+			}
+		}
+	}
+
 	/**
 	 * Method entry/exit events are fired each time any method is invoked in a
 	 * class in which a method entry/exit breakpoint has been installed. When a
@@ -747,13 +812,116 @@ public class JavaMethodBreakpoint extends JavaLineBreakpoint implements
 			return false;
 		}
 		EventRequest entryRequest = createMethodEntryRequest(target, type);
-		EventRequest exitRequest = createMethodExitRequest(target, type);
-
 		registerRequest(entryRequest, target);
-		registerRequest(exitRequest, target);
+		EventRequest[] returnSiteRequests = createReturnSiteRequests(target, type);
+		if (returnSiteRequests != null) {
+			for (EventRequest request : returnSiteRequests) {
+				registerRequest(request, target);
+			}
+		} else {
+			registerRequest(createMethodExitRequest(target, type), target);
+		}
 		return true;
 	}
 
+	/**
+	 * Returns breakpoint requests on the return instructions of the method of
+	 * this breakpoint, or <code>null</code> if a method exit request has to be
+	 * used instead. Like the line breakpoint used for method entry, these
+	 * requests are only created when the method resolves exactly in the given
+	 * type, so that the virtual machine does not report every method exit of
+	 * the type.
+	 *
+	 * @param target
+	 *            the target in which to create the requests
+	 * @param type
+	 *            the type on which to create the requests
+	 * @return breakpoint requests on the return sites of the method, or
+	 *         <code>null</code>
+	 * @exception CoreException
+	 *                if an exception occurs accessing this breakpoint's
+	 *                underlying marker
+	 */
+	private EventRequest[] createReturnSiteRequests(JDIDebugTarget target,
+			ReferenceType type) throws CoreException {
+		if (!isExit() || isNativeOnly() || !(type instanceof ClassType)
+				|| getMethodName() == null || getMethodSignature() == null
+				|| !type.name().equals(getTypeName())) {
+			return null;
+		}
+		EventRequestManager manager = target.getEventRequestManager();
+		if (manager == null) {
+			return null;
+		}
+		List<EventRequest> requests = new ArrayList<>();
+		try {
+			if (!target.getVM().canGetBytecodes()) {
+				return null;
+			}
+			Method method = ((ClassType) type).concreteMethodByName(
+					getMethodName(), getMethodSignature());
+			if (method == null || method.isNative() || method.isAbstract()) {
+				return null;
+			}
+			if (getHitCount() > 0) {
+				// hit counts would be counted per return site
+				return null;
+			}
+			long[] sites = MethodExitSites.find(method.bytecodes());
+			if (sites == null || sites.length == 0) {
+				return null;
+			}
+			Location entry = method.location();
+			for (long site : sites) {
+				if (entry != null && entry.codeIndex() == site) {
+					// as in an empty method, the entry request would be on the
+					// same location and its events merged with the exit ones
+					return null;
+				}
+			}
+			for (long site : sites) {
+				Location location = method.locationOfCodeIndex(site);
+				if (location == null) {
+					deleteRequests(manager, requests);
+					return null;
+				}
+				BreakpointRequest request = manager.createBreakpointRequest(location);
+				requests.add(request);
+				request.putProperty(RETURN_SITE, Boolean.TRUE);
+				configureRequest(request, target);
+			}
+		} catch (VMDisconnectedException e) {
+			deleteRequests(manager, requests);
+			if (!target.isAvailable()) {
+				return new EventRequest[0];
+			}
+			JDIDebugPlugin.log(e);
+			return null;
+		} catch (RuntimeException e) {
+			// e.g. bytecodes are not available, fall back to a method exit request
+			deleteRequests(manager, requests);
+			return null;
+		}
+		return requests.toArray(new EventRequest[requests.size()]);
+	}
+
+	private void deleteRequests(EventRequestManager manager, List<EventRequest> requests) {
+		try {
+			manager.deleteEventRequests(requests);
+		} catch (VMDisconnectedException e) {
+			// nothing to clean up
+		}
+		requests.clear();
+	}
+
+	/**
+	 * Returns whether the given request is installed on a return site of the
+	 * method of this breakpoint, or is armed when a return site is hit.
+	 */
+	private static boolean isReturnSite(EventRequest request) {
+		return request.getProperty(RETURN_SITE) != null;
+	}
+
 	/**
 	 * @see org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint#setTypeName(String)
 	 */
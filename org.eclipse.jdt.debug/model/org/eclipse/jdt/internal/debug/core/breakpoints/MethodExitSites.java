@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.breakpoints;
+
+import java.util.Arrays;
+
+/**
+ * Finds the instructions of a method's bytecode where the method returns. Like
+ * method exit events, which are not reported for a method that terminates with
+ * an exception, the <code>athrow</code> instructions are not included.
+ */
+public final class MethodExitSites {
+
+	private static final int TABLESWITCH = 0xaa;
+	private static final int LOOKUPSWITCH = 0xab;
+	private static final int IRETURN = 0xac;
+	private static final int RETURN = 0xb1;
+	private static final int WIDE = 0xc4;
+	private static final int IINC = 0x84;
+
+	/**
+	 * Length of the instructions by opcode, including the opcode. Variable
+	 * length and undefined instructions have length <code>0</code>.
+	 */
+	private static final byte[] LENGTHS = new byte[256];
+
+	static {
+		setLength(0x00, 0x0f, 1); // nop - dconst_1
+		setLength(0x10, 0x10, 2); // bipush
+		setLength(0x11, 0x11, 3); // sipush
+		setLength(0x12, 0x12, 2); // ldc
+		setLength(0x13, 0x14, 3); // ldc_w, ldc2_w
+		setLength(0x15, 0x19, 2); // iload - aload
+		setLength(0x1a, 0x35, 1); // iload_0 - saload
+		setLength(0x36, 0x3a, 2); // istore - astore
+		setLength(0x3b, 0x83, 1); // istore_0 - lxor
+		setLength(0x84, 0x84, 3); // iinc
+		setLength(0x85, 0x98, 1); // i2l - dcmpg
+		setLength(0x99, 0xa8, 3); // ifeq - jsr
+		setLength(0xa9, 0xa9, 2); // ret
+		setLength(0xac, 0xb1, 1); // ireturn - return
+		setLength(0xb2, 0xb8, 3); // getstatic - invokestatic
+		setLength(0xb9, 0xba, 5); // invokeinterface, invokedynamic
+		setLength(0xbb, 0xbb, 3); // new
+		setLength(0xbc, 0xbc, 2); // newarray
+		setLength(0xbd, 0xbd, 3); // anewarray
+		setLength(0xbe, 0xbf, 1); // arraylength, athrow
+		setLength(0xc0, 0xc1, 3); // checkcast, instanceof
+		setLength(0xc2, 0xc3, 1); // monitorenter, monitorexit
+		setLength(0xc5, 0xc5, 4); // multianewarray
+		setLength(0xc6, 0xc7, 3); // ifnull, ifnonnull
+		setLength(0xc8, 0xc9, 5); // goto_w, jsr_w
+	}
+
+	private static void setLength(int from, int to, int length) {
+		Arrays.fill(LENGTHS, from, to + 1, (byte) length);
+	}
+
+	private MethodExitSites() {
+	}
+
+	/**
+	 * Returns the code indexes of the return instructions of the given
+	 * bytecode, or <code>null</code> if the bytecode cannot be decoded.
+	 *
+	 * @param bytecodes
+	 *            the bytecode of a method
+	 * @return code indexes of the return instructions, or <code>null</code>
+	 */
+	public static long[] find(byte[] bytecodes) {
+		long[] sites = new long[4];
+		int count = 0;
+		int pc = 0;
+		try {
+			while (pc < bytecodes.length) {
+				int opcode = bytecodes[pc] & 0xff;
+				if (opcode >= IRETURN && opcode <= RETURN) {
+					if (count == sites.length) {
+						sites = Arrays.copyOf(sites, count * 2);
+					}
+					sites[count++] = pc;
+				}
+				int length;
+				switch (opcode) {
+					case TABLESWITCH: {
+						int operands = pc + 1 + ((4 - ((pc + 1) % 4)) % 4);
+						int low = readInt(bytecodes, operands + 4);
+						int high = readInt(bytecodes, operands + 8);
+						length = operands - pc + 12 + (high - low + 1) * 4;
+						break;
+					}
+					case LOOKUPSWITCH: {
+						int operands = pc + 1 + ((4 - ((pc + 1) % 4)) % 4);
+						int pairs = readInt(bytecodes, operands + 4);
+						length = operands - pc + 8 + pairs * 8;
+						break;
+					}
+					case WIDE:
+						length = (bytecodes[pc + 1] & 0xff) == IINC ? 6 : 4;
+						break;
+					default:
+						length = LENGTHS[opcode];
+						break;
+				}
+				if (length <= 0) {
+					return null;
+				}
+				pc += length;
+			}
+		} catch (ArrayIndexOutOfBoundsException e) {
+			return null;
+		}
+		return pc == bytecodes.length ? Arrays.copyOf(sites, count) : null;
+	}
+
+	private static int readInt(byte[] bytecodes, int index) {
+		return ((bytecodes[index] & 0xff) << 24) | ((bytecodes[index + 1] & 0xff) << 16) | ((bytecodes[index + 2] & 0xff) << 8)
+				| (bytecodes[index + 3] & 0xff);
+	}
+}
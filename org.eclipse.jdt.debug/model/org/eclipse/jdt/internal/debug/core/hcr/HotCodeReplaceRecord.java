@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.hcr;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Record of the class files redefined in a debug target, and statistics of
+ * the hot code replaces performed in the target.
+ * <p>
+ * The record holds a digest of the class file last sent to the target for
+ * each type, so that class files which were rebuilt with identical contents
+ * are not redefined again.
+ * </p>
+ */
+public final class HotCodeReplaceRecord {
+
+	private static final String DIGEST_ALGORITHM = "SHA-256"; //$NON-NLS-1$
+
+	/**
+	 * Digests of the class files last redefined, keyed by qualified type name
+	 */
+	private final Map<String, byte[]> fDigests = new HashMap<>();
+
+	private int fRedefinitionCount;
+	private long fRedefinedClassCount;
+	private long fSkippedClassCount;
+	private long fBytesSent;
+	private long fRedefinitionNanos;
+
+	/**
+	 * Returns the digest of the given class file contents, or <code>null</code>
+	 * if no digest can be computed.
+	 */
+	static byte[] digest(byte[] contents) {
+		try {
+			return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(contents);
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Returns whether the target already holds the class file with the given
+	 * digest for the given type.
+	 */
+	synchronized boolean isUnchanged(String qualifiedName, byte[] digest) {
+		return digest != null && Arrays.equals(fDigests.get(qualifiedName), digest);
+	}
+
+	/**
+	 * Records the digests of class files that were successfully redefined,
+	 * keyed by qualified type name.
+	 */
+	synchronized void classFilesRedefined(Map<String, byte[]> digests) {
+		fDigests.putAll(digests);
+	}
+
+	/**
+	 * Records the statistics of a successful class redefinition.
+	 *
+	 * @param classCount
+	 *            number of classes redefined
+	 * @param bytesSent
+	 *            number of class file bytes sent to the target
+	 * @param nanos
+	 *            time spent redefining the classes, in nanoseconds
+	 */
+	synchronized void redefined(int classCount, long bytesSent, long nanos) {
+		fRedefinitionCount++;
+		fRedefinedClassCount += classCount;
+		fBytesSent += bytesSent;
+		fRedefinitionNanos += nanos;
+	}
+
+	/**
+	 * Records that the given number of rebuilt class files were not
+	 * redefined, as their contents did not change.
+	 */
+	synchronized void skipped(int classCount) {
+		fSkippedClassCount += classCount;
+	}
+
+	/**
+	 * Returns the number of successful class redefinitions in the target.
+	 */
+	public synchronized int getRedefinitionCount() {
+		return fRedefinitionCount;
+	}
+
+	/**
+	 * Returns the total number of classes redefined in the target.
+	 */
+	public synchronized long getRedefinedClassCount() {
+		return fRedefinedClassCount;
+	}
+
+	/**
+	 * Returns the total number of rebuilt classes that were not redefined
+	 * because their class files did not change.
+	 */
+	public synchronized long getSkippedClassCount() {
+		return fSkippedClassCount;
+	}
+
+	/**
+	 * Returns the total number of class file bytes sent to the target.
+	 */
+	public synchronized long getBytesSent() {
+		return fBytesSent;
+	}
+
+	/**
+	 * Returns the total time spent redefining classes in the target, in
+	 * milliseconds.
+	 */
+	public synchronized long getRedefinitionTime() {
+		return fRedefinitionNanos / 1000000;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "redefinitions: " + fRedefinitionCount //$NON-NLS-1$
+				+ ", classes redefined: " + fRedefinedClassCount //$NON-NLS-1$
+				+ ", classes skipped: " + fSkippedClassCount //$NON-NLS-1$
+				+ ", bytes sent: " + fBytesSent //$NON-NLS-1$
+				+ ", time: " + getRedefinitionTime() + "ms"; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2007 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ public class JDIDebugHCRMessages extends NLS {
 	public static String JavaHotCodeReplaceManager_exception_replacing_types;
 	public static String JavaHotCodeReplaceManager_hcr_failed;
 	public static String JavaHotCodeReplaceManager_hcr_ignored;
+	public static String JavaHotCodeReplaceManager_hcr_in_target;
 	public static String JavaHotCodeReplaceManager_hcr_unsupported_redefinition;
 	public static String JavaHotCodeReplaceManager_hcr_unsupported_operation;
 	public static String JavaHotCodeReplaceManager_hcr_bad_bytes;
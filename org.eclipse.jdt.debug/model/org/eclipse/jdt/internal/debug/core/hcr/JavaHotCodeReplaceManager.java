@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -44,6 +45,7 @@ import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
@@ -71,6 +73,7 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.core.util.Util;
+import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
@@ -122,9 +125,15 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	private static Date fStartupDate = new Date();
 
 	/**
-	 * Cache of compilation unit deltas renewed on each HCR attempt.
+	 * Cache of compilation unit deltas renewed on each HCR attempt, shared by
+	 * the targets.
 	 */
-	private final Map<ICompilationUnit, CompilationUnitDelta> fDeltaCache = new HashMap<>();
+	private final Map<ICompilationUnit, CompilationUnitDelta> fDeltaCache = new ConcurrentHashMap<>();
+
+	/**
+	 * Records of the class files redefined in each hot swap target.
+	 */
+	private final Map<JDIDebugTarget, HotCodeReplaceRecord> fRecords = new ConcurrentHashMap<>();
 
 	/**
 	 * Utility object used for tracking build times of projects. The HCR manager
@@ -204,6 +213,7 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 			fHotSwapTargets.clear();
 			fNoHotSwapTargets.clear();
 		}
+		fRecords.clear();
 	}
 
 	/**
@@ -281,13 +291,15 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	private void updateProjectBuildTime(List<IProject> projects) {
 		Date currentDate = new Date();
 		ProjectBuildTime buildTime = null;
-		for(IProject project : projects) {
-			buildTime = fProjectBuildTimes.get(project);
-			if (buildTime == null) {
-				buildTime = new ProjectBuildTime();
-				fProjectBuildTimes.put(project, buildTime);
+		synchronized (fProjectBuildTimes) {
+			for (IProject project : projects) {
+				buildTime = fProjectBuildTimes.get(project);
+				if (buildTime == null) {
+					buildTime = new ProjectBuildTime();
+					fProjectBuildTimes.put(project, buildTime);
+				}
+				buildTime.setCurrentBuildDate(currentDate);
 			}
-			buildTime.setCurrentBuildDate(currentDate);
 		}
 	}
 
@@ -297,14 +309,16 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 * is set to the hot code replace manager's startup time.
 	 */
 	protected long getLastProjectBuildTime(IProject project) {
-		ProjectBuildTime time = fProjectBuildTimes
-				.get(project);
-		if (time == null) {
-			time = new ProjectBuildTime();
-			time.setLastBuildDate(fStartupDate);
-			fProjectBuildTimes.put(project, time);
-		}
-		return time.getLastBuildDate().getTime();
+		// called concurrently by the targets performing HCR
+		synchronized (fProjectBuildTimes) {
+			ProjectBuildTime time = fProjectBuildTimes.get(project);
+			if (time == null) {
+				time = new ProjectBuildTime();
+				time.setLastBuildDate(fStartupDate);
+				fProjectBuildTimes.put(project, time);
+			}
+			return time.getLastBuildDate().getTime();
+		}
 	}
 
 	/**
@@ -418,97 +432,284 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 				JDIDebugPlugin.getUniqueIdentifier(),
 				DebugException.TARGET_REQUEST_FAILED,
 				"At least one target failed to drop to frame after successful hot code replace.", null); //$NON-NLS-1$
-		Iterator<JDIDebugTarget> iter = targets.iterator();
-		while (iter.hasNext()) {
-			JDIDebugTarget target = iter.next();
-			if (!target.isAvailable()) {
-				deregisterTarget(target);
-				continue;
+		// class files are read once and shared by all targets
+		Map<IResource, ClassFile> classFiles = new ConcurrentHashMap<>();
+		// listener notifications of each target, fired on this thread once
+		// all targets are done
+		List<List<Runnable>> notifications = new ArrayList<>(targets.size());
+		if (targets.size() == 1) {
+			List<Runnable> targetNotifications = Collections.synchronizedList(new ArrayList<>());
+			notifications.add(targetNotifications);
+			doHotCodeReplace(targets.get(0), resources, qualifiedNames, classFiles, ms, targetNotifications);
+		} else {
+			// replace the types in all targets in parallel, each target
+			// reporting its own progress
+			List<Job> jobs = new ArrayList<>(targets.size());
+			for (JDIDebugTarget target : targets) {
+				List<Runnable> targetNotifications = Collections.synchronizedList(new ArrayList<>());
+				notifications.add(targetNotifications);
+				Job job = Job.create(getJobName(target), monitor -> doHotCodeReplace(target, resources, qualifiedNames, classFiles, ms, targetNotifications));
+				job.setPriority(Job.SHORT);
+				job.schedule();
+				jobs.add(job);
 			}
-			if (!isHCREnabled(target)) {
-				continue;
+			for (Job job : jobs) {
+				try {
+					job.join();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					break;
+				}
 			}
-			// Make a local copy of the resources/names to swap so we can filter
-			// unloaded types on a per-target basis.
-			List<IResource> resourcesToReplace = new ArrayList<>(resources);
-			List<String> qualifiedNamesToReplace = new ArrayList<>(qualifiedNames);
-
-			// Make sure we only try to replace types from related projects
-			target.filterUnrelatedResources(resourcesToReplace, qualifiedNamesToReplace);
-			if (qualifiedNamesToReplace.isEmpty()) {
-				// If none of the changed types are related to our target, do nothing.
-				continue;
+		}
+		for (List<Runnable> targetNotifications : notifications) {
+			Runnable[] runnables;
+			synchronized (targetNotifications) {
+				runnables = targetNotifications.toArray(new Runnable[targetNotifications.size()]);
 			}
-
-			target.filterNotLoadedTypes(resourcesToReplace, qualifiedNamesToReplace);
-			if (qualifiedNamesToReplace.isEmpty()) {
-				// If none of the changed types are loaded, do nothing.
-				continue;
+			for (Runnable runnable : runnables) {
+				runnable.run();
+			}
+		}
+		synchronized (ms) {
+			if (!ms.isOK()) {
+				JDIDebugPlugin.log(ms);
 			}
+		}
+		fDeltaCache.clear();
+	}
 
-			List<IThread> poppedThreads = new ArrayList<>();
-			target.setIsPerformingHotCodeReplace(true);
-			try {
-				boolean framesPopped = false;
-				if (target.canPopFrames()) {
-					// JDK 1.4 drop to frame support:
-					// JDK 1.4 spec is faulty around methods that have
-					// been rendered obsolete after class redefinition.
-					// Thus, pop the frames that contain affected methods
-					// *before* the class redefinition to avoid problems.
-					try {
-						attemptPopFrames(target, resourcesToReplace,
-								qualifiedNamesToReplace, poppedThreads);
-						framesPopped = true; // No exception occurred
-					} catch (DebugException de) {
-						if (shouldLogHCRException(de)) {
-							ms.merge(de.getStatus());
-						}
-					}
-				}
-				target.removeOutOfSynchTypes(qualifiedNamesToReplace);
-				if (target.supportsJDKHotCodeReplace()) {
-					redefineTypesJDK(target, resourcesToReplace,
-							qualifiedNamesToReplace);
-				} else if (target.supportsJ9HotCodeReplace()) {
-					redefineTypesJ9(target, qualifiedNamesToReplace);
-				}
-				if (containsObsoleteMethods(target)) {
-					fireObsoleteMethods(target);
-				}
+	/**
+	 * Performs a hot code replace with the given resources in the given
+	 * target. Failures are reported to the hot code replace listeners of the
+	 * target, or added to the given status, and do not affect other targets.
+	 * Listeners are not notified here, as this may run in a job, but through
+	 * the given notifications which the caller runs once all targets are done.
+	 *
+	 * @param target
+	 *            the target in which to perform HCR
+	 * @param resources
+	 *            the resources which correspond to the changed classes
+	 * @param qualifiedNames
+	 *            the fully qualified names of the changed classes
+	 * @param classFiles
+	 *            the class files read so far, shared by all targets
+	 * @param ms
+	 *            status to which problems are added
+	 * @param notifications
+	 *            list to which the notifications of the listeners are added
+	 */
+	private void doHotCodeReplace(JDIDebugTarget target, List<IResource> resources,
+			List<String> qualifiedNames, Map<IResource, ClassFile> classFiles, MultiStatus ms,
+			List<Runnable> notifications) {
+		if (!target.isAvailable()) {
+			deregisterTarget(target);
+			return;
+		}
+		if (!isHCREnabled(target)) {
+			return;
+		}
+		// Make a local copy of the resources/names to swap so we can filter
+		// unloaded types on a per-target basis.
+		List<IResource> resourcesToReplace = new ArrayList<>(resources);
+		List<String> qualifiedNamesToReplace = new ArrayList<>(qualifiedNames);
+
+		// Make sure we only try to replace types from related projects
+		target.filterUnrelatedResources(resourcesToReplace, qualifiedNamesToReplace);
+		if (qualifiedNamesToReplace.isEmpty()) {
+			// If none of the changed types are related to our target, do nothing.
+			return;
+		}
+
+		target.filterNotLoadedTypes(resourcesToReplace, qualifiedNamesToReplace);
+		if (qualifiedNamesToReplace.isEmpty()) {
+			// If none of the changed types are loaded, do nothing.
+			return;
+		}
+
+		Map<String, byte[]> typeBytes = new HashMap<>(qualifiedNamesToReplace.size());
+		Map<String, byte[]> digests = new HashMap<>(qualifiedNamesToReplace.size());
+		filterUnchangedTypes(target, resourcesToReplace, qualifiedNamesToReplace, classFiles, typeBytes, digests);
+		if (qualifiedNamesToReplace.isEmpty()) {
+			// If the target already runs all class files, do nothing.
+			return;
+		}
+
+		List<IThread> poppedThreads = new ArrayList<>();
+		target.setIsPerformingHotCodeReplace(true);
+		try {
+			boolean framesPopped = false;
+			if (target.canPopFrames()) {
+				// JDK 1.4 drop to frame support:
+				// JDK 1.4 spec is faulty around methods that have
+				// been rendered obsolete after class redefinition.
+				// Thus, pop the frames that contain affected methods
+				// *before* the class redefinition to avoid problems.
 				try {
-					if (target.canPopFrames() && framesPopped) {
-						// Second half of JDK 1.4 drop to frame support:
-						// All affected frames have been popped and the classes
-						// have been reloaded. Step into the first changed
-						// frame of each affected thread.
-						// must re-set 'is doing HCR' to be able to step
-						target.setIsPerformingHotCodeReplace(false);
-						attemptStepIn(poppedThreads);
-					} else {
-						// J9 drop to frame support:
-						// After redefining classes, drop to frame
-						attemptDropToFrame(target, resourcesToReplace,
-								qualifiedNamesToReplace);
-					}
+					attemptPopFrames(target, resourcesToReplace,
+							qualifiedNamesToReplace, poppedThreads);
+					framesPopped = true; // No exception occurred
 				} catch (DebugException de) {
 					if (shouldLogHCRException(de)) {
-						ms.merge(de.getStatus());
+						merge(ms, de.getStatus());
 					}
 				}
-				fireHCRSucceeded(target);
+			}
+			target.removeOutOfSynchTypes(qualifiedNamesToReplace);
+			if (target.supportsJDKHotCodeReplace()) {
+				redefineTypesJDK(target, resourcesToReplace,
+						qualifiedNamesToReplace, typeBytes);
+			} else if (target.supportsJ9HotCodeReplace()) {
+				redefineTypesJ9(target, qualifiedNamesToReplace);
+			}
+			getHotCodeReplaceRecord(target).classFilesRedefined(digests);
+			if (containsObsoleteMethods(target)) {
+				notifications.add(() -> fireObsoleteMethods(target));
+			}
+			try {
+				if (target.canPopFrames() && framesPopped) {
+					// Second half of JDK 1.4 drop to frame support:
+					// All affected frames have been popped and the classes
+					// have been reloaded. Step into the first changed
+					// frame of each affected thread.
+					// must re-set 'is doing HCR' to be able to step
+					target.setIsPerformingHotCodeReplace(false);
+					attemptStepIn(poppedThreads);
+				} else {
+					// J9 drop to frame support:
+					// After redefining classes, drop to frame
+					attemptDropToFrame(target, resourcesToReplace,
+							qualifiedNamesToReplace);
+				}
 			} catch (DebugException de) {
-				// target update failed
-				fireHCRFailed(target, de);
+				if (shouldLogHCRException(de)) {
+					merge(ms, de.getStatus());
+				}
 			}
-			// also re-set 'is doing HCR' here in case HCR failed
-			target.setIsPerformingHotCodeReplace(false);
-			target.fireChangeEvent(DebugEvent.CONTENT);
+			notifications.add(() -> fireHCRSucceeded(target));
+		} catch (DebugException de) {
+			// target update failed
+			notifications.add(() -> fireHCRFailed(target, de));
+		} catch (RuntimeException e) {
+			// do not let a failing target affect the others
+			merge(ms, new Status(IStatus.ERROR, JDIDebugPlugin.getUniqueIdentifier(), e.getMessage(), e));
 		}
-		if (!ms.isOK()) {
-			JDIDebugPlugin.log(ms);
+		// also re-set 'is doing HCR' here in case HCR failed
+		target.setIsPerformingHotCodeReplace(false);
+		target.fireChangeEvent(DebugEvent.CONTENT);
+	}
+
+	/**
+	 * Adds the given status to the given status shared by the targets
+	 */
+	private static void merge(MultiStatus ms, IStatus status) {
+		synchronized (ms) {
+			ms.merge(status);
+		}
+	}
+
+	/**
+	 * Returns the name of the job performing HCR in the given target
+	 */
+	private static String getJobName(JDIDebugTarget target) {
+		String name;
+		try {
+			name = target.getName();
+		} catch (DebugException e) {
+			name = target.toString();
+		}
+		return MessageFormat.format(JDIDebugHCRMessages.JavaHotCodeReplaceManager_hcr_in_target, name);
+	}
+
+	/**
+	 * Returns the record of the class files redefined in the given target.
+	 *
+	 * @param target
+	 *            a debug target
+	 * @return the record of the class files redefined in the target
+	 */
+	public HotCodeReplaceRecord getHotCodeReplaceRecord(IJavaDebugTarget target) {
+		return fRecords.computeIfAbsent((JDIDebugTarget) target, t -> new HotCodeReplaceRecord());
+	}
+
+	/**
+	 * Contents and digest of a class file
+	 */
+	private static final class ClassFile {
+		final byte[] fBytes;
+		final byte[] fDigest;
+
+		ClassFile(byte[] bytes) {
+			fBytes = bytes;
+			fDigest = HotCodeReplaceRecord.digest(bytes);
+		}
+	}
+
+	/**
+	 * Returns the contents and digest of the given class file, reading it only
+	 * if it is not in the given map yet, or <code>null</code> if it cannot be
+	 * read.
+	 */
+	private ClassFile getClassFile(IResource resource, Map<IResource, ClassFile> classFiles) {
+		return classFiles.computeIfAbsent(resource, r -> {
+			try {
+				return new ClassFile(Util.getResourceContentsAsByteArray((IFile) r));
+			} catch (JavaModelException e) {
+				return null;
+			}
+		});
+	}
+
+	/**
+	 * Removes the resources and names of the types whose class files are
+	 * identical to the ones last redefined in the given target, and adds the
+	 * contents and digests of the remaining class files to the given maps.
+	 *
+	 * @param target
+	 *            the debug target in which to perform HCR
+	 * @param resources
+	 *            the changed class files
+	 * @param qualifiedNames
+	 *            the fully qualified type names corresponding to the class
+	 *            files
+	 * @param classFiles
+	 *            the class files read so far, shared by all targets
+	 * @param typeBytes
+	 *            map to which the contents of the changed class files are
+	 *            added, keyed by qualified type name
+	 * @param digests
+	 *            map to which the digests of the changed class files are added,
+	 *            keyed by qualified type name
+	 */
+	private void filterUnchangedTypes(JDIDebugTarget target, List<IResource> resources, List<String> qualifiedNames,
+			Map<IResource, ClassFile> classFiles, Map<String, byte[]> typeBytes, Map<String, byte[]> digests) {
+		HotCodeReplaceRecord record = getHotCodeReplaceRecord(target);
+		List<String> unchanged = new ArrayList<>();
+		Iterator<IResource> resourceIter = resources.iterator();
+		Iterator<String> nameIter = qualifiedNames.iterator();
+		while (resourceIter.hasNext()) {
+			IResource resource = resourceIter.next();
+			String name = nameIter.next();
+			ClassFile classFile = getClassFile(resource, classFiles);
+			if (classFile == null) {
+				continue;
+			}
+			if (record.isUnchanged(name, classFile.fDigest)) {
+				resourceIter.remove();
+				nameIter.remove();
+				unchanged.add(name);
+			} else {
+				typeBytes.put(name, classFile.fBytes);
+				if (classFile.fDigest != null) {
+					digests.put(name, classFile.fDigest);
+				}
+			}
+		}
+		if (!unchanged.isEmpty()) {
+			// the target already runs the current class files of these types
+			target.removeOutOfSynchTypes(unchanged);
+			record.skipped(unchanged.size());
 		}
-		fDeltaCache.clear();
 	}
 
 	private boolean isHCREnabled(JDIDebugTarget target) {
@@ -596,11 +797,11 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 * This method is to be used for JDK hot code replace.
 	 */
 	private void redefineTypesJDK(JDIDebugTarget target, List<IResource> resources,
-			List<String> qualifiedNames) throws DebugException {
+			List<String> qualifiedNames, Map<String, byte[]> classFiles) throws DebugException {
 		if (target.supportsJDKHotCodeReplace()) {
 			target.setHCROccurred(true);
 			Map<ReferenceType, byte[]> typesToBytes = getTypesToBytes(target, resources,
-					qualifiedNames);
+					qualifiedNames, classFiles);
 			try {
 				VirtualMachine vm = target.getVM();
 				if (vm == null) {
@@ -608,7 +809,18 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 							JDIDebugHCRMessages.JavaHotCodeReplaceManager_Hot_code_replace_failed___VM_disconnected__2,
 							new VMDisconnectedException());
 				}
+				long start = System.nanoTime();
 				vm.redefineClasses(typesToBytes);
+				long bytesSent = 0;
+				for (byte[] bytes : typesToBytes.values()) {
+					bytesSent += bytes.length;
+				}
+				HotCodeReplaceRecord record = getHotCodeReplaceRecord(target);
+				record.redefined(typesToBytes.size(), bytesSent, System.nanoTime() - start);
+				if (JDIDebugOptions.DEBUG_HCR) {
+					JDIDebugOptions.trace(JDIDebugOptions.DEBUG_HCR_FLAG, "Redefined " + typesToBytes.size() //$NON-NLS-1$
+							+ " types (" + bytesSent + " bytes), " + record, null); //$NON-NLS-1$ //$NON-NLS-2$
+				}
 			} catch (UnsupportedOperationException exception) {
 				String detail = exception.getMessage();
 				if (detail != null) {
@@ -694,11 +906,14 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 *            the fully qualified type names corresponding to the
 	 *            classfiles. The typeNames correspond to the resources on a
 	 *            one-to-one basis.
+	 * @param classFiles
+	 *            the contents of the class files already read, keyed by
+	 *            qualified type name
 	 * @return a mapping of class files to bytes key: class file value: the
 	 *         bytes which make up that classfile
 	 */
 	private Map<ReferenceType, byte[]> getTypesToBytes(JDIDebugTarget target, List<IResource> resources,
-			List<String> qualifiedNames) {
+			List<String> qualifiedNames, Map<String, byte[]> classFiles) {
 		Map<ReferenceType, byte[]> typesToBytes = new HashMap<>(resources.size());
 		Iterator<IResource> resourceIter = resources.iterator();
 		Iterator<String> nameIter = qualifiedNames.iterator();
@@ -708,11 +923,13 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 			resource = resourceIter.next();
 			name = nameIter.next();
 			List<ReferenceType> classes = target.jdiClassesByName(name);
-			byte[] bytes = null;
-			try {
-				bytes = Util.getResourceContentsAsByteArray((IFile) resource);
-			} catch (JavaModelException jme) {
-				continue;
+			byte[] bytes = classFiles.get(name);
+			if (bytes == null) {
+				try {
+					bytes = Util.getResourceContentsAsByteArray((IFile) resource);
+				} catch (JavaModelException jme) {
+					continue;
+				}
 			}
 			for(ReferenceType type : classes) {
 				typesToBytes.put(type, bytes);
@@ -960,6 +1177,17 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 		return affectedFrame;
 	}
 
+	/**
+	 * Carries a failure to create a compilation unit delta out of the cache
+	 */
+	private static final class DeltaException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		DeltaException(CoreException cause) {
+			super(cause);
+		}
+	}
+
 	/**
 	 * Returns the delta object for the given compilation unit
 	 *
@@ -972,12 +1200,18 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 */
 	private CompilationUnitDelta getDelta(ICompilationUnit cu, long time)
 			throws CoreException {
-		CompilationUnitDelta delta = fDeltaCache.get(cu);
-		if (delta == null) {
-			delta = new CompilationUnitDelta(cu, time);
-			fDeltaCache.put(cu, delta);
+		try {
+			// computed once, even when targets ask for it concurrently
+			return fDeltaCache.computeIfAbsent(cu, unit -> {
+				try {
+					return new CompilationUnitDelta(unit, time);
+				} catch (CoreException e) {
+					throw new DeltaException(e);
+				}
+			});
+		} catch (DeltaException e) {
+			throw (CoreException) e.getCause();
 		}
-		return delta;
 	}
 
 	/**
@@ -1397,9 +1631,12 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 
 	protected void deregisterTarget(JDIDebugTarget target) {
 		// Remove the target from its hot swap target cache.
-		if (!fHotSwapTargets.remove(target)) {
-			fNoHotSwapTargets.remove(target);
+		synchronized (this) {
+			if (!fHotSwapTargets.remove(target)) {
+				fNoHotSwapTargets.remove(target);
+			}
 		}
+		fRecords.remove(target);
 		ILaunch[] launches = DebugPlugin.getDefault().getLaunchManager()
 				.getLaunches();
 		// If there are no more active JDIDebugTargets, stop
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,6 +30,7 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.core.resources.IFile;
@@ -97,6 +98,7 @@ import org.eclipse.jdt.internal.debug.core.EventDispatcher;
 import org.eclipse.jdt.internal.debug.core.IJDIEventListener;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint;
+import org.eclipse.jdt.internal.debug.core.breakpoints.JavaExceptionBreakpoint;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaLineBreakpoint;
 
 import com.sun.jdi.ClassType;
@@ -138,6 +140,11 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private final List<JDIThread> fThreads;
 
+	/**
+	 * Cache of the state of the suspended threads in this target
+	 */
+	private final ThreadStateCache fThreadStates = new ThreadStateCache(this);
+
 	/**
 	 * List of thread groups in this target.
 	 */
@@ -190,6 +197,12 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private final List<IBreakpoint> fBreakpoints;
 
+	/**
+	 * The exception breakpoints of this target's collection of breakpoints, by
+	 * the name of their exception type.
+	 */
+	private final Map<String, List<JavaExceptionBreakpoint>> fExceptionBreakpoints = new ConcurrentHashMap<>();
+
 	/**
 	 * Collection of types that have attempted HCR, but failed. The types are
 	 * stored by their fully qualified names.
@@ -500,6 +513,44 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		return fBreakpoints;
 	}
 
+	/**
+	 * Returns the exception breakpoints added to this target for the exception
+	 * type with the given name.
+	 *
+	 * @param typeName
+	 *            fully qualified name of an exception type
+	 * @return exception breakpoints for the type, possibly empty
+	 */
+	public List<JavaExceptionBreakpoint> getExceptionBreakpoints(String typeName) {
+		List<JavaExceptionBreakpoint> breakpoints = fExceptionBreakpoints.get(typeName);
+		return breakpoints == null ? Collections.emptyList() : breakpoints;
+	}
+
+	/**
+	 * Adds the given breakpoint to, or removes it from the index of exception
+	 * breakpoints if it is an exception breakpoint.
+	 */
+	private void updateExceptionBreakpoints(IBreakpoint breakpoint, boolean added) {
+		if (breakpoint instanceof JavaExceptionBreakpoint exceptionBreakpoint) {
+			try {
+				String typeName = exceptionBreakpoint.getTypeName();
+				if (typeName == null) {
+					return;
+				}
+				if (added) {
+					fExceptionBreakpoints.computeIfAbsent(typeName, name -> new CopyOnWriteArrayList<>()).add(exceptionBreakpoint);
+				} else {
+					List<JavaExceptionBreakpoint> breakpoints = fExceptionBreakpoints.get(typeName);
+					if (breakpoints != null) {
+						breakpoints.remove(exceptionBreakpoint);
+					}
+				}
+			} catch (CoreException e) {
+				logError(e);
+			}
+		}
+	}
+
 	/**
 	 * Notifies this target that the underlying VM has started. This is the
 	 * first event received from the VM. The VM is resumed. This event is not
@@ -908,6 +959,15 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		return fVirtualMachine;
 	}
 
+	/**
+	 * Returns the cache of the state of the suspended threads in this target.
+	 *
+	 * @return the thread state cache
+	 */
+	ThreadStateCache getThreadStates() {
+		return fThreadStates;
+	}
+
 	/**
 	 * Sets whether this debug target has performed a hot code replace.
 	 */
@@ -1594,6 +1654,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 						javaBreakpoint.addToTarget(this);
 					}
 					getBreakpoints().add(breakpoint);
+					updateExceptionBreakpoints(breakpoint, true);
 				}
 			} catch (CoreException e) {
 				logError(e);
@@ -1630,7 +1691,9 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		if (supportsBreakpoint(breakpoint)) {
 			try {
 				((JavaBreakpoint) breakpoint).removeFromTarget(this);
-				getBreakpoints().remove(breakpoint);
+				if (getBreakpoints().remove(breakpoint)) {
+					updateExceptionBreakpoints(breakpoint, false);
+				}
 				Iterator<JDIThread> threads = getThreadIterator();
 				while (threads.hasNext()) {
 					threads.next()
@@ -1702,13 +1765,52 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 * Notifies threads that they have been resumed
 	 */
 	protected void resumeThreads() throws DebugException {
-		Iterator<JDIThread> threads = getThreadIterator();
-		while (threads.hasNext()) {
-			JDIThread thread = threads.next();
+		List<JDIThread> threads = new ArrayList<>();
+		Iterator<JDIThread> iterator = getThreadIterator();
+		while (iterator.hasNext()) {
+			JDIThread thread = iterator.next();
 			if (!thread.isBreakpointHandlingOngoing()) {
-				thread.resumedByVM();
+				threads.add(thread);
 			}
 		}
+		if (threads.size() > 1 && getVM() instanceof VirtualMachineImpl vm) {
+			try {
+				resumeThreads(vm, threads);
+				return;
+			} catch (VMDisconnectedException e) {
+				disconnected();
+				return;
+			} catch (RuntimeException e) {
+				// fall back to normalizing each thread, which reports the failure
+			}
+		}
+		for (JDIThread thread : threads) {
+			thread.resumedByVM();
+		}
+	}
+
+	/**
+	 * Prepares the given threads for a VM resume with pipelined requests. To
+	 * ensure that all threads fully resume when the VM is resumed, the suspend
+	 * count of each thread is reduced to no more than 1, see
+	 * {@link JDIThread#resumedByVM()}.
+	 */
+	private void resumeThreads(VirtualMachineImpl vm, List<JDIThread> threads) {
+		List<ThreadReference> references = new ArrayList<>(threads.size());
+		for (JDIThread thread : threads) {
+			references.add(thread.getUnderlyingThread());
+		}
+		int[] suspendCounts = vm.suspendCounts(references);
+		List<ThreadReference> extraResumes = new ArrayList<>();
+		for (int i = 0; i < threads.size(); i++) {
+			threads.get(i).prepareToResumeByVM();
+			for (int count = suspendCounts[i]; count > 1; count--) {
+				extraResumes.add(references.get(i));
+			}
+		}
+		if (!extraResumes.isEmpty()) {
+			vm.resume(extraResumes);
+		}
 	}
 
 	/**
@@ -1849,6 +1951,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		fKnownTypes.clear();
 		fProjects = null;
 		fBreakpoints.clear();
+		fExceptionBreakpoints.clear();
 	}
 
 	/**
@@ -1882,6 +1985,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			}
 		}
 		getBreakpoints().clear();
+		fExceptionBreakpoints.clear();
 	}
 
 	/**
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Vector;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.CoreException;
@@ -43,6 +44,7 @@ import org.eclipse.debug.core.model.IStepFilter;
 import org.eclipse.debug.core.model.ISuspendResume;
 import org.eclipse.debug.core.model.ITerminate;
 import org.eclipse.debug.core.model.IThread;
+import org.eclipse.jdi.internal.ThreadState;
 import org.eclipse.jdt.core.Signature;
 import org.eclipse.jdt.debug.core.IEvaluationRunnable;
 import org.eclipse.jdt.debug.core.IJavaBreakpoint;
@@ -127,6 +129,11 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 * out
 	 */
 	public static final int SUSPEND_TIMEOUT = 161;
+	/**
+	 * Interval in milliseconds at which the underlying thread is checked while
+	 * waiting for it to suspend after a client suspend request
+	 */
+	private static final long SUSPEND_POLL_INTERVAL = 50;
 	/**
 	 * Underlying thread.
 	 */
@@ -273,7 +280,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	private volatile MethodExitRequest fCurrentMethodExitRequest;
 
-	private volatile Thread fCurrentMethodExitRequestDisabler;
+	private volatile ScheduledFuture<?> fCurrentMethodExitRequestDisabler;
 
 	/**
 	 * The current ExceptionRequest if a step-return or step-over is in progress.
@@ -792,6 +799,10 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	protected int getUnderlyingFrameCount() throws DebugException {
 		try {
+			ThreadState state = getSuspendedState();
+			if (state != null && state.frameCount() >= 0) {
+				return state.frameCount();
+			}
 			return fThread.frameCount();
 		} catch (RuntimeException e) {
 			targetRequestFailed(
@@ -1306,7 +1317,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	@Override
 	public String getName() throws DebugException {
 		try {
-			fPreviousName = fThread.name();
+			ThreadState state = getSuspendedState();
+			fPreviousName = state == null ? fThread.name() : state.name();
 		} catch (RuntimeException e) {
 			// Don't bother reporting the exception when retrieving the name
 			// (bug 30785 & bug 33276)
@@ -1754,6 +1766,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	protected void setRunning(boolean running) {
 		fRunning = running;
+		getJavaDebugTarget().getThreadStates().invalidate(this);
 		if (running) {
 			synchronized (breakpointAcessLock) {
 				fCurrentBreakpoints.clear();
@@ -1761,6 +1774,20 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		}
 	}
 
+	/**
+	 * Returns the state of this thread from the cache of the suspended
+	 * threads of the target, or <code>null</code> if this thread is not
+	 * suspended or its state is not available.
+	 *
+	 * @return the state of this thread or <code>null</code>
+	 */
+	private ThreadState getSuspendedState() {
+		if (!isSuspended()) {
+			return null;
+		}
+		return getJavaDebugTarget().getThreadStates().getState(this);
+	}
+
 	private void clearMethodResult() {
 		setMethodResult(null);
 	}
@@ -1775,6 +1802,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 */
 	protected synchronized void preserveStackFrames() {
 		fRefreshChildren = true;
+		getJavaDebugTarget().getThreadStates().invalidate(this);
 		for(IJavaStackFrame frame : fStackFrames) {
 			((JDIStackFrame)frame).setUnderlyingStackFrame(null);
 		}
@@ -2026,51 +2054,69 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 			return;
 		}
 		fIsSuspending = true;
-		Thread thread = new Thread(() -> {
+		ThreadScheduler.suspendStarted();
+		ThreadScheduler.execute(() -> {
 			try {
 				fThread.suspend();
-				int timeout = Platform.getPreferencesService().getInt(
+			} catch (RuntimeException exception) {
+				suspendUnderlyingThreadDone(false);
+				return;
+			}
+			int timeout = Platform.getPreferencesService().getInt(
+					JDIDebugPlugin.getUniqueIdentifier(),
+					JDIDebugModel.PREF_REQUEST_TIMEOUT,
+					JDIDebugModel.DEF_REQUEST_TIMEOUT,
+					null);
+			waitForUnderlyingThreadSuspended(System.currentTimeMillis() + timeout, timeout);
+		});
+	}
+
+	/**
+	 * Checks whether the underlying thread is suspended after a client suspend
+	 * request and fires notification if so. Otherwise the check is repeated
+	 * on the shared scheduler until the request times out, without blocking
+	 * a thread while waiting.
+	 *
+	 * @param stop
+	 *            the time at which the request times out
+	 * @param timeout
+	 *            the request timeout in milliseconds
+	 */
+	private void waitForUnderlyingThreadSuspended(long stop, int timeout) {
+		boolean timedOut = false;
+		try {
+			boolean suspended = isUnderlyingThreadSuspended();
+			if (!suspended && System.currentTimeMillis() < stop) {
+				ThreadScheduler.schedule(() -> waitForUnderlyingThreadSuspended(stop, timeout), SUSPEND_POLL_INTERVAL);
+				return;
+			}
+			if (!suspended) {
+				timedOut = true;
+				IStatus status = new Status(
+						IStatus.ERROR,
 						JDIDebugPlugin.getUniqueIdentifier(),
-						JDIDebugModel.PREF_REQUEST_TIMEOUT,
-						JDIDebugModel.DEF_REQUEST_TIMEOUT,
+						SUSPEND_TIMEOUT,
+						MessageFormat.format(JDIDebugModelMessages.JDIThread_suspend_timeout, timeout),
 						null);
-				long stop = System.currentTimeMillis() + timeout;
-				boolean suspended = isUnderlyingThreadSuspended();
-				while (System.currentTimeMillis() < stop && !suspended) {
+				IStatusHandler handler = DebugPlugin.getDefault()
+						.getStatusHandler(status);
+				if (handler != null) {
 					try {
-						Thread.sleep(50);
-					} catch (InterruptedException e1) {
-					}
-					suspended = isUnderlyingThreadSuspended();
-					if (suspended) {
-						break;
+						handler.handleStatus(status, JDIThread.this);
+					} catch (CoreException e2) {
 					}
 				}
-				if (!suspended) {
-					IStatus status = new Status(
-							IStatus.ERROR,
-							JDIDebugPlugin.getUniqueIdentifier(),
-							SUSPEND_TIMEOUT,
-							MessageFormat.format(JDIDebugModelMessages.JDIThread_suspend_timeout, timeout),
-							null);
-					IStatusHandler handler = DebugPlugin.getDefault()
-							.getStatusHandler(status);
-					if (handler != null) {
-						try {
-							handler.handleStatus(status, JDIThread.this);
-						} catch (CoreException e2) {
-						}
-					}
-				}
-				setRunning(false);
-				fireSuspendEvent(DebugEvent.CLIENT_REQUEST);
-			} catch (RuntimeException exception) {
-			} finally {
-				fIsSuspending = false;
 			}
-		});
-		thread.setDaemon(true);
-		thread.start();
+			setRunning(false);
+			fireSuspendEvent(DebugEvent.CLIENT_REQUEST);
+		} catch (RuntimeException exception) {
+		}
+		suspendUnderlyingThreadDone(timedOut);
+	}
+
+	private void suspendUnderlyingThreadDone(boolean timedOut) {
+		fIsSuspending = false;
+		ThreadScheduler.suspendCompleted(timedOut);
 	}
 
 	public boolean isUnderlyingThreadSuspended() {
@@ -2091,10 +2137,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	 *             if an exception occurs
 	 */
 	protected synchronized void resumedByVM() throws DebugException {
-		fClientSuspendRequest = false;
-		setRunning(true);
-		clearMethodResult();
-		preserveStackFrames();
+		prepareToResumeByVM();
 		// This method is called *before* the VM is actually resumed.
 		// To ensure that all threads will fully resume when the VM
 		// is resumed, make sure the suspend count of each thread
@@ -2116,6 +2159,21 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 		}
 	}
 
+	/**
+	 * Updates the state of this thread before it is resumed due to a VM resume,
+	 * but leaves the suspend count of the underlying thread unchanged. The
+	 * caller must ensure the suspend count is no greater than 1 before the VM
+	 * is resumed.
+	 *
+	 * @see #resumedByVM()
+	 */
+	protected synchronized void prepareToResumeByVM() {
+		fClientSuspendRequest = false;
+		setRunning(true);
+		clearMethodResult();
+		preserveStackFrames();
+	}
+
 	@Override
 	public void terminate() throws DebugException {
 		terminateEvaluation();
@@ -2549,9 +2607,9 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 						removeJDIEventListener(this, fCurrentMethodExitRequest);
 						manager.deleteEventRequest(fCurrentMethodExitRequest);
 						fCurrentMethodExitRequest = null;
-						Thread t = fCurrentMethodExitRequestDisabler;
-						if (t != null) {
-							t.interrupt();
+						ScheduledFuture<?> disabler = fCurrentMethodExitRequestDisabler;
+						if (disabler != null) {
+							disabler.cancel(false);
 							fCurrentMethodExitRequestDisabler = null;
 						}
 					}
@@ -2633,13 +2691,6 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 						int timeout = getStepResultTimeout();
 						if (timeout != 0) {
 							Runnable r = () -> {
-								try {
-									if (timeout > 0) {
-										Thread.sleep(timeout);
-									}
-								} catch (InterruptedException e) {
-									return;
-								}
 								fStepResultTimeoutTriggered.set(true);
 								if (fCurrentMethodExitRequest == methodExitRequest) {
 									try {
@@ -2653,10 +2704,7 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 								}
 							};
 							if (timeout > 0) {
-								Thread t = new Thread(r, "JDIThread: MethodExitDisabler"); //$NON-NLS-1$
-								t.setDaemon(true);
-								t.start();
-								fCurrentMethodExitRequestDisabler = t;
+								fCurrentMethodExitRequestDisabler = ThreadScheduler.schedule(r, timeout);
 							} else {
 								// negative timeout: simulate immediate timeout (for testing)
 								r.run();
@@ -2731,9 +2779,9 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 						manager.deleteEventRequest(fCurrentMethodExitRequest);
 					}
 					fCurrentMethodExitRequest = null;
-					Thread t = fCurrentMethodExitRequestDisabler;
-					if (t != null) {
-						t.interrupt();
+					ScheduledFuture<?> disabler = fCurrentMethodExitRequestDisabler;
+					if (disabler != null) {
+						disabler.cancel(false);
 						fCurrentMethodExitRequestDisabler = null;
 					}
 				}
@@ -3448,7 +3496,8 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 	public IJavaObject[] getOwnedMonitors() throws DebugException {
 		try {
 			JDIDebugTarget target = (JDIDebugTarget) getDebugTarget();
-			List<ObjectReference> ownedMonitors = fThread.ownedMonitors();
+			ThreadState state = getSuspendedState();
+			List<ObjectReference> ownedMonitors = state == null || state.ownedMonitors() == null ? fThread.ownedMonitors() : state.ownedMonitors();
 			IJavaObject[] javaOwnedMonitors = new IJavaObject[ownedMonitors
 					.size()];
 			Iterator<ObjectReference> itr = ownedMonitors.iterator();
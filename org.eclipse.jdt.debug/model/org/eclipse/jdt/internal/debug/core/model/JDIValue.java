@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,7 @@ import java.util.List;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdi.internal.StringReferenceImpl;
 import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
@@ -170,6 +171,35 @@ public class JDIValue extends JDIDebugElement implements IJavaValue {
 		return String.valueOf(fValue);
 	}
 
+	/**
+	 * Returns the value string of this value, where the contents of a string
+	 * are limited to the given number of characters. Only a prefix of a large
+	 * string is retrieved from the target.
+	 *
+	 * @param maxLength
+	 *            maximum number of characters of a string, or <code>0</code>
+	 *            for no limit
+	 * @return the value string
+	 * @throws DebugException
+	 *             if the value cannot be retrieved
+	 */
+	public String getValueString(int maxLength) throws DebugException {
+		if (maxLength > 0 && fValue instanceof StringReferenceImpl) {
+			try {
+				return ((StringReferenceImpl) fValue).value(maxLength);
+			} catch (ObjectCollectedException e) {
+				return JDIDebugModelMessages.JDIValue_deallocated;
+			} catch (RuntimeException e) {
+				targetRequestFailed(
+						MessageFormat.format(
+								JDIDebugModelMessages.JDIValue_exception_retrieving_value,
+								new Object[] { e.toString() }), e);
+				return null;
+			}
+		}
+		return getValueString();
+	}
+
 	/**
 	 * @see IValue#getReferenceTypeName()
 	 */
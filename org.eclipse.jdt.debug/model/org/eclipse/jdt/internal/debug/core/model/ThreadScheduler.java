@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared executor for the asynchronous work of {@link JDIThread}s, such as waiting for a thread to suspend or disabling method exit requests after
+ * a timeout, instead of a new thread per operation. Also keeps statistics about client suspend requests.
+ */
+public class ThreadScheduler {
+
+	/**
+	 * Time after which idle threads of the executor terminate, in milliseconds
+	 */
+	private static final long KEEP_ALIVE = 10000L;
+
+	private static final ScheduledThreadPoolExecutor fgExecutor;
+
+	static {
+		AtomicInteger count = new AtomicInteger();
+		fgExecutor = new ScheduledThreadPoolExecutor(Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+			Thread thread = new Thread(runnable, "JDI Thread Scheduler " + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		fgExecutor.setKeepAliveTime(KEEP_ALIVE, TimeUnit.MILLISECONDS);
+		fgExecutor.allowCoreThreadTimeOut(true);
+		fgExecutor.setRemoveOnCancelPolicy(true);
+	}
+
+	private static final AtomicInteger fgPendingSuspends = new AtomicInteger();
+	private static final AtomicLong fgCompletedSuspends = new AtomicLong();
+	private static final AtomicLong fgTimedOutSuspends = new AtomicLong();
+
+	private ThreadScheduler() {
+	}
+
+	/**
+	 * Runs the given task as soon as possible
+	 *
+	 * @param task
+	 *            the task to run
+	 */
+	public static void execute(Runnable task) {
+		fgExecutor.execute(task);
+	}
+
+	/**
+	 * Runs the given task after the given delay
+	 *
+	 * @param task
+	 *            the task to run
+	 * @param delay
+	 *            delay in milliseconds
+	 * @return the future to cancel the task
+	 */
+	public static ScheduledFuture<?> schedule(Runnable task, long delay) {
+		return fgExecutor.schedule(task, delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Notes that a client suspend request has been sent for a thread
+	 */
+	static void suspendStarted() {
+		fgPendingSuspends.incrementAndGet();
+	}
+
+	/**
+	 * Notes that a client suspend request has completed
+	 *
+	 * @param timedOut
+	 *            whether the thread did not suspend before the request timeout
+	 */
+	static void suspendCompleted(boolean timedOut) {
+		fgPendingSuspends.decrementAndGet();
+		fgCompletedSuspends.incrementAndGet();
+		if (timedOut) {
+			fgTimedOutSuspends.incrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the number of client suspend requests waiting for their thread to suspend
+	 *
+	 * @return the number of outstanding suspend requests
+	 */
+	public static int getPendingSuspendCount() {
+		return fgPendingSuspends.get();
+	}
+
+	/**
+	 * Returns the number of client suspend requests that completed, including the ones that timed out
+	 *
+	 * @return the number of completed suspend requests
+	 */
+	public static long getCompletedSuspendCount() {
+		return fgCompletedSuspends.get();
+	}
+
+	/**
+	 * Returns the number of client suspend requests whose thread did not suspend before the request timeout
+	 *
+	 * @return the number of timed out suspend requests
+	 */
+	public static long getTimedOutSuspendCount() {
+		return fgTimedOutSuspends.get();
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.debug.core.model.IThread;
+import org.eclipse.jdi.internal.ThreadState;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VMDisconnectedException;
+import com.sun.jdi.VirtualMachine;
+
+/**
+ * Cache of the state of the suspended threads of a debug target. Rendering the threads of a target asks each of them for its name, frame count
+ * and owned monitors; the first request retrieves the state of all suspended threads whose state is not cached in one pipelined burst and the
+ * other requests are answered from the cache. The state of a thread is discarded when it suspends or resumes.
+ */
+class ThreadStateCache {
+
+	/**
+	 * Preference of the debug UI plug-in controlling whether the owned monitors of threads are shown, see
+	 * <code>IJavaDebugUIConstants.PREF_SHOW_MONITOR_THREAD_INFO</code>
+	 */
+	private static final String DEBUG_UI_PLUGIN_ID = "org.eclipse.jdt.debug.ui"; //$NON-NLS-1$
+	private static final String PREF_SHOW_MONITOR_THREAD_INFO = DEBUG_UI_PLUGIN_ID + ".show_monitor_thread_info"; //$NON-NLS-1$
+
+	private final JDIDebugTarget fTarget;
+
+	/**
+	 * Incremented whenever a thread of the target changes its state
+	 */
+	private long fEpoch;
+
+	/**
+	 * States of suspended threads. Threads whose state could not be retrieved are mapped to <code>null</code>, so that they are asked one by one
+	 * until their next change of state.
+	 */
+	private final Map<ThreadReference, ThreadState> fStates = new HashMap<>();
+
+	ThreadStateCache(JDIDebugTarget target) {
+		fTarget = target;
+	}
+
+	/**
+	 * Discards the state of the given thread
+	 *
+	 * @param thread
+	 *            a thread of the target which suspends or resumes
+	 */
+	synchronized void invalidate(JDIThread thread) {
+		fEpoch++;
+		fStates.remove(thread.getUnderlyingThread());
+	}
+
+	/**
+	 * Returns the state of the given suspended thread, retrieving the state of all suspended threads of the target which are not cached if needed.
+	 *
+	 * @param thread
+	 *            a suspended thread of the target
+	 * @return the state of the thread or <code>null</code> if it is not available
+	 */
+	ThreadState getState(JDIThread thread) {
+		ThreadReference reference = thread.getUnderlyingThread();
+		long epoch;
+		synchronized (this) {
+			if (fStates.containsKey(reference)) {
+				return fStates.get(reference);
+			}
+			epoch = fEpoch;
+		}
+		List<ThreadReference> suspended = new ArrayList<>();
+		for (IThread candidate : fTarget.getThreads()) {
+			if (candidate != thread && candidate.isSuspended() && candidate instanceof JDIThread jdiThread) {
+				suspended.add(jdiThread.getUnderlyingThread());
+			}
+		}
+		List<ThreadReference> threads = new ArrayList<>();
+		threads.add(reference);
+		synchronized (this) {
+			for (ThreadReference candidate : suspended) {
+				if (!fStates.containsKey(candidate)) {
+					threads.add(candidate);
+				}
+			}
+		}
+		VirtualMachine vm = fTarget.getVM();
+		if (!(vm instanceof VirtualMachineImpl vmImpl)) {
+			return null;
+		}
+		boolean ownedMonitors = Platform.getPreferencesService().getBoolean(DEBUG_UI_PLUGIN_ID, PREF_SHOW_MONITOR_THREAD_INFO, true, null);
+		Map<ThreadReference, ThreadState> states = new HashMap<>();
+		try {
+			for (ThreadState state : vmImpl.threadStates(threads, ownedMonitors)) {
+				if (state != null) {
+					states.put(state.thread(), state);
+				}
+			}
+		} catch (VMDisconnectedException e) {
+			return null;
+		} catch (RuntimeException e) {
+			// the threads are asked one by one until their next change of state: record the failure so that
+			// the burst is neither retried nor logged again for the other threads
+			JDIDebugPlugin.log(e);
+		}
+		synchronized (this) {
+			// a thread may have resumed during the burst
+			if (fEpoch == epoch) {
+				for (ThreadReference requested : threads) {
+					fStates.put(requested, states.get(requested));
+				}
+			}
+		}
+		return states.get(reference);
+	}
+}
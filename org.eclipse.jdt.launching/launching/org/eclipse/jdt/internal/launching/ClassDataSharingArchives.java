@@ -0,0 +1,362 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manages the dynamic Class Data Sharing (AppCDS) archives of launches that opt in through
+ * {@link org.eclipse.jdt.launching.IJavaLaunchConfigurationConstants#ATTR_USE_CDS_ARCHIVE}.
+ * <p>
+ * One archive is kept per launch configuration. The archive file name carries a fingerprint of the VM and of the class path, so the first launch
+ * records the archive with <code>-XX:ArchiveClassesAtExit</code> and later launches reuse it with <code>-XX:SharedArchiveFile</code> until the
+ * fingerprint changes. Archives that have not been used for a while are evicted, as are the least recently used ones once the total size of the
+ * archive directory exceeds its limit.
+ * </p>
+ * <p>
+ * A VM records its archive into a temporary file of its own, which is renamed into place once the VM has exited, so that concurrent launches
+ * of the same configuration do not write the same file.
+ * </p>
+ */
+public class ClassDataSharingArchives {
+
+	/**
+	 * Name of the directory in the plug-in state location holding the archives
+	 */
+	public static final String CDS_DIR_NAME = "cds"; //$NON-NLS-1$
+
+	/**
+	 * VM argument used to record a dynamic archive on VM exit
+	 */
+	public static final String ARCHIVE_CLASSES_AT_EXIT = "-XX:ArchiveClassesAtExit="; //$NON-NLS-1$
+
+	/**
+	 * VM argument used to map an existing archive at VM start
+	 */
+	public static final String SHARED_ARCHIVE_FILE = "-XX:SharedArchiveFile="; //$NON-NLS-1$
+
+	/**
+	 * The minimal Java version supporting dynamic archives (JEP 350)
+	 */
+	public static final int MIN_JAVA_VERSION = 13;
+
+	static final String ARCHIVE_EXTENSION = ".jsa"; //$NON-NLS-1$
+
+	static final String TEMP_EXTENSION = ".tmp"; //$NON-NLS-1$
+
+	static final long DEFAULT_MAX_AGE = TimeUnit.DAYS.toMillis(30);
+
+	static final long DEFAULT_MAX_TOTAL_SIZE = 1024L * 1024L * 1024L;
+
+	private static final int MAX_NAME_LENGTH = 32;
+
+	/**
+	 * VM arguments which indicate that the user manages class data sharing on their own
+	 */
+	private static final String[] USER_CDS_ARGUMENTS = { ARCHIVE_CLASSES_AT_EXIT, SHARED_ARCHIVE_FILE, "-Xshare:off", //$NON-NLS-1$
+			"-XX:+AutoCreateSharedArchive", "-XX:SharedClassListFile", "-XX:DumpLoadedClassList" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private static ClassDataSharingArchives fgDefault;
+
+	private final File fArchiveDir;
+	private final long fMaxAge;
+	private final long fMaxTotalSize;
+
+	/**
+	 * Constructor
+	 *
+	 * @param archiveDir
+	 *            the directory to keep the archives in
+	 * @param maxAge
+	 *            the time in milliseconds after which an unused archive is deleted
+	 * @param maxTotalSize
+	 *            the maximal size in bytes of all archives together
+	 */
+	public ClassDataSharingArchives(File archiveDir, long maxAge, long maxTotalSize) {
+		fArchiveDir = archiveDir;
+		fMaxAge = maxAge;
+		fMaxTotalSize = maxTotalSize;
+	}
+
+	/**
+	 * Returns the archive manager storing its archives in the state location of the launching plug-in
+	 *
+	 * @return the shared archive manager
+	 */
+	public static synchronized ClassDataSharingArchives getDefault() {
+		if (fgDefault == null) {
+			File dir = LaunchingPlugin.getDefault().getStateLocation().append(CDS_DIR_NAME).toFile();
+			fgDefault = new ClassDataSharingArchives(dir, DEFAULT_MAX_AGE, DEFAULT_MAX_TOTAL_SIZE);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Returns whether the given VM arguments already configure class data sharing, in which case the archive must not be managed automatically
+	 *
+	 * @param vmArgs
+	 *            the VM arguments of the launch
+	 * @return <code>true</code> if the user configured class data sharing explicitly
+	 */
+	public static boolean isUserConfigured(String[] vmArgs) {
+		if (vmArgs == null) {
+			return false;
+		}
+		for (String arg : vmArgs) {
+			for (String cdsArg : USER_CDS_ARGUMENTS) {
+				if (arg.startsWith(cdsArg)) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Computes the fingerprint of a launch. The fingerprint changes whenever the VM, the VM arguments or the class path changes, including updates
+	 * of the archives on the class path.
+	 *
+	 * @param javaExecutable
+	 *            the path of the Java executable
+	 * @param javaVersion
+	 *            the version of the VM or <code>null</code>
+	 * @param vmArgs
+	 *            the VM arguments or <code>null</code>
+	 * @param classpath
+	 *            the class path entries or <code>null</code>
+	 * @param modulepath
+	 *            the module path entries or <code>null</code>
+	 * @param mainType
+	 *            the main type or module to launch
+	 * @return the fingerprint as hexadecimal string
+	 */
+	public static String computeFingerprint(String javaExecutable, String javaVersion, String[] vmArgs, String[] classpath, String[] modulepath, String mainType) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("Unsupported JVM", e); //$NON-NLS-1$
+		}
+		updateWithFile(digest, javaExecutable);
+		update(digest, javaVersion);
+		update(digest, mainType);
+		if (vmArgs != null) {
+			for (String arg : vmArgs) {
+				update(digest, arg);
+			}
+		}
+		updateWithPath(digest, classpath);
+		updateWithPath(digest, modulepath);
+		return HexFormat.of().formatHex(digest.digest(), 0, 16);
+	}
+
+	private static void updateWithPath(MessageDigest digest, String[] path) {
+		update(digest, path == null ? "-" : Integer.toString(path.length)); //$NON-NLS-1$
+		if (path != null) {
+			for (String entry : path) {
+				updateWithFile(digest, entry);
+			}
+		}
+	}
+
+	private static void updateWithFile(MessageDigest digest, String path) {
+		update(digest, path);
+		if (path != null) {
+			File file = new File(path);
+			// only archives are validated by the VM, directory contents are never archived
+			if (file.isFile()) {
+				update(digest, Long.toString(file.length()));
+				update(digest, Long.toString(file.lastModified()));
+			}
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+		if (value != null) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		}
+		digest.update((byte) 0);
+	}
+
+	/**
+	 * Returns the VM argument that a launch of the given configuration would get: the mapping of the archive if it exists for the fingerprint,
+	 * otherwise its recording on VM exit. Nothing is changed in the archive directory, use
+	 * {@link #prepareArchiveArgument(String, String)} to launch.
+	 *
+	 * @param configurationName
+	 *            the name of the launch configuration
+	 * @param fingerprint
+	 *            the fingerprint of the launch, see {@link #computeFingerprint(String, String, String[], String[], String[], String)}
+	 * @return the VM argument to add
+	 */
+	public String getArchiveArgument(String configurationName, String fingerprint) {
+		File archive = getArchive(configurationName, fingerprint);
+		if (archive.isFile() && archive.length() > 0) {
+			return SHARED_ARCHIVE_FILE + archive.getAbsolutePath();
+		}
+		return ARCHIVE_CLASSES_AT_EXIT + archive.getAbsolutePath();
+	}
+
+	/**
+	 * Returns the VM argument to add to a launch of the given configuration. If an archive exists for the fingerprint it is mapped, otherwise a new
+	 * one is recorded on VM exit into a temporary file, to be passed to {@link #archiveRecorded(String)} once the VM has exited. Archives of older
+	 * fingerprints of the same configuration are deleted and the archive directory is trimmed to its age and size limits.
+	 *
+	 * @param configurationName
+	 *            the name of the launch configuration
+	 * @param fingerprint
+	 *            the fingerprint of the launch, see {@link #computeFingerprint(String, String, String[], String[], String[], String)}
+	 * @return the VM argument to add or <code>null</code> if the archive directory cannot be written
+	 */
+	public synchronized String prepareArchiveArgument(String configurationName, String fingerprint) {
+		if (!fArchiveDir.isDirectory() && !fArchiveDir.mkdirs()) {
+			return null;
+		}
+		String prefix = getArchivePrefix(configurationName);
+		File archive = getArchive(configurationName, fingerprint);
+		File[] archives = fArchiveDir.listFiles((dir, name) -> name.endsWith(ARCHIVE_EXTENSION));
+		if (archives != null) {
+			for (File file : archives) {
+				if (file.getName().startsWith(prefix) && !file.equals(archive)) {
+					// class path or VM changed
+					file.delete();
+				}
+			}
+		}
+		String argument;
+		if (archive.isFile() && archive.length() > 0) {
+			// remember the use for eviction
+			archive.setLastModified(System.currentTimeMillis());
+			argument = SHARED_ARCHIVE_FILE + archive.getAbsolutePath();
+		} else {
+			try {
+				File recording = File.createTempFile(archive.getName() + '.', TEMP_EXTENSION, fArchiveDir);
+				argument = ARCHIVE_CLASSES_AT_EXIT + recording.getAbsolutePath();
+			} catch (IOException e) {
+				LaunchingPlugin.log(e);
+				argument = null;
+			}
+		}
+		evict(archive);
+		return argument;
+	}
+
+	/**
+	 * Moves the archive recorded by a VM that has exited into place. Nothing is done for arguments mapping an archive.
+	 *
+	 * @param argument
+	 *            the VM argument returned by {@link #prepareArchiveArgument(String, String)}
+	 */
+	public void archiveRecorded(String argument) {
+		if (!argument.startsWith(ARCHIVE_CLASSES_AT_EXIT)) {
+			return;
+		}
+		File recording = new File(argument.substring(ARCHIVE_CLASSES_AT_EXIT.length()));
+		String name = recording.getName();
+		int end = name.lastIndexOf(ARCHIVE_EXTENSION + '.');
+		if (end < 0 || !name.endsWith(TEMP_EXTENSION)) {
+			return;
+		}
+		File archive = new File(recording.getParentFile(), name.substring(0, end + ARCHIVE_EXTENSION.length()));
+		try {
+			// an archive recorded by a concurrent launch may be mapped already
+			if (recording.length() > 0 && !archive.exists()) {
+				Files.move(recording.toPath(), archive.toPath(), StandardCopyOption.ATOMIC_MOVE);
+			}
+		} catch (IOException e) {
+			// the next launch records the archive again
+		} finally {
+			recording.delete();
+		}
+	}
+
+	private File getArchive(String configurationName, String fingerprint) {
+		return new File(fArchiveDir, getArchivePrefix(configurationName) + fingerprint + ARCHIVE_EXTENSION);
+	}
+
+	/**
+	 * Deletes the archives which have not been used within the maximal age and then the least recently used archives until the total size is
+	 * within limits. Recordings left over by VMs that did not exit within the maximal age are deleted as well.
+	 *
+	 * @param keep
+	 *            the archive in use, which is never deleted
+	 */
+	void evict(File keep) {
+		File[] files = fArchiveDir.listFiles((dir, name) -> name.endsWith(ARCHIVE_EXTENSION));
+		if (files == null) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		File[] recordings = fArchiveDir.listFiles((dir, name) -> name.endsWith(TEMP_EXTENSION));
+		if (recordings != null) {
+			for (File file : recordings) {
+				if (now - file.lastModified() > fMaxAge) {
+					file.delete();
+				}
+			}
+		}
+		List<File> archives = new ArrayList<>(files.length);
+		for (File file : files) {
+			if (!file.equals(keep) && now - file.lastModified() > fMaxAge) {
+				file.delete();
+			} else {
+				archives.add(file);
+			}
+		}
+		archives.sort(Comparator.comparingLong(File::lastModified));
+		long totalSize = archives.stream().mapToLong(File::length).sum();
+		for (File file : archives) {
+			if (totalSize <= fMaxTotalSize) {
+				break;
+			}
+			if (!file.equals(keep)) {
+				long length = file.length();
+				if (file.delete()) {
+					totalSize -= length;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the file name prefix shared by all archives of the given launch configuration
+	 *
+	 * @param configurationName
+	 *            the name of the launch configuration
+	 * @return the file name prefix
+	 */
+	static String getArchivePrefix(String configurationName) {
+		StringBuilder name = new StringBuilder();
+		for (char c : configurationName.toCharArray()) {
+			if (name.length() == MAX_NAME_LENGTH) {
+				break;
+			}
+			name.append(Character.isLetterOrDigit(c) || c == '-' || c == '.' ? c : '_');
+		}
+		// the sanitized name is not unique, so also encode the original one
+		return name.append('-').append(Integer.toHexString(configurationName.hashCode())).append('-').toString();
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Red Hat, Inc. and others.
+ * Copyright (c) 2023, 2026 Red Hat, Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,10 +16,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -61,6 +69,10 @@ public class DetectVMInstallationsJob extends Job {
 	 */
 	private static final String PROPERTY_DETECT_VM_INSTALLATIONS_JOB_DISABLED = "DetectVMInstallationsJob.disabled"; //$NON-NLS-1$
 	private static final Object FAMILY = DetectVMInstallationsJob.class;
+	/**
+	 * Maximal number of install locations validated at the same time
+	 */
+	private static final int MAX_PARALLEL_PROBES = 4;
 
 	public DetectVMInstallationsJob() {
 		super(LaunchingMessages.lookupInstalledJVMs);
@@ -168,7 +180,7 @@ public class DetectVMInstallationsJob extends Job {
 			directories.add(new File(jdkHome));
 		}
 		// other common/standard lookup strategies can be added here
-		return directories.stream()
+		Set<File> locations = directories.stream()
 			.filter(Objects::nonNull)
 			.filter(File::isDirectory)
 			.map(t -> {
@@ -178,8 +190,45 @@ public class DetectVMInstallationsJob extends Job {
 					return null;
 				}
 			}).filter(Objects::nonNull)
-			.filter(location -> standardType.validateInstallLocation(location).isOK())
-			.collect(Collectors.toCollection(HashSet::new));
+			.collect(Collectors.toSet());
+		return validateInstallLocations(standardType, locations);
+	}
+
+	/**
+	 * Returns the given install locations that are valid. Validation may need to run each VM to detect its libraries, so the locations are probed
+	 * in parallel by a bounded number of threads of their own.
+	 */
+	private Collection<File> validateInstallLocations(StandardVMType standardType, Set<File> locations) {
+		Collection<File> valid = new HashSet<>();
+		if (locations.isEmpty()) {
+			return valid;
+		}
+		AtomicInteger count = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(locations.size(), MAX_PARALLEL_PROBES), runnable -> {
+			Thread thread = new Thread(runnable, "Java installation probe " + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			Map<File, Future<Boolean>> results = new HashMap<>();
+			for (File location : locations) {
+				results.put(location, executor.submit(() -> Boolean.valueOf(standardType.validateInstallLocation(location).isOK())));
+			}
+			for (Entry<File, Future<Boolean>> result : results.entrySet()) {
+				try {
+					if (result.getValue().get().booleanValue()) {
+						valid.add(result.getKey());
+					}
+				} catch (ExecutionException e) {
+					LaunchingPlugin.log(e.getCause());
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdownNow();
+		}
+		return valid;
 	}
 
 	@SuppressWarnings("nls")
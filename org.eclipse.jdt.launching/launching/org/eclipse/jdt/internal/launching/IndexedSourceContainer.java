@@ -0,0 +1,119 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.io.File;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.debug.core.sourcelookup.ISourceContainer;
+import org.eclipse.debug.core.sourcelookup.ISourceContainerType;
+import org.eclipse.debug.core.sourcelookup.containers.AbstractSourceContainer;
+import org.eclipse.debug.core.sourcelookup.containers.ArchiveSourceContainer;
+import org.eclipse.debug.core.sourcelookup.containers.ExternalArchiveSourceContainer;
+import org.eclipse.jdt.internal.launching.SourceNameIndex.ArchiveEntries;
+
+/**
+ * Wraps an archive source container to consult the {@link SourceNameIndex} before searching it. The archive is skipped if its index proves that
+ * it cannot contain the requested source, otherwise the request is passed to the wrapped container. Only {@link ArchiveSourceContainer}s and
+ * {@link ExternalArchiveSourceContainer}s are wrapped, all other containers apply their own lookup rules and are searched unchanged.
+ */
+public class IndexedSourceContainer extends AbstractSourceContainer {
+
+	private final ISourceContainer fContainer;
+	private final SourceNameIndex fIndex;
+	private final File fArchive;
+
+	/**
+	 * Whether the wrapped container searches for the name below any root folder of the archive, or only at the archive root
+	 */
+	private final boolean fDetectRoot;
+
+	private IndexedSourceContainer(ISourceContainer container, SourceNameIndex index, File archive, boolean detectRoot) {
+		fContainer = container;
+		fIndex = index;
+		fArchive = archive;
+		fDetectRoot = detectRoot;
+	}
+
+	/**
+	 * Returns a container that consults the given index before searching the given container, or the given container if it is not an archive
+	 * container.
+	 *
+	 * @param container
+	 *            the container to search
+	 * @param index
+	 *            the source name index
+	 * @return the container to search
+	 */
+	public static ISourceContainer create(ISourceContainer container, SourceNameIndex index) {
+		File archive = getArchive(container);
+		if (archive == null) {
+			return container;
+		}
+		boolean detectRoot;
+		if (container instanceof ExternalArchiveSourceContainer external) {
+			detectRoot = external.isDetectRoot();
+		} else {
+			detectRoot = ((ArchiveSourceContainer) container).isDetectRoot();
+		}
+		return new IndexedSourceContainer(container, index, archive, detectRoot);
+	}
+
+	/**
+	 * Returns the archive searched by the given container, or <code>null</code> if it is not an archive container
+	 *
+	 * @param container
+	 *            a source container
+	 * @return the archive or <code>null</code>
+	 */
+	public static File getArchive(ISourceContainer container) {
+		if (container instanceof ExternalArchiveSourceContainer external) {
+			return new File(external.getName());
+		} else if (container instanceof ArchiveSourceContainer archive) {
+			IPath path = archive.getFile().getLocation();
+			return path == null ? null : path.toFile();
+		}
+		return null;
+	}
+
+	@Override
+	public Object[] findSourceElements(String name) throws CoreException {
+		ArchiveEntries entries = fIndex.getEntries(fArchive);
+		if (entries != null && !(fDetectRoot ? entries.containsSuffix(name) : entries.containsEntry(name))) {
+			return EMPTY;
+		}
+		return fContainer.findSourceElements(name);
+	}
+
+	@Override
+	public String getName() {
+		return fContainer.getName();
+	}
+
+	@Override
+	public ISourceContainerType getType() {
+		return fContainer.getType();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return obj instanceof IndexedSourceContainer indexed && fContainer.equals(indexed.fContainer);
+	}
+
+	@Override
+	public int hashCode() {
+		return fContainer.hashCode();
+	}
+}
@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.jdt.core.JavaCore;
+
+/**
+ * Computes {@link LibraryInfo} for a Java home from its file layout, without starting the VM. The <code>release</code> file provides the version
+ * and the <code>lib/modules</code> image identifies a modular runtime, which has no boot path, extension or endorsed directories. The libraries of
+ * older runtimes depend on how the VM was built and configured, so they are left to
+ * <code>org.eclipse.jdt.internal.launching.support.LibraryDetector</code>.
+ */
+public class JavaHomeInspector {
+
+	public static final String RELEASE_FILE = "release"; //$NON-NLS-1$
+	public static final String JAVA_VERSION = "JAVA_VERSION"; //$NON-NLS-1$
+
+	/**
+	 * Magic number of the jimage format of <code>lib/modules</code>, written in the platform byte order
+	 */
+	private static final int JIMAGE_MAGIC = 0xCAFEDADA;
+
+	private static final String LIB = "lib"; //$NON-NLS-1$
+	private static final String MODULES = "modules"; //$NON-NLS-1$
+
+	private JavaHomeInspector() {
+	}
+
+	/**
+	 * Returns the library information of the given Java home computed from its file layout.
+	 *
+	 * @param javaHome
+	 *            the Java home folder
+	 * @return the library information or <code>null</code> if it cannot be determined without running the VM, as for runtimes older than Java 9
+	 */
+	public static LibraryInfo inspect(File javaHome) {
+		Map<String, String> release = readReleaseFile(javaHome);
+		String version = release.get(JAVA_VERSION);
+		if (version == null || version.isEmpty()) {
+			return null;
+		}
+		if (JavaCore.compareJavaVersions(version, JavaCore.VERSION_1_8) > 0 || hasModulesImage(javaHome)) {
+			// modular runtimes have no boot path
+			return new LibraryInfo(version, new String[0], new String[0], new String[0]);
+		}
+		return null;
+	}
+
+	/**
+	 * Reads the properties of the <code>release</code> file of the given Java home. Values are unquoted.
+	 *
+	 * @param javaHome
+	 *            the Java home folder
+	 * @return the properties, empty if there is no <code>release</code> file
+	 */
+	public static Map<String, String> readReleaseFile(File javaHome) {
+		Map<String, String> properties = new HashMap<>();
+		Path releaseFile = javaHome.getAbsoluteFile().toPath().resolve(RELEASE_FILE);
+		if (!Files.isRegularFile(releaseFile)) {
+			return properties;
+		}
+		try (Stream<String> lines = Files.lines(releaseFile, Charset.defaultCharset())) {
+			lines.forEach(line -> {
+				int index = line.indexOf('=');
+				if (index > 0) {
+					String value = line.substring(index + 1).trim();
+					if (value.length() > 1 && value.startsWith("\"") && value.endsWith("\"")) { //$NON-NLS-1$ //$NON-NLS-2$
+						value = value.substring(1, value.length() - 1);
+					}
+					properties.put(line.substring(0, index).trim(), value);
+				}
+			});
+		} catch (UncheckedIOException | IOException e) {
+			LaunchingPlugin.log(e);
+		}
+		return properties;
+	}
+
+	/**
+	 * Returns whether the given Java home contains a <code>lib/modules</code> runtime image with a valid jimage header.
+	 *
+	 * @param javaHome
+	 *            the Java home folder
+	 * @return <code>true</code> if the Java home is a modular runtime image
+	 */
+	public static boolean hasModulesImage(File javaHome) {
+		Path modules = javaHome.getAbsoluteFile().toPath().resolve(LIB).resolve(MODULES);
+		if (!Files.isRegularFile(modules)) {
+			return false;
+		}
+		byte[] header = new byte[4];
+		try (InputStream stream = Files.newInputStream(modules)) {
+			if (stream.readNBytes(header, 0, header.length) != header.length) {
+				return false;
+			}
+		} catch (IOException e) {
+			return false;
+		}
+		int bigEndian = ((header[0] & 0xFF) << 24) | ((header[1] & 0xFF) << 16) | ((header[2] & 0xFF) << 8) | (header[3] & 0xFF);
+		return bigEndian == JIMAGE_MAGIC || Integer.reverseBytes(bigEndian) == JIMAGE_MAGIC;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -249,4 +249,8 @@ public class LaunchingMessages extends NLS {
 
 	public static String configuringJVM;
 
+	public static String SourceNameIndex_0;
+
+	public static String WorkspaceProjectSourceContainers_0;
+
 }
@@ -161,9 +161,9 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 
 	/**
 	 * Mapping of top-level VM installation directories to library info for that
-	 * VM.
+	 * VM, created lazily by {@link #getLibraryInfoStore()}.
 	 */
-	private static final ConcurrentHashMap<String, LibraryInfo> fgLibraryInfoMap = new ConcurrentHashMap<>(10);
+	private static volatile LibraryInfoStore fgLibraryInfoStore;
 
 	/**
 	 * Mapping of the last time the directory of a given SDK was modified.
@@ -185,6 +185,11 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 */
 	private static final Object installLock = new Object();
 
+	/**
+	 * Mutex for creating the library info store
+	 */
+	private static final Object libraryInfoLock = new Object();
+
 	/**
 	 * Whether changes in VM preferences are being batched. When being batched
 	 * the plug-in can ignore processing and changes.
@@ -423,10 +428,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	 * path, or <code>null</code> if none
 	 */
 	public static LibraryInfo getLibraryInfo(String javaInstallPath) {
-		if (fgLibraryInfoMap.isEmpty()) {
-			restoreLibraryInfo();
-		}
-		return fgLibraryInfoMap.get(javaInstallPath);
+		return getLibraryInfoStore().get(javaInstallPath);
 	}
 
 	/**
@@ -440,22 +442,15 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 		if (isVMLogging()) {
 			LaunchingPlugin.log(LaunchingMessages.VMLogging_2 + javaInstallPath);
 		}
-		if (fgLibraryInfoMap.isEmpty()) {
-			restoreLibraryInfo();
-		}
+		getLibraryInfoStore().put(javaInstallPath, info);
 		if (info == null) {
-			fgLibraryInfoMap.remove(javaInstallPath);
 			if (!fgInstallTimeMap.isEmpty()) {
 				fgInstallTimeMap.remove(javaInstallPath);
 				writeInstallInfo();
 			}
-
-		} else {
-			fgLibraryInfoMap.put(javaInstallPath, info);
 		}
 		//once the library info has been set we can forget it has changed
 		fgHasChanged.remove(javaInstallPath);
-		saveLibraryInfo();
 	}
 
 	public static boolean isVMLogging() {
@@ -854,101 +849,39 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 	}
 
 	/**
-	 * Return the VM definitions contained in this object as a String of XML.  The String
-	 * is suitable for storing in the workbench preferences.
-	 * <p>
-	 * The resulting XML is compatible with the static method <code>parseXMLIntoContainer</code>.
-	 * </p>
-	 * @return String the results of flattening this object into XML
-	 * @throws CoreException if this method fails. Reasons include:<ul>
-	 * <li>serialization of the XML document failed</li>
-	 * </ul>
-	 */
-	private static String getLibraryInfoAsXML() throws CoreException {
-
-		Document doc = DebugPlugin.newDocument();
-		Element config = doc.createElement("libraryInfos");    //$NON-NLS-1$
-		doc.appendChild(config);
-
-		// Create a node for each info in the table
-		Iterator<String> locations = fgLibraryInfoMap.keySet().iterator();
-		while (locations.hasNext()) {
-			String home = locations.next();
-			LibraryInfo info = fgLibraryInfoMap.get(home);
-			Element locationElemnet = infoAsElement(doc, info);
-			locationElemnet.setAttribute("home", home); //$NON-NLS-1$
-			config.appendChild(locationElemnet);
-		}
-
-		// Serialize the Document and return the resulting String
-		return DebugPlugin.serializeDocument(doc);
-	}
-
-	/**
-	 * Creates an XML element for the given info.
+	 * Returns the store of library information for VMs, creating it on first access. Library
+	 * information persisted as XML by previous versions is migrated into the store.
 	 *
-	 * @param doc the backing {@link Document}
-	 * @param info the {@link LibraryInfo} to add to the {@link Document}
-	 * @return Element
+	 * @return the library info store
 	 */
-	private static Element infoAsElement(Document doc, LibraryInfo info) {
-		Element libraryElement = doc.createElement("libraryInfo"); //$NON-NLS-1$
-		libraryElement.setAttribute("version", info.getVersion()); //$NON-NLS-1$
-		appendPathElements(doc, "bootpath", libraryElement, info.getBootpath()); //$NON-NLS-1$
-		appendPathElements(doc, "extensionDirs", libraryElement, info.getExtensionDirs()); //$NON-NLS-1$
-		appendPathElements(doc, "endorsedDirs", libraryElement, info.getEndorsedDirs()); //$NON-NLS-1$
-		return libraryElement;
-	}
-
-	/**
-	 * Appends path elements to the given library element, rooted by an
-	 * element of the given type.
-	 *
-	 * @param doc the backing {@link Document}
-	 * @param elementType the kind of {@link Element} to create
-	 * @param libraryElement the {@link Element} describing a given {@link LibraryInfo} object
-	 * @param paths the paths to add
-	 */
-	private static void appendPathElements(Document doc, String elementType, Element libraryElement, String[] paths) {
-		if (paths.length > 0) {
-			Element child = doc.createElement(elementType);
-			libraryElement.appendChild(child);
-			for (int i = 0; i < paths.length; i++) {
-				String path = paths[i];
-				Element entry = doc.createElement("entry"); //$NON-NLS-1$
-				child.appendChild(entry);
-				entry.setAttribute("path", path); //$NON-NLS-1$
-			}
-		}
-	}
-
-	/**
-	 * Saves the library info in a local workspace state location
-	 */
-	private static void saveLibraryInfo() {
-		try {
-			String xml = getLibraryInfoAsXML();
-			IPath libPath = getDefault().getStateLocation();
-			libPath = libPath.append("libraryInfos.xml"); //$NON-NLS-1$
-			File file = libPath.toFile();
-			if (!file.exists()) {
-				file.createNewFile();
-			}
-			try (OutputStream stream = new BufferedOutputStream(new FileOutputStream(file))) {
-				stream.write(xml.getBytes(StandardCharsets.UTF_8));
+	private static LibraryInfoStore getLibraryInfoStore() {
+		LibraryInfoStore store = fgLibraryInfoStore;
+		if (store == null) {
+			synchronized (libraryInfoLock) {
+				store = fgLibraryInfoStore;
+				if (store == null) {
+					IPath libPath = getDefault().getStateLocation();
+					store = new LibraryInfoStore(libPath.append("libraryInfos.bin").toFile()); //$NON-NLS-1$
+					if (!store.exists()) {
+						Map<String, LibraryInfo> infos = restoreLibraryInfo();
+						if (!infos.isEmpty()) {
+							store.putAll(infos);
+						}
+					}
+					fgLibraryInfoStore = store;
+				}
 			}
-		} catch (IOException e) {
-			log(e);
-		}  catch (CoreException e) {
-			log(e);
 		}
+		return store;
 	}
 
 	/**
-	 * Restores library information for VMs
+	 * Restores library information for VMs from the XML file written by previous versions
+	 *
+	 * @return mapping of VM install locations to library information
 	 */
-	private static void restoreLibraryInfo() {
-		fgLibraryInfoMap.clear();
+	private static Map<String, LibraryInfo> restoreLibraryInfo() {
+		Map<String, LibraryInfo> infos = new HashMap<>();
 		IPath libPath = getDefault().getStateLocation();
 		libPath = libPath.append("libraryInfos.xml"); //$NON-NLS-1$
 		File file = libPath.toFile();
@@ -959,7 +892,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 				parser.setErrorHandler(new DefaultHandler());
 				Element root = parser.parse(new InputSource(stream)).getDocumentElement();
 				if(!root.getNodeName().equals("libraryInfos")) { //$NON-NLS-1$
-					return;
+					return infos;
 				}
 
 				NodeList list = root.getChildNodes();
@@ -981,7 +914,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 									LaunchingPlugin.log(LaunchingMessages.VMLogging_1 + location);
 								}
 								LibraryInfo info = new LibraryInfo(version, bootpath, extDirs, endDirs);
-								fgLibraryInfoMap.put(location, info);
+								infos.put(location, info);
 							}
 						}
 					}
@@ -990,6 +923,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 				log(e);
 			}
 		}
+		return infos;
 	}
 
 	/**
@@ -1094,7 +1028,7 @@ public class LaunchingPlugin extends Plugin implements DebugOptionsListener, IEc
 				for(Iterator<Entry<String, Long>> i = fgInstallTimeMap.entrySet().iterator(); i.hasNext();) {
 					entry = i.next();
 					key = entry.getKey();
-					if (fgLibraryInfoMap.isEmpty() || fgLibraryInfoMap.containsKey(key)) {
+					if (getLibraryInfoStore().isEmpty() || getLibraryInfoStore().contains(key)) {
 						//only persist the info if the library map also has info OR is null - prevent persisting deleted JRE information
 						e = doc.createElement("entry"); //$NON-NLS-1$
 						root.appendChild(e);
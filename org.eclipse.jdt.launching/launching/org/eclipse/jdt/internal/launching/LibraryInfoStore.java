@@ -0,0 +1,333 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Persists the {@link LibraryInfo} of VM install locations in a compact, versioned binary log.
+ * <p>
+ * Each update appends a single record to the log instead of rewriting all entries. When the log holds many more records than live entries it is
+ * compacted. Loading only indexes the records; the library info of an install location is decoded on first access.
+ * </p>
+ * <p>
+ * File layout: a header made of a magic number and the format version, followed by records. A record is an operation byte, the install location
+ * and, for additions, the length of the encoded library info followed by the encoded library info.
+ * </p>
+ */
+public class LibraryInfoStore {
+
+	private static final int MAGIC = 0x4A4C4942;
+	private static final int FORMAT_VERSION = 1;
+	private static final int HEADER_SIZE = 8;
+
+	private static final byte PUT = 1;
+	private static final byte REMOVE = 2;
+
+	/**
+	 * Number of obsolete records tolerated in addition to the live ones before the log is compacted
+	 */
+	private static final int COMPACTION_SLACK = 32;
+
+	private final File fFile;
+
+	/**
+	 * Content of the log when it was loaded, referenced by {@link #fOffsets}
+	 */
+	private byte[] fData;
+
+	/**
+	 * Mapping of install locations to the position of their encoded library info in {@link #fData}: offset in the upper and length in the lower
+	 * 32 bits
+	 */
+	private final Map<String, Long> fOffsets = new HashMap<>();
+
+	/**
+	 * Mapping of install locations to their decoded library info
+	 */
+	private final Map<String, LibraryInfo> fInfos = new HashMap<>();
+
+	private boolean fLoaded;
+	private int fRecordCount;
+
+	/**
+	 * Constructor
+	 *
+	 * @param file
+	 *            the file backing the store
+	 */
+	public LibraryInfoStore(File file) {
+		fFile = file;
+	}
+
+	/**
+	 * Returns whether the backing file exists
+	 *
+	 * @return <code>true</code> if the store has been written before
+	 */
+	public boolean exists() {
+		return fFile.isFile();
+	}
+
+	/**
+	 * Returns the library info of the given install location.
+	 *
+	 * @param location
+	 *            the install location
+	 * @return the library info or <code>null</code> if none
+	 */
+	public synchronized LibraryInfo get(String location) {
+		load();
+		LibraryInfo info = fInfos.get(location);
+		if (info == null) {
+			Long position = fOffsets.remove(location);
+			if (position != null) {
+				try {
+					info = decode(fData, (int) (position >>> 32), (int) position.longValue());
+					fInfos.put(location, info);
+				} catch (IOException e) {
+					LaunchingPlugin.log(e);
+				}
+			}
+		}
+		return info;
+	}
+
+	/**
+	 * Returns whether library info is stored for the given install location
+	 *
+	 * @param location
+	 *            the install location
+	 * @return <code>true</code> if library info exists for the location
+	 */
+	public synchronized boolean contains(String location) {
+		load();
+		return fInfos.containsKey(location) || fOffsets.containsKey(location);
+	}
+
+	/**
+	 * Returns whether the store has no entries
+	 *
+	 * @return <code>true</code> if the store is empty
+	 */
+	public synchronized boolean isEmpty() {
+		load();
+		return fInfos.isEmpty() && fOffsets.isEmpty();
+	}
+
+	/**
+	 * Returns the install locations with library info
+	 *
+	 * @return the install locations
+	 */
+	public synchronized Set<String> getLocations() {
+		load();
+		Set<String> locations = new HashSet<>(fInfos.keySet());
+		locations.addAll(fOffsets.keySet());
+		return locations;
+	}
+
+	/**
+	 * Sets or removes the library info of the given install location and persists the change.
+	 *
+	 * @param location
+	 *            the install location
+	 * @param info
+	 *            the library info or <code>null</code> to remove it
+	 */
+	public synchronized void put(String location, LibraryInfo info) {
+		load();
+		boolean stored = fOffsets.remove(location) != null;
+		if (info == null) {
+			// entries loaded from the file but never decoded are only in fOffsets
+			stored |= fInfos.remove(location) != null;
+			if (!stored) {
+				return;
+			}
+		} else {
+			fInfos.put(location, info);
+		}
+		if (!fFile.isFile() || fRecordCount > size() + COMPACTION_SLACK) {
+			compact();
+			return;
+		}
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fFile, true)))) {
+			writeRecord(out, location, info);
+			fRecordCount++;
+		} catch (IOException e) {
+			LaunchingPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Replaces all entries of the store, for instance when migrating from another format.
+	 *
+	 * @param infos
+	 *            mapping of install locations to library info
+	 */
+	public synchronized void putAll(Map<String, LibraryInfo> infos) {
+		fLoaded = true;
+		fData = null;
+		fOffsets.clear();
+		fInfos.clear();
+		fInfos.putAll(infos);
+		compact();
+	}
+
+	private int size() {
+		return fInfos.size() + fOffsets.size();
+	}
+
+	/**
+	 * Rewrites the log with one record per live entry
+	 */
+	private void compact() {
+		for (String location : fOffsets.keySet().toArray(new String[fOffsets.size()])) {
+			get(location);
+		}
+		fData = null;
+		File parent = fFile.getParentFile();
+		try {
+			if (parent != null) {
+				Files.createDirectories(parent.toPath());
+			}
+			File tmp = new File(parent, fFile.getName() + ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				for (Entry<String, LibraryInfo> entry : fInfos.entrySet()) {
+					writeRecord(out, entry.getKey(), entry.getValue());
+				}
+			}
+			try {
+				Files.move(tmp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			fRecordCount = fInfos.size();
+		} catch (IOException e) {
+			LaunchingPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Indexes the records of the backing file, once
+	 */
+	private void load() {
+		if (fLoaded) {
+			return;
+		}
+		fLoaded = true;
+		if (!fFile.isFile()) {
+			return;
+		}
+		byte[] data;
+		try {
+			data = Files.readAllBytes(fFile.toPath());
+		} catch (IOException e) {
+			LaunchingPlugin.log(e);
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+			if (data.length < HEADER_SIZE || in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				// unknown format, start over with the next update
+				fRecordCount = Integer.MAX_VALUE;
+				return;
+			}
+			int position = HEADER_SIZE;
+			while (position < data.length) {
+				byte operation = in.readByte();
+				String location = in.readUTF();
+				if (operation == PUT) {
+					int length = in.readInt();
+					int offset = data.length - in.available();
+					if (in.skipBytes(length) != length) {
+						throw new EOFException();
+					}
+					fOffsets.put(location, ((long) offset << 32) | length);
+				} else if (operation == REMOVE) {
+					fOffsets.remove(location);
+				} else {
+					throw new IOException("Unknown record type " + operation); //$NON-NLS-1$
+				}
+				fRecordCount++;
+				position = data.length - in.available();
+			}
+		} catch (IOException e) {
+			// truncated or corrupt tail, e.g. after a crash while appending: keep what was read and rewrite the log with the next update
+			fRecordCount = Integer.MAX_VALUE;
+		}
+		fData = data;
+	}
+
+	private static void writeRecord(DataOutputStream out, String location, LibraryInfo info) throws IOException {
+		if (info == null) {
+			out.writeByte(REMOVE);
+			out.writeUTF(location);
+			return;
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		try (DataOutputStream body = new DataOutputStream(bytes)) {
+			body.writeUTF(info.getVersion() == null ? "" : info.getVersion()); //$NON-NLS-1$
+			writePaths(body, info.getBootpath());
+			writePaths(body, info.getExtensionDirs());
+			writePaths(body, info.getEndorsedDirs());
+		}
+		out.writeByte(PUT);
+		out.writeUTF(location);
+		out.writeInt(bytes.size());
+		bytes.writeTo(out);
+	}
+
+	private static void writePaths(DataOutputStream out, String[] paths) throws IOException {
+		out.writeInt(paths.length);
+		for (String path : paths) {
+			out.writeUTF(path);
+		}
+	}
+
+	private static LibraryInfo decode(byte[] data, int offset, int length) throws IOException {
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data, offset, length))) {
+			String version = in.readUTF();
+			String[] bootpath = readPaths(in);
+			String[] extDirs = readPaths(in);
+			String[] endDirs = readPaths(in);
+			return new LibraryInfo(version, bootpath, extDirs, endDirs);
+		}
+	}
+
+	private static String[] readPaths(DataInputStream in) throws IOException {
+		String[] paths = new String[in.readInt()];
+		for (int i = 0; i < paths.length; i++) {
+			paths[i] = in.readUTF();
+		}
+		return paths;
+	}
+}
@@ -0,0 +1,554 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.launching;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+
+/**
+ * Index of the entry names of source and class file archives, used by source lookup to skip archives that cannot contain a source file without
+ * opening them.
+ * <p>
+ * Archives are indexed by a background job. The index is persisted in a binary log in the state location of the launching plug-in, so archives
+ * are only read again when their size or time stamp changes. Only the archive paths and time stamps are read when the index is opened, the entry
+ * names of an archive are read from the log on its first lookup. An archive whose index is missing or out of date is reported as unknown and has
+ * to be searched as before.
+ * </p>
+ */
+public class SourceNameIndex {
+
+	/**
+	 * Name of the file the index is persisted in, in the state location of the launching plug-in
+	 */
+	public static final String INDEX_FILE_NAME = "sourceNameIndex.bin"; //$NON-NLS-1$
+
+	private static final int MAGIC = 0x4A534E49;
+	private static final int FORMAT_VERSION = 2;
+	private static final int HEADER_SIZE = 8;
+
+	/**
+	 * Size of the size, time stamp and length fields of a record
+	 */
+	private static final int RECORD_HEADER_SIZE = 20;
+
+	/**
+	 * Number of obsolete records tolerated in addition to the live ones before the log is compacted
+	 */
+	private static final int COMPACTION_SLACK = 64;
+
+	/**
+	 * Delay before indexing starts, to collect the archives of several source lookup directors
+	 */
+	private static final long INDEXING_DELAY = 500L;
+
+	private static SourceNameIndex fgDefault;
+
+	private final File fFile;
+
+	/**
+	 * Mapping of absolute archive paths to their records
+	 */
+	private final Map<String, Record> fArchives = new HashMap<>();
+
+	/**
+	 * Archives waiting to be indexed
+	 */
+	private final Set<File> fPending = new LinkedHashSet<>();
+
+	private final Job fJob;
+	private boolean fLoaded;
+	private int fRecordCount;
+
+	/**
+	 * Record of an indexed archive, the entry names are read from the log when first needed
+	 */
+	private static final class Record {
+
+		private final long fSize;
+		private final long fTimeStamp;
+
+		/**
+		 * Position and length of the entry names in the log
+		 */
+		private final long fOffset;
+		private final int fLength;
+
+		/**
+		 * The entries, or <code>null</code> if not read yet
+		 */
+		private ArchiveEntries fEntries;
+
+		Record(long size, long timeStamp, long offset, int length) {
+			fSize = size;
+			fTimeStamp = timeStamp;
+			fOffset = offset;
+			fLength = length;
+		}
+
+		Record(ArchiveEntries entries) {
+			this(entries.fSize, entries.fTimeStamp, -1, 0);
+			fEntries = entries;
+		}
+
+		boolean isCurrent(File archive) {
+			return archive.length() == fSize && archive.lastModified() == fTimeStamp;
+		}
+	}
+
+	/**
+	 * The entry names of an archive at the time it was indexed
+	 */
+	public static final class ArchiveEntries {
+
+		private final long fSize;
+		private final long fTimeStamp;
+
+		/**
+		 * Sorted names of the file entries, with <code>'/'</code> as separator
+		 */
+		private final String[] fEntries;
+
+		/**
+		 * Simple names of the file entries, the last segment of their name
+		 */
+		private Set<String> fFileNames;
+
+		ArchiveEntries(long size, long timeStamp, String[] entries) {
+			fSize = size;
+			fTimeStamp = timeStamp;
+			fEntries = entries;
+		}
+
+		/**
+		 * Returns whether the given archive is unchanged since these entries were read
+		 *
+		 * @param archive
+		 *            the archive
+		 * @return <code>true</code> if the entries are up to date
+		 */
+		public boolean isCurrent(File archive) {
+			return archive.length() == fSize && archive.lastModified() == fTimeStamp;
+		}
+
+		/**
+		 * Returns whether the archive has an entry with the given name
+		 *
+		 * @param name
+		 *            the entry name
+		 * @return <code>true</code> if the entry exists
+		 */
+		public boolean containsEntry(String name) {
+			return Arrays.binarySearch(fEntries, normalize(name)) >= 0;
+		}
+
+		/**
+		 * Returns whether the archive has an entry whose name ends with the given name, i.e. whether the name exists below some root folder of the
+		 * archive
+		 *
+		 * @param name
+		 *            the name of the entry relative to its root folder
+		 * @return <code>true</code> if such an entry exists
+		 */
+		public boolean containsSuffix(String name) {
+			String suffix = normalize(name);
+			if (Arrays.binarySearch(fEntries, suffix) >= 0) {
+				return true;
+			}
+			int index = suffix.lastIndexOf('/');
+			if (index >= 0 && !getFileNames().contains(suffix.substring(index + 1))) {
+				return false;
+			}
+			for (String entry : fEntries) {
+				if (entry.endsWith(suffix)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		int size() {
+			return fEntries.length;
+		}
+
+		private synchronized Set<String> getFileNames() {
+			if (fFileNames == null) {
+				Set<String> names = new HashSet<>();
+				for (String entry : fEntries) {
+					names.add(entry.substring(entry.lastIndexOf('/') + 1));
+				}
+				fFileNames = names;
+			}
+			return fFileNames;
+		}
+	}
+
+	/**
+	 * Returns the shared index, persisted in the state location of the launching plug-in
+	 *
+	 * @return the shared index
+	 */
+	public static synchronized SourceNameIndex getDefault() {
+		if (fgDefault == null) {
+			fgDefault = new SourceNameIndex(LaunchingPlugin.getDefault().getStateLocation().append(INDEX_FILE_NAME).toFile());
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param file
+	 *            the file backing the index
+	 */
+	public SourceNameIndex(File file) {
+		fFile = file;
+		fJob = new Job(LaunchingMessages.SourceNameIndex_0) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				return indexPending(monitor);
+			}
+		};
+		fJob.setSystem(true);
+		fJob.setPriority(Job.DECORATE);
+	}
+
+	/**
+	 * Returns the entries of the given archive if it has been indexed and has not changed since. Otherwise the archive is scheduled for indexing
+	 * and <code>null</code> is returned.
+	 *
+	 * @param archive
+	 *            the archive
+	 * @return the entries of the archive or <code>null</code> if unknown
+	 */
+	public ArchiveEntries getEntries(File archive) {
+		synchronized (this) {
+			load();
+			Record record = fArchives.get(archive.getAbsolutePath());
+			if (record != null && record.isCurrent(archive)) {
+				ArchiveEntries entries = getEntries(record);
+				if (entries != null) {
+					return entries;
+				}
+			}
+		}
+		schedule(List.of(archive));
+		return null;
+	}
+
+	/**
+	 * Schedules the given archives for indexing in the background, unless their index is up to date
+	 *
+	 * @param archives
+	 *            the archives
+	 */
+	public void schedule(Collection<File> archives) {
+		List<File> stale = new ArrayList<>(archives.size());
+		synchronized (this) {
+			load();
+			for (File archive : archives) {
+				Record record = fArchives.get(archive.getAbsolutePath());
+				if (record == null || !record.isCurrent(archive)) {
+					stale.add(archive);
+				}
+			}
+		}
+		synchronized (fPending) {
+			boolean added = false;
+			for (File archive : stale) {
+				added |= archive.isFile() && fPending.add(archive.getAbsoluteFile());
+			}
+			if (added) {
+				fJob.schedule(INDEXING_DELAY);
+			}
+		}
+	}
+
+	/**
+	 * Reads the entries of the given archive and updates the index
+	 *
+	 * @param archive
+	 *            the archive
+	 * @return the entries of the archive
+	 * @throws IOException
+	 *             if the archive cannot be read
+	 */
+	public ArchiveEntries index(File archive) throws IOException {
+		// the time stamp is taken before reading, a concurrent modification invalidates the entries
+		long size = archive.length();
+		long timeStamp = archive.lastModified();
+		List<String> names = new ArrayList<>();
+		try (ZipFile zip = new ZipFile(archive)) {
+			for (Iterator<? extends ZipEntry> iterator = zip.entries().asIterator(); iterator.hasNext();) {
+				ZipEntry entry = iterator.next();
+				if (!entry.isDirectory()) {
+					names.add(normalize(entry.getName()));
+				}
+			}
+		}
+		String[] entries = names.toArray(new String[names.size()]);
+		Arrays.sort(entries);
+		ArchiveEntries result = new ArchiveEntries(size, timeStamp, entries);
+		put(archive.getAbsolutePath(), result);
+		return result;
+	}
+
+	/**
+	 * Waits until the archives scheduled so far are indexed
+	 *
+	 * @throws InterruptedException
+	 *             if interrupted while waiting
+	 */
+	public void join() throws InterruptedException {
+		fJob.join();
+	}
+
+	private IStatus indexPending(IProgressMonitor monitor) {
+		File[] archives;
+		synchronized (fPending) {
+			archives = fPending.toArray(new File[fPending.size()]);
+			fPending.clear();
+		}
+		SubMonitor progress = SubMonitor.convert(monitor, archives.length);
+		for (File archive : archives) {
+			if (progress.isCanceled()) {
+				synchronized (fPending) {
+					fPending.clear();
+				}
+				return Status.CANCEL_STATUS;
+			}
+			try {
+				index(archive);
+			} catch (IOException e) {
+				// not an archive, or removed meanwhile: source lookup reports the error if the archive is searched
+			}
+			progress.worked(1);
+		}
+		return Status.OK_STATUS;
+	}
+
+	private synchronized void put(String path, ArchiveEntries entries) {
+		load();
+		// kept in memory only, until written
+		fArchives.put(path, new Record(entries));
+		if (!fFile.isFile() || fRecordCount > fArchives.size() + COMPACTION_SLACK) {
+			compact();
+			return;
+		}
+		long position = fFile.length();
+		Record record;
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fFile, true)))) {
+			record = writeRecord(out, path, entries, position);
+		} catch (IOException e) {
+			LaunchingPlugin.log(e);
+			return;
+		}
+		record.fEntries = entries;
+		fArchives.put(path, record);
+		fRecordCount++;
+	}
+
+	/**
+	 * Rewrites the log with one record per existing archive
+	 */
+	private void compact() {
+		fArchives.keySet().removeIf(path -> !new File(path).isFile());
+		File parent = fFile.getParentFile();
+		Map<String, Record> records = new HashMap<>();
+		try {
+			if (parent != null) {
+				Files.createDirectories(parent.toPath());
+			}
+			File tmp = new File(parent, fFile.getName() + ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(FORMAT_VERSION);
+				for (Entry<String, Record> entry : fArchives.entrySet()) {
+					Record record = entry.getValue();
+					ArchiveEntries entries = record.fEntries != null ? record.fEntries : readEntries(record);
+					if (entries != null) {
+						Record written = writeRecord(out, entry.getKey(), entries, 0);
+						// entries only read for the rewrite are not kept in memory
+						written.fEntries = record.fEntries;
+						records.put(entry.getKey(), written);
+					}
+				}
+			}
+			try {
+				Files.move(tmp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(tmp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			fArchives.clear();
+			fArchives.putAll(records);
+			fRecordCount = records.size();
+		} catch (IOException e) {
+			LaunchingPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Returns the entries of the given record, reading them from the log on first access
+	 *
+	 * @return the entries or <code>null</code> if they cannot be read
+	 */
+	private ArchiveEntries getEntries(Record record) {
+		if (record.fEntries == null) {
+			record.fEntries = readEntries(record);
+			if (record.fEntries == null) {
+				fArchives.values().remove(record);
+				// rewrite the log with the next update
+				fRecordCount = Integer.MAX_VALUE;
+			}
+		}
+		return record.fEntries;
+	}
+
+	private ArchiveEntries readEntries(Record record) {
+		if (record.fOffset < 0) {
+			return null;
+		}
+		byte[] data = new byte[record.fLength];
+		try (RandomAccessFile file = new RandomAccessFile(fFile, "r")) { //$NON-NLS-1$
+			file.seek(record.fOffset);
+			file.readFully(data);
+		} catch (IOException e) {
+			return null;
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+			String[] entries = new String[in.readInt()];
+			for (int i = 0; i < entries.length; i++) {
+				entries[i] = in.readUTF();
+			}
+			return new ArchiveEntries(record.fSize, record.fTimeStamp, entries);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Reads the archive paths and time stamps from the backing file, once. The entry names are skipped.
+	 */
+	private void load() {
+		if (fLoaded) {
+			return;
+		}
+		fLoaded = true;
+		if (!fFile.isFile()) {
+			return;
+		}
+		long fileLength = fFile.length();
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(fFile)))) {
+			if (fileLength < HEADER_SIZE || in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				// unknown format, start over with the next update
+				fRecordCount = Integer.MAX_VALUE;
+				return;
+			}
+			long position = HEADER_SIZE;
+			while (position < fileLength) {
+				String path = in.readUTF();
+				long size = in.readLong();
+				long timeStamp = in.readLong();
+				int length = in.readInt();
+				position += 2 + getUTFLength(path) + RECORD_HEADER_SIZE;
+				if (length < 0 || position + length > fileLength || in.skipBytes(length) != length) {
+					throw new EOFException();
+				}
+				fArchives.put(path, new Record(size, timeStamp, position, length));
+				fRecordCount++;
+				position += length;
+			}
+		} catch (IOException e) {
+			// truncated or corrupt tail, e.g. after a crash while appending: keep what was read and rewrite the log with the next update
+			fRecordCount = Integer.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * Writes a record for the given archive
+	 *
+	 * @param position
+	 *            position of the stream in the log
+	 * @return the record, without entries
+	 */
+	private static Record writeRecord(DataOutputStream out, String path, ArchiveEntries entries, long position) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream names = new DataOutputStream(bytes)) {
+			names.writeInt(entries.fEntries.length);
+			for (String entry : entries.fEntries) {
+				names.writeUTF(entry);
+			}
+		}
+		out.writeUTF(path);
+		out.writeLong(entries.fSize);
+		out.writeLong(entries.fTimeStamp);
+		out.writeInt(bytes.size());
+		Record record = new Record(entries.fSize, entries.fTimeStamp, position + out.size(), bytes.size());
+		bytes.writeTo(out);
+		return record;
+	}
+
+	/**
+	 * Returns the number of bytes of the modified UTF-8 encoding of the given string, as written by {@link DataOutputStream#writeUTF(String)}
+	 */
+	private static int getUTFLength(String string) {
+		int length = 0;
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (c >= 0x0001 && c <= 0x007F) {
+				length++;
+			} else if (c > 0x07FF) {
+				length += 3;
+			} else {
+				length += 2;
+			}
+		}
+		return length;
+	}
+
+	private static String normalize(String name) {
+		return name.replace('\\', '/');
+	}
+}
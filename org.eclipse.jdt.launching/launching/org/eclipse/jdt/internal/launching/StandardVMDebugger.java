@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -147,7 +147,7 @@ public class StandardVMDebugger extends StandardVMRunner {
 	public String showCommandLine(VMRunnerConfiguration configuration, ILaunch launch, IProgressMonitor monitor) throws CoreException {
 		SubMonitor subMonitor = SubMonitor.convert(monitor);
 
-		CommandDetails cmd = getCommandLine(configuration, launch, subMonitor);
+		CommandDetails cmd = getCommandLine(configuration, launch, false, subMonitor);
 		if (subMonitor.isCanceled()) {
 			return ""; //$NON-NLS-1$
 		}
@@ -156,7 +156,7 @@ public class StandardVMDebugger extends StandardVMRunner {
 		return getCmdLineAsString(cmdLine);
 	}
 
-	private CommandDetails getCommandLine(VMRunnerConfiguration config, ILaunch launch, IProgressMonitor monitor) throws CoreException {
+	private CommandDetails getCommandLine(VMRunnerConfiguration config, ILaunch launch, boolean launching, IProgressMonitor monitor) throws CoreException {
 		IProgressMonitor subMonitor = SubMonitor.convert(monitor, 1);
 
 		// check for cancellation
@@ -218,6 +218,10 @@ public class StandardVMDebugger extends StandardVMRunner {
 
 		String[] allVMArgs = combineVmArgs(config, fVMInstance);
 		addArguments(ensureEncoding(launch, allVMArgs), arguments);
+		String classDataSharingArgument = getClassDataSharingArgument(launch.getLaunchConfiguration(), config, program, allVMArgs, launching);
+		if (classDataSharingArgument != null) {
+			arguments.add(classDataSharingArgument);
+		}
 		addBootClassPathArguments(arguments, config);
 
 		String[] mp = config.getModulepath();
@@ -294,6 +298,7 @@ public class StandardVMDebugger extends StandardVMRunner {
 		cmd.setEnvp(envp);
 		cmd.setWorkingDir(workingDir);
 		cmd.setPort(port);
+		cmd.setClassDataSharingArgument(classDataSharingArgument);
 		return cmd;
 
 	}
@@ -307,7 +312,7 @@ public class StandardVMDebugger extends StandardVMRunner {
 	@Override
 	public void run(VMRunnerConfiguration config, ILaunch launch, IProgressMonitor monitor) throws CoreException {
 		IProgressMonitor subMonitor = SubMonitor.convert(monitor, 1);
-		CommandDetails cmdDetails = getCommandLine(config, launch, subMonitor);
+		CommandDetails cmdDetails = getCommandLine(config, launch, true, subMonitor);
 
 		// check for cancellation
 		if (subMonitor.isCanceled() || cmdDetails == null) {
@@ -335,6 +340,7 @@ public class StandardVMDebugger extends StandardVMRunner {
 				connector.startListening(map);
 
 				p = exec(cmdLine, cmdDetails.getWorkingDir(), cmdDetails.getEnvp(), config.isMergeOutput());
+				classDataSharingArchiveRecorded(p, cmdDetails);
 				if (p == null) {
 					return;
 				}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2023 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -380,6 +380,7 @@ public class StandardVMRunner extends AbstractVMRunner {
 		private File workingDir;
 		private IProcessTempFileCreator commandLineShortener;
 		private int port;
+		private String classDataSharingArgument;
 
 		public String[] getEnvp() {
 			return envp;
@@ -421,13 +422,21 @@ public class StandardVMRunner extends AbstractVMRunner {
 			this.port = port;
 		}
 
+		public String getClassDataSharingArgument() {
+			return classDataSharingArgument;
+		}
+
+		public void setClassDataSharingArgument(String classDataSharingArgument) {
+			this.classDataSharingArgument = classDataSharingArgument;
+		}
+
 	}
 
 	@Override
 	public String showCommandLine(VMRunnerConfiguration configuration, ILaunch launch, IProgressMonitor monitor) throws CoreException {
 		IProgressMonitor subMonitor = SubMonitor.convert(monitor, 1);
 
-		CommandDetails cmd = getCommandLine(configuration, launch, subMonitor);
+		CommandDetails cmd = getCommandLine(configuration, launch, false, subMonitor);
 		if (subMonitor.isCanceled() || cmd == null) {
 			return ""; //$NON-NLS-1$
 		}
@@ -436,7 +445,7 @@ public class StandardVMRunner extends AbstractVMRunner {
 		return getCmdLineAsString(cmdLine);
 	}
 
-	private CommandDetails getCommandLine(VMRunnerConfiguration config, ILaunch launch, IProgressMonitor monitor) throws CoreException {
+	private CommandDetails getCommandLine(VMRunnerConfiguration config, ILaunch launch, boolean launching, IProgressMonitor monitor) throws CoreException {
 		IProgressMonitor subMonitor = SubMonitor.convert(monitor, 1);
 		subMonitor.subTask(LaunchingMessages.StandardVMRunner_Constructing_command_line____2);
 		String program = constructProgramString(config);
@@ -448,6 +457,10 @@ public class StandardVMRunner extends AbstractVMRunner {
 		// options like '-client' & '-server' which are required to be the first option
 		String[] allVMArgs = combineVmArgs(config, fVMInstance);
 		addArguments(ensureEncoding(launch, allVMArgs), arguments);
+		String classDataSharingArgument = getClassDataSharingArgument(launch.getLaunchConfiguration(), config, program, allVMArgs, launching);
+		if (classDataSharingArgument != null) {
+			arguments.add(classDataSharingArgument);
+		}
 
 		addBootClassPathArguments(arguments, config);
 
@@ -517,6 +530,7 @@ public class StandardVMRunner extends AbstractVMRunner {
 		cmd.setCommandLine(cmdLine);
 		cmd.setEnvp(envp);
 		cmd.setWorkingDir(workingDir);
+		cmd.setClassDataSharingArgument(classDataSharingArgument);
 		subMonitor.worked(1);
 		return cmd;
 	}
@@ -525,7 +539,7 @@ public class StandardVMRunner extends AbstractVMRunner {
 	public void run(VMRunnerConfiguration config, ILaunch launch, IProgressMonitor monitor) throws CoreException {
 		IProgressMonitor subMonitor = SubMonitor.convert(monitor, 1);
 
-		CommandDetails cmdDetails = getCommandLine(config, launch, subMonitor);
+		CommandDetails cmdDetails = getCommandLine(config, launch, true, subMonitor);
 		// check for cancellation
 		if (subMonitor.isCanceled() || cmdDetails == null) {
 			return;
@@ -536,6 +550,7 @@ public class StandardVMRunner extends AbstractVMRunner {
 		subMonitor.subTask(LaunchingMessages.StandardVMRunner_Starting_virtual_machine____3);
 		Process p = null;
 		p = exec(cmdLine, cmdDetails.getWorkingDir(), cmdDetails.getEnvp(), config.isMergeOutput());
+		classDataSharingArchiveRecorded(p, cmdDetails);
 		if (p == null) {
 			return;
 		}
@@ -630,6 +645,67 @@ public class StandardVMRunner extends AbstractVMRunner {
 		return env;
 	}
 
+	/**
+	 * Returns the argument recording or mapping the dynamic Class Data Sharing archive of the launch if the launch configuration opts in with
+	 * {@link IJavaLaunchConfigurationConstants#ATTR_USE_CDS_ARCHIVE}. Nothing is returned if the VM is older than Java 13 or if the VM arguments
+	 * already configure class data sharing. The archive directory is only changed when launching, not when the command line is only shown.
+	 *
+	 * @param launchConfiguration
+	 *            the backing {@link ILaunchConfiguration} or <code>null</code>
+	 * @param config
+	 *            the VM config
+	 * @param program
+	 *            the path of the Java executable
+	 * @param vmArgs
+	 *            the VM arguments of the launch
+	 * @param launching
+	 *            whether the VM is launched with the argument, see {@link #classDataSharingArchiveRecorded(Process, CommandDetails)}
+	 * @return the argument or <code>null</code>
+	 * @throws CoreException
+	 *             if the launch configuration attribute cannot be read
+	 * @since 3.24
+	 */
+	protected String getClassDataSharingArgument(ILaunchConfiguration launchConfiguration, VMRunnerConfiguration config, String program, String[] vmArgs, boolean launching) throws CoreException {
+		if (launchConfiguration == null || !launchConfiguration.getAttribute(IJavaLaunchConfigurationConstants.ATTR_USE_CDS_ARCHIVE, false)) {
+			return null;
+		}
+		if (getJavaVersion(fVMInstance) < ClassDataSharingArchives.MIN_JAVA_VERSION || ClassDataSharingArchives.isUserConfigured(vmArgs)) {
+			return null;
+		}
+		String javaVersion = fVMInstance instanceof IVMInstall2 vm ? vm.getJavaVersion() : null;
+		String mainType = config.getClassToLaunch();
+		if (isModular(config, fVMInstance)) {
+			mainType = config.getModuleDescription() + "/" + mainType; //$NON-NLS-1$
+		}
+		String fingerprint = ClassDataSharingArchives.computeFingerprint(program, javaVersion, vmArgs, config.getClassPath(), config.getModulepath(), mainType);
+		ClassDataSharingArchives archives = ClassDataSharingArchives.getDefault();
+		if (launching) {
+			return archives.prepareArchiveArgument(launchConfiguration.getName(), fingerprint);
+		}
+		return archives.getArchiveArgument(launchConfiguration.getName(), fingerprint);
+	}
+
+	/**
+	 * Moves the Class Data Sharing archive recorded by the given process into place once it has exited.
+	 *
+	 * @param p
+	 *            the process launched with the given command or <code>null</code> if it could not be launched
+	 * @param cmd
+	 *            the command
+	 * @since 3.24
+	 */
+	protected void classDataSharingArchiveRecorded(Process p, CommandDetails cmd) {
+		String argument = cmd.getClassDataSharingArgument();
+		if (argument == null) {
+			return;
+		}
+		if (p == null) {
+			ClassDataSharingArchives.getDefault().archiveRecorded(argument);
+		} else {
+			p.onExit().thenRun(() -> ClassDataSharingArchives.getDefault().archiveRecorded(argument));
+		}
+	}
+
 	/**
 	 * Adds arguments to the bootpath
 	 * @param arguments the arguments
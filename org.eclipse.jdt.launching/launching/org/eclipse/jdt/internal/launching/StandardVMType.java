@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,23 +20,21 @@ package org.eclipse.jdt.internal.launching;
 import java.io.File;
 import java.io.FilenameFilter;
 import java.io.IOException;
-import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.eclipse.core.runtime.CoreException;
@@ -79,8 +77,6 @@ public class StandardVMType extends AbstractVMInstallType {
 	private static final String JRE = "jre"; //$NON-NLS-1$
 	private static final String LIB = "lib"; //$NON-NLS-1$
 	private static final String BAR = "|"; //$NON-NLS-1$
-	private static final String RELEASE_FILE = "release"; //$NON-NLS-1$
-	private static final String JAVA_VERSION = "JAVA_VERSION"; //$NON-NLS-1$
 	private static final String JRT_FS_JAR = "jrt-fs.jar"; //$NON-NLS-1$
 
 	public static final String ID_STANDARD_VM_TYPE = "org.eclipse.jdt.internal.debug.ui.launcher.StandardVMType"; //$NON-NLS-1$
@@ -109,7 +105,17 @@ public class StandardVMType extends AbstractVMInstallType {
 	 * Map of the install path for which we were unable to generate
 	 * the library info during this session.
 	 */
-	private static Map<String, LibraryInfo> fgFailedInstallPath = new HashMap<>();
+	private static Map<String, LibraryInfo> fgFailedInstallPath = new ConcurrentHashMap<>();
+
+	/**
+	 * Locks guarding the computation of the library info of install paths, so
+	 * that different install locations can be introspected in parallel. Each
+	 * install path is guarded by the lock at the index of its hash code.
+	 */
+	private static final Object[] fgInstallLocks = new Object[16];
+	static {
+		Arrays.setAll(fgInstallLocks, i -> new Object());
+	}
 
 	/**
 	 * Cache for default library locations. See {@link #getDefaultLibraryLocations(File)}
@@ -118,7 +124,7 @@ public class StandardVMType extends AbstractVMInstallType {
 	 *
 	 * @since 3.7
 	 */
-	private static Map<String, List<LibraryLocation>> fgDefaultLibLocs = new HashMap<>();
+	private static Map<String, List<LibraryLocation>> fgDefaultLibLocs = new ConcurrentHashMap<>();
 
 	/**
 	 * The list of locations in which to look for the java executable in candidate
@@ -203,39 +209,42 @@ public class StandardVMType extends AbstractVMInstallType {
 
 	/**
 	 * Return library information corresponding to the specified install
-	 * location. If the information does not exist, create it using the given Java
-	 * executable.
+	 * location. If the information does not exist, it is computed from the
+	 * file layout of the install location, or created using the given Java
+	 * executable if that is not possible. Different install locations are
+	 * handled concurrently.
 	 * @param javaHome the Java home folder
 	 * @param javaExecutable the Java executable file
 	 * @return the {@link LibraryInfo} for the home and executable path or an empty object, never <code>null</code>
 	 */
-	protected synchronized LibraryInfo getLibraryInfo(File javaHome, File javaExecutable) {
+	protected LibraryInfo getLibraryInfo(File javaHome, File javaExecutable) {
 		String installPath = javaHome.getAbsolutePath();
-		LibraryInfo info = LaunchingPlugin.getLibraryInfo(installPath);
-		if (info == null || LaunchingPlugin.timeStampChanged(installPath)) {
-			info = fgFailedInstallPath.get(installPath);
-			if (info == null) {
-				String version = readReleaseVersion(javaHome);
-				if (JavaCore.compareJavaVersions(version, JavaCore.VERSION_1_8) > 0) {
-					info = new LibraryInfo(version, new String[0], new String[0], new String[0]);
-					LaunchingPlugin.setLibraryInfo(installPath, info);
-				} else {
-					info = generateLibraryInfo(javaHome, javaExecutable);
-					if (info == null) {
-						// Bug 536943: try again in case we have a timing problem with process execution and output retrieval
-						info = generateLibraryInfo(javaHome, javaExecutable);
-					}
-					if (info == null) {
-						info = getDefaultLibraryInfo(javaHome);
-						fgFailedInstallPath.put(installPath, info);
-					} else {
-						// only persist if we were able to generate information - see bug 70011
+		synchronized (fgInstallLocks[Math.floorMod(installPath.hashCode(), fgInstallLocks.length)]) {
+			LibraryInfo info = LaunchingPlugin.getLibraryInfo(installPath);
+			if (info == null || LaunchingPlugin.timeStampChanged(installPath)) {
+				info = fgFailedInstallPath.get(installPath);
+				if (info == null) {
+					info = JavaHomeInspector.inspect(javaHome);
+					if (info != null) {
 						LaunchingPlugin.setLibraryInfo(installPath, info);
+					} else {
+						info = generateLibraryInfo(javaHome, javaExecutable);
+						if (info == null) {
+							// Bug 536943: try again in case we have a timing problem with process execution and output retrieval
+							info = generateLibraryInfo(javaHome, javaExecutable);
+						}
+						if (info == null) {
+							info = getDefaultLibraryInfo(javaHome);
+							fgFailedInstallPath.put(installPath, info);
+						} else {
+							// only persist if we were able to generate information - see bug 70011
+							LaunchingPlugin.setLibraryInfo(installPath, info);
+						}
 					}
 				}
 			}
+			return info;
 		}
-		return info;
 	}
 
 	/**
@@ -860,20 +869,9 @@ public class StandardVMType extends AbstractVMInstallType {
 		return null;
 	}
 
-	public synchronized String readReleaseVersion(File javaHome) {
-		String version = ""; //$NON-NLS-1$
-		Path releaseFile = javaHome.getAbsoluteFile().toPath().resolve(RELEASE_FILE);
-		if (Files.notExists(releaseFile)) {
-			return version;
-		}
-		try (Stream<String> lines = Files.lines(releaseFile, Charset.defaultCharset())) {
-			version = lines.filter(s -> s.contains(JAVA_VERSION)).findFirst() //
-					.map(line -> line.substring(JAVA_VERSION.length() + 2, line.length() - 1)) // actual version in JAVA_VERSION="9"
-					.orElse(""); //$NON-NLS-1$
-		} catch (UncheckedIOException | IOException e) {
-			LaunchingPlugin.log(e);
-		}
-		return version;
+	public String readReleaseVersion(File javaHome) {
+		String version = JavaHomeInspector.readReleaseFile(javaHome).get(JavaHomeInspector.JAVA_VERSION);
+		return version == null ? "" : version; //$NON-NLS-1$
 	}
 
 	/*
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2011, 2022 Igor Fedorenko
+ * Copyright (c) 2011, 2026 Igor Fedorenko
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,25 +13,40 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.launching.sourcelookup.advanced;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Helpers to compute file content digests. Provides long-lived hasher instance with bounded cache of most recently requested files, which is useful
  * to handle source lookup requests. Also provides factory of hasher instances with unbounded caches, which is useful to perform bulk workspace
- * indexing.
+ * indexing. Hashes can be persisted with {@link #save(File)} and restored with {@link #load(File)}, so files are only hashed again when their size
+ * or time stamp changes.
  */
 public class FileHashing {
 
+	private static final int MAGIC = 0x46484153;
+	private static final int FORMAT_VERSION = 1;
+
 	public static interface Hasher {
 		Object hash(File file);
 	}
@@ -40,6 +55,22 @@ public class FileHashing {
 	// this is used when performing source lookup and number of unique files requested during the same debugging session is likely to be small.
 	private static final HasherImpl HASHER = new HasherImpl(5000);
 
+	// maximum number of files whose hashes are kept in the persistent store
+	private static final int PERSISTENT_SIZE = 50000;
+
+	// hashes restored from disk or computed by any hasher, shared by all hasher instances and persisted across sessions.
+	// keyed by file, so a file that changed replaces its stale hash; least recently used files are evicted past PERSISTENT_SIZE
+	@SuppressWarnings("serial")
+	private static final Map<Path, PersistedHash> PERSISTENT = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Path, PersistedHash> eldest) {
+			return size() > PERSISTENT_SIZE;
+		}
+	};
+
+	// whether PERSISTENT changed since it was last loaded or saved, guarded by PERSISTENT
+	private static boolean dirty;
+
 	/**
 	 * Returns default long-lived Hasher instance with bounded hash cache.
 	 */
@@ -55,16 +86,30 @@ public class FileHashing {
 	}
 
 	private static class CacheKey {
-		public final Object file;
+		public final Path file;
 
 		private final long length;
 
 		private final long lastModified;
 
-		public CacheKey(Object fileKey, BasicFileAttributes attributes) {
+		public CacheKey(Path fileKey, BasicFileAttributes attributes) {
+			this(fileKey, attributes.size(), attributes.lastModifiedTime().toMillis());
+		}
+
+		public CacheKey(Path fileKey, long length, long lastModified) {
 			this.file = fileKey;
-			this.length = attributes.size();
-			this.lastModified = attributes.lastModifiedTime().toMillis();
+			this.length = length;
+			this.lastModified = lastModified;
+		}
+
+		boolean isCurrent() {
+			try {
+				BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+				return attributes.isRegularFile() && attributes.size() == length && attributes.lastModifiedTime().toMillis() == lastModified;
+			}
+			catch (IOException e) {
+				return false;
+			}
 		}
 
 		@Override
@@ -89,6 +134,17 @@ public class FileHashing {
 		}
 	}
 
+	private static class PersistedHash {
+		public final CacheKey key;
+
+		public final HashCode hashCode;
+
+		public PersistedHash(CacheKey key, HashCode hashCode) {
+			this.key = key;
+			this.hashCode = hashCode;
+		}
+	}
+
 	private static class HashCode {
 		private final byte[] bytes;
 
@@ -152,7 +208,7 @@ public class FileHashing {
 				if (!attributes.isRegularFile()) {
 					return null;
 				}
-				Object key= file.getAbsoluteFile().toPath().toAbsolutePath().normalize();
+				Path key= file.getAbsoluteFile().toPath().toAbsolutePath().normalize();
 				CacheKey cacheKey = new CacheKey(key, attributes);
 				synchronized (cache) {
 					HashCode hashCode = cache.get(cacheKey);
@@ -160,8 +216,12 @@ public class FileHashing {
 						return hashCode;
 					}
 				}
-				// don't hold cache lock while hashing file
-				HashCode hashCode = computeHash(file);
+				HashCode hashCode = getPersisted(cacheKey);
+				if (hashCode == null) {
+					// don't hold cache lock while hashing file
+					hashCode = computeHash(file);
+					putPersisted(cacheKey, hashCode);
+				}
 				synchronized (cache) {
 					cache.put(cacheKey, hashCode);
 				}
@@ -174,6 +234,117 @@ public class FileHashing {
 
 	}
 
+	private static HashCode getPersisted(CacheKey cacheKey) {
+		synchronized (PERSISTENT) {
+			PersistedHash persisted = PERSISTENT.get(cacheKey.file);
+			return persisted != null && persisted.key.equals(cacheKey) ? persisted.hashCode : null;
+		}
+	}
+
+	private static void putPersisted(CacheKey cacheKey, HashCode hashCode) {
+		synchronized (PERSISTENT) {
+			PERSISTENT.put(cacheKey.file, new PersistedHash(cacheKey, hashCode));
+			dirty = true;
+		}
+	}
+
+	/**
+	 * Restores file hashes persisted by {@link #save(File)}. Hashes of files that no longer exist or changed since are dropped.
+	 */
+	public static void load(File file) throws IOException {
+		if (!file.isFile()) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+				return; // unknown format, hashes are recomputed and the file rewritten with the next save
+			}
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				Path path = Path.of(in.readUTF());
+				long length = in.readLong();
+				long lastModified = in.readLong();
+				byte[] bytes = new byte[in.readUnsignedByte()];
+				in.readFully(bytes);
+				CacheKey key = new CacheKey(path, length, lastModified);
+				synchronized (PERSISTENT) {
+					if (!key.isCurrent()) {
+						dirty = true; // pruned, rewrite the file without it
+					} else if (!PERSISTENT.containsKey(path)) {
+						PERSISTENT.put(path, new PersistedHash(key, new HashCode(bytes)));
+					}
+				}
+			}
+		}
+		catch (EOFException e) {
+			// truncated file, keep what was read
+		}
+	}
+
+	/**
+	 * Persists the hashes of the files hashed so far, if any hash was computed or dropped since the last {@link #load(File)} or save. Hashes of
+	 * files deleted during the session are dropped by the next {@link #load(File)}.
+	 */
+	public static void save(File file) throws IOException {
+		List<PersistedHash> current;
+		synchronized (PERSISTENT) {
+			if (!dirty && file.isFile()) {
+				return;
+			}
+			current = new ArrayList<>(PERSISTENT.values());
+			dirty = false;
+		}
+		try {
+			write(current, file);
+		}
+		catch (IOException e) {
+			synchronized (PERSISTENT) {
+				dirty = true; // try again with the next save
+			}
+			throw e;
+		}
+	}
+
+	private static void write(List<PersistedHash> hashes, File file) throws IOException {
+		File parent = file.getParentFile();
+		if (parent != null) {
+			Files.createDirectories(parent.toPath());
+		}
+		File tmp = new File(parent, file.getName() + ".tmp"); //$NON-NLS-1$
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(FORMAT_VERSION);
+			out.writeInt(hashes.size());
+			for (PersistedHash persisted : hashes) {
+				CacheKey key = persisted.key;
+				out.writeUTF(key.file.toString());
+				out.writeLong(key.length);
+				out.writeLong(key.lastModified);
+				out.writeByte(persisted.hashCode.bytes.length);
+				out.write(persisted.hashCode.bytes);
+			}
+		}
+		try {
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException e) {
+			Files.move(tmp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+	/**
+	 * Forgets all hashes, as after a restart. For tests only.
+	 */
+	public static void reset() {
+		synchronized (HASHER.cache) {
+			HASHER.cache.clear();
+		}
+		synchronized (PERSISTENT) {
+			PERSISTENT.clear();
+			dirty = false;
+		}
+	}
+
 	private static HashCode computeHash(File file) throws IOException {
 		MessageDigest digest;
 		try {
@@ -14,6 +14,7 @@
 package org.eclipse.jdt.internal.launching.sourcelookup.advanced;
 
 import static org.eclipse.jdt.core.IJavaElementDelta.F_ADDED_TO_CLASSPATH;
+import static org.eclipse.jdt.core.IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED;
 import static org.eclipse.jdt.core.IJavaElementDelta.F_CLASSPATH_CHANGED;
 import static org.eclipse.jdt.core.IJavaElementDelta.F_CLOSED;
 import static org.eclipse.jdt.core.IJavaElementDelta.F_OPENED;
@@ -21,11 +22,14 @@ import static org.eclipse.jdt.core.IJavaElementDelta.F_REMOVED_FROM_CLASSPATH;
 import static org.eclipse.jdt.core.IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,8 +40,11 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IConfigurationElement;
 import org.eclipse.core.runtime.IExtensionRegistry;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.sourcelookup.ISourceContainer;
 import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.IElementChangedListener;
@@ -48,6 +55,8 @@ import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.internal.launching.LaunchingMessages;
+import org.eclipse.jdt.internal.launching.LaunchingPlugin;
 import org.eclipse.jdt.internal.launching.sourcelookup.advanced.FileHashing.Hasher;
 import org.eclipse.jdt.launching.sourcelookup.advanced.IWorkspaceProjectDescriber;
 import org.eclipse.jdt.launching.sourcelookup.advanced.IWorkspaceProjectDescriber.IJavaProjectSourceDescription;
@@ -62,9 +71,26 @@ import org.eclipse.jdt.launching.sourcelookup.containers.PackageFragmentRootSour
  *
  * <p>
  * The factory maintains up-to-date registry of workspace projects and their classpath entries and can be used to create source containers fast enough
- * to be used from UI thread.
+ * to be used from UI thread. File checksums are persisted across sessions, files are only hashed again when their size or timestamp changes.
  */
 public class WorkspaceProjectSourceContainers {
+	private static final String HASHES_FILE = "fileHashes.bin"; //$NON-NLS-1$
+
+	// delay before persisting file hashes, so that a burst of project updates results in a single write
+	private static final long SAVE_DELAY = 10000;
+
+	private final Job saveJob = new Job(LaunchingMessages.WorkspaceProjectSourceContainers_0) {
+		{
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			saveHashes();
+			return Status.OK_STATUS;
+		}
+	};
+
 	private final IElementChangedListener changeListener = new IElementChangedListener() {
 		@Override
 		public void elementChanged(ElementChangedEvent event) {
@@ -114,7 +140,7 @@ public class WorkspaceProjectSourceContainers {
 					processChangedChildren(delta, remove, add);
 					break;
 				case IJavaElement.PACKAGE_FRAGMENT_ROOT:
-					if ((delta.getFlags() & (F_ADDED_TO_CLASSPATH | F_REMOVED_FROM_CLASSPATH)) != 0) {
+					if ((delta.getFlags() & (F_ADDED_TO_CLASSPATH | F_REMOVED_FROM_CLASSPATH | F_ARCHIVE_CONTENT_CHANGED)) != 0) {
 						remove.add(element.getJavaProject());
 						add.add(element.getJavaProject());
 					}
@@ -309,21 +335,27 @@ public class WorkspaceProjectSourceContainers {
 		final IJavaModel javaModel = JavaCore.create(ResourcesPlugin.getWorkspace().getRoot());
 		final IJavaProject[] javaProjects = javaModel.getJavaProjects();
 
-		SubMonitor progress = SubMonitor.convert(monitor, javaProjects.length);
-
-		// TODO this can take significant time for large workspaces, consider running on multiple threads
-		// NB: can't persist state across restarts because java element change events are not delivered when this plugin isn't active
+		// NB: project descriptions are not persisted because java element change events are not delivered when this plugin isn't active.
+		// file checksums are persisted instead, they dominate indexing time and are validated against file size and timestamp
+		try {
+			FileHashing.load(getHashesFile());
+		}
+		catch (IOException e) {
+			LaunchingPlugin.log(e);
+		}
 
-		Hasher hasher = FileHashing.newHasher(); // short-lived hasher for bulk workspace indexing
+		addJavaProjects(Arrays.asList(javaProjects), monitor);
+	}
 
-		List<IWorkspaceProjectDescriber> describers = getJavaProjectDescribers();
-		for (IJavaProject project : javaProjects) {
-			addJavaProject(project, describers, hasher, progress.split(1));
-		}
+	private static File getHashesFile() {
+		return LaunchingPlugin.getDefault().getStateLocation().append(HASHES_FILE).toFile();
 	}
 
 	public void close() {
 		JavaCore.removeElementChangedListener(changeListener);
+		if (saveJob.cancel()) {
+			saveHashes(); // the job was waiting to save
+		}
 		synchronized (lock) {
 			this.locations.clear();
 			this.hashes.clear();
@@ -331,7 +363,40 @@ public class WorkspaceProjectSourceContainers {
 		}
 	}
 
-	private void addJavaProject(IJavaProject project, List<IWorkspaceProjectDescriber> describers, FileHashing.Hasher hasher, IProgressMonitor monitor) throws CoreException {
+	private void addJavaProjects(Collection<IJavaProject> javaProjects, IProgressMonitor monitor) throws CoreException {
+		SubMonitor progress = SubMonitor.convert(monitor, 2 * javaProjects.size());
+
+		List<IWorkspaceProjectDescriber> describers = getJavaProjectDescribers();
+		Map<IJavaProject, JavaProjectDescriptionBuilder> builders = new LinkedHashMap<>();
+		for (IJavaProject project : javaProjects) {
+			builders.put(project, describeJavaProject(project, describers, progress.split(1)));
+		}
+
+		// hashing dominates indexing time for large workspaces, hash all distinct files at once on multiple threads
+		Hasher hasher = FileHashing.newHasher(); // short-lived hasher for bulk workspace indexing
+		Set<File> files = new HashSet<>();
+		for (JavaProjectDescriptionBuilder builder : builders.values()) {
+			files.addAll(builder.locations);
+			files.addAll(builder.dependencyLocations.keySet());
+		}
+		files.parallelStream().forEach(hasher::hash);
+		progress.split(javaProjects.size());
+
+		builders.forEach((project, builder) -> addJavaProject(project, builder, hasher));
+
+		saveJob.schedule(SAVE_DELAY);
+	}
+
+	private static void saveHashes() {
+		try {
+			FileHashing.save(getHashesFile());
+		}
+		catch (IOException e) {
+			LaunchingPlugin.log(e);
+		}
+	}
+
+	private JavaProjectDescriptionBuilder describeJavaProject(IJavaProject project, List<IWorkspaceProjectDescriber> describers, IProgressMonitor monitor) throws CoreException {
 		if (project == null) {
 			throw new IllegalArgumentException();
 		}
@@ -342,6 +407,11 @@ public class WorkspaceProjectSourceContainers {
 			describer.describeProject(project, builder);
 		}
 
+		SubMonitor.done(monitor);
+		return builder;
+	}
+
+	private void addJavaProject(IJavaProject project, JavaProjectDescriptionBuilder builder, FileHashing.Hasher hasher) {
 		Set<File> locations = builder.locations;
 		List<Supplier<ISourceContainer>> factories = builder.factories;
 		Map<File, IPackageFragmentRoot> dependencies = builder.dependencyLocations;
@@ -376,8 +446,6 @@ public class WorkspaceProjectSourceContainers {
 			}
 			this.projects.put(project, info);
 		}
-
-		SubMonitor.done(monitor);
 	}
 
 	protected List<IWorkspaceProjectDescriber> getJavaProjectDescribers() {
@@ -432,11 +500,7 @@ public class WorkspaceProjectSourceContainers {
 		for (IJavaProject project : remove) {
 			removeJavaProject(project);
 		}
-		List<IWorkspaceProjectDescriber> describers = getJavaProjectDescribers();
-		Hasher hasher = FileHashing.newHasher();
-		for (IJavaProject project : add) {
-			addJavaProject(project, describers, hasher, progress.split(1));
-		}
+		addJavaProjects(add, progress.split(add.size()));
 	}
 
 }
@@ -388,6 +388,15 @@ public interface IJavaLaunchConfigurationConstants {
 	 */
 	public static final String ATTR_USE_ARGFILE = LaunchingPlugin.getUniqueIdentifier() + ".ATTR_ATTR_USE_ARGFILE"; //$NON-NLS-1$
 
+	/**
+	 * Launch configuration attribute key. The value is a boolean indicating whether a dynamic Class Data Sharing archive should be managed for the
+	 * launch. The first launch records the archive with <code>-XX:ArchiveClassesAtExit</code> and later launches map it with
+	 * <code>-XX:SharedArchiveFile</code>, until the class path or the VM changes. Only valid for java &gt;= 13 see https://openjdk.org/jeps/350
+	 *
+	 * @since 3.24
+	 */
+	public static final String ATTR_USE_CDS_ARCHIVE = LaunchingPlugin.getUniqueIdentifier() + ".ATTR_USE_CDS_ARCHIVE"; //$NON-NLS-1$
+
 	/**
 	 * Launch configuration attribute key. The value is a boolean specifying whether output folders corresponding to test sources should not be added
 	 * to the runtime classpath and test dependencies should not be added to the default classpath.
@@ -1916,7 +1916,12 @@ public final class JavaRuntime {
 			return;
 		}
 		String xml = getVMsAsXML();
-		InstanceScope.INSTANCE.getNode(LaunchingPlugin.ID_PLUGIN).put(PREF_VM_XML, xml);
+		IEclipsePreferences node = InstanceScope.INSTANCE.getNode(LaunchingPlugin.ID_PLUGIN);
+		if (xml.equals(node.get(PREF_VM_XML, null))) {
+			// nothing changed, avoid notifying preference listeners and flushing the preferences
+			return;
+		}
+		node.put(PREF_VM_XML, xml);
 		savePreferences();
 	}
 
@@ -14,9 +14,13 @@
 
 package org.eclipse.jdt.launching.sourcelookup.containers;
 
+import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -31,6 +35,8 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
+import org.eclipse.jdt.internal.launching.IndexedSourceContainer;
+import org.eclipse.jdt.internal.launching.SourceNameIndex;
 
 /**
  * A source lookup participant that searches for Java source code.
@@ -49,6 +55,13 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 	 */
 	private Map<ISourceContainer, PackageFragmentRootSourceContainer> fDelegateContainers;
 
+	/**
+	 * Map of containers to the containers searched in their place, which
+	 * consult the source name index to skip archives that cannot contain
+	 * the source.
+	 */
+	private Map<ISourceContainer, ISourceContainer> fIndexedContainers;
+
 	/**
 	 * Returns the source name associated with the given object, or <code>null</code>
 	 * if none.
@@ -75,6 +88,7 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 			container.dispose();
 		}
 		fDelegateContainers = null;
+		fIndexedContainers = null;
 		super.dispose();
 
 	}
@@ -86,9 +100,9 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 	protected ISourceContainer getDelegateContainer(ISourceContainer container) {
 		ISourceContainer delegate = fDelegateContainers.get(container);
 		if (delegate == null) {
-			return container;
+			delegate = container;
 		}
-		return delegate;
+		return fIndexedContainers.computeIfAbsent(delegate, c -> IndexedSourceContainer.create(c, SourceNameIndex.getDefault()));
 	}
 	/* (non-Javadoc)
 	 * @see org.eclipse.debug.internal.core.sourcelookup.ISourceLookupParticipant#init(org.eclipse.debug.internal.core.sourcelookup.ISourceLookupDirector)
@@ -97,6 +111,7 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 	public void init(ISourceLookupDirector director) {
 		super.init(director);
 		fDelegateContainers = new HashMap<>();
+		fIndexedContainers = new ConcurrentHashMap<>();
 	}
 	/* (non-Javadoc)
 	 * @see org.eclipse.debug.internal.core.sourcelookup.ISourceLookupParticipant#sourceContainersChanged(org.eclipse.debug.internal.core.sourcelookup.ISourceLookupDirector)
@@ -105,6 +120,7 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 	public void sourceContainersChanged(ISourceLookupDirector director) {
 		// use package fragment roots in place of local archives, where they exist
 		fDelegateContainers.clear();
+		fIndexedContainers.clear();
 		ISourceContainer[] containers = director.getSourceContainers();
 		for (int i = 0; i < containers.length; i++) {
 			ISourceContainer container = containers[i];
@@ -135,5 +151,14 @@ public class JavaSourceLookupParticipant extends AbstractSourceLookupParticipant
 				}
 			}
 		}
+		// index the archives in the background
+		List<File> archives = new ArrayList<>();
+		for (int i = 0; i < containers.length; i++) {
+			File archive = IndexedSourceContainer.getArchive(fDelegateContainers.getOrDefault(containers[i], containers[i]));
+			if (archive != null) {
+				archives.add(archive);
+			}
+		}
+		SourceNameIndex.getDefault().schedule(archives);
 	}
 }